@@ -22,10 +22,16 @@ public class AsyncSettings implements Settings {
     public static class Export {
         private final boolean enabled;
         private final String path;
+        private final int partitions;
 
         public Export(boolean enabled, String path) {
+            this(enabled, path, 1);
+        }
+
+        public Export(boolean enabled, String path, int partitions) {
             this.enabled = enabled;
             this.path = path;
+            this.partitions = partitions;
         }
 
         public static ExportBuilder builder() {
@@ -35,6 +41,7 @@ public class AsyncSettings implements Settings {
         public static class ExportBuilder {
             private boolean enabled = false;
             private String path = "/export";
+            private int partitions = 1;
 
             public ExportBuilder enabled(boolean enabled) {
                 this.enabled = enabled;
@@ -46,8 +53,21 @@ public class AsyncSettings implements Settings {
                 return this;
             }
 
+            /**
+             * Sets the number of id ranges a table export is split into, each read on its own transaction on the
+             * async executor. Exports are only partitioned when the root entity has a numeric id, no sort is
+             * requested and the format can encode records separately.
+             *
+             * @param partitions the number of partitions, 1 to disable
+             * @return the builder
+             */
+            public ExportBuilder partitions(int partitions) {
+                this.partitions = partitions;
+                return this;
+            }
+
             public Export build() {
-                return new Export(this.enabled, this.path);
+                return new Export(this.enabled, this.path, this.partitions);
             }
         }
     }
@@ -71,7 +91,8 @@ public class AsyncSettings implements Settings {
         return new AsyncSettingsBuilder()
                 .enabled(this.enabled)
                 .path(this.path)
-                .export(newExport -> newExport.enabled(this.getExport().isEnabled()).path(this.getExport().getPath()));
+                .export(newExport -> newExport.enabled(this.getExport().isEnabled()).path(this.getExport().getPath())
+                        .partitions(this.getExport().getPartitions()));
     }
 
     /**
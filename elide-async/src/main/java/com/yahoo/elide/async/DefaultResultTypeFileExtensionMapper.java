@@ -20,6 +20,8 @@ public class DefaultResultTypeFileExtensionMapper implements ResultTypeFileExten
             return ".csv";
         case ResultType.XLSX:
             return ".xlsx";
+        case ResultType.ARROW:
+            return ".arrow";
         default:
             return "";
         }
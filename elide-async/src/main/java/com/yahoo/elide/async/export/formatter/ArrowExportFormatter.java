@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.core.request.EntityProjection;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.OutputStream;
+
+/**
+ * Arrow IPC file output format implementation.
+ * <p>
+ * Requires {@code org.apache.arrow:arrow-vector} and an Arrow allocator such as
+ * {@code org.apache.arrow:arrow-memory-unsafe} on the classpath, and the JVM to be started with
+ * {@code --add-opens=java.base/java.nio=ALL-UNNAMED}.
+ */
+public class ArrowExportFormatter implements TableExportFormatter {
+    private ObjectMapper objectMapper;
+
+    public ArrowExportFormatter(Elide elide) {
+        this.objectMapper = elide.getObjectMapper();
+    }
+
+    @Override
+    public ResourceWriter newResourceWriter(OutputStream outputStream, EntityProjection entityProjection,
+            TableExport tableExport) {
+        return new ArrowResourceWriter(outputStream, objectMapper, entityProjection);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.utils.ObjectProperties;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ResourceWriter} that writes in the Arrow IPC file format.
+ * <p>
+ * Every header is a column. Integral, floating point and boolean attributes are written as typed columns and
+ * everything else, including nested properties, as UTF-8 strings. Records are buffered and written in record batches.
+ */
+public class ArrowResourceWriter extends ResourceWriterSupport {
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+    protected static final String DEFAULT_HEADER_SEPARATOR = "_";
+    protected static final String DEFAULT_LIST_SEPARATOR = ";";
+
+    private static final Set<Class<?>> INTEGRAL_TYPES = Set.of(Long.class, Integer.class, Short.class, Byte.class);
+    private static final Set<Class<?>> FLOATING_POINT_TYPES = Set.of(Double.class, Float.class);
+
+    protected final EntityProjection entityProjection;
+    protected final int batchSize;
+
+    /**
+     * Each individual header is a list to handle nested objects.
+     */
+    protected final List<List<String>> headers;
+    protected final Map<String, Attribute> attributes;
+
+    protected String headerSeparator = DEFAULT_HEADER_SEPARATOR;
+    protected String listSeparator = DEFAULT_LIST_SEPARATOR;
+    protected int recordCount = 0;
+
+    private final BufferAllocator allocator;
+    private final VectorSchemaRoot root;
+    private final ArrowFileWriter writer;
+    private int batchCount = 0;
+
+    public ArrowResourceWriter(OutputStream outputStream, ObjectMapper objectMapper,
+            EntityProjection entityProjection) {
+        this(outputStream, objectMapper, entityProjection, DEFAULT_BATCH_SIZE);
+    }
+
+    public ArrowResourceWriter(OutputStream outputStream, ObjectMapper objectMapper,
+            EntityProjection entityProjection, int batchSize) {
+        super(outputStream);
+        this.entityProjection = entityProjection;
+        this.batchSize = batchSize;
+        ObjectMapper notSorted = objectMapper.rebuild().configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, false)
+                .build();
+        this.headers = entityProjection != null ? Attributes.getHeaders(notSorted, entityProjection.getAttributes())
+                : Collections.emptyList();
+        this.attributes = entityProjection != null && entityProjection.getAttributes() != null ? entityProjection
+                .getAttributes().stream().collect(Collectors.toMap(Attribute::getName, Function.identity(),
+                        (existing, replacement) -> replacement, LinkedHashMap::new))
+                : Collections.emptyMap();
+
+        List<Field> fields = new ArrayList<>();
+        for (List<String> header : headers) {
+            fields.add(Field.nullable(getHeader(header, attributes), getArrowType(header)));
+        }
+        this.allocator = new RootAllocator();
+        this.root = VectorSchemaRoot.create(new Schema(fields), allocator);
+        this.writer = new ArrowFileWriter(root, new DictionaryProvider.MapDictionaryProvider(),
+                Channels.newChannel(outputStream));
+    }
+
+    @Override
+    public void write(PersistentResource<?> resource) throws IOException {
+        if (recordCount == 0) {
+            writer.start();
+        }
+        recordCount++;
+        format(resource);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            try {
+                if (recordCount == 0) {
+                    writer.start();
+                }
+                writeBatch();
+                writer.end();
+                writer.close();
+            } finally {
+                root.close();
+                allocator.close();
+            }
+            super.close();
+        }
+    }
+
+    public void format(PersistentResource<?> resource) throws IOException {
+        if (resource == null) {
+            return;
+        }
+        if (batchCount == 0) {
+            root.allocateNew();
+        }
+        Map<String, Object> values = getAttributes(resource);
+        for (int column = 0; column < headers.size(); column++) {
+            setValue(root.getVector(column), batchCount, process(getValue(headers.get(column), values)));
+        }
+        batchCount++;
+        if (batchCount == batchSize) {
+            writeBatch();
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        if (batchCount == 0) {
+            return;
+        }
+        root.setRowCount(batchCount);
+        writer.writeBatch();
+        batchCount = 0;
+    }
+
+    /**
+     * Gets the attributes from a resource.
+     *
+     * @param resource the resource
+     * @return the attributes
+     */
+    protected Map<String, Object> getAttributes(PersistentResource<?> resource) {
+        return Attributes.getAttributes(resource);
+    }
+
+    /**
+     * Allows derived classes a chance to process the attribute value.
+     *
+     * @param object the object to process
+     * @return the processed object
+     */
+    protected Object process(Object object) {
+        return object;
+    }
+
+    /**
+     * Gets the column type of a header.
+     *
+     * @param header the header
+     * @return the column type
+     */
+    protected ArrowType getArrowType(List<String> header) {
+        if (header.size() == 1) {
+            Class<?> type = attributes.get(header.get(0)).getType().getUnderlyingClass()
+                    .map(ClassUtils::primitiveToWrapper)
+                    .orElse(Object.class);
+            if (INTEGRAL_TYPES.contains(type)) {
+                return new ArrowType.Int(64, true);
+            } else if (FLOATING_POINT_TYPES.contains(type)) {
+                return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+            } else if (Boolean.class.equals(type)) {
+                return ArrowType.Bool.INSTANCE;
+            }
+        }
+        return ArrowType.Utf8.INSTANCE;
+    }
+
+    protected void setValue(FieldVector vector, int index, Object object) {
+        if (vector instanceof BigIntVector bigIntVector) {
+            if (object == null) {
+                bigIntVector.setNull(index);
+            } else {
+                bigIntVector.setSafe(index, convert(object, Long.class));
+            }
+        } else if (vector instanceof Float8Vector float8Vector) {
+            if (object == null) {
+                float8Vector.setNull(index);
+            } else {
+                float8Vector.setSafe(index, convert(object, Double.class));
+            }
+        } else if (vector instanceof BitVector bitVector) {
+            if (object == null) {
+                bitVector.setNull(index);
+            } else {
+                bitVector.setSafe(index, convert(object, Boolean.class) ? 1 : 0);
+            }
+        } else if (vector instanceof VarCharVector varCharVector) {
+            if (object == null) {
+                varCharVector.setNull(index);
+            } else {
+                varCharVector.setSafe(index, convertToString(object).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Converts a value of a string column.
+     *
+     * @param object the value
+     * @return the string
+     */
+    protected String convertToString(Object object) {
+        if (object instanceof Enum<?> value) {
+            return value.name();
+        } else if (object instanceof Collection<?> value) {
+            return String.join(listSeparator, value.stream().map(v -> convert(v, String.class)).toList());
+        }
+        return convert(object, String.class);
+    }
+
+    /**
+     * Gets the header value.
+     *
+     * @param header the header
+     * @param attributes the attributes
+     * @return the header value
+     */
+    protected String getHeader(List<String> header, Map<String, Attribute> attributes) {
+        StringBuilder headerBuilder = new StringBuilder();
+        Attribute attribute = attributes.get(header.get(0));
+        for (int x = 0; x < header.size(); x++) {
+            String item = header.get(x);
+            if (x == 0 && !StringUtils.isEmpty(attribute.getAlias())) {
+                item = attribute.getAlias();
+            }
+            if (x != 0) {
+                headerBuilder.append(headerSeparator);
+            }
+            headerBuilder.append(item);
+        }
+        headerBuilder.append(Attributes.getArguments(attribute));
+        return headerBuilder.toString();
+    }
+
+    protected <T> T convert(Object value, Class<T> clazz) {
+        return CoerceUtil.coerce(value, clazz);
+    }
+
+    /**
+     * Gets the value from the attributes.
+     *
+     * @param header the header
+     * @param values the attributes
+     * @return the value
+     */
+    protected Object getValue(List<String> header, Map<String, Object> values) {
+        Object value = null;
+        for (int x = 0; x < header.size(); x++) {
+            String item = header.get(x);
+            if (x == 0) {
+                value = values.get(item);
+            } else {
+                value = ObjectProperties.getProperty(value, item);
+            }
+            if (value == null) {
+                break;
+            }
+        }
+        return value;
+    }
+}
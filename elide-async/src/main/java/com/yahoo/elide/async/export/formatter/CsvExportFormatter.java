@@ -31,4 +31,9 @@ public class CsvExportFormatter implements TableExportFormatter {
             TableExport tableExport) {
         return new CsvResourceWriter(outputStream, objectMapper, writeHeader, entityProjection);
     }
+
+    @Override
+    public ResourceEncoder newResourceEncoder(EntityProjection entityProjection, TableExport tableExport) {
+        return new CsvResourceWriter(OutputStream.nullOutputStream(), objectMapper, writeHeader, entityProjection);
+    }
 }
@@ -18,6 +18,8 @@ import tools.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -29,7 +31,7 @@ import java.util.stream.Collectors;
 /**
  * {@link ResourceWriter} that writes in CSV format.
  */
-public class CsvResourceWriter extends ResourceWriterSupport {
+public class CsvResourceWriter extends ResourceWriterSupport implements ResourceEncoder {
     /**
      * Used to delimit value that contains a list of values.
      */
@@ -62,6 +64,11 @@ public class CsvResourceWriter extends ResourceWriterSupport {
     protected String lineSeparator = DEFAULT_LINE_SEPARATOR;
     protected int recordCount = 0;
 
+    /**
+     * The headers grouped by attribute, computed on the first record.
+     */
+    protected List<Column> columns;
+
     public CsvResourceWriter(OutputStream outputStream, ObjectMapper objectMapper, boolean writeHeader,
             EntityProjection entityProjection) {
         super(outputStream);
@@ -95,21 +102,129 @@ public class CsvResourceWriter extends ResourceWriterSupport {
         }
     }
 
+    @Override
+    public void writeEncoded(byte[] record) throws IOException {
+        if (recordCount == 0) {
+            preFormat(this.outputStream);
+        }
+        recordCount++;
+        this.outputStream.write(record);
+    }
+
+    @Override
+    public byte[] encode(PersistentResource<?> resource) {
+        return formatLine(resource).getBytes(StandardCharsets.UTF_8);
+    }
+
     public void format(PersistentResource<?> resource) throws IOException {
         if (resource == null) {
             return;
         }
+        write(formatLine(resource));
+    }
+
+    /**
+     * Formats a resource as a line, including the line separator.
+     * <p>
+     * Each attribute is read and converted once, and the values of its columns are appended to the line directly.
+     *
+     * @param resource the resource
+     * @return the line
+     */
+    protected String formatLine(PersistentResource<?> resource) {
+        if (columns == null) {
+            columns = getColumns();
+        }
+        StringBuilder line = new StringBuilder();
+        boolean first = true;
+        for (Column column : columns) {
+            Object value = convertValue(getAttribute(resource, column.attribute));
+            for (List<String> header : column.headers) {
+                if (!first) {
+                    line.append(itemSeparator);
+                }
+                first = false;
+                line.append(quote(toString(getNestedValue(header, value))));
+            }
+        }
+        return line.append(lineSeparator).toString();
+    }
+
+    /**
+     * The consecutive headers of an attribute.
+     */
+    protected static class Column {
+        protected final Attribute attribute;
+        protected final List<List<String>> headers = new ArrayList<>();
+
+        protected Column(Attribute attribute) {
+            this.attribute = attribute;
+        }
+    }
+
+    /**
+     * Groups the headers by attribute.
+     *
+     * @return the columns of every attribute in header order
+     */
+    protected List<Column> getColumns() {
+        if (entityProjection == null || entityProjection.getAttributes() == null) {
+            return Collections.emptyList();
+        }
+        Map<String, Attribute> attributes = entityProjection.getAttributes().stream().collect(Collectors.toMap(
+                Attribute::getName, Function.identity(), (existing, replacement) -> replacement, LinkedHashMap::new));
+        List<Column> result = new ArrayList<>();
+        Column current = null;
+        for (List<String> header : headers) {
+            Attribute attribute = attributes.get(header.get(0));
+            if (current == null || current.attribute != attribute) {
+                current = new Column(attribute);
+                result.add(current);
+            }
+            current.headers.add(header);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the value of an attribute of a resource.  Override to change the value written for an attribute.
+     *
+     * @param resource the resource
+     * @param attribute the attribute
+     * @return the value
+     */
+    protected Object getAttribute(PersistentResource<?> resource, Attribute attribute) {
+        return resource.getAttribute(attribute);
+    }
 
-        Map<String, Object> values = getAttributes(resource);
-        List<Object> result = headers.stream().map(header -> {
-            return getValue(header, values);
-        }).toList();
+    /**
+     * Converts an attribute value the way the object mapper would serialize it, so nested objects become maps.
+     *
+     * @param value the attribute value
+     * @return the converted value
+     */
+    protected Object convertValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Integer
+                || value instanceof Long || value instanceof Double) {
+            return value;
+        }
+        return objectMapper.convertValue(value, Object.class);
+    }
 
-        String line = result.stream()
-                .map(this::toString)
-                .map(this::quote)
-                .collect(Collectors.joining(itemSeparator));
-        write(line + lineSeparator);
+    /**
+     * Gets the value of a header from the converted value of its attribute.
+     *
+     * @param header the header
+     * @param value the converted attribute value
+     * @return the value
+     */
+    protected Object getNestedValue(List<String> header, Object value) {
+        for (int x = 1; x < header.size(); x++) {
+            if (value instanceof Map map) {
+                value = map.get(header.get(x));
+            }
+        }
+        return value;
     }
 
     /**
@@ -117,7 +232,10 @@ public class CsvResourceWriter extends ResourceWriterSupport {
      *
      * @param resource the resource
      * @return the attributes
+     * @deprecated No longer called when formatting a line, override
+     *             {@link #getAttribute(PersistentResource, Attribute)} instead.
      */
+    @Deprecated
     protected Map<String, Object> getAttributes(PersistentResource<?> resource) {
         // The object mapper will convert the map with nested objects to maps with string values
         return objectMapper.convertValue(Attributes.getAttributes(resource),
@@ -207,6 +325,16 @@ public class CsvResourceWriter extends ResourceWriterSupport {
         return collection.stream().map(this::toString).collect(Collectors.joining(listSeparator));
     }
 
+    /**
+     * Gets the value of a header from the attributes of a resource.
+     *
+     * @param header the header
+     * @param values the attributes
+     * @return the value
+     * @deprecated No longer called when formatting a line, override
+     *             {@link #getAttribute(PersistentResource, Attribute)} instead.
+     */
+    @Deprecated
     protected Object getValue(List<String> header, Map<String, Object> values) {
         Object value = null;
         for (int x = 0; x < header.size(); x++) {
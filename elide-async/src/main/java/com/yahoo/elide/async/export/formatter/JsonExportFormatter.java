@@ -26,6 +26,11 @@ public class JsonExportFormatter implements TableExportFormatter {
     @Override
     public ResourceWriter newResourceWriter(OutputStream outputStream, EntityProjection entityProjection,
             TableExport tableExport) {
-        return new JsonResourceWriter(outputStream, mapper);
+        return new JsonResourceWriter(outputStream, mapper, entityProjection);
+    }
+
+    @Override
+    public ResourceEncoder newResourceEncoder(EntityProjection entityProjection, TableExport tableExport) {
+        return new JsonResourceWriter(OutputStream.nullOutputStream(), mapper, entityProjection);
     }
 }
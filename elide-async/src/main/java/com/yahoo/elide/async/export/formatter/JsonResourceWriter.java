@@ -6,29 +6,48 @@
 package com.yahoo.elide.async.export.formatter;
 
 import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+
+import org.apache.commons.lang3.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * {@link ResourceWriter} that writes in JSON format.
  */
 @Slf4j
-public class JsonResourceWriter extends ResourceWriterSupport {
+public class JsonResourceWriter extends ResourceWriterSupport implements ResourceEncoder {
     protected static final String COMMA = ",";
     protected final ObjectMapper objectMapper;
     protected int recordCount = 0;
 
+    /**
+     * The attribute of every field name, or null to use the projection of the request scope of each resource.
+     */
+    protected final Map<String, Attribute> fields;
+
     public JsonResourceWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+        this(outputStream, objectMapper, null);
+    }
+
+    public JsonResourceWriter(OutputStream outputStream, ObjectMapper objectMapper,
+            EntityProjection entityProjection) {
         super(outputStream);
         this.objectMapper = objectMapper;
+        this.fields = entityProjection != null ? getFields(entityProjection.getAttributes()) : null;
     }
 
     @Override
@@ -52,6 +71,23 @@ public class JsonResourceWriter extends ResourceWriterSupport {
         }
     }
 
+    @Override
+    public void writeEncoded(byte[] record) throws IOException {
+        if (recordCount == 0) {
+            preFormat(this.outputStream);
+        }
+        recordCount++;
+        if (recordCount > 1) {
+            write(COMMA);
+        }
+        this.outputStream.write(record);
+    }
+
+    @Override
+    public byte[] encode(PersistentResource<?> resource) {
+        return (convert(objectMapper, resource) + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+
     public void format(PersistentResource<?> resource, OutputStream outputStream)
             throws IOException {
         if (resource == null) {
@@ -73,9 +109,64 @@ public class JsonResourceWriter extends ResourceWriterSupport {
         if (resource == null || resource.getObject() == null) {
             return null;
         }
-        return convert(mapper, getAttributes(resource));
+        Map<String, Attribute> resourceFields = this.fields != null
+                ? this.fields
+                : getFields(resource.getRequestScope().getEntityProjection().getAttributes());
+
+        // Serialize the attributes straight into the generator rather than through a map
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = mapper.createGenerator(json)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Attribute> field : resourceFields.entrySet()) {
+                generator.writeName(field.getKey());
+                generator.writePOJO(getAttribute(resource, field.getValue()));
+            }
+            generator.writeEndObject();
+        } catch (JacksonException e) {
+            log.error("Exception when converting to JSON {}", e.getMessage());
+            throw new IllegalStateException(e);
+        }
+        return json.toString();
+    }
+
+    /**
+     * Gets the value of an attribute of a resource.  Override to change the value written for an attribute.
+     *
+     * @param resource the resource
+     * @param attribute the attribute
+     * @return the value
+     */
+    protected Object getAttribute(PersistentResource<?> resource, Attribute attribute) {
+        return resource.getAttribute(attribute);
+    }
+
+    /**
+     * Gets the field names of the attributes, which are the aliases where present.
+     *
+     * @param attributes the attributes
+     * @return the attribute of every field name
+     */
+    protected Map<String, Attribute> getFields(Collection<Attribute> attributes) {
+        Map<String, Attribute> result = new LinkedHashMap<>();
+        if (attributes != null) {
+            for (Attribute attribute : attributes) {
+                String alias = attribute.getAlias();
+                result.put(StringUtils.isNotEmpty(alias) ? alias : attribute.getName(), attribute);
+            }
+        }
+        return result;
     }
 
+    /**
+     * Converts the attributes of a resource to JSON.
+     *
+     * @param mapper the object mapper
+     * @param attributes the attributes
+     * @return the JSON
+     * @deprecated No longer called when converting a resource, override
+     *             {@link #getAttribute(PersistentResource, Attribute)} instead.
+     */
+    @Deprecated
     protected String convert(ObjectMapper mapper, Map<String, Object> attributes) {
         try {
             return mapper.writeValueAsString(attributes);
@@ -90,7 +181,10 @@ public class JsonResourceWriter extends ResourceWriterSupport {
      *
      * @param resource the resource
      * @return the attributes
+     * @deprecated No longer called when converting a resource, override
+     *             {@link #getAttribute(PersistentResource, Attribute)} instead.
      */
+    @Deprecated
     protected Map<String, Object> getAttributes(PersistentResource<?> resource) {
         return Attributes.getAttributes(resource, true);
     }
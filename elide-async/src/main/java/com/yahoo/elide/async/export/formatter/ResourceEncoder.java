@@ -0,0 +1,20 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import com.yahoo.elide.core.PersistentResource;
+
+import java.io.IOException;
+
+/**
+ * Encodes a {@link PersistentResource} as one record of an export format without writing it.
+ * <p>
+ * The records are written later, in order, by {@link ResourceWriter#writeEncoded(byte[])} of the same format.
+ */
+@FunctionalInterface
+public interface ResourceEncoder {
+    byte[] encode(PersistentResource<?> resource) throws IOException;
+}
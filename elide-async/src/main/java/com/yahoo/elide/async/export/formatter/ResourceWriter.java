@@ -15,4 +15,14 @@ import java.io.IOException;
  */
 public interface ResourceWriter extends Closeable {
     void write(PersistentResource<?> resource) throws IOException;
+
+    /**
+     * Writes a record encoded by the {@link ResourceEncoder} of the same format.
+     *
+     * @param record the encoded record
+     * @throws IOException if the record cannot be written
+     */
+    default void writeEncoded(byte[] record) throws IOException {
+        throw new UnsupportedOperationException("Encoded records are not supported");
+    }
 }
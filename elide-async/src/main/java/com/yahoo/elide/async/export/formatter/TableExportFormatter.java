@@ -25,4 +25,16 @@ public interface TableExportFormatter {
      */
     ResourceWriter newResourceWriter(OutputStream outputStream, EntityProjection entityProjection,
             TableExport tableExport);
+
+    /**
+     * Factory method to create the encoder of records which are written with
+     * {@link ResourceWriter#writeEncoded(byte[])}. Formats which can only write whole documents return null.
+     *
+     * @param entityProjection the entity projection
+     * @param tableExport the table export
+     * @return the resource encoder or null if records cannot be encoded separately
+     */
+    default ResourceEncoder newResourceEncoder(EntityProjection entityProjection, TableExport tableExport) {
+        return null;
+    }
 }
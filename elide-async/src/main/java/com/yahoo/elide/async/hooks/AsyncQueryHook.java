@@ -14,6 +14,7 @@ import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.operation.GraphQLAsyncQueryOperation;
 import com.yahoo.elide.async.operation.JsonApiAsyncQueryOperation;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.RequestScope;
@@ -28,9 +29,23 @@ import java.util.concurrent.Callable;
  * LifeCycle Hook for execution of AsyncQuery.
  */
 public class AsyncQueryHook extends AsyncApiHook<AsyncQuery> {
+    private final ResultStorageEngine engine;
 
     public AsyncQueryHook (AsyncExecutorService asyncExecutorService, Duration maxAsyncAfter) {
+        this(asyncExecutorService, maxAsyncAfter, null);
+    }
+
+    /**
+     * Constructor.
+     * @param asyncExecutorService AsyncExecutorService.
+     * @param maxAsyncAfter The maximum time to wait synchronously for a query.
+     * @param engine Stores the response bodies which are then downloaded from the export endpoint, or null to keep
+     * them in the query result.
+     */
+    public AsyncQueryHook (AsyncExecutorService asyncExecutorService, Duration maxAsyncAfter,
+            ResultStorageEngine engine) {
         super(asyncExecutorService, maxAsyncAfter);
+        this.engine = engine;
     }
 
     @Override
@@ -58,10 +73,10 @@ public class AsyncQueryHook extends AsyncApiHook<AsyncQuery> {
         Callable<AsyncApiResult> operation = null;
         if (query.getQueryType().equals(QueryType.JSONAPI_V1_0)) {
             operation = new JsonApiAsyncQueryOperation(getAsyncExecutorService(), query,
-                    (com.yahoo.elide.core.RequestScope) requestScope);
+                    (com.yahoo.elide.core.RequestScope) requestScope, engine);
         } else {
             operation = new GraphQLAsyncQueryOperation(getAsyncExecutorService(), query,
-                    (com.yahoo.elide.core.RequestScope) requestScope);
+                    (com.yahoo.elide.core.RequestScope) requestScope, engine);
         }
         return operation;
     }
@@ -12,4 +12,5 @@ public abstract class ResultType {
     public static final String JSON = "JSON";
     public static final String CSV = "CSV";
     public static final String XLSX = "XLSX";
+    public static final String ARROW = "ARROW";
 }
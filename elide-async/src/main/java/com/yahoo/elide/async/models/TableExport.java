@@ -31,7 +31,7 @@ import lombok.EqualsAndHashCode;
 public class TableExport extends AsyncApi {
 
     @NotNull
-    private String resultType; //CSV, JSON
+    private String resultType; //CSV, JSON, XLSX, ARROW
 
     @Embedded
     private TableExportResult result;
@@ -11,50 +11,184 @@ import com.yahoo.elide.async.models.AsyncApiResult;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.AsyncQueryResult;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.jsonapi.JsonApiResponseWriter;
+import com.google.common.io.CountingOutputStream;
 import com.jayway.jsonpath.JsonPath;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * AsyncQuery Execute Operation Interface.
  */
 @Slf4j
 public abstract class AsyncQueryOperation implements Callable<AsyncApiResult> {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RESULT_EXTENSION = ".json";
+    private static final String RECORDS_PROPERTY = "data";
+
     @Getter private AsyncExecutorService service;
     private AsyncQuery queryObj;
     private RequestScope scope;
+    private ResultStorageEngine resultStorageEngine;
 
     public AsyncQueryOperation(AsyncExecutorService service, AsyncApi queryObj, RequestScope scope) {
+        this(service, queryObj, scope, null);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * <b>Note:</b> a response body kept in the query result can only be read by the owner of the query or an admin,
+     * but a stored response body is downloaded from the export endpoint which does not check who owns the query.
+     * Anyone with the download URL can read the body, the same as with table exports.
+     * @param service AsyncExecutorService.
+     * @param queryObj AsyncApi type object.
+     * @param scope RequestScope.
+     * @param resultStorageEngine Stores the response bodies which are then downloaded from the export endpoint, or
+     * null to keep them in the query result.
+     */
+    public AsyncQueryOperation(AsyncExecutorService service, AsyncApi queryObj, RequestScope scope,
+            ResultStorageEngine resultStorageEngine) {
         this.service = service;
         this.queryObj = (AsyncQuery) queryObj;
         this.scope = scope;
+        this.resultStorageEngine = resultStorageEngine;
     }
 
     @Override
     public AsyncApiResult call() throws URISyntaxException {
         ElideResponse<String> response = null;
         log.debug("AsyncQuery Object from request: {}", queryObj);
+        if (resultStorageEngine != null) {
+            ElideResponse<JsonApiResponseWriter> streamingResponse = executeStreaming(queryObj, scope);
+            if (streamingResponse != null) {
+                return storeResults(queryObj, streamingResponse);
+            }
+        }
         response = execute(queryObj, scope);
         nullResponseCheck(response);
 
         AsyncQueryResult queryResult = new AsyncQueryResult();
         queryResult.setHttpStatus(response.getStatus());
         queryResult.setCompletedOn(new Date());
-        queryResult.setResponseBody(response.getBody());
-        queryResult.setContentLength(response.getBody().length());
         if (response.getStatus() == 200) {
             queryResult.setRecordCount(calculateRecordCount(queryObj, response));
         }
+        if (resultStorageEngine != null) {
+            // Only the download URL of the stored body is kept with the query
+            long contentLength = storeResults(queryObj, response.getBody());
+            queryResult.setResponseBody(generateDownloadURL(queryObj, scope));
+            queryResult.setContentLength(Math.toIntExact(contentLength));
+        } else {
+            queryResult.setResponseBody(response.getBody());
+            queryResult.setContentLength(response.getBody().length());
+        }
+        return queryResult;
+    }
+
+    /**
+     * Store the response body using the ResultStorageEngine. The body is encoded as UTF-8 while it is written.
+     * @param queryObj AsyncQuery type object.
+     * @param body The response body.
+     * @return The number of bytes stored.
+     */
+    protected long storeResults(AsyncQuery queryObj, String body) {
+        AtomicLong contentLength = new AtomicLong();
+        resultStorageEngine.storeResults(getResultID(queryObj), outputStream -> {
+            CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+            try {
+                Writer writer = new OutputStreamWriter(countingOutputStream, StandardCharsets.UTF_8);
+                writer.write(body);
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            contentLength.set(countingOutputStream.getCount());
+        });
+        return contentLength.get();
+    }
+
+    /**
+     * Store the response body using the ResultStorageEngine. The body is written straight to the storage engine and
+     * the records in the data of a successful response are counted while it is written.
+     * @param queryObj AsyncQuery type object.
+     * @param response ElideResponse object with the writer of the body.
+     * @return AsyncQueryResult with the download URL of the stored body.
+     */
+    protected AsyncQueryResult storeResults(AsyncQuery queryObj, ElideResponse<JsonApiResponseWriter> response) {
+        AtomicLong contentLength = new AtomicLong();
+        AtomicReference<Integer> recordCount = new AtomicReference<>();
+        resultStorageEngine.storeResults(getResultID(queryObj), outputStream -> {
+            CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+            RecordCountingOutputStream recordCountingOutputStream =
+                    new RecordCountingOutputStream(countingOutputStream, RECORDS_PROPERTY);
+            try {
+                if (response.getBody() != null) {
+                    response.getBody().writeTo(recordCountingOutputStream);
+                }
+                recordCountingOutputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            contentLength.set(countingOutputStream.getCount());
+            recordCount.set(recordCountingOutputStream.getRecordCount());
+        });
+
+        AsyncQueryResult queryResult = new AsyncQueryResult();
+        queryResult.setHttpStatus(response.getStatus());
+        queryResult.setCompletedOn(new Date());
+        if (response.getStatus() == 200) {
+            queryResult.setRecordCount(recordCount.get());
+        }
+        queryResult.setResponseBody(generateDownloadURL(queryObj, scope));
+        queryResult.setContentLength(Math.toIntExact(contentLength.get()));
         return queryResult;
     }
 
+    /**
+     * Generate the URL to download the stored response body from the export endpoint.
+     * @param queryObj AsyncQuery type object.
+     * @param scope RequestScope.
+     * @return URL generated.
+     */
+    public String generateDownloadURL(AsyncQuery queryObj, RequestScope scope) {
+        return DownloadUrlUtils.generateDownloadURL(scope, getResultID(queryObj), () -> getBaseUrl(scope));
+    }
+
+    protected String getResultID(AsyncQuery queryObj) {
+        return queryObj.getId() + RESULT_EXTENSION;
+    }
+
+    /**
+     * Gets the base url.
+     *
+     * @param requestScope requestScope object
+     * @return the base url
+     */
+    public String getBaseUrl(RequestScope requestScope) {
+        return requestScope.getRoute().getBaseUrl();
+    }
+
     /**
      * Calculate Record Count in the response.
      * @param queryObj AsyncApi type object.
@@ -83,6 +217,19 @@ public abstract class AsyncQueryOperation implements Callable<AsyncApiResult> {
      */
     public abstract ElideResponse<String> execute(AsyncApi queryObj, RequestScope scope)  throws URISyntaxException;
 
+    /**
+     * Execute the Async Query Request for a JSON API document that is written when the results are stored, without
+     * building the response body as a String.
+     * @param queryObj AsyncApi type object.
+     * @param scope RequestScope.
+     * @return response ElideResponse object or null if the request cannot be streamed.
+     * @throws URISyntaxException URISyntaxException Exception.
+     */
+    protected ElideResponse<JsonApiResponseWriter> executeStreaming(AsyncApi queryObj, RequestScope scope)
+            throws URISyntaxException {
+        return null;
+    }
+
     /**
      * Safe method of extracting 'foo.bar.length()' expressions from com.jayway.jsonpath.  This protects
      * against breaking API changes between 2.4 and beyond.
@@ -108,4 +255,51 @@ public abstract class AsyncQueryOperation implements Callable<AsyncApiResult> {
 
         throw new IllegalStateException("Incompatible version of JSONPath");
     }
+
+    /**
+     * Counts the elements of the first array in a property with a name, reading the json as a stream of tokens
+     * without building a tree of it.
+     * @param json The json body to count in.
+     * @param propertyName The name of the property with the array.
+     * @param rootOnly Whether only the properties of the root object are considered.
+     * @return The size of the array or null if there is no such array or the json cannot be read.
+     */
+    public static Integer countArrayElements(String json, String propertyName, boolean rootOnly) {
+        try (JsonParser parser = MAPPER.createParser(json)) {
+            int depth = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    depth++;
+                } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                    depth--;
+                } else if (token == JsonToken.PROPERTY_NAME && propertyName.equals(parser.currentName())
+                        && (!rootOnly || depth == 1)) {
+                    if (parser.nextToken() == JsonToken.START_ARRAY) {
+                        return countElements(parser);
+                    }
+                    if (rootOnly) {
+                        return null;
+                    }
+                    parser.skipChildren();
+                }
+            }
+            return null;
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+
+    private static Integer countElements(JsonParser parser) {
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                return null;
+            }
+            parser.skipChildren();
+            count++;
+        }
+        return count;
+    }
 }
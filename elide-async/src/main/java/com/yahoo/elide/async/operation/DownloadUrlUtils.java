@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.operation;
+
+import com.yahoo.elide.async.AsyncSettings;
+import com.yahoo.elide.core.RequestScope;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * Utility class which builds the URLs of results downloaded from the export endpoint, shared by the async query and
+ * table export operations.
+ */
+public class DownloadUrlUtils {
+
+    /**
+     * Gets the base url of a request without the path of the API it was made to.
+     * @param requestScope RequestScope.
+     * @param apiPath the path of the API, or null if there is none.
+     * @return the base url
+     */
+    public static String getBaseUrl(RequestScope requestScope, String apiPath) {
+        String baseUrl = requestScope.getRoute().getBaseUrl();
+        if (apiPath != null && baseUrl.endsWith(apiPath)) {
+            baseUrl = baseUrl.substring(0, baseUrl.length() - apiPath.length());
+        }
+        return baseUrl;
+    }
+
+    /**
+     * Gets the base url of Elide, or of the request if Elide has none, followed by a prefix.
+     * @param scope RequestScope.
+     * @param prefix the prefix.
+     * @param requestBaseUrl the base url of the request.
+     * @return the base url.
+     */
+    public static String getBaseUrl(RequestScope scope, String prefix, Supplier<String> requestBaseUrl) {
+        String baseUrl = scope.getElideSettings().getBaseUrl();
+        if (StringUtils.isEmpty(baseUrl)) {
+            baseUrl = requestBaseUrl.get();
+        }
+        if (prefix.length() > 1) {
+            if (baseUrl.endsWith("/")) {
+                baseUrl = baseUrl.substring(0, baseUrl.length() - 1) + prefix;
+            } else {
+                baseUrl = baseUrl + prefix;
+            }
+        }
+        return baseUrl;
+    }
+
+    /**
+     * Generates the URL to download stored results from the export endpoint.
+     * @param scope RequestScope.
+     * @param resultId the id of the stored results.
+     * @param requestBaseUrl the base url of the request.
+     * @return URL generated.
+     */
+    public static String generateDownloadURL(RequestScope scope, String resultId, Supplier<String> requestBaseUrl) {
+        AsyncSettings asyncSettings = scope.getElideSettings().getSettings(AsyncSettings.class);
+        String downloadPath = asyncSettings.getExport().getPath();
+        return getBaseUrl(scope, downloadPath, requestBaseUrl) + "/" + resultId;
+    }
+}
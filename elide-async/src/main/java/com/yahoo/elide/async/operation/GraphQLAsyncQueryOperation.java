@@ -9,9 +9,11 @@ import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.graphql.GraphQLSettings;
 import com.yahoo.elide.graphql.QueryRunner;
 import com.yahoo.elide.graphql.QueryRunners;
 
@@ -30,6 +32,11 @@ public class GraphQLAsyncQueryOperation extends AsyncQueryOperation {
         super(service, queryObj, scope);
     }
 
+    public GraphQLAsyncQueryOperation(AsyncExecutorService service, AsyncApi queryObj, RequestScope scope,
+            ResultStorageEngine resultStorageEngine) {
+        super(service, queryObj, scope, resultStorageEngine);
+    }
+
     @Override
     public ElideResponse<String> execute(AsyncApi queryObj, RequestScope scope) throws URISyntaxException {
         User user = scope.getUser();
@@ -50,8 +57,17 @@ public class GraphQLAsyncQueryOperation extends AsyncQueryOperation {
     public Integer calculateRecordCount(AsyncQuery queryObj, ElideResponse<String> response) {
         Integer count = 0;
         if (response.getStatus() == 200) {
-            count = safeJsonPathLength(response.getBody(), "$..edges.length()");
+            count = countArrayElements(response.getBody(), "edges", false);
+            if (count == null) {
+                count = safeJsonPathLength(response.getBody(), "$..edges.length()");
+            }
         }
         return count;
     }
+
+    @Override
+    public String getBaseUrl(RequestScope requestScope) {
+        GraphQLSettings graphqlSettings = requestScope.getElideSettings().getSettings(GraphQLSettings.class);
+        return DownloadUrlUtils.getBaseUrl(requestScope, graphqlSettings != null ? graphqlSettings.getPath() : null);
+    }
 }
@@ -82,14 +82,7 @@ public class GraphQLTableExportOperation extends TableExportOperation {
 
     @Override
     public String getBaseUrl(RequestScope requestScope) {
-        String baseUrl = requestScope.getRoute().getBaseUrl();
         GraphQLSettings graphqlSettings = requestScope.getElideSettings().getSettings(GraphQLSettings.class);
-        if (graphqlSettings != null) {
-            String graphqlApiPath = graphqlSettings.getPath();
-            if (graphqlApiPath != null && baseUrl.endsWith(graphqlApiPath)) {
-                baseUrl = baseUrl.substring(0, baseUrl.length() - graphqlApiPath.length());
-            }
-        }
-        return baseUrl;
+        return DownloadUrlUtils.getBaseUrl(requestScope, graphqlSettings != null ? graphqlSettings.getPath() : null);
     }
 }
@@ -9,10 +9,12 @@ import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.request.route.Route;
-import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.jsonapi.JsonApi;
+import com.yahoo.elide.jsonapi.JsonApiResponseWriter;
+import com.yahoo.elide.jsonapi.JsonApiSettings;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.net.URIBuilder;
 
@@ -35,23 +37,40 @@ public class JsonApiAsyncQueryOperation extends AsyncQueryOperation {
         super(service, queryObj, scope);
     }
 
+    public JsonApiAsyncQueryOperation(AsyncExecutorService service, AsyncApi queryObj, RequestScope scope,
+            ResultStorageEngine resultStorageEngine) {
+        super(service, queryObj, scope, resultStorageEngine);
+    }
+
     @Override
     public ElideResponse<String> execute(AsyncApi queryObj, RequestScope scope)
             throws URISyntaxException {
         JsonApi jsonApi = getService().getProviders().getProvider(JsonApi.class);
-        User user = scope.getUser();
+        ElideResponse<String> response = jsonApi.get(getRoute(queryObj, scope), scope.getUser(),
+                UUID.fromString(queryObj.getRequestId()));
+        log.debug("JSONAPI_V1_0 getResponseCode: {}, JSONAPI_V1_0 getBody: {}",
+                response.getStatus(), response.getBody());
+        return response;
+    }
+
+    @Override
+    protected ElideResponse<JsonApiResponseWriter> executeStreaming(AsyncApi queryObj, RequestScope scope)
+            throws URISyntaxException {
+        JsonApi jsonApi = getService().getProviders().getProvider(JsonApi.class);
+        ElideResponse<JsonApiResponseWriter> response = jsonApi.getStreaming(getRoute(queryObj, scope),
+                scope.getUser(), UUID.fromString(queryObj.getRequestId()));
+        log.debug("JSONAPI_V1_0 getResponseCode: {}", response.getStatus());
+        return response;
+    }
+
+    private Route getRoute(AsyncApi queryObj, RequestScope scope) throws URISyntaxException {
         String apiVersion = scope.getRoute().getApiVersion();
-        UUID requestUUID = UUID.fromString(queryObj.getRequestId());
         URIBuilder uri = new URIBuilder(queryObj.getQuery());
         Map<String, List<String>> queryParams = getQueryParams(uri);
         log.debug("Extracted QueryParams from AsyncQuery Object: {}", queryParams);
 
-        Route route = Route.builder().baseUrl(scope.getRoute().getBaseUrl()).path(getPath(uri)).parameters(queryParams)
+        return Route.builder().baseUrl(scope.getRoute().getBaseUrl()).path(getPath(uri)).parameters(queryParams)
                 .headers(scope.getRoute().getHeaders()).apiVersion(apiVersion).build();
-        ElideResponse<String> response = jsonApi.get(route, user, requestUUID);
-        log.debug("JSONAPI_V1_0 getResponseCode: {}, JSONAPI_V1_0 getBody: {}",
-                response.getStatus(), response.getBody());
-        return response;
     }
 
     /**
@@ -83,8 +102,17 @@ public class JsonApiAsyncQueryOperation extends AsyncQueryOperation {
     public Integer calculateRecordCount(AsyncQuery queryObj, ElideResponse<String> response) {
         Integer count = null;
         if (response.getStatus() == 200) {
-            count = safeJsonPathLength(response.getBody(), "$.data.length()");
+            count = countArrayElements(response.getBody(), "data", true);
+            if (count == null) {
+                count = safeJsonPathLength(response.getBody(), "$.data.length()");
+            }
         }
         return count;
     }
+
+    @Override
+    public String getBaseUrl(RequestScope requestScope) {
+        JsonApiSettings jsonApiSettings = requestScope.getElideSettings().getSettings(JsonApiSettings.class);
+        return DownloadUrlUtils.getBaseUrl(requestScope, jsonApiSettings != null ? jsonApiSettings.getPath() : null);
+    }
 }
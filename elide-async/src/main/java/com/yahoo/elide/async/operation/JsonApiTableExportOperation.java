@@ -103,14 +103,7 @@ public class JsonApiTableExportOperation extends TableExportOperation {
 
     @Override
     public String getBaseUrl(RequestScope requestScope) {
-        String baseUrl = requestScope.getRoute().getBaseUrl();
         JsonApiSettings jsonApiSettings = requestScope.getElideSettings().getSettings(JsonApiSettings.class);
-        if (jsonApiSettings != null) {
-            String jsonApiPath = jsonApiSettings.getPath();
-            if (jsonApiPath != null && baseUrl.endsWith(jsonApiPath)) {
-                baseUrl = baseUrl.substring(0, baseUrl.length() - jsonApiPath.length());
-            }
-        }
-        return baseUrl;
+        return DownloadUrlUtils.getBaseUrl(requestScope, jsonApiSettings != null ? jsonApiSettings.getPath() : null);
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.operation;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Counts the records of a JSON document while it is written to the underlying output stream.
+ * <p>
+ * The records are the elements of the array, or the properties of the object, in a property of the root object.
+ * The document is scanned byte by byte without being buffered or parsed into tokens.
+ */
+class RecordCountingOutputStream extends FilterOutputStream {
+    private final byte[] propertyName;
+    private final byte[] key;
+    private int keyLength;
+    private boolean readingKey;
+    private boolean expectingKey;
+    private boolean inString;
+    private boolean escaped;
+    private boolean pendingRecords;
+    private boolean expectingRecord;
+    private int depth;
+    private int recordsDepth = -1;
+    private Integer recordCount;
+
+    /**
+     * Constructor.
+     * @param out The underlying output stream.
+     * @param propertyName The name of the property of the root object with the records.
+     */
+    RecordCountingOutputStream(OutputStream out, String propertyName) {
+        super(out);
+        this.propertyName = propertyName.getBytes(StandardCharsets.UTF_8);
+        this.key = new byte[this.propertyName.length + 1];
+    }
+
+    /**
+     * Gets the number of records written.
+     * @return The number of records or null if the root object has no array or object in the property.
+     */
+    Integer getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        scan((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        for (int i = off; i < off + len; i++) {
+            scan(b[i]);
+        }
+    }
+
+    private void scan(byte b) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+            } else if (b == '"') {
+                inString = false;
+                readingKey = false;
+            } else if (readingKey && keyLength < key.length) {
+                key[keyLength++] = b;
+            }
+            return;
+        }
+        if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+            return;
+        }
+        if (pendingRecords) {
+            pendingRecords = false;
+            if (b == '[' || b == '{') {
+                recordsDepth = depth + 1;
+                recordCount = 0;
+                expectingRecord = true;
+            }
+        } else if (depth == recordsDepth && expectingRecord && b != ']' && b != '}') {
+            recordCount++;
+            expectingRecord = false;
+        }
+        switch (b) {
+            case '"':
+                inString = true;
+                if (depth == 1 && expectingKey) {
+                    readingKey = true;
+                    expectingKey = false;
+                    keyLength = 0;
+                }
+                break;
+            case '{':
+            case '[':
+                depth++;
+                expectingKey = depth == 1 && b == '{';
+                break;
+            case '}':
+            case ']':
+                if (depth == recordsDepth) {
+                    recordsDepth = -1;
+                }
+                depth--;
+                break;
+            case ',':
+                expectingKey = depth == 1;
+                expectingRecord = depth == recordsDepth;
+                break;
+            case ':':
+                pendingRecords = depth == 1 && recordCount == null
+                        && Arrays.equals(key, 0, keyLength, propertyName, 0, propertyName.length);
+                break;
+            default:
+                break;
+        }
+    }
+}
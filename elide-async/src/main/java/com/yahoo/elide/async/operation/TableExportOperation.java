@@ -6,8 +6,10 @@
 package com.yahoo.elide.async.operation;
 
 import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.async.AsyncSettings;
 import com.yahoo.elide.async.ResultTypeFileExtensionMapper;
+import com.yahoo.elide.async.export.formatter.ResourceEncoder;
 import com.yahoo.elide.async.export.formatter.ResourceWriter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
 import com.yahoo.elide.async.export.validator.SingleRootProjectionValidator;
@@ -20,21 +22,37 @@ import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
 
-import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.ClassUtils;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -43,8 +61,13 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Consumer;
 
 /**
@@ -52,6 +75,9 @@ import java.util.function.Consumer;
  */
 @Slf4j
 public abstract class TableExportOperation implements Callable<AsyncApiResult> {
+    private static final Set<Class<?>> INTEGRAL_ID_TYPES = Set.of(long.class, Long.class, int.class, Integer.class,
+            short.class, Short.class);
+
     private TableExportFormatter formatter;
     @Getter private AsyncExecutorService service;
     private Integer recordNumber = 0;
@@ -60,6 +86,8 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
     private ResultStorageEngine engine;
     private List<Validator> validators = new ArrayList<>(Arrays.asList(new SingleRootProjectionValidator()));
     private ResultTypeFileExtensionMapper resultTypeFileExtensionMapper;
+    private List<java.nio.file.Path> chunks = Collections.emptyList();
+    private volatile AtomicLongArray partitionProgress = new AtomicLongArray(0);
 
     public TableExportOperation(TableExportFormatter formatter, AsyncExecutorService service,
             AsyncApi exportObj, RequestScope scope, ResultStorageEngine engine, List<Validator> validators,
@@ -79,7 +107,11 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
         Elide elide = service.getElide();
         TableExportResult exportResult = new TableExportResult();
         UUID requestId = UUID.fromString(exportObj.getRequestId());
-        try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
+        int partitions = getPartitions(elide.getElideSettings());
+        // Partitions are read on their own transactions, which must not wait on a write lock held by this one
+        try (DataStoreTransaction tx = partitions > 1
+                ? elide.getDataStore().beginReadTransaction()
+                : elide.getDataStore().beginTransaction()) {
             // Do Not Cache Export Results
             Map<String, List<String>> requestHeaders = new HashMap<String, List<String>>();
             requestHeaders.put("bypasscache", new ArrayList<String>(Arrays.asList("true")));
@@ -89,8 +121,6 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
             validateProjections(projections);
             EntityProjection projection = projections.iterator().next();
 
-            Flux<PersistentResource> observableResults = Flux.empty();
-
             elide.getTransactionRegistry().addRunningTransaction(requestId, tx);
 
             //TODO - we need to add the baseUrlEndpoint to the queryObject.
@@ -99,24 +129,36 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
 
             if (projection != null) {
                 projection.setPagination(null);
-                observableResults = PersistentResource.loadRecords(projection, Collections.emptyList(), requestScope);
             }
 
-            Flux<PersistentResource> results = observableResults;
-            Consumer<OutputStream> data = outputStream -> {
-                try (ResourceWriter writer = formatter.newResourceWriter(outputStream, projection, exportObj)) {
-                    results.subscribe(resource -> {
-                        this.recordNumber++;
-                        try {
-                            writer.write(resource);
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e);
-                        }
-                    });
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            };
+            List<FilterExpression> partitionFilters = projection != null
+                    && formatter.newResourceEncoder(projection, exportObj) != null
+                    ? getPartitionFilters(projection, requestScope, partitions)
+                    : Collections.emptyList();
+
+            Consumer<OutputStream> data;
+            if (partitionFilters.size() > 1) {
+                exportPartitions(projection, partitionFilters, requestHeaders);
+                data = outputStream -> joinPartitions(outputStream, projection);
+            } else {
+                Flux<PersistentResource> results = projection != null
+                        ? PersistentResource.loadRecords(projection, Collections.emptyList(), requestScope)
+                        : Flux.empty();
+                data = outputStream -> {
+                    try (ResourceWriter writer = formatter.newResourceWriter(outputStream, projection, exportObj)) {
+                        results.subscribe(resource -> {
+                            this.recordNumber++;
+                            try {
+                                writer.write(resource);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                };
+            }
 
             TableExportResult result = storeResults(exportObj, engine, data);
 
@@ -128,7 +170,7 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
             exportResult.setRecordCount(recordNumber);
 
             tx.flush(requestScope);
-            elide.getAuditLogger().commit();
+            elide.getAuditLogger().commit(requestScope);
             tx.commit(requestScope);
         } catch (BadRequestException e) {
             exportResult.setMessage(e.getMessage());
@@ -145,10 +187,217 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
             exportResult.setCompletedOn(new Date());
             elide.getTransactionRegistry().removeRunningTransaction(requestId);
             elide.getAuditLogger().clear();
+            deleteChunks();
         }
         return exportResult;
     }
 
+    /**
+     * Returns the number of records read so far by each partition of a partitioned export.
+     *
+     * @return the record count of every partition, which is empty if the export is not partitioned
+     */
+    public long[] getPartitionProgress() {
+        AtomicLongArray progress = partitionProgress;
+        long[] result = new long[progress.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = progress.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of partitions to split the export into.
+     *
+     * @param elideSettings ElideSettings.
+     * @return the number of partitions.
+     */
+    protected int getPartitions(ElideSettings elideSettings) {
+        AsyncSettings asyncSettings = elideSettings.getSettings(AsyncSettings.class);
+        return asyncSettings == null ? 1 : asyncSettings.getExport().getPartitions();
+    }
+
+    /**
+     * Splits the root projection into contiguous ranges of ids of about the same width. The ranges are only
+     * computed when the root entity has an integral id and no sort order is requested, as the partitions are
+     * joined in id order.
+     *
+     * @param projection the root projection.
+     * @param requestScope RequestScope.
+     * @param partitions the number of partitions.
+     * @return the filter of every partition in id order, or an empty list if the export cannot be partitioned.
+     */
+    protected List<FilterExpression> getPartitionFilters(EntityProjection projection, RequestScope requestScope,
+            int partitions) {
+        if (partitions <= 1) {
+            return Collections.emptyList();
+        }
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Type<?> type = projection.getType();
+        Class<?> idClass = dictionary.getIdType(type).getUnderlyingClass().orElse(null);
+        if (idClass == null || !INTEGRAL_ID_TYPES.contains(idClass)
+                || (projection.getSorting() != null && !projection.getSorting().isDefaultInstance())) {
+            return Collections.emptyList();
+        }
+
+        Long min = getIdBound(projection, requestScope, Sorting.SortOrder.asc);
+        Long max = getIdBound(projection, requestScope, Sorting.SortOrder.desc);
+        if (min == null || max == null || min.equals(max)) {
+            return Collections.emptyList();
+        }
+
+        long width;
+        try {
+            width = Math.max(1, Math.addExact(Math.subtractExact(max, min), 1) / partitions);
+        } catch (ArithmeticException e) {
+            return Collections.emptyList();
+        }
+
+        Path idPath = new Path(type, dictionary, dictionary.getIdFieldName(type));
+        List<FilterExpression> filters = new ArrayList<>();
+        long lower = min;
+        for (int partition = 0; partition < partitions && lower <= max; partition++) {
+            long upper = lower + width;
+            // The first and last partitions are open so that ids outside the bounds are still exported
+            FilterExpression range;
+            if (partition == 0) {
+                range = new FilterPredicate(idPath, Operator.LT, getIdValues(upper, idClass));
+            } else if (partition == partitions - 1 || upper > max) {
+                range = new FilterPredicate(idPath, Operator.GE, getIdValues(lower, idClass));
+            } else {
+                range = new AndFilterExpression(
+                        new FilterPredicate(idPath, Operator.GE, getIdValues(lower, idClass)),
+                        new FilterPredicate(idPath, Operator.LT, getIdValues(upper, idClass)));
+            }
+            filters.add(projection.getFilterExpression() == null
+                    ? range
+                    : new AndFilterExpression(projection.getFilterExpression(), range));
+            lower = upper;
+        }
+        return filters;
+    }
+
+    private static List<Object> getIdValues(long id, Class<?> idClass) {
+        return List.of(CoerceUtil.coerce(id, ClassUtils.primitiveToWrapper(idClass)));
+    }
+
+    private Long getIdBound(EntityProjection projection, RequestScope requestScope, Sorting.SortOrder order) {
+        Type<?> type = projection.getType();
+        EntityDictionary dictionary = requestScope.getDictionary();
+        EntityProjection boundProjection = projection.copyOf()
+                .sorting(new SortingImpl(Map.of(dictionary.getIdFieldName(type), order), type, dictionary))
+                .pagination(new PaginationImpl(type, 0, 1, 1, 1, false, false))
+                .build();
+        PersistentResource<?> bound = PersistentResource
+                .loadRecords(boundProjection, Collections.emptyList(), requestScope)
+                .blockFirst();
+        return bound == null ? null : Long.valueOf(bound.getId());
+    }
+
+    /**
+     * Reads and encodes every partition on its own read transaction on the async executor, spooling the records of
+     * each partition to a temporary chunk.
+     */
+    private void exportPartitions(EntityProjection projection,
+            List<FilterExpression> partitionFilters, Map<String, List<String>> requestHeaders)
+            throws IOException, InterruptedException {
+        List<java.nio.file.Path> partitionChunks = new ArrayList<>();
+        for (int partition = 0; partition < partitionFilters.size(); partition++) {
+            partitionChunks.add(Files.createTempFile("elide-export-" + exportObj.getId() + "-", ".part"));
+        }
+        chunks = partitionChunks;
+        partitionProgress = new AtomicLongArray(partitionFilters.size());
+
+        // Partitions run on the async executor. Any partition the executor has not started yet is run on this
+        // thread, so an export never waits on a pool which is busy with other exports.
+        List<FutureTask<Void>> tasks = new ArrayList<>();
+        try {
+            for (int partition = 0; partition < partitionFilters.size(); partition++) {
+                int index = partition;
+                FutureTask<Void> task = new FutureTask<>(() -> {
+                    exportPartition(index, projection, partitionFilters.get(index), partitionChunks.get(index),
+                            requestHeaders);
+                    return null;
+                });
+                tasks.add(task);
+                try {
+                    service.getExecutor().execute(task);
+                } catch (RejectedExecutionException e) {
+                    log.debug("TableExport {} partition {} runs on the export thread", exportObj.getId(), index);
+                }
+            }
+            for (FutureTask<Void> task : tasks) {
+                task.run();
+            }
+            for (FutureTask<Void> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private void exportPartition(int partition, EntityProjection projection, FilterExpression filter,
+            java.nio.file.Path chunk, Map<String, List<String>> requestHeaders) throws IOException {
+        try (DataStoreTransaction tx = service.getElide().getDataStore().beginReadTransaction();
+                DataOutputStream output = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(chunk)))) {
+            RequestScope requestScope = getRequestScope(exportObj, scope, tx, requestHeaders);
+            EntityProjection partitionProjection = projection.copyOf().filterExpression(filter).build();
+            requestScope.setEntityProjection(partitionProjection);
+            ResourceEncoder encoder = formatter.newResourceEncoder(partitionProjection, exportObj);
+
+            for (PersistentResource<?> resource : PersistentResource
+                    .loadRecords(partitionProjection, Collections.emptyList(), requestScope)
+                    .toIterable()) {
+                byte[] record = encoder.encode(resource);
+                output.writeInt(record.length);
+                output.write(record);
+                partitionProgress.incrementAndGet(partition);
+            }
+            tx.commit(requestScope);
+        }
+        log.debug("TableExport {} partition {} read {} records", exportObj.getId(), partition,
+                partitionProgress.get(partition));
+    }
+
+    /**
+     * Writes the records of every partition in order.
+     */
+    private void joinPartitions(OutputStream outputStream, EntityProjection projection) {
+        try (ResourceWriter writer = formatter.newResourceWriter(outputStream, projection, exportObj)) {
+            for (int partition = 0; partition < chunks.size(); partition++) {
+                try (DataInputStream input = new DataInputStream(
+                        new BufferedInputStream(Files.newInputStream(chunks.get(partition))))) {
+                    for (long count = partitionProgress.get(partition); count > 0; count--) {
+                        byte[] record = new byte[input.readInt()];
+                        input.readFully(record);
+                        writer.writeEncoded(record);
+                        this.recordNumber++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteChunks() {
+        for (java.nio.file.Path chunk : chunks) {
+            try {
+                Files.deleteIfExists(chunk);
+            } catch (IOException e) {
+                log.warn("Unable to delete TableExport chunk {}", chunk, e);
+            }
+        }
+        chunks = Collections.emptyList();
+    }
+
     /**
      * Initializes a new RequestScope for the export operation with the submitted query.
      * @param exportObj TableExport type object.
@@ -204,18 +453,7 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
      * @return the base url.
      */
     protected String getBaseUrl(RequestScope scope, String prefix) {
-        String baseUrl = scope.getElideSettings().getBaseUrl();
-        if (StringUtils.isEmpty(baseUrl)) {
-            baseUrl = getBaseUrl(scope);
-        }
-        if (prefix.length() > 1) {
-            if (baseUrl.endsWith("/")) {
-                baseUrl = baseUrl.substring(0, baseUrl.length() - 1) + prefix;
-            } else {
-                baseUrl = baseUrl + prefix;
-            }
-        }
-        return baseUrl;
+        return DownloadUrlUtils.getBaseUrl(scope, prefix, () -> getBaseUrl(scope));
     }
 
     /**
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.resources;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A single byte range of a Range request header.
+ */
+@Getter
+@AllArgsConstructor
+public class ByteRange {
+    private static final String BYTES_UNIT = "bytes=";
+
+    /**
+     * The offset of the first byte.
+     */
+    private final long start;
+
+    /**
+     * The offset of the last byte, inclusive.
+     */
+    private final long end;
+
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * Gets the value of the Content-Range header of the range.
+     *
+     * @param completeLength the length of the complete representation
+     * @return the header value
+     */
+    public String toContentRange(long completeLength) {
+        return "bytes " + start + "-" + end + "/" + completeLength;
+    }
+
+    /**
+     * Parses a Range header with a single byte range.
+     * <p>
+     * Headers with several ranges or which cannot be parsed are ignored, so the complete representation is served.
+     *
+     * @param header the Range header, which may be null
+     * @param completeLength the length of the complete representation
+     * @return the range or null if the header is ignored
+     * @throws IllegalArgumentException if the range is not satisfiable
+     */
+    public static ByteRange parse(String header, long completeLength) {
+        if (header == null || !header.startsWith(BYTES_UNIT) || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring(BYTES_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        long start;
+        long end;
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range of the last bytes
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0) {
+                    throw new IllegalArgumentException("Unsatisfiable range " + header);
+                }
+                start = Math.max(0, completeLength - suffixLength);
+                end = completeLength - 1;
+            } else {
+                start = Long.parseLong(first);
+                long lastPosition = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                if (lastPosition < start) {
+                    // Invalid rather than unsatisfiable
+                    return null;
+                }
+                end = Math.min(lastPosition, completeLength - 1);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (start >= completeLength || end < start) {
+            throw new IllegalArgumentException("Unsatisfiable range " + header);
+        }
+        return new ByteRange(start, end);
+    }
+}
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.async.resources;
 
+import com.yahoo.elide.async.service.storageengine.ResultMetadata;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 
 import jakarta.inject.Inject;
@@ -12,6 +13,7 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
@@ -19,6 +21,7 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
@@ -29,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.OutputStream;
 import java.time.Duration;
+import java.util.Date;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -40,6 +44,11 @@ import java.util.function.Consumer;
 @Singleton
 @Path("/")
 public class ExportApiEndpoint {
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+
     protected final ExportApiProperties exportApiProperties;
     protected final ResultStorageEngine resultStorageEngine;
 
@@ -64,10 +73,41 @@ public class ExportApiEndpoint {
      * @param asyncQueryId asyncQueryId to download results
      * @param asyncResponse AsyncResponse object
      */
+    public void get(String asyncQueryId, HttpServletResponse httpServletResponse, AsyncResponse asyncResponse) {
+        get(asyncQueryId, null, null, httpServletResponse, asyncResponse);
+    }
+
+    /**
+     * Read handler.
+     *
+     * @param asyncQueryId asyncQueryId to download results
+     * @param range the Range header
+     * @param acceptEncoding the Accept-Encoding header
+     * @param asyncResponse AsyncResponse object
+     */
+    public void get(String asyncQueryId, String range, String acceptEncoding, HttpServletResponse httpServletResponse,
+            AsyncResponse asyncResponse) {
+        get(asyncQueryId, range, null, acceptEncoding, httpServletResponse, asyncResponse);
+    }
+
+    /**
+     * Read handler.
+     * <p>
+     * Results which the storage engine can serve as-is support range requests, and are sent with their content
+     * encoding to clients which accept it.  They are sent with an entity tag and modification time, and a range
+     * whose If-Range validator no longer matches is answered with the complete results.
+     *
+     * @param asyncQueryId asyncQueryId to download results
+     * @param range the Range header
+     * @param ifRange the If-Range header
+     * @param acceptEncoding the Accept-Encoding header
+     * @param asyncResponse AsyncResponse object
+     */
     @GET
     @Path("/{asyncQueryId}")
-    public void get(@PathParam("asyncQueryId") String asyncQueryId, @Context HttpServletResponse httpServletResponse,
-            @Suspended final AsyncResponse asyncResponse) {
+    public void get(@PathParam("asyncQueryId") String asyncQueryId, @HeaderParam(RANGE) String range,
+            @HeaderParam(IF_RANGE) String ifRange, @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            @Context HttpServletResponse httpServletResponse, @Suspended final AsyncResponse asyncResponse) {
         asyncResponse.setTimeout(exportApiProperties.getMaxDownloadTime().toSeconds(), TimeUnit.SECONDS);
         asyncResponse.setTimeoutHandler(async -> {
             ResponseBuilder resp = Response.status(Response.Status.REQUEST_TIMEOUT).entity("Timed out.");
@@ -75,43 +115,98 @@ public class ExportApiEndpoint {
         });
 
         exportApiProperties.getExecutor().submit(() -> {
+            ResultMetadata metadata = resultStorageEngine.getResultMetadata(asyncQueryId);
+            if (metadata != null && metadata.isAcceptable(acceptEncoding)) {
+                asyncResponse.resume(getStoredResults(asyncQueryId, metadata,
+                        metadata.isRangeApplicable(ifRange) ? range : null));
+                return;
+            }
             Consumer<OutputStream> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
-            StreamingOutput streamingOutput = outputStream -> {
+            ResponseBuilder builder = Response.ok(getStreamingOutput(asyncQueryId, observableResults),
+                    MediaType.APPLICATION_OCTET_STREAM);
+            if (metadata != null && metadata.getContentEncoding() != null) {
+                // Clients which accept the encoding are sent the stored bytes instead
+                builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            asyncResponse.resume(builder
+                    .header("Content-Disposition", "attachment; filename=" + asyncQueryId).build());
+        });
+    }
+
+    /**
+     * Builds the response with the stored bytes of the results or the requested range of them.
+     *
+     * @param asyncQueryId asyncQueryId to download results
+     * @param metadata the metadata of the stored results
+     * @param range the Range header
+     * @return the response
+     */
+    protected Response getStoredResults(String asyncQueryId, ResultMetadata metadata, String range) {
+        long completeLength = metadata.getLength();
+        ByteRange byteRange;
+        try {
+            byteRange = ByteRange.parse(range, completeLength);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(CONTENT_RANGE, "bytes */" + completeLength).build();
+        }
+        long offset = byteRange != null ? byteRange.getStart() : 0;
+        long length = byteRange != null ? byteRange.getLength() : completeLength;
+        StreamingOutput streamingOutput = getStreamingOutput(asyncQueryId,
+                resultStorageEngine.getStoredResultsByID(asyncQueryId, offset, length));
+        ResponseBuilder builder = byteRange != null
+                ? Response.status(Response.Status.PARTIAL_CONTENT)
+                        .header(CONTENT_RANGE, byteRange.toContentRange(completeLength))
+                : Response.ok();
+        if (metadata.getContentEncoding() != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, metadata.getContentEncoding())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (metadata.getLastModified() > 0) {
+            builder.lastModified(new Date(metadata.getLastModified()));
+        }
+        return builder.entity(streamingOutput)
+                .tag(metadata.getEntityTag())
+                .type(MediaType.APPLICATION_OCTET_STREAM)
+                .header(ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_LENGTH, length)
+                .header("Content-Disposition", "attachment; filename=" + asyncQueryId).build();
+    }
+
+    private StreamingOutput getStreamingOutput(String asyncQueryId, Consumer<OutputStream> observableResults) {
+        return outputStream -> {
+            try {
+                observableResults.accept(outputStream);
+            } catch (RuntimeException e) {
+                String message = e.getMessage();
                 try {
-                    observableResults.accept(outputStream);
-                } catch (RuntimeException e) {
-                    String message = e.getMessage();
-                    try {
-                        log.debug(message);
-                        if (message != null && message.equals(ResultStorageEngine.RETRIEVE_ERROR)) {
-                            String errorMessage = asyncQueryId + " Not Found";
-                            throw new NotFoundException(errorMessage,
-                                    Response.status(Response.Status.NOT_FOUND).entity(errorMessage).build());
-                        } else {
-                            throw new InternalServerErrorException(
-                                    Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                                            .entity("Internal Server Error").build());
-                        }
-                    } catch (IllegalStateException ise) {
-                        // If stream was flushed, Attachment download has already started.
-                        // response.sendError causes java.lang.IllegalStateException:
-                        // Cannot call sendError() after the response has been committed.
-                        // This will return 200 status.
-                        // Add error message in the attachment as a way to signal errors.
-                        outputStream.write(
-                                "Error Occured...."
-                                .concat(System.lineSeparator())
-                                .getBytes()
-                                );
-                        log.debug(ise.getMessage());
+                    log.debug(message);
+                    if (message != null && message.equals(ResultStorageEngine.RETRIEVE_ERROR)) {
+                        String errorMessage = asyncQueryId + " Not Found";
+                        throw new NotFoundException(errorMessage,
+                                Response.status(Response.Status.NOT_FOUND).entity(errorMessage).build());
+                    } else {
+                        throw new InternalServerErrorException(
+                                Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                                        .entity("Internal Server Error").build());
                     }
-                } finally {
-                    outputStream.flush();
-                    outputStream.close();
+                } catch (IllegalStateException ise) {
+                    // If stream was flushed, Attachment download has already started.
+                    // response.sendError causes java.lang.IllegalStateException:
+                    // Cannot call sendError() after the response has been committed.
+                    // This will return 200 status.
+                    // Add error message in the attachment as a way to signal errors.
+                    outputStream.write(
+                            "Error Occured...."
+                            .concat(System.lineSeparator())
+                            .getBytes()
+                            );
+                    log.debug(ise.getMessage());
                 }
-            };
-            asyncResponse.resume(Response.ok(streamingOutput, MediaType.APPLICATION_OCTET_STREAM)
-                    .header("Content-Disposition", "attachment; filename=" + asyncQueryId).build());
-        });
+            } finally {
+                outputStream.flush();
+                outputStream.close();
+            }
+        };
     }
 }
@@ -12,12 +12,17 @@ import com.yahoo.elide.async.models.QueryStatus;
 import com.yahoo.elide.async.operation.AsyncApiUpdateOperation;
 import com.yahoo.elide.async.service.dao.AsyncApiDao;
 import com.yahoo.elide.core.security.User;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 
 import jakarta.inject.Inject;
 import lombok.Data;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -37,12 +42,17 @@ import java.util.concurrent.TimeoutException;
 public class AsyncExecutorService {
 
     public static final int DEFAULT_THREAD_POOL_SIZE = 6;
+    public static final Duration PENDING_RESULT_TIME_TO_LIVE = Duration.ofMinutes(10);
 
     private final Elide elide;
     private final ExecutorService executor;
     private final ExecutorService updater;
     private final AsyncApiDao asyncApiDao;
-    private final ThreadLocal<AsyncApiResultFuture> asyncResultFutureThreadLocal = new ThreadLocal<>();
+    /*
+     * Queries which are still running once their request commits, by id. Entries of requests which fail before
+     * they commit are never completed, so they expire and their queries are cancelled.
+     */
+    private final Cache<String, AsyncApiResultFuture> pendingResultFutures;
     private final AsyncProviderService providers;
 
     /**
@@ -57,11 +67,21 @@ public class AsyncExecutorService {
     @Inject
     public AsyncExecutorService(Elide elide, ExecutorService executor, ExecutorService updater, AsyncApiDao asyncApiDao,
             AsyncProviderService asyncProviderService) {
+        this(elide, executor, updater, asyncApiDao, asyncProviderService, Ticker.systemTicker());
+    }
+
+    AsyncExecutorService(Elide elide, ExecutorService executor, ExecutorService updater, AsyncApiDao asyncApiDao,
+            AsyncProviderService asyncProviderService, Ticker ticker) {
         this.elide = elide;
         this.executor = executor;
         this.updater = updater;
         this.asyncApiDao = asyncApiDao;
         this.providers = asyncProviderService;
+        this.pendingResultFutures = CacheBuilder.newBuilder()
+                .expireAfterWrite(PENDING_RESULT_TIME_TO_LIVE)
+                .ticker(ticker)
+                .removalListener(this::onPendingResultRemoval)
+                .build();
     }
 
     /**
@@ -93,7 +113,9 @@ public class AsyncExecutorService {
             log.error("Exception: {}", e.toString());
             queryObj.setStatus(QueryStatus.FAILURE);
         } finally {
-            asyncResultFutureThreadLocal.set(resultFuture);
+            if (resultFuture.isSynchronousTimeout()) {
+                pendingResultFutures.put(queryObj.getId(), resultFuture);
+            }
         }
 
     }
@@ -104,14 +126,20 @@ public class AsyncExecutorService {
      * @param apiVersion API Version
      */
     public void completeQuery(AsyncApi query, User user, String apiVersion) {
-        AsyncApiResultFuture asyncApiResultFuture = asyncResultFutureThreadLocal.get();
-        if (asyncApiResultFuture.isSynchronousTimeout()) {
+        AsyncApiResultFuture asyncApiResultFuture = pendingResultFutures.asMap().remove(query.getId());
+        if (asyncApiResultFuture != null) {
             log.debug("Task has not completed");
             updater.execute(new AsyncApiUpdateOperation(elide, asyncApiResultFuture.getAsyncFuture(), query,
                     asyncApiDao));
-            asyncResultFutureThreadLocal.remove();
         } else {
             log.debug("Task has completed");
         }
     }
+
+    private void onPendingResultRemoval(RemovalNotification<String, AsyncApiResultFuture> notification) {
+        if (notification.wasEvicted()) {
+            log.debug("Cancelling query {} whose request did not commit", notification.getKey());
+            notification.getValue().getAsyncFuture().cancel(true);
+        }
+    }
 }
@@ -18,27 +18,63 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Default implementation of ResultStorageEngine that stores results on local filesystem.
  * It supports Async Module to store results with Table Export query.
+ * <p>
+ * Results can optionally be stored compressed with gzip, in which case the file name has a .gz suffix. The stored
+ * bytes are served as-is, with range requests, to clients which accept the encoding.
  */
 @Singleton
 @Slf4j
 @Getter
 public class FileResultStorageEngine implements ResultStorageEngine {
+    public static final String GZIP = "gzip";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     @Setter private String basePath;
 
+    /**
+     * The encoding of stored results or null to store them uncompressed.
+     */
+    private String contentEncoding;
+
     /**
      * Constructor.
      * @param basePath basePath for storing the files. Can be absolute or relative.
      */
     public FileResultStorageEngine(String basePath) {
+        this(basePath, null);
+    }
+
+    /**
+     * Constructor.
+     * @param basePath basePath for storing the files. Can be absolute or relative.
+     * @param contentEncoding the encoding of stored results, either gzip or null to store them uncompressed.
+     */
+    public FileResultStorageEngine(String basePath, String contentEncoding) {
         this.basePath = basePath;
+        setContentEncoding(contentEncoding);
+    }
+
+    public void setContentEncoding(String contentEncoding) {
+        if (contentEncoding != null && !contentEncoding.isEmpty() && !GZIP.equalsIgnoreCase(contentEncoding)) {
+            throw new IllegalArgumentException("Unsupported content encoding " + contentEncoding);
+        }
+        this.contentEncoding = contentEncoding == null || contentEncoding.isEmpty() ? null : GZIP;
     }
 
     @Override
@@ -57,8 +93,42 @@ public class FileResultStorageEngine implements ResultStorageEngine {
     public Consumer<OutputStream> getResultsByID(String tableExportID) {
         log.debug("getTableExportResultsByID");
         return outputStream -> {
-            try {
-                newInputStream(tableExportID).transferTo(outputStream);
+            try (InputStream inputStream = newInputStream(tableExportID)) {
+                inputStream.transferTo(outputStream);
+            } catch (IOException e) {
+                log.error("Error transferring " + tableExportID + " to output stream.", e);
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @Override
+    public ResultMetadata getResultMetadata(String tableExportID) {
+        try {
+            Path path = getStoredPath(tableExportID);
+            return new ResultMetadata(Files.size(path), isCompressed(path) ? GZIP : null,
+                    Files.getLastModifiedTime(path).toMillis());
+        } catch (IOException e) {
+            // Left to getResultsByID to report
+            return null;
+        }
+    }
+
+    @Override
+    public Consumer<OutputStream> getStoredResultsByID(String tableExportID, long offset, long length) {
+        return outputStream -> {
+            try (FileChannel channel = FileChannel.open(getStoredPath(tableExportID), StandardOpenOption.READ)) {
+                // The target wraps a stream, so the bytes are copied through a buffer rather than sent by the kernel
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = offset;
+                long end = offset + length;
+                while (position < end) {
+                    long transferred = channel.transferTo(position, end - position, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                }
             } catch (IOException e) {
                 log.error("Error transferring " + tableExportID + " to output stream.", e);
                 throw new UncheckedIOException(e);
@@ -80,11 +150,35 @@ public class FileResultStorageEngine implements ResultStorageEngine {
         }
     }
 
+    /**
+     * Gets the path of the stored results, which is compressed if it has the .gz suffix.
+     *
+     * @param tableExportID the ID of the TableExport
+     * @return the path
+     * @throws IOException if the path is not expected or there are no results
+     */
+    protected Path getStoredPath(String tableExportID) throws IOException {
+        Path path = Paths.get(basePath, tableExportID);
+        validatePath(path);
+        Path compressed = Paths.get(basePath, tableExportID + GZIP_SUFFIX);
+        if (Files.exists(compressed)) {
+            return compressed;
+        }
+        if (!Files.exists(path)) {
+            throw new NoSuchFileException(path.toString());
+        }
+        return path;
+    }
+
+    private boolean isCompressed(Path path) {
+        return path.getFileName().toString().endsWith(GZIP_SUFFIX);
+    }
+
     private InputStream newInputStream(String tableExportID) {
         try {
-            Path path = Paths.get(basePath, tableExportID);
-            validatePath(path);
-            return Files.newInputStream(path);
+            Path path = getStoredPath(tableExportID);
+            InputStream inputStream = Files.newInputStream(path);
+            return isCompressed(path) ? new GZIPInputStream(inputStream, BUFFER_SIZE) : inputStream;
         } catch (IOException e) {
             log.error(RETRIEVE_ERROR, e);
             throw new UncheckedIOException(RETRIEVE_ERROR, e);
@@ -95,7 +189,13 @@ public class FileResultStorageEngine implements ResultStorageEngine {
         try {
             Path path = Paths.get(basePath, tableExportID);
             validatePath(path);
-            return Files.newOutputStream(path);
+            Path compressed = Paths.get(basePath, tableExportID + GZIP_SUFFIX);
+            if (contentEncoding == null) {
+                Files.deleteIfExists(compressed);
+                return Files.newOutputStream(path);
+            }
+            Files.deleteIfExists(path);
+            return new GZIPOutputStream(Files.newOutputStream(compressed), BUFFER_SIZE);
         } catch (IOException e) {
             log.error(STORE_ERROR, e);
             throw new UncheckedIOException(STORE_ERROR, e);
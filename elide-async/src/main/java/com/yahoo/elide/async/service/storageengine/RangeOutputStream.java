@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.storageengine;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream which only passes on a range of the bytes written to it.
+ */
+class RangeOutputStream extends FilterOutputStream {
+    private long skip;
+    private long remaining;
+
+    /**
+     * Constructor.
+     * @param out the stream the bytes of the range are written to
+     * @param offset the offset of the first byte of the range
+     * @param length the number of bytes of the range
+     */
+    RangeOutputStream(OutputStream out, long offset, long length) {
+        super(out);
+        this.skip = offset;
+        this.remaining = length;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (skip > 0) {
+            skip--;
+        } else if (remaining > 0) {
+            remaining--;
+            out.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        int skipped = (int) Math.min(skip, len);
+        skip -= skipped;
+        int written = (int) Math.min(remaining, len - skipped);
+        if (written > 0) {
+            out.write(b, off + skipped, written);
+            remaining -= written;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.storageengine;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Describes the bytes of stored results, which can be served as-is with range requests.
+ */
+@Data
+@AllArgsConstructor
+public class ResultMetadata {
+    /**
+     * The number of stored bytes.
+     */
+    private long length;
+
+    /**
+     * The encoding of the stored bytes, for example gzip, or null if they are not encoded.
+     */
+    private String contentEncoding;
+
+    /**
+     * When the stored bytes were last modified in milliseconds since the epoch, or 0 if unknown.
+     */
+    private long lastModified;
+
+    public ResultMetadata(long length, String contentEncoding) {
+        this(length, contentEncoding, 0);
+    }
+
+    /**
+     * Gets a strong entity tag of the stored bytes, derived from their length, modification time and encoding.
+     *
+     * @return the opaque tag without quotes
+     */
+    public String getEntityTag() {
+        StringBuilder tag = new StringBuilder(Long.toHexString(length)).append('-')
+                .append(Long.toHexString(lastModified));
+        if (contentEncoding != null) {
+            tag.append('-').append(contentEncoding);
+        }
+        return tag.toString();
+    }
+
+    /**
+     * Determines whether the Range header of a request applies to the stored bytes.
+     *
+     * @param ifRange the If-Range header of the request, which may be null
+     * @return true if there is no If-Range header or it matches the entity tag or modification time of the bytes
+     */
+    public boolean isRangeApplicable(String ifRange) {
+        if (ifRange == null) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"")) {
+            return value.equals("\"" + getEntityTag() + "\"");
+        }
+        // Weak entity tags never match
+        if (value.startsWith("W/") || lastModified <= 0) {
+            return false;
+        }
+        try {
+            long date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return date == lastModified / 1000 * 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Determines whether the stored bytes can be sent to a client.
+     *
+     * @param acceptEncoding the Accept-Encoding header of the request, which may be null
+     * @return true if the bytes are not encoded or the client accepts their encoding
+     */
+    public boolean isAcceptable(String acceptEncoding) {
+        if (contentEncoding == null) {
+            return true;
+        }
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim();
+            if (name.equalsIgnoreCase(contentEncoding) || "*".equals(name)) {
+                for (int x = 1; x < parameters.length; x++) {
+                    if (isZeroQuality(parameters[x].trim())) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String parameter) {
+        if (!parameter.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(parameter.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -32,4 +32,30 @@ public interface ResultStorageEngine {
      * @return returns the result associated with the tableExportID
      */
     public Consumer<OutputStream> getResultsByID(String tableExportID);
+
+    /**
+     * Gets the metadata of the stored bytes of the results, which allows them to be served as-is.
+     * @param tableExportID is the ID of the TableExport. It may include extension too if enabled.
+     * @return the metadata or null if the results must be read with {@link #getResultsByID(String)}
+     */
+    public default ResultMetadata getResultMetadata(String tableExportID) {
+        return null;
+    }
+
+    /**
+     * Reads a range of the stored bytes of the results, which are encoded as described by
+     * {@link #getResultMetadata(String)}.
+     * <p>
+     * The default writes the range of the bytes written by {@link #getResultsByID(String)}, reading and discarding
+     * the bytes around it. This is only correct when those are the stored bytes, so engines which store the results
+     * encoded must override this together with {@link #getResultMetadata(String)}.
+     * @param tableExportID is the ID of the TableExport. It may include extension too if enabled.
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return writes the bytes of the range
+     */
+    public default Consumer<OutputStream> getStoredResultsByID(String tableExportID, long offset, long length) {
+        Consumer<OutputStream> results = getResultsByID(tableExportID);
+        return outputStream -> results.accept(new RangeOutputStream(outputStream, offset, length));
+    }
 }
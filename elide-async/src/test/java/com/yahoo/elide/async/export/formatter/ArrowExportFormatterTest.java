@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.async.models.QueryType;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.util.ByteArrayReadableSeekableByteChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ArrowExportFormatterTest {
+    private Elide elide;
+    private RequestScope scope;
+
+    @BeforeEach
+    public void setupMocks() {
+        HashMapDataStore dataStore = new HashMapDataStore(new DefaultClassScanner(), TableExport.class.getPackage());
+        Map<String, Class<? extends Check>> map = new HashMap<>();
+        elide = new Elide(
+                    ElideSettings.builder().dataStore(dataStore)
+                        .entityDictionary(EntityDictionary.builder().checks(map).build())
+                        .build());
+        elide.doScans();
+        scope = mock(RequestScope.class);
+    }
+
+    private PersistentResource<?> newResource(EntityProjection projection, Map<String, Object> attributes) {
+        PersistentResource<?> persistentResource = mock(PersistentResource.class);
+        when(persistentResource.getRequestScope()).thenReturn(scope);
+        when(persistentResource.getAttribute(any(Attribute.class))).thenAnswer(key -> {
+            return attributes.get(((Attribute) key.getArgument(0)).getName());
+        });
+        when(scope.getEntityProjection()).thenReturn(projection);
+        return persistentResource;
+    }
+
+    @Test
+    public void testResourceToArrow() throws IOException {
+        ArrowExportFormatter formatter = new ArrowExportFormatter(elide);
+
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(String.class).name("query").alias("q").build());
+        attributes.add(Attribute.builder().type(QueryType.class).name("queryType").build());
+        attributes.add(Attribute.builder().type(Integer.class).name("asyncAfterSeconds").build());
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("query", "{ tableExport { edges { node { id } } } }");
+        first.put("queryType", QueryType.GRAPHQL_V1_0);
+        first.put("asyncAfterSeconds", 10);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("query", "/tableExport");
+        second.put("queryType", QueryType.JSONAPI_V1_0);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ResourceWriter writer = formatter.newResourceWriter(output, projection, new TableExport())) {
+            writer.write(newResource(projection, first));
+            writer.write(newResource(projection, second));
+        }
+
+        try (BufferAllocator allocator = new RootAllocator();
+                ArrowFileReader reader = new ArrowFileReader(
+                        new ByteArrayReadableSeekableByteChannel(output.toByteArray()), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            List<Field> fields = root.getSchema().getFields();
+            assertEquals(List.of("q", "queryType", "asyncAfterSeconds"), fields.stream().map(Field::getName).toList());
+            assertEquals(ArrowType.Utf8.INSTANCE, fields.get(1).getType());
+            assertEquals(new ArrowType.Int(64, true), fields.get(2).getType());
+
+            assertTrue(reader.loadNextBatch());
+            assertEquals(2, root.getRowCount());
+            VarCharVector query = (VarCharVector) root.getVector("q");
+            VarCharVector queryType = (VarCharVector) root.getVector("queryType");
+            BigIntVector asyncAfterSeconds = (BigIntVector) root.getVector("asyncAfterSeconds");
+            assertEquals("{ tableExport { edges { node { id } } } }", query.getObject(0).toString());
+            assertEquals("GRAPHQL_V1_0", queryType.getObject(0).toString());
+            assertEquals(10L, asyncAfterSeconds.get(0));
+            assertEquals("/tableExport", query.getObject(1).toString());
+            assertEquals("JSONAPI_V1_0", queryType.getObject(1).toString());
+            assertNull(asyncAfterSeconds.getObject(1));
+        }
+    }
+
+    @Test
+    public void testRecordsAreWrittenInBatches() throws IOException {
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(Long.class).name("asyncAfterSeconds").build());
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ResourceWriter writer = new ArrowResourceWriter(output, elide.getObjectMapper(), projection, 2)) {
+            for (long value = 0; value < 5; value++) {
+                writer.write(newResource(projection, Map.of("asyncAfterSeconds", value)));
+            }
+        }
+
+        List<Long> values = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator();
+                ArrowFileReader reader = new ArrowFileReader(
+                        new ByteArrayReadableSeekableByteChannel(output.toByteArray()), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            while (reader.loadNextBatch()) {
+                batchSizes.add(root.getRowCount());
+                BigIntVector vector = (BigIntVector) root.getVector(0);
+                for (int row = 0; row < root.getRowCount(); row++) {
+                    values.add(vector.get(row));
+                }
+            }
+        }
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), values);
+    }
+
+    @Test
+    public void testNoRecordsToArrow() throws IOException {
+        ArrowExportFormatter formatter = new ArrowExportFormatter(elide);
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(String.class).name("query").build());
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        formatter.newResourceWriter(output, projection, new TableExport()).close();
+
+        try (BufferAllocator allocator = new RootAllocator();
+                ArrowFileReader reader = new ArrowFileReader(
+                        new ByteArrayReadableSeekableByteChannel(output.toByteArray()), allocator)) {
+            assertEquals(List.of("query"), reader.getVectorSchemaRoot().getSchema().getFields().stream()
+                    .map(Field::getName).toList());
+            assertEquals(0, reader.getRecordBlocks().size());
+        }
+    }
+}
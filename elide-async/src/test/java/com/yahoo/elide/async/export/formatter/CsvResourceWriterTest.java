@@ -6,8 +6,11 @@
 package com.yahoo.elide.async.export.formatter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.annotation.Include;
@@ -149,11 +152,62 @@ class CsvResourceWriterTest {
                """;
         assertEquals(header, results.get(0));
         String row = """
-                "name","a;b;c","VALUE1","1.0","1.0","1","1","2023-12-25T12:30:30.000000010Z","2023-12-25T12:30:30.000Z","2023-12-25T12:30:30.00000001","2023-12-25","2023-12-25T12:30:30.00000001Z","2023-12-25T12:30:30.00000001Z"\
+                "name","a;b;c","VALUE1","1.0","1.0","1","1","2023-12-25T12:30:30.000000010Z","2023-12-25T12:30:30.000Z","2023-12-25T12:30:30.00000001","2023-12-25","2023-12-25T12:30:30.00000001Z","2023-12-25T12:30:30.00000001Z"\
                 """;
         assertEquals(row, results.get(1));
     }
 
+    @Test
+    void attributesAreReadOncePerRecord() throws IOException {
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(String.class).name("name").alias("label").build());
+        attributes.add(Attribute.builder().type(Nested.class).name("nested").build());
+        EntityProjection entityProjection = EntityProjection.builder().type(Export.class).attributes(attributes).build();
+
+        Export export = new Export();
+        export.setName("name");
+
+        PersistentResource<Export> persistentResource = mock(PersistentResource.class);
+        when(persistentResource.getObject()).thenReturn(export);
+        when(persistentResource.getAttribute(any(Attribute.class))).thenAnswer(key -> {
+            Attribute attribute = key.getArgument(0);
+            return "name".equals(attribute.getName()) ? export.getName() : export.getNested();
+        });
+
+        byte[] data = process(entityProjection, writer -> {
+            writer.write(persistentResource);
+            writer.write(persistentResource);
+        });
+        List<String> results = read(data);
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).startsWith("\"label\",\"nested_enumValue\","));
+        assertTrue(results.get(1).startsWith("\"name\",\"VALUE1\",\"1.0\","));
+        assertEquals(results.get(1), results.get(2));
+        verify(persistentResource, times(4)).getAttribute(any(Attribute.class));
+    }
+
+    @Test
+    void attributeValuesCanBeOverridden() throws IOException {
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(String.class).name("name").build());
+        EntityProjection entityProjection = EntityProjection.builder().type(Export.class).attributes(attributes).build();
+
+        PersistentResource<Export> persistentResource = mock(PersistentResource.class);
+        when(persistentResource.getAttribute(any(Attribute.class))).thenReturn("name");
+
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ResourceWriter writer = new CsvResourceWriter(outputStream, objectMapper, false, entityProjection) {
+            @Override
+            protected Object getAttribute(PersistentResource<?> resource, Attribute attribute) {
+                return "masked";
+            }
+        }) {
+            writer.write(persistentResource);
+        }
+        assertEquals(List.of("\"masked\""), read(outputStream.toByteArray()));
+    }
+
     List<String> read(byte[] data) {
         List<String> result = new ArrayList<>();
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(data)))) {
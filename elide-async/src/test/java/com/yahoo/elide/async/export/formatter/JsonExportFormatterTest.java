@@ -163,6 +163,37 @@ public class JsonExportFormatterTest {
         }
     }
 
+    @Test
+    public void testEncodedRecords() throws IOException {
+        JsonExportFormatter formatter = new JsonExportFormatter(elide);
+        TableExport queryObj = new TableExport();
+
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(TableExport.class).name("queryType").build());
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        PersistentResource persistentResource = mock(PersistentResource.class);
+        when(persistentResource.getObject()).thenReturn(queryObj);
+        when(persistentResource.getRequestScope()).thenReturn(scope);
+        when(persistentResource.getAttribute(any(Attribute.class))).thenReturn(QueryType.GRAPHQL_V1_0);
+        when(scope.getEntityProjection()).thenReturn(projection);
+
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        try (ResourceWriter writer = formatter.newResourceWriter(written, projection, queryObj)) {
+            writer.write(persistentResource);
+            writer.write(persistentResource);
+        }
+
+        ResourceEncoder encoder = formatter.newResourceEncoder(projection, queryObj);
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        try (ResourceWriter writer = formatter.newResourceWriter(joined, projection, queryObj)) {
+            writer.writeEncoded(encoder.encode(persistentResource));
+            writer.writeEncoded(encoder.encode(persistentResource));
+        }
+
+        assertEquals(written.toString(StandardCharsets.UTF_8), joined.toString(StandardCharsets.UTF_8));
+    }
+
     @Test
     public void testNullResourceToJSON() {
         JsonExportFormatter formatter = new JsonExportFormatter(elide);
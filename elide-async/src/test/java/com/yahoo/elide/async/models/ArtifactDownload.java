@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.models;
+
+import com.yahoo.elide.annotation.Include;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Include(name = "download")
+@Entity
+public class ArtifactDownload {
+    @Id
+    private long id;
+
+    private String label;
+
+    public ArtifactDownload() {
+    }
+
+    public ArtifactDownload(long id, String label) {
+        this.id = id;
+        this.label = label;
+    }
+}
@@ -8,24 +8,36 @@ package com.yahoo.elide.async.operation;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.async.AsyncSettings;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.AsyncQueryResult;
 import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.async.service.AsyncProviderService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.request.route.Route;
 import com.yahoo.elide.jsonapi.JsonApi;
+import com.yahoo.elide.jsonapi.JsonApiResponseWriter;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 
 public class JsonApiAsyncQueryOperationTest {
 
@@ -70,6 +82,72 @@ public class JsonApiAsyncQueryOperationTest {
         assertEquals(3, queryResultObj.getRecordCount());
     }
 
+    @Test
+    public void testProcessQueryStoresResults() throws URISyntaxException {
+        AsyncQuery queryObj = new AsyncQuery();
+        String responseBody = "{\"data\":"
+                + "[{\"type\":\"book\",\"id\":\"3\",\"attributes\":{\"title\":\"For Whom the Bell Tolls\"}}"
+                + ",{\"type\":\"book\",\"id\":\"2\",\"attributes\":{\"title\":\"Song of Ice and Fire\"}}],"
+                + "\"meta\":{\"data\":[1]}}";
+        ElideResponse<JsonApiResponseWriter> response = ElideResponse.status(200)
+                .body(outputStream -> outputStream.write(responseBody.getBytes(StandardCharsets.UTF_8)));
+        String id = "edc4a871-dff2-4054-804e-d80075cf827d";
+        queryObj.setId(id);
+        queryObj.setQuery("/book");
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+
+        ElideSettings elideSettings = mock(ElideSettings.class);
+        when(elideSettings.getSettings(AsyncSettings.class))
+                .thenReturn(AsyncSettings.builder().export(export -> export.path("/export")).build());
+        when(requestScope.getElideSettings()).thenReturn(elideSettings);
+        when(requestScope.getRoute()).thenReturn(Route.builder().baseUrl("https://elide.io").build());
+
+        ResultStorageEngine engine = mock(ResultStorageEngine.class);
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        when(engine.storeResults(eq(id + ".json"), any())).thenAnswer(invocation -> {
+            Consumer<OutputStream> result = invocation.getArgument(1);
+            result.accept(stored);
+            return null;
+        });
+
+        when(jsonApi.getStreaming(any(), any(), any())).thenReturn(response);
+        JsonApiAsyncQueryOperation jsonOperation = new JsonApiAsyncQueryOperation(asyncExecutorService, queryObj,
+                requestScope, engine);
+        AsyncQueryResult queryResultObj = (AsyncQueryResult) jsonOperation.call();
+        assertEquals("https://elide.io/export/" + id + ".json", queryResultObj.getResponseBody());
+        assertEquals(responseBody, stored.toString(StandardCharsets.UTF_8));
+        assertEquals(responseBody.length(), queryResultObj.getContentLength());
+        assertEquals(200, queryResultObj.getHttpStatus());
+        assertEquals(2, queryResultObj.getRecordCount());
+        verify(jsonApi, never()).get(any(), any(), any());
+    }
+
+    @Test
+    public void testRecordCountingOutputStream() throws IOException {
+        assertEquals(4, countRecords("{\"meta\":{\"data\":[1,2]},\"data\":[{\"data\":[]},[1],\"a\\\"]\",null]}"));
+        assertEquals(0, countRecords("{ \"data\" : [ ] }"));
+        assertEquals(2, countRecords("{\"data\":{\"type\":\"book\",\"id\":\"1\"}}"));
+        assertNull(countRecords("{\"database\":[1],\"data\":null}"));
+        assertNull(countRecords("ResponseBody"));
+    }
+
+    private static Integer countRecords(String json) throws IOException {
+        RecordCountingOutputStream outputStream = new RecordCountingOutputStream(OutputStream.nullOutputStream(),
+                "data");
+        outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        return outputStream.getRecordCount();
+    }
+
+    @Test
+    public void testCountArrayElements() {
+        String json = "{\"meta\":{\"edges\":[1,2]},\"data\":[{\"edges\":[]},[1],\"a\",null]}";
+        assertEquals(4, AsyncQueryOperation.countArrayElements(json, "data", true));
+        assertEquals(2, AsyncQueryOperation.countArrayElements(json, "edges", false));
+        assertNull(AsyncQueryOperation.countArrayElements(json, "edges", true));
+        assertNull(AsyncQueryOperation.countArrayElements("{\"data\":{\"id\":\"1\"}}", "data", true));
+        assertNull(AsyncQueryOperation.countArrayElements("ResponseBody", "data", true));
+    }
+
     @Test
     public void testProcessQueryNonSuccessResponse() throws URISyntaxException {
         AsyncQuery queryObj = new AsyncQuery();
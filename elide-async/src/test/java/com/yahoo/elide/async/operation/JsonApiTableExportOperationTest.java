@@ -6,6 +6,7 @@
 package com.yahoo.elide.async.operation;
 
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
@@ -15,7 +16,9 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.async.AsyncSettings;
 import com.yahoo.elide.async.DefaultResultTypeFileExtensionMapper;
+import com.yahoo.elide.async.export.formatter.CsvExportFormatter;
 import com.yahoo.elide.async.export.formatter.JsonExportFormatter;
+import com.yahoo.elide.async.models.ArtifactDownload;
 import com.yahoo.elide.async.models.ArtifactGroup;
 import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.models.ResultType;
@@ -42,12 +45,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
 
 public class JsonApiTableExportOperationTest {
 
@@ -57,10 +65,12 @@ public class JsonApiTableExportOperationTest {
     private Elide elide;
     private AsyncExecutorService asyncExecutorService;
     private ResultStorageEngine engine;
+    private Path tempDir;
     private DefaultResultTypeFileExtensionMapper resultTypeFileExtensionMapper = new DefaultResultTypeFileExtensionMapper();
 
     @BeforeEach
     public void setupMocks(@TempDir Path tempDir) {
+        this.tempDir = tempDir;
         dataStore = new HashMapDataStore(new DefaultClassScanner(),
                         new HashSet<>(Arrays.asList(TableExport.class.getPackage(), ArtifactGroup.class.getPackage())));
         Map<String, Class<? extends Check>> map = new HashMap<>();
@@ -77,7 +87,7 @@ public class JsonApiTableExportOperationTest {
                     ElideSettings.builder().dataStore(dataStore)
                         .entityDictionary(EntityDictionary.builder().checks(map).build())
                         .auditLogger(new Slf4jLogger())
-                        .settings(AsyncSettings.builder().export(export -> export.path("/export")))
+                        .settings(AsyncSettings.builder().export(export -> export.path("/export").partitions(3)))
                         .settings(JsonApiSettings.builder())
                         .build());
         elide.doScans();
@@ -112,6 +122,48 @@ public class JsonApiTableExportOperationTest {
         assertNull(queryResultObj.getMessage());
     }
 
+    @Test
+    public void testProcessPartitionedQuery() throws IOException  {
+        DataStoreTransaction tx = dataStore.beginTransaction();
+        RequestScope scope = RequestScope.builder().route(Route.builder().apiVersion(NO_VERSION).build())
+                .dataStoreTransaction(tx).user(user).requestId(UUID.randomUUID())
+                .elideSettings(elide.getElideSettings()).build();
+        for (long id = 1; id <= 10; id++) {
+            tx.createObject(new ArtifactDownload(id, "download" + id), scope);
+        }
+        tx.commit(scope);
+        tx.close();
+
+        TableExport queryObj = new TableExport();
+        String id = "edc4a871-dff2-4054-804e-d80075cf827d";
+        queryObj.setId(id);
+        queryObj.setQuery("/download?fields[download]=label");
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+        queryObj.setResultType(ResultType.CSV);
+
+        // A single thread leaves partitions for the export thread to run.
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        when(asyncExecutorService.getExecutor()).thenReturn(executor);
+        JsonApiTableExportOperation jsonAPIOperation = new JsonApiTableExportOperation(
+                new CsvExportFormatter(elide, true), asyncExecutorService, queryObj, requestScope, engine,
+                resultTypeFileExtensionMapper);
+        TableExportResult queryResultObj;
+        try {
+            queryResultObj = (TableExportResult) jsonAPIOperation.call();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertNull(queryResultObj.getMessage());
+        assertEquals(10, queryResultObj.getRecordCount());
+        assertArrayEquals(new long[] {3, 3, 4}, jsonAPIOperation.getPartitionProgress());
+
+        List<String> lines = Files.readString(tempDir.resolve(id + ".csv")).lines().toList();
+        assertEquals("\"label\"", lines.get(0));
+        assertEquals(LongStream.rangeClosed(1, 10).mapToObj(row -> "\"download" + row + "\"").sorted().toList(),
+                lines.subList(1, lines.size()).stream().sorted().toList());
+    }
+
     @Test
     public void testProcessBadEntityQuery() throws IOException  {
         dataPrep();
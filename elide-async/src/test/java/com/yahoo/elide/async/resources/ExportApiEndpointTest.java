@@ -6,6 +6,9 @@
 package com.yahoo.elide.async.resources;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -13,6 +16,7 @@ import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.async.resources.ExportApiEndpoint.ExportApiProperties;
 import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
+import com.yahoo.elide.async.service.storageengine.ResultMetadata;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,7 +26,9 @@ import org.mockito.ArgumentCaptor;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
@@ -76,4 +82,102 @@ public class ExportApiEndpointTest {
 
         assertEquals(res.getStatus(), 200);
     }
+
+    @Test
+    public void testGetRange() throws IOException {
+        String queryId = "non_empty_results";
+        exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), Duration.ofSeconds(1));
+        endpoint = new ExportApiEndpoint(new FileResultStorageEngine("src/test/resources/downloads/"),
+                exportApiProperties);
+        endpoint.get(queryId, "bytes=1-2", null, response, asyncResponse);
+
+        verify(asyncResponse, timeout(1000)).resume(responseCaptor.capture());
+        final Response res = responseCaptor.getValue();
+
+        assertEquals(206, res.getStatus());
+        assertEquals("bytes 1-2/5", res.getHeaderString("Content-Range"));
+        assertEquals("bytes", res.getHeaderString("Accept-Ranges"));
+        assertEquals("2", res.getHeaderString("Content-Length"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) res.getEntity()).write(outputStream);
+        assertEquals("es", outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testGetRangeIfRange() throws IOException {
+        String queryId = "non_empty_results";
+        exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), Duration.ofSeconds(1));
+        endpoint = new ExportApiEndpoint(new FileResultStorageEngine("src/test/resources/downloads/"),
+                exportApiProperties);
+        endpoint.get(queryId, null, null, response, asyncResponse);
+        verify(asyncResponse, timeout(1000)).resume(responseCaptor.capture());
+        String entityTag = responseCaptor.getValue().getHeaderString("ETag");
+        assertNotNull(entityTag);
+        assertNotNull(responseCaptor.getValue().getHeaderString("Last-Modified"));
+
+        AsyncResponse currentResponse = mock(AsyncResponse.class);
+        endpoint.get(queryId, "bytes=1-2", entityTag, null, response, currentResponse);
+        verify(currentResponse, timeout(1000)).resume(responseCaptor.capture());
+        assertEquals(206, responseCaptor.getValue().getStatus());
+
+        AsyncResponse staleResponse = mock(AsyncResponse.class);
+        endpoint.get(queryId, "bytes=1-2", "\"stale\"", null, response, staleResponse);
+        verify(staleResponse, timeout(1000)).resume(responseCaptor.capture());
+        Response res = responseCaptor.getValue();
+        assertEquals(200, res.getStatus());
+        assertNull(res.getHeaderString("Content-Range"));
+        assertEquals("5", res.getHeaderString("Content-Length"));
+    }
+
+    @Test
+    public void testGetUnsatisfiableRange() {
+        String queryId = "non_empty_results";
+        exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), Duration.ofSeconds(1));
+        endpoint = new ExportApiEndpoint(new FileResultStorageEngine("src/test/resources/downloads/"),
+                exportApiProperties);
+        endpoint.get(queryId, "bytes=5-", null, response, asyncResponse);
+
+        verify(asyncResponse, timeout(1000)).resume(responseCaptor.capture());
+        final Response res = responseCaptor.getValue();
+
+        assertEquals(416, res.getStatus());
+        assertEquals("bytes */5", res.getHeaderString("Content-Range"));
+    }
+
+    @Test
+    public void testEncodedResultsVaryByAcceptEncoding() {
+        String queryId = "1";
+        when(engine.getResultMetadata(queryId)).thenReturn(new ResultMetadata(4, "gzip"));
+        when(engine.getStoredResultsByID(queryId, 0, 4)).thenReturn(outputStream -> { });
+        when(engine.getResultsByID(queryId)).thenReturn(outputStream -> { });
+        exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), Duration.ofSeconds(1));
+        endpoint = new ExportApiEndpoint(engine, exportApiProperties);
+
+        endpoint.get(queryId, null, "gzip", response, asyncResponse);
+        verify(asyncResponse, timeout(1000)).resume(responseCaptor.capture());
+        Response encoded = responseCaptor.getValue();
+        assertEquals("gzip", encoded.getHeaderString("Content-Encoding"));
+        assertEquals("Accept-Encoding", encoded.getHeaderString("Vary"));
+
+        AsyncResponse identityResponse = mock(AsyncResponse.class);
+        endpoint.get(queryId, null, null, response, identityResponse);
+        verify(identityResponse, timeout(1000)).resume(responseCaptor.capture());
+        Response identity = responseCaptor.getValue();
+        assertNull(identity.getHeaderString("Content-Encoding"));
+        assertEquals("Accept-Encoding", identity.getHeaderString("Vary"));
+    }
+
+    @Test
+    public void testParseByteRange() {
+        assertEquals(0, ByteRange.parse("bytes=0-", 10).getStart());
+        assertEquals(9, ByteRange.parse("bytes=0-", 10).getEnd());
+        assertEquals(7, ByteRange.parse("bytes=-3", 10).getStart());
+        assertEquals(9, ByteRange.parse("bytes=2-100", 10).getEnd());
+        assertEquals(4, ByteRange.parse("bytes=2-5", 10).getLength());
+        assertNull(ByteRange.parse(null, 10));
+        assertNull(ByteRange.parse("bytes=0-1,3-4", 10));
+        assertNull(ByteRange.parse("bytes=5-2", 10));
+        assertNull(ByteRange.parse("items=0-1", 10));
+        assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=10-", 10));
+    }
 }
@@ -8,6 +8,8 @@ package com.yahoo.elide.async.service;
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
@@ -36,6 +38,7 @@ import com.yahoo.elide.core.utils.DefaultClassScanner;
 import com.yahoo.elide.graphql.QueryRunners;
 import com.yahoo.elide.jsonapi.JsonApi;
 import com.yahoo.elide.jsonapi.JsonApiSettings;
+import com.google.common.base.Ticker;
 
 import org.apache.hc.core5.http.NoHttpResponseException;
 import org.junit.jupiter.api.BeforeAll;
@@ -50,7 +53,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class AsyncExecutorServiceTest {
@@ -137,4 +145,76 @@ public class AsyncExecutorServiceTest {
         verify(queryObj, times(1)).setStatus(QueryStatus.PROCESSING);
         verify(queryObj, times(1)).setStatus(QueryStatus.COMPLETE);
     }
+
+    //Test for completing a query that outlived its request on a different thread
+    @Test
+    public void testCompleteQueryOnAnotherThread() throws Exception {
+        ExecutorService updater = mock(ExecutorService.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ExecutorService requestThread = Executors.newSingleThreadExecutor();
+        AsyncExecutorService timeoutService = new AsyncExecutorService(elide, executor, updater, asyncApiDao,
+                asyncProviderService);
+
+        AsyncQuery queryObj = new AsyncQuery();
+        queryObj.setAsyncAfterSeconds(0);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            timeoutService.executeQuery(queryObj, () -> {
+                release.await();
+                return null;
+            });
+            assertEquals(QueryStatus.PROCESSING, queryObj.getStatus());
+
+            requestThread.submit(() -> timeoutService.completeQuery(queryObj, testUser, NO_VERSION))
+                    .get(30, TimeUnit.SECONDS);
+            timeoutService.completeQuery(queryObj, testUser, NO_VERSION);
+            verify(updater, times(1)).execute(any());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            requestThread.shutdown();
+        }
+    }
+
+    //Test for a query whose request fails before it commits
+    @Test
+    public void testUncompletedQueryExpires() throws Exception {
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        ExecutorService updater = mock(ExecutorService.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AsyncExecutorService timeoutService = new AsyncExecutorService(elide, executor, updater, asyncApiDao,
+                asyncProviderService, ticker);
+
+        AsyncQuery queryObj = new AsyncQuery();
+        queryObj.setAsyncAfterSeconds(0);
+        CompletableFuture<AsyncApiResult> neverCompletes = new CompletableFuture<>();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        try {
+            timeoutService.executeQuery(queryObj, () -> {
+                try {
+                    return neverCompletes.get();
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                    throw e;
+                }
+            });
+            assertEquals(1, timeoutService.getPendingResultFutures().size());
+
+            nanos.addAndGet(AsyncExecutorService.PENDING_RESULT_TIME_TO_LIVE.toNanos() + 1);
+            timeoutService.getPendingResultFutures().cleanUp();
+            assertEquals(0, timeoutService.getPendingResultFutures().size());
+            assertTrue(cancelled.await(30, TimeUnit.SECONDS));
+
+            timeoutService.completeQuery(queryObj, testUser, NO_VERSION);
+            verify(updater, times(0)).execute(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -6,6 +6,8 @@
 package com.yahoo.elide.async.service.storageengine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -13,14 +15,17 @@ import com.yahoo.elide.async.models.TableExport;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Test cases for FileResultStorageEngine.
@@ -85,6 +90,68 @@ public class FileResultStorageEngineTest {
         assertEquals(finalResult, validOutput);
     }
 
+    @Test
+    public void testStoreCompressedResults(@TempDir Path tempDir) throws IOException {
+        String queryId = "store_compressed_results";
+        String validOutput = "hi\nhello";
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), "gzip");
+
+        engine.storeResults(queryId, outputStream -> write(outputStream, validOutput.split("\n")));
+
+        assertTrue(new File(tempDir.toString() + File.separator + queryId + ".gz").exists());
+        assertFalse(new File(tempDir.toString() + File.separator + queryId).exists());
+        assertEquals(validOutput, readResultsFile(tempDir.toString(), queryId));
+
+        ResultMetadata metadata = engine.getResultMetadata(queryId);
+        assertEquals("gzip", metadata.getContentEncoding());
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        engine.getStoredResultsByID(queryId, 0, metadata.getLength()).accept(stored);
+        assertEquals(metadata.getLength(), stored.size());
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(stored.toByteArray()))) {
+            assertEquals(validOutput, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testReadStoredRange() {
+        FileResultStorageEngine engine = new FileResultStorageEngine(BASE_PATH);
+
+        ResultMetadata metadata = engine.getResultMetadata("non_empty_results");
+        assertEquals(5, metadata.getLength());
+        assertNull(metadata.getContentEncoding());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        engine.getStoredResultsByID("non_empty_results", 1, 2).accept(outputStream);
+        assertEquals("es", outputStream.toString(StandardCharsets.UTF_8));
+
+        assertNull(engine.getResultMetadata("nonexisting_results"));
+        assertNull(engine.getResultMetadata("../../../../../checkstyle-style.xml"));
+    }
+
+    @Test
+    public void testAcceptableEncoding() {
+        ResultMetadata metadata = new ResultMetadata(1, "gzip");
+        assertTrue(metadata.isAcceptable("gzip, deflate, br"));
+        assertTrue(metadata.isAcceptable("*"));
+        assertFalse(metadata.isAcceptable("gzip;q=0, deflate"));
+        assertFalse(metadata.isAcceptable("identity"));
+        assertFalse(metadata.isAcceptable(null));
+        assertTrue(new ResultMetadata(1, null).isAcceptable(null));
+    }
+
+    @Test
+    public void testRangeApplicable() {
+        // Sun, 06 Nov 1994 08:49:37 GMT
+        ResultMetadata metadata = new ResultMetadata(5, null, 784111777123L);
+        assertTrue(metadata.isRangeApplicable(null));
+        assertTrue(metadata.isRangeApplicable("\"" + metadata.getEntityTag() + "\""));
+        assertFalse(metadata.isRangeApplicable("W/\"" + metadata.getEntityTag() + "\""));
+        assertFalse(metadata.isRangeApplicable("\"other\""));
+        assertTrue(metadata.isRangeApplicable("Sun, 06 Nov 1994 08:49:37 GMT"));
+        assertFalse(metadata.isRangeApplicable("Sun, 06 Nov 1994 08:49:38 GMT"));
+        assertFalse(new ResultMetadata(5, null).isRangeApplicable("Sun, 06 Nov 1994 08:49:37 GMT"));
+    }
+
     // O/P Directory does not exist.
     @Test
     public void testStoreResultsFail(@TempDir File tempDir) {
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.storageengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.yahoo.elide.async.models.TableExportResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Tests the default methods of {@link ResultStorageEngine}.
+ */
+public class ResultStorageEngineTest {
+
+    private final ResultStorageEngine engine = new ResultStorageEngine() {
+        @Override
+        public TableExportResult storeResults(String tableExportID, Consumer<OutputStream> result) {
+            return null;
+        }
+
+        @Override
+        public Consumer<OutputStream> getResultsByID(String tableExportID) {
+            return outputStream -> {
+                try {
+                    outputStream.write("ab".getBytes(StandardCharsets.UTF_8));
+                    outputStream.write('c');
+                    outputStream.write("defgh".getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+        }
+    };
+
+    private String read(long offset, long length) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        engine.getStoredResultsByID("id", offset, length).accept(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testStoredResultsDefaultToRangeOfResults() {
+        assertEquals("abcdefgh", read(0, 8));
+        assertEquals("bcd", read(1, 3));
+        assertEquals("c", read(2, 1));
+        assertEquals("fgh", read(5, 10));
+        assertEquals("", read(8, 2));
+    }
+}
@@ -2002,7 +2002,7 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
         for (Audit annotation : annotations) {
             if (annotation.action().length == 1 && annotation.action()[0] == Audit.Action.UPDATE) {
                 LogMessage message = new LogMessageImpl(annotation, this, Optional.of(changeSpec));
-                getRequestScope().getAuditLogger().log(message);
+                getRequestScope().getAuditLogger().log(message, getRequestScope());
             } else {
                 throw new InvalidSyntaxException("Only Audit.Action.UPDATE is allowed on fields.");
             }
@@ -2025,7 +2025,7 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
             for (Audit.Action auditAction : annotation.action()) {
                 if (auditAction == action) { // compare object reference
                     LogMessage message = new LogMessageImpl(annotation, this, Optional.ofNullable(changeSpec));
-                    getRequestScope().getAuditLogger().log(message);
+                    getRequestScope().getAuditLogger().log(message, getRequestScope());
                 }
             }
         }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.datastore.DataStoreIterable;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.type.Type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Coalesces the to-many relationship fetches of sibling entities within a request.
+ * <p>
+ * Sibling entities are the members of a collection which is about to be serialized, such as the nodes of a GraphQL
+ * connection or the resources of a JSON-API compound document. When the relationship of one sibling is requested,
+ * the relationship is fetched for every sibling with a single call to
+ * {@link DataStoreTransaction#getToManyRelations} and the remaining results are handed out as the other siblings
+ * ask for them. Each batched result is handed out only once.
+ */
+public class RelationshipBatchLoader {
+    private final Map<Object, List<Object>> siblings = new IdentityHashMap<>();
+    private final Map<BatchKey, Map<Object, DataStoreIterable<Object>>> loaded = new HashMap<>();
+    private final Map<BatchKey, Set<Object>> attempted = new HashMap<>();
+
+    /**
+     * Identifies a relationship fetch. Pagination is compared by identity because data stores record page totals
+     * and cursors on it.
+     */
+    private static final class BatchKey {
+        private final String name;
+        private final Type<?> type;
+        private final FilterExpression filterExpression;
+        private final Sorting sorting;
+        private final Pagination pagination;
+
+        private BatchKey(Relationship relationship) {
+            this.name = relationship.getName();
+            this.type = relationship.getProjection().getType();
+            this.filterExpression = relationship.getProjection().getFilterExpression();
+            this.sorting = relationship.getProjection().getSorting();
+            this.pagination = relationship.getProjection().getPagination();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey key = (BatchKey) other;
+            return name.equals(key.name)
+                    && Objects.equals(type, key.type)
+                    && Objects.equals(filterExpression, key.filterExpression)
+                    && Objects.equals(sorting, key.sorting)
+                    && pagination == key.pagination;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, type, filterExpression, sorting, System.identityHashCode(pagination));
+        }
+    }
+
+    /**
+     * Registers entities whose relationships are likely to be fetched together.
+     *
+     * @param entities the sibling entities.
+     */
+    public void addSiblings(Collection<?> entities) {
+        if (entities.size() < 2) {
+            return;
+        }
+        List<Object> group = new ArrayList<>(entities);
+        for (Object entity : group) {
+            siblings.put(entity, group);
+        }
+    }
+
+    /**
+     * Registers resources whose relationships are likely to be fetched together.
+     *
+     * @param resources the sibling resources.
+     */
+    public void addSiblingResources(Collection<? extends PersistentResource> resources) {
+        addSiblings(resources.stream().map(PersistentResource::getObject).toList());
+    }
+
+    /**
+     * Retrieves a to-many relation from an object, batching the fetch with the siblings of the object.
+     *
+     * @param tx the transaction which fetches the relation.
+     * @param relationTx the transaction that governs objects of the relationship's type.
+     * @param entity the object which owns the relationship.
+     * @param relationship the relationship to fetch.
+     * @param scope the request scope.
+     * @return the object in the relation
+     */
+    public DataStoreIterable<Object> getToManyRelation(DataStoreTransaction tx, DataStoreTransaction relationTx,
+            Object entity, Relationship relationship, RequestScope scope) {
+        BatchKey key = new BatchKey(relationship);
+        Map<Object, DataStoreIterable<Object>> results = loaded.get(key);
+        if (results != null && results.containsKey(entity)) {
+            return results.remove(entity);
+        }
+
+        List<Object> group = siblings.get(entity);
+
+        // Relationships of modified entities may not be persisted yet.
+        if (group == null || !scope.getDirtyResources().isEmpty() || !scope.getNewPersistentResources().isEmpty()) {
+            return tx.getToManyRelation(relationTx, entity, relationship, scope);
+        }
+
+        Set<Object> attemptedEntities = attempted.computeIfAbsent(key,
+                unused -> Collections.newSetFromMap(new IdentityHashMap<>()));
+        if (attemptedEntities.contains(entity)) {
+            return tx.getToManyRelation(relationTx, entity, relationship, scope);
+        }
+
+        List<Object> batch = group.stream().filter(sibling -> !attemptedEntities.contains(sibling)).toList();
+        attemptedEntities.addAll(batch);
+
+        Map<Object, DataStoreIterable<Object>> batchResults =
+                tx.getToManyRelations(relationTx, batch, relationship, scope);
+        results = loaded.computeIfAbsent(key, unused -> new IdentityHashMap<>());
+        results.putAll(batchResults);
+
+        DataStoreIterable<Object> result = results.remove(entity);
+        return result != null ? result : tx.getToManyRelation(relationTx, entity, relationship, scope);
+    }
+}
@@ -10,6 +10,7 @@ import static com.yahoo.elide.annotation.LifeCycleHookBinding.ALL_OPERATIONS;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.annotation.LifeCycleHookBinding;
 import com.yahoo.elide.core.audit.AuditLogger;
+import com.yahoo.elide.core.audit.LogMessage;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
@@ -28,6 +29,7 @@ import com.yahoo.elide.core.type.Type;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -48,8 +50,11 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
     @Getter private final User user;
     @Getter protected final EntityDictionary dictionary;
     @Getter private final AuditLogger auditLogger;
+    /* Audit messages of the request which have not been committed yet */
+    @Getter private final List<LogMessage> auditMessages;
     @Getter private final PermissionExecutor permissionExecutor;
     @Getter private final ObjectEntityCache objectEntityCache;
+    @Getter private final RelationshipBatchLoader relationshipBatchLoader;
     @Getter private final Set<PersistentResource> newPersistentResources;
     @Getter private final LinkedHashSet<PersistentResource> dirtyResources;
     @Getter private final LinkedHashSet<PersistentResource> deletedResources;
@@ -92,11 +97,13 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.user = user;
         this.dictionary = elideSettings.getEntityDictionary();
         this.auditLogger = elideSettings.getAuditLogger();
+        this.auditMessages = Collections.synchronizedList(new ArrayList<>());
         this.elideSettings = elideSettings;
 
         this.globalFilterExpression = null;
         this.expressionsByType = new LinkedHashMap<>();
         this.objectEntityCache = new ObjectEntityCache();
+        this.relationshipBatchLoader = new RelationshipBatchLoader();
         this.newPersistentResources = new LinkedHashSet<>();
         this.dirtyResources = new LinkedHashSet<>();
         this.deletedResources = new LinkedHashSet<>();
@@ -126,7 +133,9 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.user = copy.user;
         this.dictionary = copy.dictionary;
         this.auditLogger = copy.auditLogger;
+        this.auditMessages = copy.auditMessages;
         this.objectEntityCache = copy.objectEntityCache;
+        this.relationshipBatchLoader = copy.relationshipBatchLoader;
         this.newPersistentResources = copy.newPersistentResources;
         this.dirtyResources = copy.dirtyResources;
         this.deletedResources = copy.deletedResources;
@@ -346,13 +355,29 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         dirtyResources.removeAll(newPersistentResources);
         // Delete has already been called on these objects
         dirtyResources.removeAll(deletedResources);
-        newPersistentResources
-                .stream()
-                .map(PersistentResource::getObject)
-                .forEach(s -> transaction.createObject(s, this));
+        createObjects();
         dirtyResources.stream().map(PersistentResource::getObject).forEach(obj -> transaction.save(obj, this));
     }
 
+    /**
+     * Hands every run of consecutive new resources of the same type to the transaction as one batch.
+     */
+    private void createObjects() {
+        List<Object> batch = new ArrayList<>();
+        Type<?> batchType = null;
+        for (PersistentResource<?> resource : newPersistentResources) {
+            if (!resource.getResourceType().equals(batchType) && !batch.isEmpty()) {
+                transaction.createObjects(batch, this);
+                batch = new ArrayList<>();
+            }
+            batchType = resource.getResourceType();
+            batch.add(resource.getObject());
+        }
+        if (!batch.isEmpty()) {
+            transaction.createObjects(batch, this);
+        }
+    }
+
     public String getUUIDFor(Object o) {
         return objectEntityCache.getUUID(o);
     }
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.audit;
+
+import com.yahoo.elide.core.security.ChangeSpec;
+import com.yahoo.elide.core.security.PersistentResource;
+import com.yahoo.elide.core.security.User;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Audit logger which hands the messages of committing requests to a bounded queue and writes them to a delegate
+ * logger in batches on a background thread, so writing audit messages does not add to the latency of requests.
+ * <p>
+ * When the queue is full the {@link OverflowPolicy} decides whether the committing request waits for space or the
+ * message is dropped.  Messages committed after the logger is closed are written to the delegate directly.
+ * <p>
+ * The text, operation code, user and change spec of each message are resolved on the committing thread, so the
+ * background thread never evaluates a message against request state.
+ */
+@Slf4j
+public class AsyncAuditLogger extends AuditLogger implements Closeable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    public static final int DEFAULT_SAMPLE_RATE = 10;
+
+    private static final long POLL_MILLIS = 100;
+
+    /**
+     * What to do with a message when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The committing request waits until the queue has space.  No message is dropped.
+         */
+        BLOCK,
+
+        /**
+         * Messages are dropped while the queue is full.
+         */
+        DROP,
+
+        /**
+         * Once the queue is half full only one in every sample rate messages is queued and the rest are dropped.
+         * Messages are dropped while the queue is full.
+         */
+        SAMPLE
+    }
+
+    /**
+     * A message whose values were resolved when its request committed.
+     */
+    @Value
+    private static class ResolvedLogMessage implements LogMessage {
+        String message;
+        int operationCode;
+        User user;
+        Optional<ChangeSpec> changeSpec;
+        PersistentResource persistentResource;
+
+        ResolvedLogMessage(LogMessage message) {
+            this.message = message.getMessage();
+            this.operationCode = message.getOperationCode();
+            this.user = message.getUser();
+            this.changeSpec = message.getChangeSpec();
+            this.persistentResource = message.getPersistentResource();
+        }
+    }
+
+    private final AuditLogger delegate;
+    private final BlockingQueue<LogMessage> queue;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+
+    private final AtomicLong sampled = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final Thread drainer;
+    private volatile boolean closed;
+
+    /**
+     * Constructor which blocks committing requests while the queue is full.
+     * @param delegate The logger which writes the messages.
+     */
+    public AsyncAuditLogger(AuditLogger delegate) {
+        this(delegate, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, OverflowPolicy.BLOCK, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * Constructor.
+     * @param delegate The logger which writes the messages.
+     * @param queueCapacity The maximum number of messages waiting to be written.
+     * @param batchSize The maximum number of messages written to the delegate at once.
+     * @param overflowPolicy What to do with a message when the queue is full.
+     * @param sampleRate One in how many messages are queued under {@link OverflowPolicy#SAMPLE}.
+     */
+    public AsyncAuditLogger(AuditLogger delegate, int queueCapacity, int batchSize, OverflowPolicy overflowPolicy,
+            int sampleRate) {
+        if (queueCapacity < 1 || batchSize < 1 || sampleRate < 1) {
+            throw new IllegalArgumentException("Queue capacity, batch size and sample rate must be positive");
+        }
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+
+        this.drainer = new Thread(this::drain, "elide-audit-logger");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public void commit() throws IOException {
+        try {
+            commit(new ArrayList<>(MESSAGES.get()));
+        } finally {
+            MESSAGES.get().clear();
+        }
+    }
+
+    @Override
+    protected void commit(List<LogMessage> messages) throws IOException {
+        if (closed) {
+            write(messages);
+            return;
+        }
+        for (LogMessage message : messages) {
+            LogMessage resolved;
+            try {
+                resolved = new ResolvedLogMessage(message);
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                log.error("Unable to resolve audit message", e);
+                continue;
+            }
+            enqueue(resolved);
+        }
+        if (closed) {
+            // The logger closed while the messages were queued and the drainer may have stopped.
+            List<LogMessage> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            write(remaining);
+        }
+    }
+
+    private void enqueue(LogMessage message) {
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    queue.put(message);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedCount.incrementAndGet();
+                }
+                break;
+            case SAMPLE:
+                if (queue.size() >= queueCapacity / 2 && sampled.incrementAndGet() % sampleRate != 0) {
+                    droppedCount.incrementAndGet();
+                    break;
+                }
+                offer(message);
+                break;
+            default:
+                offer(message);
+                break;
+        }
+    }
+
+    private void offer(LogMessage message) {
+        if (!queue.offer(message)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    private void drain() {
+        List<LogMessage> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                LogMessage first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // Write what is left if the drainer was interrupted.
+        queue.drainTo(batch);
+        write(batch);
+    }
+
+    private void write(List<LogMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            delegate.commit(batch);
+            writtenCount.addAndGet(batch.size());
+        } catch (IOException | RuntimeException e) {
+            failedCount.addAndGet(batch.size());
+            log.error("Unable to write {} audit messages", batch.size(), e);
+        } finally {
+            // Delegates which only implement the thread bound commit leave the batch bound to this thread.
+            delegate.clear();
+        }
+    }
+
+    /**
+     * Returns the number of messages waiting to be written.
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of messages dropped because the queue was full.
+     * @return the dropped message count
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the number of messages written by the delegate.
+     * @return the written message count
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * Returns the number of messages the delegate failed to write.
+     * @return the failed message count
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Writes the queued messages and stops the background thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
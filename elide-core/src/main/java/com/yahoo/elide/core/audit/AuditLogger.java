@@ -5,6 +5,8 @@
  */
 package com.yahoo.elide.core.audit;
 
+import com.yahoo.elide.core.RequestScope;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,9 +14,20 @@ import java.util.List;
 /**
  * Base Audit Logger
  * <p>
- * This class uses ThreadLocal list to be thread safe.
+ * Messages are kept on the {@link RequestScope} of the request which logs them, so a request may log from any
+ * thread and no state is tied to the thread which serves it.  When the request commits the messages are passed to
+ * {@link #commit(List)}.  Loggers which only implement {@link #commit()} and read {@link #MESSAGES} keep working: the
+ * messages of the request are bound to the committing thread while {@link #commit()} runs.
  */
 public abstract class AuditLogger {
+
+    /**
+     * Messages logged without a request scope, and the messages of the committing request while {@link #commit()}
+     * runs.
+     *
+     * @deprecated Implement {@link #commit(List)} instead.
+     */
+    @Deprecated
     protected static final ThreadLocal<List<LogMessage>> MESSAGES =
         ThreadLocal.withInitial(ArrayList::new);
 
@@ -22,6 +35,53 @@ public abstract class AuditLogger {
         MESSAGES.get().add(message);
     }
 
+    /**
+     * Logs a message of a request.
+     *
+     * @param message the message
+     * @param scope the scope of the request
+     */
+    public void log(LogMessage message, RequestScope scope) {
+        List<LogMessage> messages = scope == null ? null : scope.getAuditMessages();
+        if (messages == null) {
+            log(message);
+        } else {
+            messages.add(message);
+        }
+    }
+
+    /**
+     * Commits the messages of a request.
+     *
+     * @param scope the scope of the request
+     * @throws IOException if the messages cannot be written
+     */
+    public void commit(RequestScope scope) throws IOException {
+        List<LogMessage> threadMessages = MESSAGES.get();
+        List<LogMessage> messages = new ArrayList<>(threadMessages);
+        threadMessages.clear();
+
+        List<LogMessage> requestMessages = scope == null ? null : scope.getAuditMessages();
+        if (requestMessages != null) {
+            synchronized (requestMessages) {
+                messages.addAll(requestMessages);
+                requestMessages.clear();
+            }
+        }
+        commit(messages);
+    }
+
+    /**
+     * Writes the messages of a request.
+     *
+     * @param messages the messages
+     * @throws IOException if the messages cannot be written
+     */
+    protected void commit(List<LogMessage> messages) throws IOException {
+        MESSAGES.get().addAll(messages);
+        commit();
+    }
+
     public abstract void commit() throws IOException;
 
     public void clear() {
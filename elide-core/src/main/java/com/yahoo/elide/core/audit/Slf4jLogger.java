@@ -8,6 +8,7 @@ package com.yahoo.elide.core.audit;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Logger implementation which logs to SLF4J.
@@ -18,11 +19,16 @@ public class Slf4jLogger extends AuditLogger {
     @Override
     public void commit() throws IOException {
         try {
-            for (LogMessage message : MESSAGES.get()) {
-                log.info("{} {} {}", System.currentTimeMillis(), message.getOperationCode(), message.getMessage());
-            }
+            commit(MESSAGES.get());
         } finally {
             MESSAGES.get().clear();
         }
     }
+
+    @Override
+    protected void commit(List<LogMessage> messages) throws IOException {
+        for (LogMessage message : messages) {
+            log.info("{} {} {}", System.currentTimeMillis(), message.getOperationCode(), message.getMessage());
+        }
+    }
 }
@@ -22,7 +22,10 @@ import com.yahoo.elide.core.type.Type;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 /**
  * Wraps the Database Transaction type.
@@ -83,6 +86,19 @@ public interface DataStoreTransaction extends Closeable {
      */
     <T> void createObject(T entity, RequestScope scope);
 
+    /**
+     * Creates a batch of new objects of the same type.  Elide calls this instead of
+     * {@link #createObject(Object, RequestScope)} for every run of consecutive new objects of the same type
+     * so that stores can write them in bulk.  The objects are created in iteration order.
+     *
+     * @param entities - the objects to create in the data store.
+     * @param scope - contains request level metadata.
+     * @param <T> The model type being created.
+     */
+    default <T> void createObjects(Iterable<T> entities, RequestScope scope) {
+        entities.forEach(entity -> createObject(entity, scope));
+    }
+
     /**
      * Create a new instance of an object.
      *
@@ -197,6 +213,34 @@ public interface DataStoreTransaction extends Closeable {
                 (Iterable) PersistentResource.getValue(entity, relationship.getName(), scope)).allInMemory().build();
     }
 
+    /**
+     * Retrieve the same to-many relation from several objects of the same type.
+     * <p>
+     * Data stores which can fetch the relation of many owners in a single round trip should override this method.
+     * The returned iterables must honor the same filtering, sorting, and pagination contract as
+     * {@link #getToManyRelation(DataStoreTransaction, Object, Relationship, RequestScope)}.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationship - the relationship to fetch.
+     * @param scope - contains request level metadata.
+     * @param <T> - The model type which owns the relationship.
+     * @param <R> - The model type of the relationship.
+     * @return the relation of each object keyed by object identity
+     */
+    default <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(
+            DataStoreTransaction relationTx,
+            Collection<T> entities,
+            Relationship relationship,
+            RequestScope scope) {
+
+        Map<T, DataStoreIterable<R>> relations = new IdentityHashMap<>();
+        for (T entity : entities) {
+            relations.put(entity, getToManyRelation(relationTx, entity, relationship, scope));
+        }
+        return relations;
+    }
+
     /**
      * Retrieve a to-one relation from an object.
      *
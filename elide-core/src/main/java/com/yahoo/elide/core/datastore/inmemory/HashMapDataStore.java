@@ -18,7 +18,9 @@ import com.yahoo.elide.core.utils.ObjectCloner;
 import com.yahoo.elide.core.utils.ObjectCloners;
 
 import lombok.Getter;
+import lombok.Setter;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -27,6 +29,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -39,7 +42,16 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
     @Getter protected EntityDictionary dictionary;
     @Getter private final ConcurrentHashMap<Type<?>, AtomicLong> typeIds = new ConcurrentHashMap<>();
     private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final Map<Type<?>, Semaphore> typeLocks = new ConcurrentHashMap<>();
     private final ObjectCloner objectCloner;
+    private final Map<Type<?>, Map<String, HashMapIndex.Kind>> indexDeclarations = new LinkedHashMap<>();
+    private final HashMapIndexes indexes = new HashMapIndexes();
+
+    /**
+     * When set, transactions lock each model they touch instead of the whole store so that writers of one model do
+     * not block readers of other models.  A transaction fails if it waits longer than this for the lock of a model.
+     */
+    @Getter @Setter private Duration typeLockTimeout;
 
     public HashMapDataStore(ClassScanner scanner, Package beanPackage) {
         this(scanner, beanPackage, ObjectCloners::clone);
@@ -83,18 +95,71 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
         }
 
         this.dictionary = dictionary;
+        indexDeclarations.forEach((model, attributes) -> attributes.forEach((attribute, kind) ->
+                indexes.add(new HashMapIndex(model, attribute, kind, dictionary), dataStore.get(model))));
+    }
+
+    /**
+     * Declares a secondary index on an attribute of a model.
+     * <p>
+     * Read only transactions answer equality, null check and, for sorted indexes, range predicates on the attribute
+     * and sorts by the attribute with the index rather than scanning every object of the model.  Indexes are
+     * maintained as transactions commit, so objects must only be written through transactions.  Indexes should be
+     * declared before the store serves requests.
+     *
+     * @param model The model.
+     * @param attribute The attribute of the model.
+     * @param kind The kind of index.
+     */
+    public void addIndex(Type<?> model, String attribute, HashMapIndex.Kind kind) {
+        if (!dataStore.containsKey(model)) {
+            throw new IllegalArgumentException("Unknown model " + model);
+        }
+        indexDeclarations.computeIfAbsent(model, key -> new LinkedHashMap<>()).put(attribute, kind);
+        if (dictionary != null) {
+            indexes.add(new HashMapIndex(model, attribute, kind, dictionary), dataStore.get(model));
+        }
+    }
+
+    /**
+     * Declares a secondary index on an attribute of a model.
+     * @param model The model.
+     * @param attribute The attribute of the model.
+     * @param kind The kind of index.
+     * @see #addIndex(Type, String, HashMapIndex.Kind)
+     */
+    public void addIndex(Class<?> model, String attribute, HashMapIndex.Kind kind) {
+        addIndex(ClassType.of(model), attribute, kind);
     }
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new HashMapStoreTransaction(this.readWriteLock, this.dataStore, this.dictionary,
-                this.typeIds, this.objectCloner, false);
+        return beginTransaction(false);
     }
 
     @Override
     public DataStoreTransaction beginReadTransaction() {
-        return new HashMapStoreTransaction(this.readWriteLock, this.dataStore, this.dictionary,
-                this.typeIds, this.objectCloner, true);
+        return beginTransaction(true);
+    }
+
+    private DataStoreTransaction beginTransaction(boolean readOnly) {
+        HashMapStoreTransaction transaction;
+        if (typeLockTimeout != null) {
+            transaction = new HashMapStoreTransaction(this::getTypeLock, typeLockTimeout, this.dataStore,
+                    this.dictionary, this.typeIds, this.objectCloner, readOnly);
+        } else {
+            transaction = new HashMapStoreTransaction(this.readWriteLock, this.dataStore, this.dictionary,
+                    this.typeIds, this.objectCloner, readOnly);
+        }
+        if (!indexDeclarations.isEmpty()) {
+            transaction.setIndexes(indexes);
+        }
+        return transaction;
+    }
+
+    private Semaphore getTypeLock(Type<?> type) {
+        return typeLocks.computeIfAbsent(type,
+                key -> new Semaphore(HashMapStoreTransaction.TYPE_LOCK_PERMITS, true));
     }
 
     @Override
@@ -129,6 +194,7 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
         for (Map<String, Object> objects : dataStore.values()) {
             objects.clear();
         }
+        indexes.clear();
         typeIds.clear();
     }
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import org.apache.commons.lang3.ClassUtils;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A secondary index over one attribute of a model stored in a {@link HashMapDataStore}.
+ * <p>
+ * Every index answers equality ({@code IN} and {@code NOT}) and null checks.  Sorted indexes also answer range
+ * predicates and return the ids of the model ordered by the attribute.  An index only reflects the objects written
+ * through committed transactions.
+ */
+public class HashMapIndex {
+
+    /**
+     * The kind of an index.
+     */
+    public enum Kind {
+        /**
+         * Answers equality and null checks.
+         */
+        HASH,
+
+        /**
+         * Answers equality, null checks and ranges, and orders the ids by the attribute.
+         */
+        SORTED
+    }
+
+    @Getter private final Type<?> type;
+    @Getter private final String attribute;
+    @Getter private final Kind kind;
+    private final Class<?> attributeClass;
+    private final EntityDictionary dictionary;
+
+    private final Map<String, Object> valuesById = new HashMap<>();
+    private final Map<Object, Set<String>> idsByValue = new HashMap<>();
+    private final NavigableMap<Object, Set<String>> sortedIds;
+    private final Set<String> nullIds = new LinkedHashSet<>();
+
+    /**
+     * Constructor.
+     * @param type The model.
+     * @param attribute The indexed attribute of the model.
+     * @param kind The kind of index.
+     * @param dictionary The entity dictionary.
+     */
+    public HashMapIndex(Type<?> type, String attribute, Kind kind, EntityDictionary dictionary) {
+        if (!dictionary.isAttribute(type, attribute) || dictionary.isComputed(type, attribute)) {
+            throw new IllegalArgumentException("Cannot index " + attribute + " of " + type);
+        }
+
+        Type<?> attributeType = dictionary.getType(type, attribute);
+        this.attributeClass = ClassUtils.primitiveToWrapper(attributeType.getUnderlyingClass()
+                .orElseThrow(() -> new IllegalArgumentException("Cannot index " + attribute + " of " + type)));
+
+        if (Collection.class.isAssignableFrom(attributeClass) || Map.class.isAssignableFrom(attributeClass)) {
+            throw new IllegalArgumentException("Cannot index collection " + attribute + " of " + type);
+        }
+        if (kind == Kind.SORTED && !Comparable.class.isAssignableFrom(attributeClass)) {
+            throw new IllegalArgumentException("Cannot sort by " + attribute + " of " + type);
+        }
+
+        this.type = type;
+        this.attribute = attribute;
+        this.kind = kind;
+        this.dictionary = dictionary;
+        this.sortedIds = kind == Kind.SORTED ? new TreeMap<>() : null;
+    }
+
+    /**
+     * Indexes the current value of an object, replacing its previous value.
+     * @param id The id of the object.
+     * @param object The object.
+     */
+    void put(String id, Object object) {
+        Object value = dictionary.getValue(object, attribute, null);
+        if (valuesById.containsKey(id)) {
+            Object previous = valuesById.get(id);
+            if (previous == null ? value == null : previous.equals(value)) {
+                return;
+            }
+            remove(id);
+        }
+
+        valuesById.put(id, value);
+        if (value == null) {
+            nullIds.add(id);
+            return;
+        }
+        idsByValue.computeIfAbsent(value, key -> new LinkedHashSet<>()).add(id);
+        if (sortedIds != null) {
+            sortedIds.computeIfAbsent(value, key -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Removes an object from the index.
+     * @param id The id of the object.
+     */
+    void remove(String id) {
+        if (!valuesById.containsKey(id)) {
+            return;
+        }
+        Object value = valuesById.remove(id);
+        if (value == null) {
+            nullIds.remove(id);
+            return;
+        }
+        removeId(idsByValue, value, id);
+        if (sortedIds != null) {
+            removeId(sortedIds, value, id);
+        }
+    }
+
+    private static void removeId(Map<Object, Set<String>> index, Object value, String id) {
+        Set<String> ids = index.get(value);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the objects of the model.
+     * @param data The objects of the model by id.
+     */
+    void rebuild(Map<String, Object> data) {
+        clear();
+        if (data != null) {
+            data.forEach(this::put);
+        }
+    }
+
+    /**
+     * Empties the index.
+     */
+    void clear() {
+        valuesById.clear();
+        idsByValue.clear();
+        nullIds.clear();
+        if (sortedIds != null) {
+            sortedIds.clear();
+        }
+    }
+
+    /**
+     * Finds the ids of the objects which match a predicate on the indexed attribute.
+     * @param predicate The predicate.
+     * @return The ids of the matching objects or null if the index cannot answer the predicate.
+     */
+    Set<String> find(FilterPredicate predicate) {
+        List<Object> values;
+        try {
+            values = predicate.getValues().stream()
+                    .<Object>map(value -> CoerceUtil.coerce(value, attributeClass))
+                    .toList();
+        } catch (RuntimeException e) {
+            // The predicate is evaluated in memory, which reports invalid values.
+            return null;
+        }
+
+        switch (predicate.getOperator()) {
+            case IN:
+                Set<String> matches = new LinkedHashSet<>();
+                values.stream().map(idsByValue::get).filter(Objects::nonNull).forEach(matches::addAll);
+                return matches;
+            case NOT:
+                Set<String> mismatches = new HashSet<>(valuesById.keySet());
+                values.stream().map(idsByValue::get).filter(Objects::nonNull).forEach(mismatches::removeAll);
+                return mismatches;
+            case ISNULL:
+                return new LinkedHashSet<>(nullIds);
+            case NOTNULL:
+                return notNullIds();
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                if (sortedIds == null || values.isEmpty() || values.contains(null)) {
+                    return null;
+                }
+                Set<String> inRange = new HashSet<>();
+                values.forEach(value -> collect(range(predicate, value), inRange));
+                return inRange;
+            case BETWEEN:
+                if (sortedIds == null || values.size() != 2 || values.contains(null)) {
+                    return null;
+                }
+                Set<String> between = new HashSet<>();
+                if (((Comparable) values.get(0)).compareTo(values.get(1)) <= 0) {
+                    collect(sortedIds.subMap(values.get(0), true, values.get(1), true), between);
+                }
+                return between;
+            default:
+                return null;
+        }
+    }
+
+    private NavigableMap<Object, Set<String>> range(FilterPredicate predicate, Object value) {
+        switch (predicate.getOperator()) {
+            case LT:
+                return sortedIds.headMap(value, false);
+            case LE:
+                return sortedIds.headMap(value, true);
+            case GT:
+                return sortedIds.tailMap(value, false);
+            default:
+                return sortedIds.tailMap(value, true);
+        }
+    }
+
+    private static void collect(Map<Object, Set<String>> range, Set<String> ids) {
+        range.values().forEach(ids::addAll);
+    }
+
+    private Set<String> notNullIds() {
+        Set<String> ids = new HashSet<>(valuesById.keySet());
+        ids.removeAll(nullIds);
+        return ids;
+    }
+
+    /**
+     * Returns the ids of the model ordered by the indexed attribute.  Null values sort first in ascending order.
+     * Objects with equal values are returned in the order they were indexed.
+     * @param ascending Whether to sort in ascending order.
+     * @return The ordered ids.
+     */
+    List<String> getOrderedIds(boolean ascending) {
+        if (sortedIds == null) {
+            throw new IllegalStateException("Index on " + attribute + " of " + type + " is not sorted");
+        }
+        List<String> ids = new ArrayList<>(valuesById.size());
+        if (ascending) {
+            ids.addAll(nullIds);
+            sortedIds.values().forEach(ids::addAll);
+        } else {
+            sortedIds.descendingMap().values().forEach(ids::addAll);
+            ids.addAll(nullIds);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.type.Type;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * The secondary indexes of the models of a {@link HashMapDataStore}.
+ * <p>
+ * Indexes are updated as transactions commit and rebuilt when transactions roll back.  They are read and written
+ * under the same locks as the objects they index.
+ */
+public class HashMapIndexes {
+    private final Map<Type<?>, Map<String, HashMapIndex>> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * The objects which may match a filter expression.
+     */
+    static final class Candidates {
+        private static final Candidates ALL = new Candidates(null, false);
+
+        /**
+         * The ids of the candidates or null if every object is a candidate.
+         */
+        private final Set<String> ids;
+
+        /**
+         * Whether every candidate matches the filter expression.
+         */
+        private final boolean exact;
+
+        private Candidates(Set<String> ids, boolean exact) {
+            this.ids = ids;
+            this.exact = exact;
+        }
+
+        Set<String> getIds() {
+            return ids;
+        }
+
+        boolean isExact() {
+            return exact;
+        }
+    }
+
+    /**
+     * Adds an index and fills it with the objects of its model.
+     * @param index The index.
+     * @param data The objects of the model by id.
+     */
+    void add(HashMapIndex index, Map<String, Object> data) {
+        index.rebuild(data);
+        indexes.computeIfAbsent(index.getType(), key -> new ConcurrentHashMap<>()).put(index.getAttribute(), index);
+    }
+
+    /**
+     * Returns the index on an attribute of a model.
+     * @param type The model.
+     * @param attribute The attribute.
+     * @return The index or null if the attribute is not indexed.
+     */
+    HashMapIndex get(Type<?> type, String attribute) {
+        return indexes.getOrDefault(type, Collections.emptyMap()).get(attribute);
+    }
+
+    /**
+     * Returns whether a model has any indexes.
+     * @param type The model.
+     * @return true if the model has indexes.
+     */
+    boolean isIndexed(Type<?> type) {
+        return indexes.containsKey(type);
+    }
+
+    /**
+     * Indexes the current values of a written object.
+     * @param type The model the object is stored under.
+     * @param id The id of the object.
+     * @param object The object.
+     */
+    void put(Type<?> type, String id, Object object) {
+        forEach(type, index -> index.put(id, object));
+    }
+
+    /**
+     * Removes a deleted object from the indexes.
+     * @param type The model the object is stored under.
+     * @param id The id of the object.
+     */
+    void remove(Type<?> type, String id) {
+        forEach(type, index -> index.remove(id));
+    }
+
+    /**
+     * Rebuilds the indexes of a model.
+     * @param type The model.
+     * @param data The objects of the model by id.
+     */
+    void rebuild(Type<?> type, Map<String, Object> data) {
+        forEach(type, index -> index.rebuild(data));
+    }
+
+    /**
+     * Empties every index.
+     */
+    void clear() {
+        indexes.values().forEach(byAttribute -> byAttribute.values().forEach(HashMapIndex::clear));
+    }
+
+    private void forEach(Type<?> type, Consumer<HashMapIndex> action) {
+        Map<String, HashMapIndex> byAttribute = indexes.get(type);
+        if (byAttribute != null) {
+            byAttribute.values().forEach(action);
+        }
+    }
+
+    /**
+     * Finds the objects of a model which may match a filter expression.
+     * @param type The model.
+     * @param allIds The ids of every object of the model.
+     * @param expression The filter expression.
+     * @return The candidates.
+     */
+    Candidates find(Type<?> type, Set<String> allIds, FilterExpression expression) {
+        return expression.accept(new CandidateVisitor(type, allIds));
+    }
+
+    /**
+     * Narrows the objects of a model with the predicates which have indexes.
+     */
+    private final class CandidateVisitor implements FilterExpressionVisitor<Candidates> {
+        private final Type<?> type;
+        private final Set<String> allIds;
+
+        private CandidateVisitor(Type<?> type, Set<String> allIds) {
+            this.type = type;
+            this.allIds = allIds;
+        }
+
+        @Override
+        public Candidates visitPredicate(FilterPredicate filterPredicate) {
+            Path path = filterPredicate.getPath();
+            if (path.getPathElements().size() != 1 || !type.equals(path.getPathElements().get(0).getType())) {
+                return Candidates.ALL;
+            }
+            HashMapIndex index = get(type, filterPredicate.getField());
+            Set<String> ids = index == null ? null : index.find(filterPredicate);
+            return ids == null ? Candidates.ALL : new Candidates(ids, true);
+        }
+
+        @Override
+        public Candidates visitAndExpression(AndFilterExpression expression) {
+            Candidates left = expression.getLeft().accept(this);
+            Candidates right = expression.getRight().accept(this);
+            Set<String> ids;
+            if (left.ids == null) {
+                ids = right.ids;
+            } else if (right.ids == null) {
+                ids = left.ids;
+            } else {
+                ids = intersect(left.ids, right.ids);
+            }
+            return new Candidates(ids, left.exact && right.exact);
+        }
+
+        @Override
+        public Candidates visitOrExpression(OrFilterExpression expression) {
+            Candidates left = expression.getLeft().accept(this);
+            Candidates right = expression.getRight().accept(this);
+            if (left.ids == null || right.ids == null) {
+                return Candidates.ALL;
+            }
+            Set<String> ids = new HashSet<>(left.ids);
+            ids.addAll(right.ids);
+            return new Candidates(ids, left.exact && right.exact);
+        }
+
+        @Override
+        public Candidates visitNotExpression(NotFilterExpression expression) {
+            Candidates negated = expression.getNegated().accept(this);
+            if (!negated.exact) {
+                return Candidates.ALL;
+            }
+            Set<String> ids = new HashSet<>(allIds);
+            ids.removeAll(negated.ids);
+            return new Candidates(ids, true);
+        }
+
+        private Set<String> intersect(Set<String> left, Set<String> right) {
+            Collection<String> smaller = left.size() <= right.size() ? left : right;
+            Set<String> larger = smaller == left ? right : left;
+            Set<String> ids = new HashSet<>();
+            smaller.stream().filter(larger::contains).forEach(ids::add);
+            return ids;
+        }
+    }
+}
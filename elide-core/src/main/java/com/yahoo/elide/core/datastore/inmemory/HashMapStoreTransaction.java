@@ -5,43 +5,70 @@
  */
 package com.yahoo.elide.core.datastore.inmemory;
 
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreIterable;
 import com.yahoo.elide.core.datastore.DataStoreIterableBuilder;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.ObjectCloner;
 import com.yahoo.elide.core.utils.coerce.converters.Serde;
 
 import jakarta.persistence.GeneratedValue;
+import lombok.Setter;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
 
 /**
  * HashMapDataStore transaction handler.
  */
 public class HashMapStoreTransaction implements DataStoreTransaction {
+    /**
+     * The permits of the lock of a model.  A read only transaction takes one permit and any other transaction takes
+     * all of them.
+     */
+    public static final int TYPE_LOCK_PERMITS = Integer.MAX_VALUE;
+
     private final Map<Type<?>, Map<String, Object>> dataStore;
     private final List<Operation> operations;
     private final EntityDictionary dictionary;
     private final Map<Type<?>, AtomicLong> typeIds;
     private final Lock lock;
+    private final Function<Type<?>, Semaphore> typeLocks;
+    private final Duration typeLockTimeout;
+    private final Map<Type<?>, Semaphore> heldTypeLocks = new LinkedHashMap<>();
     private final boolean readOnly;
     private final ObjectCloner objectCloner;
     private boolean committed = false;
 
+    /**
+     * The secondary indexes of the store.  Read only transactions answer the filters and sorts they can with them.
+     */
+    @Setter private HashMapIndexes indexes;
+
     public HashMapStoreTransaction(ReadWriteLock readWriteLock, Map<Type<?>, Map<String, Object>> dataStore,
             EntityDictionary dictionary, Map<Type<?>, AtomicLong> typeIds, ObjectCloner objectCloner,
             boolean readOnly) {
@@ -51,6 +78,8 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
         this.operations = new ArrayList<>();
         this.typeIds = typeIds;
         this.objectCloner = objectCloner;
+        this.typeLocks = null;
+        this.typeLockTimeout = null;
 
         if (readWriteLock != null) {
             this.lock = readOnly ? readWriteLock.readLock() : readWriteLock.writeLock();
@@ -60,6 +89,89 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
         }
     }
 
+    /**
+     * Constructor for a transaction which locks each model it touches rather than the whole store.
+     * <p>
+     * The lock of a model is taken the first time the model is loaded, written or reached through a relationship
+     * and is held until the transaction is closed.  Read only transactions take one permit of the lock and other
+     * transactions take all {@link #TYPE_LOCK_PERMITS} of them.  Writers also lock every model on the other side of
+     * a bidirectional relationship, as updating the relationship updates the inverse collection of those objects.
+     * A transaction which waits longer than the timeout for a lock fails, which breaks lock cycles between
+     * transactions.
+     * <p>
+     * The locks are semaphores rather than thread owned locks, so fetches running on other threads may take them
+     * and the thread which closes the transaction releases them.
+     *
+     * @param typeLocks Returns the lock of a model, a fair semaphore with {@link #TYPE_LOCK_PERMITS} permits.
+     * @param typeLockTimeout How long to wait for the lock of a model.
+     * @param dataStore The contents of the store.
+     * @param dictionary The entity dictionary.
+     * @param typeIds The id generators of each model.
+     * @param objectCloner Clones objects for rollback.
+     * @param readOnly Whether the transaction only reads.
+     */
+    public HashMapStoreTransaction(Function<Type<?>, Semaphore> typeLocks, Duration typeLockTimeout,
+            Map<Type<?>, Map<String, Object>> dataStore, EntityDictionary dictionary,
+            Map<Type<?>, AtomicLong> typeIds, ObjectCloner objectCloner, boolean readOnly) {
+        this.readOnly = readOnly;
+        this.dataStore = dataStore;
+        this.dictionary = dictionary;
+        this.operations = new ArrayList<>();
+        this.typeIds = typeIds;
+        this.objectCloner = objectCloner;
+        this.lock = null;
+        this.typeLocks = typeLocks;
+        this.typeLockTimeout = typeLockTimeout;
+    }
+
+    /**
+     * Takes the lock of a model and of the models it inherits from, unless the transaction already holds them.
+     * Writers also take the locks of the models whose inverse relationships the model updates.
+     * @param type The model.
+     */
+    private void lockType(Type<?> type) {
+        if (typeLocks == null) {
+            return;
+        }
+        Set<Type<?>> types = new LinkedHashSet<>();
+        types.add(type);
+        if (!readOnly) {
+            dictionary.getRelationships(type).stream()
+                    .filter(relation -> !dictionary.getRelationInverse(type, relation).isEmpty())
+                    .map(relation -> dictionary.getParameterizedType(type, relation))
+                    .forEach(types::add);
+        }
+        for (Type<?> lockedType : List.copyOf(types)) {
+            types.addAll(dictionary.getSuperClassEntities(lockedType));
+        }
+        types.forEach(this::lockSingleType);
+    }
+
+    private synchronized void lockSingleType(Type<?> type) {
+        if (heldTypeLocks.containsKey(type)) {
+            return;
+        }
+        Semaphore typeLock = typeLocks.apply(type);
+        try {
+            if (!typeLock.tryAcquire(getTypeLockPermits(), typeLockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new TransactionException(new IllegalStateException("Timed out waiting for lock on " + type));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        }
+        heldTypeLocks.put(type, typeLock);
+    }
+
+    private synchronized void unlockTypes() {
+        heldTypeLocks.values().forEach(typeLock -> typeLock.release(getTypeLockPermits()));
+        heldTypeLocks.clear();
+    }
+
+    private int getTypeLockPermits() {
+        return readOnly ? 1 : TYPE_LOCK_PERMITS;
+    }
+
     @Override
     public void flush(RequestScope requestScope) {
         // Do nothing
@@ -70,6 +182,7 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
         if (object == null) {
             return;
         }
+        lockType(EntityDictionary.getType(object));
         String id = dictionary.getId(object);
         if (id == null || "null".equals(id) || "0".equals(id)) {
             createObject(object, requestScope);
@@ -85,6 +198,7 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
             return;
         }
 
+        lockType(EntityDictionary.getType(object));
         String id = dictionary.getId(object);
         operations.add(new Operation(id, object, EntityDictionary.getType(object), Operation.OpType.DELETE));
         replicateOperationToParent(object, Operation.OpType.DELETE);
@@ -98,11 +212,17 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
             Map<String, Object> data = dataStore.get(op.getType());
             if (op.getOpType() == Operation.OpType.DELETE) {
                 data.remove(id);
+                if (indexes != null) {
+                    indexes.remove(op.getType(), id);
+                }
             } else {
                 if (op.getOpType() == Operation.OpType.CREATE && data.get(id) != null) {
                     throw new TransactionException(new IllegalStateException("Duplicate key"));
                 }
                 data.put(id, instance);
+                if (indexes != null) {
+                    indexes.put(op.getType(), id, instance);
+                }
             }
         });
         operations.clear();
@@ -112,6 +232,7 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     @Override
     public void createObject(Object entity, RequestScope scope) {
         Type entityClass = EntityDictionary.getType(entity);
+        lockType(entityClass);
 
         String idFieldName = dictionary.getIdFieldName(entityClass);
         String id;
@@ -139,6 +260,13 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
         operations.add(new Operation(id, entity, EntityDictionary.getType(entity), Operation.OpType.CREATE));
     }
 
+    @Override
+    public <T, R> R getToOneRelation(DataStoreTransaction relationTx, T entity, Relationship relationship,
+            RequestScope scope) {
+        lockType(relationship.getProjection().getType());
+        return DataStoreTransaction.super.getToOneRelation(relationTx, entity, relationship, scope);
+    }
+
     public void setId(Object value, String id) {
         dictionary.setValue(value, dictionary.getIdFieldName(EntityDictionary.getType(value)), id);
     }
@@ -148,6 +276,7 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
                                                        Object entity,
                                                        Relationship relationship,
                                                        RequestScope scope) {
+        lockType(relationship.getProjection().getType());
         return new DataStoreIterableBuilder(
                 (Iterable) dictionary.getValue(entity, relationship.getName(), scope)).allInMemory().build();
     }
@@ -155,16 +284,81 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     @Override
     public DataStoreIterable<Object> loadObjects(EntityProjection projection,
                                                           RequestScope scope) {
+        lockType(projection.getType());
         Map<String, Object> data = dataStore.get(projection.getType());
         cacheForRollback(projection.getType(), data);
+
+        // Objects changed by a writer are only indexed once the writer commits.
+        if (readOnly && indexes != null && indexes.isIndexed(projection.getType())) {
+            DataStoreIterable<Object> indexed = loadIndexedObjects(projection, data);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
         return new DataStoreIterableBuilder<>(data.values()).allInMemory().build();
     }
 
+    /**
+     * Loads the objects of a model with its indexes.
+     * @param projection The projection being loaded.
+     * @param data The objects of the model by id.
+     * @return The objects or null if the indexes neither filter nor sort the objects.
+     */
+    private DataStoreIterable<Object> loadIndexedObjects(EntityProjection projection, Map<String, Object> data) {
+        FilterExpression filterExpression = projection.getFilterExpression();
+        HashMapIndexes.Candidates candidates = filterExpression == null
+                ? null
+                : indexes.find(projection.getType(), data.keySet(), filterExpression);
+        Set<String> candidateIds = candidates == null ? null : candidates.getIds();
+        boolean filtered = candidates == null || candidates.isExact();
+
+        // Sorting by the index is only correct once every candidate is known to match.
+        List<String> orderedIds = filtered ? getOrderedIds(projection) : null;
+        if (orderedIds == null && candidateIds == null) {
+            return null;
+        }
+
+        List<Object> records = (orderedIds == null ? candidateIds.stream() : orderedIds.stream()
+                .filter(id -> candidateIds == null || candidateIds.contains(id)))
+                .map(data::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new DataStoreIterableBuilder<>(records)
+                .filterInMemory(!filtered)
+                .sortInMemory(orderedIds == null)
+                .paginateInMemory(true)
+                .build();
+    }
+
+    /**
+     * Orders the ids of a model with a sorted index on the attribute the projection sorts by.
+     * @param projection The projection being loaded.
+     * @return The ordered ids or null if the projection is not sorted by a single indexed attribute.
+     */
+    private List<String> getOrderedIds(EntityProjection projection) {
+        Sorting sorting = projection.getSorting();
+        if (sorting == null || sorting.getSortingPaths().size() != 1) {
+            return null;
+        }
+        Map.Entry<Path, Sorting.SortOrder> sortRule = sorting.getSortingPaths().entrySet().iterator().next();
+        List<Path.PathElement> elements = sortRule.getKey().getPathElements();
+        if (elements.size() != 1 || !projection.getType().equals(elements.get(0).getType())) {
+            return null;
+        }
+        HashMapIndex index = indexes.get(projection.getType(), elements.get(0).getFieldName());
+        if (index == null || index.getKind() != HashMapIndex.Kind.SORTED) {
+            return null;
+        }
+        return index.getOrderedIds(sortRule.getValue() == Sorting.SortOrder.asc);
+    }
+
     @Override
     public Object loadObject(EntityProjection projection, Serializable id, RequestScope scope) {
 
         EntityDictionary dictionary = scope.getDictionary();
 
+        lockType(projection.getType());
         Map<String, Object> data = dataStore.get(projection.getType());
         cacheForRollback(projection.getType(), data);
         if (data == null) {
@@ -183,7 +377,7 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
      * the store. As such a copy of the original objects need to made in order to
      * rollback.
      */
-    private Map<Type<?>, Map<String, Object>> rollbackCache = new HashMap<>();
+    private Map<Type<?>, Map<String, Object>> rollbackCache = new ConcurrentHashMap<>();
 
     protected void cacheForRollback(Type<?> type, Map<String, Object> data) {
         if (!readOnly) {
@@ -212,12 +406,16 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
             if (this.lock != null) {
                 this.lock.unlock();
             }
+            unlockTypes();
         }
     }
 
     public void rollback() {
         // Rollback data
         dataStore.putAll(this.rollbackCache);
+        if (indexes != null) {
+            this.rollbackCache.forEach(indexes::rebuild);
+        }
         this.rollbackCache.clear();
     }
 
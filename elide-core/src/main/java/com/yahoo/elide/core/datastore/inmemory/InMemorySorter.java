@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.request.Sorting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts records in memory by the sorting paths of a request.
+ * <p>
+ * The sort rules are compiled once and the values of the sort paths are read once per record rather than once per
+ * comparison.  Ties are broken by the position of the record in its input so that sorting is stable.  Pages of the
+ * sorted records can be selected with a bounded heap which only keeps the records on the page.
+ */
+public class InMemorySorter implements Comparator<InMemorySorter.Entry> {
+
+    private static final Comparator<Object> NULL_SAFE_COMPARE = (a, b) -> {
+        if (a == null && b == null) {
+            return 0;
+        }
+        if (a == null) {
+            return -1;
+        }
+        if (b == null) {
+            return 1;
+        }
+        if (a instanceof Comparable) {
+            return ((Comparable) a).compareTo(b);
+        }
+        throw new IllegalStateException("Trying to comparing non-comparable types!");
+    };
+
+    private final List<String[]> paths = new ArrayList<>();
+    private final List<Boolean> ascending = new ArrayList<>();
+    private final RequestScope scope;
+
+    /**
+     * A record decorated with its position in the input and the values it is sorted by.
+     */
+    public final class Entry {
+        private final Object record;
+        private final long position;
+        private Object[] values;
+
+        private Entry(Object record, long position) {
+            this.record = record;
+            this.position = position;
+        }
+
+        public Object getRecord() {
+            return record;
+        }
+
+        private Object[] getValues() {
+            if (values == null) {
+                values = new Object[paths.size()];
+                for (int idx = 0; idx < values.length; idx++) {
+                    Object value = record;
+                    for (String fieldName : paths.get(idx)) {
+                        value = (value == null ? null : PersistentResource.getValue(value, fieldName, scope));
+                    }
+                    values[idx] = value;
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Keeps the first entries of a sort order.
+     */
+    public static final class Selection {
+        private final int size;
+        private final Comparator<Entry> order;
+        private final PriorityQueue<Entry> heap;
+
+        private Selection(int size, Comparator<Entry> order) {
+            this.size = size;
+            this.order = order;
+
+            // The head of the heap is the entry which is dropped first.
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(size, 1024)), order.reversed());
+        }
+
+        /**
+         * Offers an entry to the selection.
+         * @param entry The entry.
+         */
+        public void add(Entry entry) {
+            if (heap.size() < size) {
+                heap.add(entry);
+            } else if (size > 0 && order.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        /**
+         * Returns the selected entries in the order of the selection.
+         * @return The selected entries.
+         */
+        public List<Entry> getEntries() {
+            List<Entry> entries = new ArrayList<>(heap);
+            entries.sort(order);
+            return entries;
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param sortRules The sorting paths and their order.
+     * @param scope The request scope used to read the values of the sorting paths.
+     */
+    public InMemorySorter(Map<Path, Sorting.SortOrder> sortRules, RequestScope scope) {
+        this.scope = scope;
+        sortRules.forEach((path, order) -> {
+            paths.add(path.getPathElements().stream().map(Path.PathElement::getFieldName).toArray(String[]::new));
+            ascending.add(order == Sorting.SortOrder.asc);
+        });
+    }
+
+    /**
+     * Decorates a record for sorting.
+     * @param record The record.
+     * @param position The position of the record in its input.
+     * @return The decorated record.
+     */
+    public Entry entry(Object record, long position) {
+        return new Entry(record, position);
+    }
+
+    @Override
+    public int compare(Entry left, Entry right) {
+        if (left == right) {
+            return 0;
+        }
+        Object[] leftValues = left.getValues();
+        Object[] rightValues = right.getValues();
+        for (int idx = 0; idx < leftValues.length; idx++) {
+            int comparison = ascending.get(idx)
+                    ? NULL_SAFE_COMPARE.compare(leftValues[idx], rightValues[idx])
+                    : NULL_SAFE_COMPARE.compare(rightValues[idx], leftValues[idx]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Long.compare(left.position, right.position);
+    }
+
+    /**
+     * Decorates records for sorting.
+     * @param records The records.
+     * @return The decorated records in their original order.
+     */
+    public List<Entry> decorate(Iterable<Object> records) {
+        List<Entry> entries = new ArrayList<>();
+        for (Object record : records) {
+            entries.add(entry(record, entries.size()));
+        }
+        return entries;
+    }
+
+    /**
+     * Sorts records.
+     * @param records The records.
+     * @return The sorted records.
+     */
+    public List<Object> sort(Iterable<Object> records) {
+        List<Entry> entries = decorate(records);
+        entries.sort(this);
+        return records(entries);
+    }
+
+    /**
+     * Starts a selection of the first entries in sorted order.
+     * @param size The number of entries to keep.
+     * @return The selection.
+     */
+    public Selection first(int size) {
+        return new Selection(size, this);
+    }
+
+    /**
+     * Starts a selection of the last entries in sorted order.
+     * @param size The number of entries to keep.
+     * @return The selection, whose entries are returned in reverse sorted order.
+     */
+    public Selection last(int size) {
+        return new Selection(size, this.reversed());
+    }
+
+    /**
+     * Strips the decoration from entries.
+     * @param entries The entries.
+     * @return The records.
+     */
+    public static List<Object> records(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> records = new ArrayList<>(entries.size());
+        entries.forEach(entry -> records.add(entry.getRecord()));
+        return records;
+    }
+}
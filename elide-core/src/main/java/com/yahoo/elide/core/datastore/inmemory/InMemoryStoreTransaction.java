@@ -7,7 +7,7 @@
 package com.yahoo.elide.core.datastore.inmemory;
 
 import com.yahoo.elide.core.Path;
-import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RelationshipBatchLoader;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreIterable;
 import com.yahoo.elide.core.datastore.DataStoreIterableBuilder;
@@ -18,6 +18,7 @@ import com.yahoo.elide.core.filter.expression.InMemoryExecutionVerifier;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Pagination.Direction;
 import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
@@ -27,8 +28,8 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -47,21 +48,6 @@ import java.util.stream.StreamSupport;
 public class InMemoryStoreTransaction implements DataStoreTransaction {
 
     private final DataStoreTransaction tx;
-    private static final Comparator<Object> NULL_SAFE_COMPARE = (a, b) -> {
-        if (a == null && b == null) {
-            return 0;
-        }
-        if (a == null) {
-            return -1;
-        }
-        if (b == null) {
-            return 1;
-        }
-        if (a instanceof Comparable) {
-            return ((Comparable) a).compareTo(b);
-        }
-        throw new IllegalStateException("Trying to comparing non-comparable types!");
-    };
 
     /**
      * Fetches data from the store.
@@ -84,7 +70,7 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                                     Relationship relationship,
                                     RequestScope scope) {
         DataFetcher fetcher = (filterExpression, sorting, pagination, requestScope) ->
-                tx.getToManyRelation(relationTx, entity, relationship.copyOf()
+                fetchToManyRelation(relationTx, entity, relationship.copyOf()
                         .projection(relationship.getProjection().copyOf()
                                 .filterExpression(filterExpression.orElse(null))
                                 .sorting(sorting.orElse(null))
@@ -101,6 +87,18 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return fetchData(fetcher, relationship.getProjection(), filterInMemory, scope);
     }
 
+    /**
+     * Fetches the relation from the wrapped transaction, batched with the siblings of the entity when possible.
+     */
+    private DataStoreIterable<Object> fetchToManyRelation(DataStoreTransaction relationTx, Object entity,
+            Relationship relationship, RequestScope scope) {
+        RelationshipBatchLoader batchLoader = scope.getRelationshipBatchLoader();
+        if (batchLoader == null) {
+            return tx.getToManyRelation(relationTx, entity, relationship, scope);
+        }
+        return batchLoader.getToManyRelation(tx, relationTx, entity, relationship, scope);
+    }
+
     @Override
     public Object loadObject(EntityProjection projection,
                       Serializable id,
@@ -204,6 +202,11 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         tx.createObject(entity, scope);
     }
 
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope scope) {
+        tx.createObjects(entities, scope);
+    }
+
     private DataStoreIterable<Object> filterLoadedData(DataStoreIterable<Object> loadedRecords,
                                                 Optional<FilterExpression> filterExpression,
                                                 RequestScope scope) {
@@ -302,20 +305,121 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
             return loadedRecords;
         }
 
-        //We need an in memory copy to sort or paginate.
-        List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false).collect(Collectors.toList());
-
-        if (! sortRules.isEmpty()) {
-            results = sortInMemory(results, sortRules, scope);
+        if (! mustSortInMemory) {
+            //The records are already in order (for example from an index) but we need an in memory copy to paginate.
+            List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false)
+                    .collect(Collectors.toList());
+            return new DataStoreIterableBuilder(paginateInMemory(results, pagination, scope)).build();
         }
 
-        if (pagination != null) {
-            results = paginateInMemory(results, pagination, scope);
+        InMemorySorter sorter = new InMemorySorter(sortRules, scope);
+        List<Object> results;
+        if (pagination == null) {
+            results = sorter.sort(loadedRecords);
+        } else if (pagination.getDirection() == null) {
+            results = sortAndPaginateByOffset(loadedRecords, sorter, pagination);
+        } else if (pagination.getDirection() != Direction.BETWEEN) {
+            results = sortAndPaginateByCursor(loadedRecords, sorter, pagination, scope);
+        } else {
+            results = paginateInMemory(sorter.sort(loadedRecords), pagination, scope);
         }
 
         return new DataStoreIterableBuilder(results).build();
     }
 
+    /**
+     * Sorts and paginates records with offset pagination.  Only the records up to the end of the page are kept
+     * while the records are counted.
+     */
+    private List<Object> sortAndPaginateByOffset(Iterable<Object> records, InMemorySorter sorter,
+                                                 Pagination pagination) {
+        int offset = pagination.getOffset();
+        long pageEnd = (long) offset + pagination.getLimit();
+        InMemorySorter.Selection page = sorter.first((int) Math.max(0, Math.min(pageEnd, Integer.MAX_VALUE)));
+
+        long count = 0;
+        for (Object record : records) {
+            page.add(sorter.entry(record, count++));
+        }
+
+        if (pagination.returnPageTotals()) {
+            pagination.setPageTotals(count);
+        }
+        if (offset < 0 || offset >= count) {
+            return Collections.emptyList();
+        }
+
+        List<Object> results = InMemorySorter.records(page.getEntries());
+        return results.subList(offset, results.size());
+    }
+
+    /**
+     * Sorts and paginates records with forward or backward cursor pagination.  The record of the cursor is found in
+     * a first pass over the records and the page is selected in a second pass, so only the records on the page are
+     * kept sorted.
+     */
+    private List<Object> sortAndPaginateByCursor(DataStoreIterable<Object> records, InMemorySorter sorter,
+                                                 Pagination pagination, RequestScope scope) {
+        Iterable<Object> source = records;
+        InMemorySorter.Entry cursor = null;
+        String decodedCursor = decodeCursor(pagination.getCursor());
+        if (decodedCursor != null) {
+            if (!isReiterable(records)) {
+                // The records can only be read once so they are copied to be read a second time.
+                source = StreamSupport.stream(records.spliterator(), false).collect(Collectors.toList());
+            }
+            long position = 0;
+            for (Object record : source) {
+                if (Objects.equals(getId(record, scope), decodedCursor)) {
+                    cursor = sorter.entry(record, position);
+                    break;
+                }
+                position++;
+            }
+            if (cursor == null) {
+                if (pagination.returnPageTotals()) {
+                    pagination.setPageTotals(position);
+                }
+                return Collections.emptyList();
+            }
+        }
+
+        int limit = pagination.getLimit();
+        boolean forward = pagination.getDirection() == Direction.FORWARD;
+        InMemorySorter.Selection page = forward ? sorter.first(limit) : sorter.last(limit);
+
+        // Records after the cursor when paging forward (After) or before it when paging backward (Before)
+        long count = 0;
+        long remaining = 0;
+        for (Object record : source) {
+            InMemorySorter.Entry entry = sorter.entry(record, count++);
+            if (cursor == null || (forward ? sorter.compare(entry, cursor) > 0 : sorter.compare(entry, cursor) < 0)) {
+                remaining++;
+                page.add(entry);
+            }
+        }
+        if (pagination.returnPageTotals()) {
+            pagination.setPageTotals(count);
+        }
+
+        List<InMemorySorter.Entry> selected = page.getEntries();
+        if (!forward) {
+            Collections.reverse(selected);
+        }
+
+        pagination.setHasNextPage(forward && remaining >= limit);
+        pagination.setHasPreviousPage(!forward && remaining >= limit);
+        if (selected.isEmpty()) {
+            pagination.setStartCursor(null);
+            pagination.setEndCursor(null);
+            return Collections.emptyList();
+        }
+        List<Object> results = InMemorySorter.records(selected);
+        pagination.setStartCursor(getCursor(results.get(0), scope));
+        pagination.setEndCursor(getCursor(results.get(results.size() - 1), scope));
+        return results;
+    }
+
     private String getCursor(Object entity, RequestScope scope) {
         return encodeCursor(getId(entity, scope));
     }
@@ -324,6 +428,18 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return scope.getDictionary().getId(entity);
     }
 
+    /**
+     * Returns whether records can be read more than once, which holds when they are backed by a collection.
+     */
+    private static boolean isReiterable(Iterable<?> records) {
+        Iterable<?> wrapped = records;
+        while (wrapped instanceof DataStoreIterable<?> dataStoreIterable
+                && dataStoreIterable.getWrappedIterable() != wrapped) {
+            wrapped = dataStoreIterable.getWrappedIterable();
+        }
+        return wrapped instanceof Collection;
+    }
+
     private Integer findIndexOfDecodedCursor(List<Object> records, String cursor, RequestScope scope) {
         for (int x = 0; x < records.size(); x++) {
             Object entity = records.get(x);
@@ -463,46 +579,6 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return records.subList(offset, endIdx);
     }
 
-    private List<Object> sortInMemory(List<Object> records,
-                                        Map<Path, Sorting.SortOrder> sortRules,
-                                        RequestScope scope) {
-        //Build a comparator that handles multiple comparison rules.
-        Comparator<Object> noSort = (left, right) -> 0;
-
-        Comparator<Object> comp = sortRules.entrySet().stream()
-            .map(entry -> getComparator(entry.getKey(), entry.getValue(), scope))
-            .reduce(noSort, (comparator1, comparator2) -> (left, right) -> {
-                int comparison = comparator1.compare(left, right);
-                if (comparison == 0) {
-                    return comparator2.compare(left, right);
-                }
-                return comparison;
-            });
-
-        records.sort(comp);
-        return records;
-    }
-
-    private Comparator<Object> getComparator(Path path, Sorting.SortOrder order, RequestScope requestScope) {
-        return (left, right) -> {
-            Object leftCompare = left;
-            Object rightCompare = right;
-
-            // Drill down into path to find value for comparison
-            for (Path.PathElement pathElement : path.getPathElements()) {
-                leftCompare = (leftCompare == null ? null
-                        : PersistentResource.getValue(leftCompare, pathElement.getFieldName(), requestScope));
-                rightCompare = (rightCompare == null ? null
-                        : PersistentResource.getValue(rightCompare, pathElement.getFieldName(), requestScope));
-            }
-
-            if (order == Sorting.SortOrder.asc) {
-                return NULL_SAFE_COMPARE.compare(leftCompare, rightCompare);
-            }
-            return NULL_SAFE_COMPARE.compare(rightCompare, leftCompare);
-        };
-    }
-
     /**
      * Returns the sorting (if any) that should be pushed to the datastore.
      * @param scope The request context
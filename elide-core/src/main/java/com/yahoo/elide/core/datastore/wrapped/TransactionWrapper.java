@@ -100,6 +100,11 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         tx.createObject(o, requestScope);
     }
 
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope requestScope) {
+        tx.createObjects(entities, requestScope);
+    }
+
     @Override
     public <T> DataStoreIterable<T> loadObjects(EntityProjection projection, RequestScope scope) {
         return tx.loadObjects(projection, scope);
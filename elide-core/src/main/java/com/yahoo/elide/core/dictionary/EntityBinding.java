@@ -128,6 +128,7 @@ public class EntityBinding {
     public final ConcurrentHashMap<AccessibleObject, Set<ArgumentType>> attributeArguments = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, ArgumentType> entityArguments = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<Object, Annotation> annotations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ValueAccessor> valueAccessors = new ConcurrentHashMap<>();
 
     public static final EntityBinding EMPTY_BINDING = new EntityBinding();
     public static final Set<ArgumentType> EMPTY_ATTRIBUTES_ARGS = Collections.unmodifiableSet(new HashSet<>());
@@ -783,6 +784,21 @@ public class EntityBinding {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Returns the accessor which reads a field or getter.  The accessor is created the first time it is requested.
+     * @param fieldName The name of the field.
+     * @return The accessor or null if the field is not bound.
+     */
+    public ValueAccessor getValueAccessor(String fieldName) {
+        AccessibleObject fieldOrMethod = fieldsToValues.get(fieldName);
+        if (fieldOrMethod == null) {
+            return null;
+        }
+        return valueAccessors.computeIfAbsent(fieldName, unused -> ValueAccessor.of(fieldOrMethod,
+                fieldOrMethod instanceof Method
+                        && requestScopeableMethods.getOrDefault((Method) fieldOrMethod, false)));
+    }
+
     /**
      * Returns a list of fields filtered by a given predicate.
      * @param filter The filter predicate.
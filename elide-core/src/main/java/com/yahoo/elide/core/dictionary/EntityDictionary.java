@@ -43,6 +43,7 @@ import com.yahoo.elide.core.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.core.security.checks.prefab.Collections.RemoveOnly;
 import com.yahoo.elide.core.security.checks.prefab.Role;
 import com.yahoo.elide.core.security.obfuscation.IdObfuscator;
+import com.yahoo.elide.core.security.permissions.CompiledPermission;
 import com.yahoo.elide.core.type.AccessibleObject;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Dynamic;
@@ -125,8 +126,11 @@ public class EntityDictionary {
             new ConcurrentHashMap<>();
     protected final CopyOnWriteArrayList<Type<?>> bindEntityRoots = new CopyOnWriteArrayList<>();
     protected final ConcurrentHashMap<Type<?>, List<Type<?>>> subclassingEntities = new ConcurrentHashMap<>();
+    protected final ConcurrentHashMap<Pair<Type<?>, String>, Optional<ValueSetter>> valueSetters =
+            new ConcurrentHashMap<>();
     protected final BiMap<String, Class<? extends Check>> checkNames;
     protected final Map<Class<? extends Check>, Check> checkInstances;
+    protected final Map<ParseTree, CompiledPermission> compiledPermissions = new ConcurrentHashMap<>();
     protected final Map<String, UserCheck> roleChecks;
 
     @Getter
@@ -209,6 +213,7 @@ public class EntityDictionary {
      */
     public void addRoleCheck(String role, UserCheck check) {
         roleChecks.put(role, check);
+        compiledPermissions.clear();
     }
 
     /**
@@ -377,6 +382,17 @@ public class EntityDictionary {
         return binding.entityPermissions.getFieldChecksForPermission(field, annotationClass);
     }
 
+    /**
+     * Returns a permission expression compiled into a reusable template.  Each expression is compiled the first time
+     * it is evaluated.
+     *
+     * @param permissions the parsed permission expression
+     * @return the compiled permission
+     */
+    public CompiledPermission getCompiledPermission(ParseTree permissions) {
+        return compiledPermissions.computeIfAbsent(permissions, key -> CompiledPermission.compile(key, this));
+    }
+
     /**
      * Returns the check class mapped to a particular identifier.
      *
@@ -1588,6 +1604,7 @@ public class EntityDictionary {
             log.debug("Register Elide Check [{}] with expression [{}]",
                     cls.getCanonicalName(), securityCheckMeta.value());
             checkNames.put(securityCheckMeta.value(), cls.asSubclass(Check.class));
+            compiledPermissions.clear();
 
             //Populate check instance.
             getCheckInstance(securityCheckMeta.value());
@@ -1748,24 +1765,18 @@ public class EntityDictionary {
      * @return the value
      */
     public Object getValue(Object target, String fieldName, RequestScope scope) {
-        AccessibleObject accessor = getAccessibleObject(target, fieldName);
+        ValueAccessor accessor = getEntityBinding(getType(target)).getValueAccessor(fieldName);
+        if (accessor == null) {
+            throw new InvalidAttributeException(fieldName, getJsonAliasFor(getType(target)));
+        }
         try {
-            if (accessor instanceof Method) {
-                // Pass RequestScope into @Computed fields if requested
-                if (isMethodRequestScopeable(target, (Method) accessor)) {
-                    return ((Method) accessor).invoke(target, scope);
-                }
-                return ((Method) accessor).invoke(target);
-            }
-            if (accessor instanceof Field) {
-                return ((Field) accessor).get(target);
-            }
+            // Request scopeable @Computed fields are passed the RequestScope
+            return accessor.get(target, scope);
         } catch (IllegalAccessException e) {
             throw new InvalidAttributeException(fieldName, getJsonAliasFor(getType(target)), e);
         } catch (InvocationTargetException e) {
             throw handleInvocationTargetException(e);
         }
-        throw new InvalidAttributeException(fieldName, getJsonAliasFor(getType(target)));
     }
 
     /**
@@ -1804,9 +1815,8 @@ public class EntityDictionary {
             Type<?> fieldClass = getType(targetClass, fieldName);
             String realName = getNameFromAlias(target, fieldName);
             fieldAlias = (realName != null) ? realName : fieldName;
-            String setMethod = "set" + StringUtils.capitalize(fieldAlias);
-            Method method = EntityDictionary.findMethod(targetClass, setMethod, fieldClass);
-            method.invoke(target, coerce(target, value, fieldAlias, fieldClass));
+            ValueSetter setter = getValueSetter(targetClass, fieldAlias, fieldClass);
+            setter.set(target, coerce(target, value, fieldAlias, fieldClass));
         } catch (IllegalAccessException e) {
             throw new InvalidAttributeException(fieldAlias, targetType, e);
         } catch (InvocationTargetException e) {
@@ -1826,6 +1836,28 @@ public class EntityDictionary {
         }
     }
 
+    /**
+     * Returns the setter method of a field.  Setters are looked up once per type and field.
+     *
+     * @param targetClass The type which owns the field
+     * @param fieldName The name of the field
+     * @param fieldClass The type of the field
+     * @return The setter
+     * @throws NoSuchMethodException If the type does not have a setter for the field
+     */
+    private ValueSetter getValueSetter(Type<?> targetClass, String fieldName, Type<?> fieldClass)
+            throws NoSuchMethodException {
+        Optional<ValueSetter> setter = valueSetters.computeIfAbsent(Pair.of(targetClass, fieldName), key -> {
+            try {
+                String setMethod = "set" + StringUtils.capitalize(fieldName);
+                return Optional.of(ValueSetter.of(EntityDictionary.findMethod(targetClass, setMethod, fieldClass)));
+            } catch (IllegalArgumentException | NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        });
+        return setter.orElseThrow(() -> new NoSuchMethodException(fieldName));
+    }
+
     /**
      * Handle an invocation target exception.
      *
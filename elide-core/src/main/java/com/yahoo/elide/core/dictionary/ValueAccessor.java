@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.dictionary;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.type.AccessibleObject;
+import com.yahoo.elide.core.type.Field;
+import com.yahoo.elide.core.type.FieldType;
+import com.yahoo.elide.core.type.Method;
+import com.yahoo.elide.core.type.MethodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Reads the value of a field or getter of an entity.
+ * <p>
+ * Fields and methods of Java classes are read through method handles which are resolved once per field.  Fields of
+ * other types, such as dynamic types, are read reflectively through their Elide wrappers.
+ */
+@FunctionalInterface
+public interface ValueAccessor {
+
+    /**
+     * Reads the value.
+     * @param target The object which owns the value.
+     * @param scope The request scope passed to request scopeable methods.
+     * @return The value.
+     * @throws IllegalAccessException If the field or method cannot be accessed.
+     * @throws InvocationTargetException If the method or field access throws an exception.
+     */
+    Object get(Object target, RequestScope scope) throws IllegalAccessException, InvocationTargetException;
+
+    /**
+     * Creates an accessor for a field or method.
+     * @param fieldOrMethod The field or method.
+     * @param requestScopeable Whether the method takes the request scope as its parameter.
+     * @return The accessor or null if the field or method cannot be read.
+     */
+    static ValueAccessor of(AccessibleObject fieldOrMethod, boolean requestScopeable) {
+        try {
+            if (fieldOrMethod instanceof MethodType) {
+                MethodHandle handle = ((MethodType) fieldOrMethod).unreflect(MethodHandles.lookup());
+                if (requestScopeable) {
+                    MethodHandle invoker = handle.asType(java.lang.invoke.MethodType.methodType(
+                            Object.class, Object.class, Object.class));
+                    return (target, scope) -> {
+                        try {
+                            return (Object) invoker.invokeExact(target, (Object) scope);
+                        } catch (Throwable e) {
+                            throw new InvocationTargetException(e);
+                        }
+                    };
+                }
+                return of(handle);
+            }
+            if (fieldOrMethod instanceof FieldType) {
+                return of(((FieldType) fieldOrMethod).unreflectGetter(MethodHandles.lookup()));
+            }
+        } catch (IllegalAccessException | UnsupportedOperationException e) {
+            // Fall back to reflection
+        }
+
+        if (fieldOrMethod instanceof Method) {
+            Method method = (Method) fieldOrMethod;
+            return requestScopeable
+                    ? (target, scope) -> method.invoke(target, scope)
+                    : (target, scope) -> method.invoke(target);
+        }
+        if (fieldOrMethod instanceof Field) {
+            Field field = (Field) fieldOrMethod;
+            return (target, scope) -> field.get(target);
+        }
+        return null;
+    }
+
+    private static ValueAccessor of(MethodHandle handle) {
+        MethodHandle invoker = handle.asType(java.lang.invoke.MethodType.methodType(Object.class, Object.class));
+        return (target, scope) -> {
+            try {
+                return (Object) invoker.invokeExact(target);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.dictionary;
+
+import com.yahoo.elide.core.type.Method;
+import com.yahoo.elide.core.type.MethodType;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Writes the value of an entity field through its setter method.
+ * <p>
+ * Setters of Java classes are invoked through method handles which are resolved once per field.  Setters of other
+ * types, such as dynamic types, are invoked reflectively through their Elide wrappers.
+ */
+@FunctionalInterface
+public interface ValueSetter {
+
+    /**
+     * Writes the value.
+     * @param target The object which owns the value.
+     * @param value The value which has already been coerced to the type of the field.
+     * @throws IllegalAccessException If the method cannot be accessed.
+     * @throws IllegalArgumentException If the value does not match the parameter of the method.
+     * @throws InvocationTargetException If the method throws an exception.
+     */
+    void set(Object target, Object value) throws IllegalAccessException, InvocationTargetException;
+
+    /**
+     * Creates a setter which invokes a method.
+     * @param method The setter method.
+     * @return The setter.
+     */
+    static ValueSetter of(Method method) {
+        try {
+            if (method instanceof MethodType) {
+                MethodHandle handle = ((MethodType) method).unreflect(MethodHandles.lookup());
+                Class<?> ownerType = handle.type().parameterType(0);
+                Class<?> parameterType = handle.type().parameterType(1);
+                Class<?> valueType = ClassUtils.primitiveToWrapper(parameterType);
+                MethodHandle invoker = handle.asType(
+                        java.lang.invoke.MethodType.methodType(void.class, Object.class, Object.class));
+                return (target, value) -> {
+                    // Reject the arguments which reflection would reject rather than failing inside the handle
+                    if (!ownerType.isInstance(target)
+                            || (value == null ? parameterType.isPrimitive() : !valueType.isInstance(value))) {
+                        throw new IllegalArgumentException("argument type mismatch");
+                    }
+                    try {
+                        invoker.invokeExact(target, value);
+                    } catch (Throwable e) {
+                        throw new InvocationTargetException(e);
+                    }
+                };
+            }
+        } catch (IllegalAccessException | UnsupportedOperationException e) {
+            // Fall back to reflection
+        }
+        return (target, value) -> method.invoke(target, value);
+    }
+}
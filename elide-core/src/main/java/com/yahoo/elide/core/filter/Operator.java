@@ -15,19 +15,24 @@ import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidOperatorNegationException;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import com.google.common.base.Suppliers;
 import org.apache.commons.collections4.CollectionUtils;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,14 +59,14 @@ public enum Operator {
     NOT("not", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope).negate();
         }
     },
 
     NOT_INSENSITIVE("noti", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope, FOLD_CASE).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope, FOLD_CASE).negate();
         }
     },
 
@@ -158,7 +163,7 @@ public enum Operator {
     NOTNULL("notnull", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (val) -> !isNull(fieldPath, requestScope).test(val);
+            return Operator.<T>isNull(fieldPath, requestScope).negate();
         }
     },
 
@@ -215,7 +220,7 @@ public enum Operator {
     NOTEMPTY("notempty", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (entity) -> !isEmpty(fieldPath, requestScope).test(entity);
+            return Operator.<T>isEmpty(fieldPath, requestScope).negate();
         }
     },
 
@@ -229,7 +234,7 @@ public enum Operator {
     HASNOMEMBER("hasnomember", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !hasMember(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>hasMember(fieldPath, values, requestScope).negate();
         }
     },
 
@@ -243,7 +248,7 @@ public enum Operator {
     NOTSUBSETOF("notsubsetof", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !subsetOf(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>subsetOf(fieldPath, values, requestScope).negate();
         }
     },
 
@@ -257,24 +262,26 @@ public enum Operator {
     NOTSUPERSETOF("notsupersetof", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !supersetOf(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>supersetOf(fieldPath, values, requestScope).negate();
         }
     },
 
     BETWEEN("between", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> between(fieldPath, values, requestScope).test(entity);
+            return between(fieldPath, values, requestScope);
         }
     },
     NOTBETWEEN("notbetween", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !between(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>between(fieldPath, values, requestScope).negate();
         }
     };
 
     public static final UnaryOperator<String> FOLD_CASE = s -> s.toLowerCase(Locale.ENGLISH);
+    public static final Predicate<Object> ALWAYS_TRUE = entity -> true;
+    public static final Predicate<Object> ALWAYS_FALSE = entity -> false;
     @Getter private final String notation;
     @Getter private final boolean parameterized;
     private Operator negated;
@@ -333,146 +340,88 @@ public enum Operator {
     //
     // In with strict equality
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values, RequestScope requestScope) {
-        return (T entity) -> {
-            BiPredicate<Object, Object> predicate = (a, b) -> a.equals(b);
+        Type<?> valueClass = getValueClass(fieldPath);
+        Supplier<Set<Object>> rightHandSide = Suppliers.memoize(() -> values.stream()
+                .map(value -> coerce(value, valueClass))
+                .collect(Collectors.toCollection(HashSet::new)));
 
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return (T entity) -> evaluate(entity, fieldPath, valueClass,
+                leftHandSide -> rightHandSide.get().contains(leftHandSide), requestScope);
     }
 
     //
     // String-like In with optional transformation
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                if (!a.getClass().isAssignableFrom(String.class)) {
-                    throw new IllegalStateException("Cannot case insensitive compare non-string values");
-                }
-
-                String lhs = transform.apply((String) a);
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs.equals(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        Type<?> valueClass = getValueClass(fieldPath);
+        Supplier<Set<String>> rightHandSide = Suppliers.memoize(() -> values.stream()
+                .map(value -> transform.apply(CoerceUtil.coerce(coerce(value, valueClass), String.class)))
+                .collect(Collectors.toCollection(HashSet::new)));
+
+        return (T entity) -> evaluate(entity, fieldPath, valueClass, leftHandSide -> {
+            if (!leftHandSide.getClass().isAssignableFrom(String.class)) {
+                throw new IllegalStateException("Cannot case insensitive compare non-string values");
+            }
+            return rightHandSide.get().contains(transform.apply((String) leftHandSide));
+        }, requestScope);
     }
 
     //
     // String-like prefix matching with optional transformation
     private static <T> Predicate<T> prefix(Path fieldPath, List<Object> values,
                                            RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("PREFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.startsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return matches("PREFIX", fieldPath, values, requestScope, transform, String::startsWith);
     }
 
     // String-like prefix matching with optional transformation
     private static <T> Predicate<T> notprefix(Path fieldPath, List<Object> values,
                                               RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("NOTPREFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && !lhs.startsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return matches("NOTPREFIX", fieldPath, values, requestScope, transform, (lhs, rhs) -> !lhs.startsWith(rhs));
     }
 
     //
     // String-like postfix matching with optional transformation
     private static <T> Predicate<T> postfix(Path fieldPath, List<Object> values,
                                             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("POSTFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.endsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return matches("POSTFIX", fieldPath, values, requestScope, transform, String::endsWith);
     }
 
     private static <T> Predicate<T> notpostfix(Path fieldPath, List<Object> values,
                                                RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("NOTPOSTFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && !lhs.endsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return matches("NOTPOSTFIX", fieldPath, values, requestScope, transform, (lhs, rhs) -> !lhs.endsWith(rhs));
     }
 
     //
     // String-like infix matching with optional transformation
     private static <T> Predicate<T> infix(Path fieldPath, List<Object> values,
                                           RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("INFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.contains(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return matches("INFIX", fieldPath, values, requestScope, transform, String::contains);
     }
 
     private static <T> Predicate<T> notinfix(Path fieldPath, List<Object> values,
                                              RequestScope requestScope, UnaryOperator<String> transform) {
+        return matches("NOTINFIX", fieldPath, values, requestScope, transform, (lhs, rhs) -> !lhs.contains(rhs));
+    }
+
+    //
+    // String-like matching against a single value which is coerced and transformed once
+    private static <T> Predicate<T> matches(String operator, Path fieldPath, List<Object> values,
+            RequestScope requestScope, UnaryOperator<String> transform, BiPredicate<String, String> matcher) {
+        Type<?> valueClass = getValueClass(fieldPath);
+        Supplier<String> rightHandSide = Suppliers.memoize(() ->
+                transform.apply(CoerceUtil.coerce(coerce(values.get(0), valueClass), String.class)));
+
         return (T entity) -> {
             if (values.size() != 1) {
-                throw new BadRequestException("NOTINFIX can only take one argument");
+                throw new BadRequestException(operator + " can only take one argument");
             }
 
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
+            return evaluate(entity, fieldPath, valueClass, leftHandSide -> {
+                String lhs = transform.apply(CoerceUtil.coerce(leftHandSide, String.class));
+                String rhs = rightHandSide.get();
 
-                return lhs != null && rhs != null && !lhs.contains(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
+                return lhs != null && rhs != null && matcher.test(lhs, rhs);
+            }, requestScope);
         };
     }
 
@@ -499,6 +448,8 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> between(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        Map<Class<?>, List<Comparable>> testValues = new ConcurrentHashMap<>();
+
         return (T entity) -> {
             if (values.size() != 2) {
                 throw new BadRequestException("Between operator expects exactly 2 values");
@@ -509,18 +460,22 @@ public enum Operator {
                 return false;
             }
 
-            return fieldVal != null
-                    && compare(fieldVal, values.get(0)) >= 0
-                    && compare(fieldVal, values.get(1)) <= 0;
+            if (fieldVal == null) {
+                return false;
+            }
+
+            List<Comparable> bounds = getTestValues(testValues, fieldVal, values);
+            return compare(fieldVal, bounds.get(0)) >= 0
+                    && compare(fieldVal, bounds.get(1)) <= 0;
         };
     }
 
     private static <T> Predicate<T> isTrue() {
-        return (T entity) -> true;
+        return (Predicate<T>) (Predicate<?>) ALWAYS_TRUE;
     }
 
     private static <T> Predicate<T> isFalse() {
-        return (T entity) -> false;
+        return (Predicate<T>) (Predicate<?>) ALWAYS_FALSE;
     }
 
     private static <T> Predicate<T> isEmpty(Path fieldPath, RequestScope requestScope) {
@@ -539,14 +494,16 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> hasMember(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        Supplier<Object> member = Suppliers.memoize(() -> fieldPath.lastElement()
+                .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
+                .orElseGet(() -> CoerceUtil.coerce(values.get(0), String.class)));
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new BadRequestException("HasMember can only take one argument");
             }
             Object val = getFieldValue(entity, fieldPath, requestScope, true);
-            Object filterStr = fieldPath.lastElement()
-                    .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
-                    .orElseGet(() -> CoerceUtil.coerce(values.get(0), String.class));
+            Object filterStr = member.get();
 
             if (val instanceof Collection<?> collection) {
                 if ("null".equals(filterStr) && collection.contains(null)) {
@@ -566,24 +523,17 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> subsetOf(Path fieldPath, List<Object> values, RequestScope requestScope) {
-        return (T entity) -> {
-            Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
+        Type<?> valueClass = getValueClass(fieldPath);
+        Supplier<Set<Object>> rightHandSide = Suppliers.memoize(() -> values.stream()
+                .map(value -> CoerceUtil.coerce(value, valueClass))
+                .collect(Collectors.toCollection(HashSet::new)));
 
+        return (T entity) -> {
             Object leftHandSide = getFieldValue(entity, fieldPath, requestScope);
 
-            BiPredicate<Object, Object> predicate = (a, b) -> a.equals(b);
-
-            List<?> rightHandSide = values.stream().map(value -> CoerceUtil.coerce(value, valueClass)).toList();
-
             if (leftHandSide instanceof Collection<?> collection && !valueClass.isAssignableFrom(COLLECTION_TYPE)) {
-                for (Object left : collection) {
-                    if (!rightHandSide.stream().anyMatch(object -> predicate.test(left, object))) {
-                        // An element on the leftHandSide is not present on the rightHandSide
-                        return false;
-                    }
-                }
-                // Every element on leftHandSide is present on rightHandSide
-                return true;
+                // Every element on leftHandSide must be present on rightHandSide
+                return rightHandSide.get().containsAll(collection);
             } else {
                 // This happens when leftHandSide is null
                 // An empty set is a subset of every set
@@ -593,17 +543,18 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> supersetOf(Path fieldPath, List<Object> values, RequestScope requestScope) {
-        return (T entity) -> {
-            Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
+        Type<?> valueClass = getValueClass(fieldPath);
+        Supplier<List<Object>> rightHandSide = Suppliers.memoize(() -> values.stream()
+                .map(value -> (Object) CoerceUtil.coerce(value, valueClass))
+                .toList());
 
+        return (T entity) -> {
             Object leftHandSide = getFieldValue(entity, fieldPath, requestScope);
 
             BiPredicate<Object, Object> predicate = (a, b) -> a.equals(b);
 
-            List<?> rightHandSide = values.stream().map(value -> CoerceUtil.coerce(value, valueClass)).toList();
-
             if (leftHandSide instanceof Collection<?> collection && !valueClass.isAssignableFrom(COLLECTION_TYPE)) {
-                for (Object right : rightHandSide) {
+                for (Object right : rightHandSide.get()) {
                     if (!collection.stream().anyMatch(object -> predicate.test(right, object))) {
                         return false;
                     }
@@ -612,13 +563,14 @@ public enum Operator {
                 // This happens when leftHandSide is null
                 // If the rightHandSide is not also an empty set then
                 // the leftHandSide is not a superset of the rightHandSide
-                if (!rightHandSide.isEmpty()) {
+                if (!rightHandSide.get().isEmpty()) {
                     return false;
                 }
             }
             return true;
         };
     }
+
     /**
      * Return value of field/path for given entity. For example this.book.author
      *
@@ -672,6 +624,8 @@ public enum Operator {
 
     private static <T> Predicate<T> getComparator(Path fieldPath, List<Object> values,
             RequestScope requestScope, IntPredicate condition) {
+        Map<Class<?>, List<Comparable>> testValues = new ConcurrentHashMap<>();
+
         return (T entity) -> {
             if (CollectionUtils.isEmpty(values)) {
                 throw new BadRequestException("No value to compare");
@@ -682,41 +636,50 @@ public enum Operator {
                 return collection.stream()
                         .anyMatch(fieldValueElement ->
                             fieldValueElement != null
-                            && values.stream()
+                            && getTestValues(testValues, fieldValueElement, values).stream()
                             .anyMatch(testVal -> condition.test(compare(fieldValueElement, testVal))));
             }
 
             return fieldVal != null
-                    && values.stream()
+                    && getTestValues(testValues, fieldVal, values).stream()
                     .anyMatch(testVal -> condition.test(compare(fieldVal, testVal)));
         };
 
     }
 
-    private static int compare(Object fieldValue, Object rawTestValue) {
-        Object testValue = CoerceUtil.coerce(rawTestValue, fieldValue.getClass());
-        Comparable testComp = CoerceUtil.coerce(testValue, Comparable.class);
+    /**
+     * Coerces the test values of a comparison to the class of the field value.  The coerced values are cached per
+     * class so they are only derived once for all the entities being filtered.
+     */
+    private static List<Comparable> getTestValues(Map<Class<?>, List<Comparable>> testValues,
+                                                  Object fieldValue, List<Object> values) {
+        return testValues.computeIfAbsent(fieldValue.getClass(), cls -> values.stream()
+                .map(rawTestValue -> CoerceUtil.coerce(CoerceUtil.coerce(rawTestValue, cls), Comparable.class))
+                .toList());
+    }
+
+    private static int compare(Object fieldValue, Comparable testComp) {
         Comparable fieldComp = CoerceUtil.coerce(fieldValue, Comparable.class);
 
         return fieldComp.compareTo(testComp);
     }
 
-    private static boolean evaluate(Object entity, Path fieldPath, List<Object> values,
-                             BiPredicate<Object, Object> predicate, RequestScope requestScope) {
-        Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
+    private static Type<?> getValueClass(Path fieldPath) {
+        return fieldPath.lastElement().get().getFieldType();
+    }
+
+    private static Object coerce(Object value, Type<?> valueClass) {
+        return valueClass == null ? value : CoerceUtil.coerce(value, valueClass);
+    }
 
+    private static boolean evaluate(Object entity, Path fieldPath, Type<?> valueClass,
+                                    Predicate<Object> predicate, RequestScope requestScope) {
         Object leftHandSide = getFieldValue(entity, fieldPath, requestScope);
 
         if (leftHandSide instanceof Collection<?> collection && !valueClass.isAssignableFrom(COLLECTION_TYPE)) {
-            return collection.stream()
-                    .anyMatch(leftHandSideElement ->
-                        values.stream()
-                            .map(value -> CoerceUtil.coerce(value, valueClass))
-                            .anyMatch(value -> predicate.test(leftHandSideElement, value)));
-        }
-        return leftHandSide != null && values.stream()
-                .map(value -> valueClass == null ? value : CoerceUtil.coerce(value, valueClass))
-                .anyMatch(value -> predicate.test(leftHandSide, value));
+            return collection.stream().anyMatch(predicate);
+        }
+        return leftHandSide != null && predicate.test(leftHandSide);
     }
 
     public Operator negate() {
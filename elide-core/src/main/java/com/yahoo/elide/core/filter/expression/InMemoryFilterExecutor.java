@@ -5,6 +5,9 @@
  */
 package com.yahoo.elide.core.filter.expression;
 
+import static com.yahoo.elide.core.filter.Operator.ALWAYS_FALSE;
+import static com.yahoo.elide.core.filter.Operator.ALWAYS_TRUE;
+
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 
@@ -12,6 +15,10 @@ import java.util.function.Predicate;
 
 /**
  * Visitor for in memory filterExpressions.
+ * <p>
+ * The expression is compiled once into a tree of predicates which is then evaluated against every entity. Each
+ * filter predicate derives its constants when it is compiled, and constant branches are folded away where this
+ * does not skip the evaluation of the other branch.
  */
 public class InMemoryFilterExecutor implements FilterExpressionVisitor<Predicate> {
     private final RequestScope requestScope;
@@ -29,19 +36,37 @@ public class InMemoryFilterExecutor implements FilterExpressionVisitor<Predicate
     public Predicate visitAndExpression(AndFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.and(rightPredicate).test(t);
+        if (leftPredicate == ALWAYS_FALSE || rightPredicate == ALWAYS_TRUE) {
+            return leftPredicate;
+        }
+        if (leftPredicate == ALWAYS_TRUE) {
+            return rightPredicate;
+        }
+        return leftPredicate.and(rightPredicate);
     }
 
     @Override
     public Predicate visitOrExpression(OrFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.or(rightPredicate).test(t);
+        if (leftPredicate == ALWAYS_TRUE || rightPredicate == ALWAYS_FALSE) {
+            return leftPredicate;
+        }
+        if (leftPredicate == ALWAYS_FALSE) {
+            return rightPredicate;
+        }
+        return leftPredicate.or(rightPredicate);
     }
 
     @Override
     public Predicate visitNotExpression(NotFilterExpression expression) {
         Predicate predicate = expression.getNegated().accept(this);
-        return t -> predicate.negate().test(t);
+        if (predicate == ALWAYS_TRUE) {
+            return ALWAYS_FALSE;
+        }
+        if (predicate == ALWAYS_FALSE) {
+            return ALWAYS_TRUE;
+        }
+        return predicate.negate();
     }
 }
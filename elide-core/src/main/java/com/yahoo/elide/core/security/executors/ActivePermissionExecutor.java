@@ -23,6 +23,7 @@ import com.yahoo.elide.core.security.PermissionExecutor;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
 import com.yahoo.elide.core.security.permissions.ExpressionResultCache;
 import com.yahoo.elide.core.security.permissions.PermissionExpressionBuilder;
+import com.yahoo.elide.core.security.permissions.UserCheckCache;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
 import com.yahoo.elide.core.type.Type;
 import com.google.common.collect.ImmutableSet;
@@ -55,6 +56,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
     private final PermissionExpressionBuilder expressionBuilder;
     private final Map<Triple<Class<? extends Annotation>, Type, ImmutableSet<String>>, ExpressionResult>
             userPermissionCheckCache;
+    private final UserCheckCache sharedUserCheckCache;
     private final Map<String, Long> checkStats;
 
     /**
@@ -63,9 +65,20 @@ public class ActivePermissionExecutor implements PermissionExecutor {
      * @param requestScope Request scope
      */
     public ActivePermissionExecutor(final RequestScope requestScope) {
-        ExpressionResultCache cache = new ExpressionResultCache();
+        this(requestScope, null);
+    }
+
+    /**
+     * Constructor which shares the results of user checks with other requests of the same user.
+     *
+     * @param requestScope Request scope
+     * @param sharedUserCheckCache The results of user checks shared across requests or null if they are not shared
+     */
+    public ActivePermissionExecutor(final RequestScope requestScope, final UserCheckCache sharedUserCheckCache) {
+        ExpressionResultCache cache = new ExpressionResultCache(sharedUserCheckCache);
 
         this.requestScope = requestScope;
+        this.sharedUserCheckCache = sharedUserCheckCache;
         this.expressionBuilder = new PermissionExpressionBuilder(cache, requestScope.getDictionary());
         userPermissionCheckCache = new HashMap<>();
         checkStats = new HashMap<>();
@@ -236,8 +249,15 @@ public class ActivePermissionExecutor implements PermissionExecutor {
 
         // If the user check has already been evaluated before, return the result directly and save the building cost
         ImmutableSet<String> immutableFields = fields == null ? null : ImmutableSet.copyOf(fields);
-        ExpressionResult expressionResult
-                = userPermissionCheckCache.get(Triple.of(annotationClass, resourceClass, immutableFields));
+        Triple<Class<? extends Annotation>, Type, ImmutableSet<String>> cacheKey =
+                Triple.of(annotationClass, resourceClass, immutableFields);
+        ExpressionResult expressionResult = userPermissionCheckCache.get(cacheKey);
+        if (expressionResult == null && sharedUserCheckCache != null) {
+            expressionResult = sharedUserCheckCache.getExpressionResult(requestScope.getUser(), cacheKey);
+            if (expressionResult != null) {
+                userPermissionCheckCache.put(cacheKey, expressionResult);
+            }
+        }
 
         if (expressionResult == PASS) {
             return expressionResult;
@@ -251,8 +271,10 @@ public class ActivePermissionExecutor implements PermissionExecutor {
                     annotationClass,
                     Expression.EvaluationMode.USER_CHECKS_ONLY);
 
-            userPermissionCheckCache.put(
-                    Triple.of(annotationClass, resourceClass, immutableFields), expressionResult);
+            userPermissionCheckCache.put(cacheKey, expressionResult);
+            if (sharedUserCheckCache != null) {
+                sharedUserCheckCache.putExpressionResult(requestScope.getUser(), cacheKey, expressionResult);
+            }
 
             if (expressionResult == PASS) {
                 return expressionResult;
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.permissions.expressions.AndExpression;
+import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.security.permissions.expressions.NotExpression;
+import com.yahoo.elide.core.security.permissions.expressions.OrExpression;
+import com.yahoo.elide.generated.parsers.ExpressionBaseVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionParser;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.function.Function;
+
+/**
+ * A permission expression compiled once per dictionary into a reusable template.
+ * <p>
+ * Compiling resolves the check of every identifier and pushes negations down to the checks, as the
+ * {@link com.yahoo.elide.core.security.visitors.PermissionExpressionVisitor} and
+ * {@link com.yahoo.elide.core.security.visitors.PermissionExpressionNormalizationVisitor} do for every expression
+ * they build.  A template is immutable and builds the same expression tree without walking the parse tree again.
+ */
+public abstract class CompiledPermission {
+
+    private CompiledPermission() {
+    }
+
+    /**
+     * Compiles a permission expression.
+     *
+     * @param permissions The parsed permission expression.
+     * @param dictionary The dictionary which resolves the checks.
+     * @return The compiled permission.
+     */
+    public static CompiledPermission compile(ParseTree permissions, EntityDictionary dictionary) {
+        return permissions.accept(new Compiler(dictionary)).normalize();
+    }
+
+    /**
+     * Builds the expression tree of the permission.
+     *
+     * @param checkFn Builds the expression which evaluates a check.
+     * @return The normalized expression.
+     */
+    public abstract Expression instantiate(Function<Check, Expression> checkFn);
+
+    /**
+     * Returns the permission with negations pushed down to the checks.
+     */
+    abstract CompiledPermission normalize();
+
+    /**
+     * Returns the negation of the permission with negations pushed down to the checks.
+     */
+    abstract CompiledPermission negate();
+
+    private static final class CheckPermission extends CompiledPermission {
+        private final Check check;
+
+        private CheckPermission(Check check) {
+            this.check = check;
+        }
+
+        @Override
+        public Expression instantiate(Function<Check, Expression> checkFn) {
+            return checkFn.apply(check);
+        }
+
+        @Override
+        CompiledPermission normalize() {
+            return this;
+        }
+
+        @Override
+        CompiledPermission negate() {
+            return new NotPermission(this);
+        }
+    }
+
+    private static final class NotPermission extends CompiledPermission {
+        private final CompiledPermission negated;
+
+        private NotPermission(CompiledPermission negated) {
+            this.negated = negated;
+        }
+
+        @Override
+        public Expression instantiate(Function<Check, Expression> checkFn) {
+            return new NotExpression(negated.instantiate(checkFn));
+        }
+
+        @Override
+        CompiledPermission normalize() {
+            return negated.negate();
+        }
+
+        @Override
+        CompiledPermission negate() {
+            return negated.normalize();
+        }
+    }
+
+    private static final class AndPermission extends CompiledPermission {
+        private final CompiledPermission left;
+        private final CompiledPermission right;
+
+        private AndPermission(CompiledPermission left, CompiledPermission right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Expression instantiate(Function<Check, Expression> checkFn) {
+            Expression leftExpression = left.instantiate(checkFn);
+            Expression rightExpression = right.instantiate(checkFn);
+            return new AndExpression(leftExpression, rightExpression);
+        }
+
+        @Override
+        CompiledPermission normalize() {
+            return new AndPermission(left.normalize(), right.normalize());
+        }
+
+        @Override
+        CompiledPermission negate() {
+            return new OrPermission(left.negate(), right.negate());
+        }
+    }
+
+    private static final class OrPermission extends CompiledPermission {
+        private final CompiledPermission left;
+        private final CompiledPermission right;
+
+        private OrPermission(CompiledPermission left, CompiledPermission right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Expression instantiate(Function<Check, Expression> checkFn) {
+            Expression leftExpression = left.instantiate(checkFn);
+            Expression rightExpression = right.instantiate(checkFn);
+            return new OrExpression(leftExpression, rightExpression);
+        }
+
+        @Override
+        CompiledPermission normalize() {
+            return new OrPermission(left.normalize(), right.normalize());
+        }
+
+        @Override
+        CompiledPermission negate() {
+            return new AndPermission(left.negate(), right.negate());
+        }
+    }
+
+    /**
+     * Compiles the parse tree of a permission expression.
+     */
+    private static final class Compiler extends ExpressionBaseVisitor<CompiledPermission> {
+        private final EntityDictionary dictionary;
+
+        private Compiler(EntityDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public CompiledPermission visitNOT(ExpressionParser.NOTContext ctx) {
+            return new NotPermission(visit(ctx.expression()));
+        }
+
+        @Override
+        public CompiledPermission visitOR(ExpressionParser.ORContext ctx) {
+            return new OrPermission(visit(ctx.left), visit(ctx.right));
+        }
+
+        @Override
+        public CompiledPermission visitAND(ExpressionParser.ANDContext ctx) {
+            return new AndPermission(visit(ctx.left), visit(ctx.right));
+        }
+
+        @Override
+        public CompiledPermission visitPAREN(ExpressionParser.PARENContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public CompiledPermission visitPermissionClass(ExpressionParser.PermissionClassContext ctx) {
+            return new CheckPermission(dictionary.getCheckInstance(ctx.getText()));
+        }
+    }
+}
@@ -6,7 +6,9 @@
 package com.yahoo.elide.core.security.permissions;
 
 import com.yahoo.elide.core.security.PersistentResource;
+import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.checks.UserCheck;
 
 import java.util.HashMap;
 import java.util.IdentityHashMap;
@@ -17,9 +19,31 @@ import java.util.Map;
  */
 public class ExpressionResultCache {
     private final Map<Class<? extends Check>, Map<PersistentResource, ExpressionResult>> computedResults;
+    private final UserCheckCache userCheckCache;
 
     public ExpressionResultCache() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param userCheckCache The results of user checks shared across requests or null if they are not shared.
+     */
+    public ExpressionResultCache(UserCheckCache userCheckCache) {
         computedResults = new HashMap<>();
+        this.userCheckCache = userCheckCache;
+    }
+
+    /**
+     * Evaluates a user check, reusing the result of a previous request of the same user if results are shared.
+     *
+     * @param check The check.
+     * @param user The user of the request.
+     * @return Whether the check passes.
+     */
+    public boolean isUserCheckOk(UserCheck check, User user) {
+        return userCheckCache == null ? check.ok(user) : userCheckCache.ok(check, user);
     }
 
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of {@link UserCheck} results shared across requests.
+ * <p>
+ * Results are keyed by the check instance and by a key derived from the user of the request, so the same user
+ * skips user checks which were already evaluated by previous requests.  Checks are keyed by instance because the
+ * dictionary holds one instance per check identifier while several identifiers, such as role checks, may share a
+ * class.  The user key must change whenever anything a user check reads from the user changes, for example by
+ * combining the principal name with its roles or a version of its claims.  Requests without a key are never
+ * cached.
+ * <p>
+ * Results expire a fixed time after they are computed and can be invalidated per user or altogether.
+ */
+public class UserCheckCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final Cache<Pair<Object, Object>, Object> results;
+    private final Function<User, Object> userKey;
+
+    /**
+     * Constructor with the default size and time to live.
+     * @param userKey Derives the key of a user, or null if the results of the user must not be cached.
+     */
+    public UserCheckCache(Function<User, Object> userKey) {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE, userKey);
+    }
+
+    /**
+     * Constructor.
+     * @param maximumSize The maximum number of results.
+     * @param timeToLive How long a result is kept after it is computed.
+     * @param userKey Derives the key of a user, or null if the results of the user must not be cached.
+     */
+    public UserCheckCache(long maximumSize, Duration timeToLive, Function<User, Object> userKey) {
+        this(maximumSize, timeToLive, userKey, Ticker.systemTicker());
+    }
+
+    UserCheckCache(long maximumSize, Duration timeToLive, Function<User, Object> userKey, Ticker ticker) {
+        this.results = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .build();
+        this.userKey = Objects.requireNonNull(userKey, "userKey");
+    }
+
+    /**
+     * Evaluates a user check, reusing the result of a previous request of the same user.
+     * @param check The check.
+     * @param user The user of the request.
+     * @return Whether the check passes.
+     */
+    public boolean ok(UserCheck check, User user) {
+        Object key = getUserKey(user);
+        if (key == null) {
+            return check.ok(user);
+        }
+        Pair<Object, Object> checkKey = Pair.of(key, check);
+        Boolean result = (Boolean) results.getIfPresent(checkKey);
+        if (result == null) {
+            result = check.ok(user);
+            results.put(checkKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the result of evaluating the user checks of a permission expression in a previous request of the same
+     * user.
+     * @param user The user of the request.
+     * @param expressionKey Identifies the permission expression.
+     * @return The result or null if there is none.
+     */
+    public ExpressionResult getExpressionResult(User user, Object expressionKey) {
+        Object key = getUserKey(user);
+        return key == null ? null : (ExpressionResult) results.getIfPresent(Pair.of(key, expressionKey));
+    }
+
+    /**
+     * Stores the result of evaluating the user checks of a permission expression.
+     * @param user The user of the request.
+     * @param expressionKey Identifies the permission expression.
+     * @param result The result.
+     */
+    public void putExpressionResult(User user, Object expressionKey, ExpressionResult result) {
+        Object key = getUserKey(user);
+        if (key != null) {
+            results.put(Pair.of(key, expressionKey), result);
+        }
+    }
+
+    /**
+     * Discards the results of a user, for example after its roles change.
+     * @param user The user.
+     */
+    public void invalidate(User user) {
+        Object key = getUserKey(user);
+        if (key != null) {
+            results.asMap().keySet().removeIf(entry -> key.equals(entry.getLeft()));
+        }
+    }
+
+    /**
+     * Discards every result.
+     */
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached results.
+     * @return The approximate number of results.
+     */
+    public long size() {
+        return results.size();
+    }
+
+    private Object getUserKey(User user) {
+        return user == null ? null : userKey.apply(user);
+    }
+}
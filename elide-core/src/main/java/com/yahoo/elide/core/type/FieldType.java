@@ -11,6 +11,8 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.ParameterizedType;
 import java.util.Optional;
 
@@ -102,4 +104,24 @@ public class FieldType implements Field {
     public void set(Object obj, Object value) throws IllegalArgumentException, IllegalAccessException {
         field.set(obj, value);
     }
+
+    /**
+     * Produces a method handle which reads the wrapped field.
+     * @param lookup The lookup which performs access checks.
+     * @return A method handle which takes the object containing the field.
+     * @throws IllegalAccessException If the field cannot be accessed.
+     */
+    public MethodHandle unreflectGetter(MethodHandles.Lookup lookup) throws IllegalAccessException {
+        return lookup.unreflectGetter(field);
+    }
+
+    /**
+     * Produces a method handle which writes the wrapped field.
+     * @param lookup The lookup which performs access checks.
+     * @return A method handle which takes the object containing the field and the new value.
+     * @throws IllegalAccessException If the field cannot be accessed.
+     */
+    public MethodHandle unreflectSetter(MethodHandles.Lookup lookup) throws IllegalAccessException {
+        return lookup.unreflectSetter(field);
+    }
 }
@@ -11,6 +11,8 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.util.Optional;
@@ -118,4 +120,17 @@ public class MethodType implements Method {
     public Class<?>[] getParameterTypes() {
         return method.getParameterTypes();
     }
+
+    /**
+     * Produces a method handle which invokes the wrapped method.
+     * @param lookup The lookup which performs access checks.
+     * @return A method handle which takes the object containing the method followed by the parameters.
+     * @throws IllegalAccessException If the method cannot be accessed.
+     */
+    public MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+        if (! (method instanceof java.lang.reflect.Method)) {
+            throw new UnsupportedOperationException("Constructors cannot be invoked");
+        }
+        return lookup.unreflect((java.lang.reflect.Method) method);
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Utility methods to create executors which run tasks on virtual threads when the runtime supports them.
+ * <p>
+ * Virtual threads require Java 21 while Elide is built for Java 17, so the virtual thread executor is looked up
+ * reflectively.  On older runtimes the methods fall back to platform thread pools.
+ */
+@Slf4j
+public class VirtualThreadExecutors {
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+
+    private VirtualThreadExecutors() {
+    }
+
+    private static Method findVirtualThreadPerTaskExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the runtime supports virtual threads.
+     *
+     * @return true if virtual threads are supported
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread for each task.
+     *
+     * @return the executor
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates an executor which runs tasks on virtual threads if requested and supported, or on a fixed pool of
+     * platform threads otherwise.
+     *
+     * @param threadPoolSize the number of platform threads
+     * @param virtualThreads whether to prefer virtual threads
+     * @return the executor
+     */
+    public static ExecutorService newFixedThreadPool(int threadPoolSize, boolean virtualThreads) {
+        if (useVirtualThreads(virtualThreads)) {
+            return newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newFixedThreadPool(threadPoolSize);
+    }
+
+    /**
+     * Creates an executor which runs tasks on virtual threads if requested and supported, or on a cached pool of
+     * platform threads otherwise.
+     *
+     * @param virtualThreads whether to prefer virtual threads
+     * @return the executor
+     */
+    public static ExecutorService newCachedThreadPool(boolean virtualThreads) {
+        if (useVirtualThreads(virtualThreads)) {
+            return newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    private static boolean useVirtualThreads(boolean virtualThreads) {
+        if (virtualThreads && !isSupported()) {
+            log.warn("Virtual threads are not supported by this runtime, using platform threads instead");
+            return false;
+        }
+        return virtualThreads;
+    }
+}
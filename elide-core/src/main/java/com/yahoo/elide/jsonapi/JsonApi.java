@@ -39,6 +39,9 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -89,6 +92,28 @@ public class JsonApi {
      */
     public ElideResponse<String> get(Route route, User opaqueUser,
                              UUID requestId) {
+        return get(route, opaqueUser, requestId, this::toResponse);
+    }
+
+    /**
+     * Handle GET and write the response document directly to the output stream of the endpoint.
+     * <p>
+     * The document is written to the output stream after the transaction has been committed, without building an
+     * intermediate {@link String} or byte array. Before the commit the document is serialized once to a discarding
+     * stream, so that lazily loaded values are read while the transaction is open and serialization failures are
+     * mapped to an error response before the status is sent.
+     *
+     * @param route the route
+     * @param opaqueUser the opaque user
+     * @param requestId the request ID
+     * @return Elide response object
+     */
+    public ElideResponse<JsonApiResponseWriter> getStreaming(Route route, User opaqueUser, UUID requestId) {
+        return get(route, opaqueUser, requestId, this::toStreamingResponse);
+    }
+
+    private <B> ElideResponse<B> get(Route route, User opaqueUser, UUID requestId,
+            ResponseBuilder<B> responseBuilder) {
         UUID requestUuid = requestId != null ? requestId : UUID.randomUUID();
 
         if (strictQueryParameters) {
@@ -98,7 +123,7 @@ public class JsonApi {
                 JsonApiErrorContext errorContext = JsonApiErrorContext.builder().mapper(this.mapper).verbose(false)
                         .build();
                 ElideResponse<?> errorResponse = jsonApiExceptionHandler.handleException(e, errorContext);
-                return toResponse(errorResponse.getStatus(), errorResponse.getBody());
+                return responseBuilder.build(errorResponse.getStatus(), errorResponse.getBody());
             }
         }
         return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, requestUuid, (tx, user) -> {
@@ -110,7 +135,7 @@ public class JsonApi {
                     requestScope).parsePath(route.getPath()));
             BaseVisitor visitor = new GetVisitor(requestScope);
             return visit(route.getPath(), requestScope, visitor);
-        });
+        }, responseBuilder);
     }
 
     /**
@@ -269,6 +294,26 @@ public class JsonApi {
     protected <T> ElideResponse<String> handleRequest(boolean isReadOnly, User user,
                                           Supplier<DataStoreTransaction> transaction, UUID requestId,
                                           Handler<DataStoreTransaction, User, HandlerResult> handler) {
+        return handleRequest(isReadOnly, user, transaction, requestId, handler, this::toResponse);
+    }
+
+    /**
+     * Handle JSON API requests.
+     *
+     * @param isReadOnly if the transaction is read only
+     * @param user the user object from the container
+     * @param transaction a transaction supplier
+     * @param requestId the Request ID
+     * @param handler a function that creates the request scope and request handler
+     * @param responseBuilder converts the response document into the response body
+     * @param <T> The response type (JsonNode or JsonApiDocument)
+     * @param <B> The response body type
+     * @return the response
+     */
+    protected <T, B> ElideResponse<B> handleRequest(boolean isReadOnly, User user,
+                                          Supplier<DataStoreTransaction> transaction, UUID requestId,
+                                          Handler<DataStoreTransaction, User, HandlerResult> handler,
+                                          ResponseBuilder<B> responseBuilder) {
         JsonApiErrorContext errorContext = JsonApiErrorContext.builder().mapper(this.mapper)
                 .verbose(elideSettings.isVerboseErrors()).build();
         try (DataStoreTransaction tx = transaction.get()) {
@@ -287,9 +332,10 @@ public class JsonApi {
 
             requestScope.runQueuedPreCommitTriggers();
 
-            ElideResponse<String> response = buildResponse(responder.get());
+            Pair<Integer, T> responsePair = responder.get();
+            ElideResponse<B> response = responseBuilder.build(responsePair.getLeft(), responsePair.getRight());
 
-            auditLogger.commit();
+            auditLogger.commit(requestScope);
             tx.commit(requestScope);
             requestScope.runQueuedPostCommitTriggers();
 
@@ -300,7 +346,7 @@ public class JsonApi {
             return response;
         } catch (Throwable e) {
             ElideResponse<?> errorResponse = jsonApiExceptionHandler.handleException(e, errorContext);
-            return toResponse(errorResponse.getStatus(), errorResponse.getBody());
+            return responseBuilder.build(errorResponse.getStatus(), errorResponse.getBody());
         } finally {
             transactionRegistry.removeRunningTransaction(requestId);
             auditLogger.clear();
@@ -321,6 +367,23 @@ public class JsonApi {
         return ElideResponse.status(status).body(result);
     }
 
+    protected ElideResponse<JsonApiResponseWriter> toStreamingResponse(int status, Object body) {
+        if (body == null) {
+            return ElideResponse.status(status).build();
+        }
+        if (body instanceof String text) {
+            return ElideResponse.status(status)
+                    .body(outputStream -> outputStream.write(text.getBytes(StandardCharsets.UTF_8)));
+        }
+        // Load every value of the document while the transaction is open, failures are handled by the caller.
+        try {
+            this.mapper.writeJsonApiDocument(body, OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ElideResponse.status(status).body(outputStream -> this.mapper.writeJsonApiDocument(body, outputStream));
+    }
+
     protected <T> ElideResponse<String> buildResponse(Pair<Integer, T> response) {
         T responseNode = response.getRight();
         Integer responseCode = response.getLeft();
@@ -363,6 +426,16 @@ public class JsonApi {
         HandlerResult handle(DataStoreTransaction a, User b) throws IOException;
     }
 
+    /**
+     * Converts the status and response document into a response.
+     *
+     * @param <B> the response body type
+     */
+    @FunctionalInterface
+    protected interface ResponseBuilder<B> {
+        ElideResponse<B> build(int status, Object body);
+    }
+
     /**
      * A wrapper to return multiple values, less verbose than Pair.
      * @param <T> Response type.
@@ -15,6 +15,10 @@ import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * Serializer/Deserializer for JSON API.
  */
@@ -73,6 +77,22 @@ public class JsonApiMapper {
         return elideMapper.getObjectMapper().writeValueAsString(doc);
     }
 
+    /**
+     * Write json api document to an output stream without building an intermediate string.
+     * <p>
+     * The document is written with a single generator which flushes its buffer to the stream as it fills. The
+     * stream is flushed but not closed.
+     *
+     * @param doc the document
+     * @param outputStream the output stream
+     * @param <T> The type of document object so serialize
+     * @throws IOException if the stream could not be flushed
+     */
+    public <T> void writeJsonApiDocument(T doc, OutputStream outputStream) throws IOException {
+        elideMapper.getObjectMapper().writeValue(new NonClosingOutputStream(outputStream), doc);
+        outputStream.flush();
+    }
+
     /**
      * Read json api document.
      *
@@ -120,4 +140,23 @@ public class JsonApiMapper {
     public JsonApiAtomicOperationsMapper forAtomicOperations() {
         return this.atomicOperationsMapper;
     }
+
+    /**
+     * Shields the endpoint output stream from being closed by the generator.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
 }
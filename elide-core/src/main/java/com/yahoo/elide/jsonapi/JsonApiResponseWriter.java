@@ -0,0 +1,23 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the body of a JSON API response to the output stream of the endpoint.
+ */
+@FunctionalInterface
+public interface JsonApiResponseWriter {
+    /**
+     * Writes the body. The output stream is flushed but not closed.
+     *
+     * @param outputStream the output stream of the endpoint
+     * @throws IOException if the body could not be written
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+}
@@ -72,11 +72,20 @@ public class JsonApiSettings implements Settings {
     private final List<JoinFilterDialect> joinFilterDialects;
     private final List<SubqueryFilterDialect> subqueryFilterDialects;
     private final JsonApiExceptionHandler jsonApiExceptionHandler;
+    private final boolean streamingResponses;
 
     public JsonApiSettings(boolean enabled, String path, JsonApiMapper jsonApiMapper, Links links, int updateStatusCode,
             boolean strictQueryParameters, List<JoinFilterDialect> joinFilterDialects,
             List<SubqueryFilterDialect> subqueryFilterDialects,
             JsonApiExceptionHandler jsonApiExceptionHandler) {
+        this(enabled, path, jsonApiMapper, links, updateStatusCode, strictQueryParameters, joinFilterDialects,
+                subqueryFilterDialects, jsonApiExceptionHandler, false);
+    }
+
+    public JsonApiSettings(boolean enabled, String path, JsonApiMapper jsonApiMapper, Links links, int updateStatusCode,
+            boolean strictQueryParameters, List<JoinFilterDialect> joinFilterDialects,
+            List<SubqueryFilterDialect> subqueryFilterDialects,
+            JsonApiExceptionHandler jsonApiExceptionHandler, boolean streamingResponses) {
         this.enabled = enabled;
         this.path = path;
         this.jsonApiMapper = jsonApiMapper;
@@ -86,6 +95,7 @@ public class JsonApiSettings implements Settings {
         this.joinFilterDialects = joinFilterDialects;
         this.subqueryFilterDialects = subqueryFilterDialects;
         this.jsonApiExceptionHandler = jsonApiExceptionHandler;
+        this.streamingResponses = streamingResponses;
     }
 
     /**
@@ -101,7 +111,8 @@ public class JsonApiSettings implements Settings {
                 .links(newLinks -> newLinks.enabled(this.getLinks().isEnabled())
                         .jsonApiLinks(this.getLinks().getJsonApiLinks()))
                 .strictQueryParameters(this.isStrictQueryParameters())
-                .jsonApiExceptionHandler(this.jsonApiExceptionHandler);
+                .jsonApiExceptionHandler(this.jsonApiExceptionHandler)
+                .streamingResponses(this.streamingResponses);
 
         builder.updateStatusCode = this.updateStatusCode;
         builder.joinFilterDialects.addAll(this.joinFilterDialects);
@@ -137,7 +148,7 @@ public class JsonApiSettings implements Settings {
             }
             return new JsonApiSettings(this.enabled, this.path, this.jsonApiMapper, this.links.build(),
                     this.updateStatusCode, this.strictQueryParameters, this.joinFilterDialects,
-                    this.subqueryFilterDialects, this.jsonApiExceptionHandler);
+                    this.subqueryFilterDialects, this.jsonApiExceptionHandler, this.streamingResponses);
         }
 
         @Override
@@ -173,6 +184,7 @@ public class JsonApiSettings implements Settings {
         protected Links.LinksBuilder links = Links.builder();
         protected int updateStatusCode = HttpStatus.SC_NO_CONTENT;
         protected boolean strictQueryParameters = true;
+        protected boolean streamingResponses = false;
         protected List<JoinFilterDialect> joinFilterDialects = new ArrayList<>();
         protected List<SubqueryFilterDialect> subqueryFilterDialects = new ArrayList<>();
         protected JsonApiExceptionHandler jsonApiExceptionHandler = new DefaultJsonApiExceptionHandler(
@@ -235,6 +247,18 @@ public class JsonApiSettings implements Settings {
             return self();
         }
 
+        /**
+         * Write GET response documents directly to the output stream of the endpoint instead of building a
+         * {@link String} body.
+         *
+         * @param streamingResponses true to stream response documents
+         * @return the builder
+         */
+        public S streamingResponses(boolean streamingResponses) {
+            this.streamingResponses = streamingResponses;
+            return self();
+        }
+
         /**
          * Return 200 OK on update.
          *
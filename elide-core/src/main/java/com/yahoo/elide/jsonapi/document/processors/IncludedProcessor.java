@@ -100,6 +100,8 @@ public class IncludedProcessor implements DocumentProcessor {
             return;
         }
 
+        rec.getRequestScope().getRelationshipBatchLoader().addSiblingResources(collection);
+
         collection.forEach(resource -> {
             jsonApiDocument.addIncluded(resource.toResource());
 
@@ -75,6 +75,9 @@ public class CollectionTerminalState extends BaseState {
         LinkedHashSet<PersistentResource> collection =
                 getResourceCollection(requestScope).collect(Collectors.toCollection(LinkedHashSet::new)).block();
 
+        // The relationships of every resource are serialized, so fetch them together.
+        requestScope.getRelationshipBatchLoader().addSiblingResources(collection);
+
         // Set data
         jsonApiDocument.setData(getData(collection, requestScope.getDictionary()));
 
@@ -15,6 +15,8 @@ import com.yahoo.elide.core.request.route.Route;
 import com.yahoo.elide.core.request.route.RouteResolver;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.jsonapi.JsonApi;
+import com.yahoo.elide.jsonapi.JsonApiResponseWriter;
+import com.yahoo.elide.jsonapi.JsonApiSettings;
 import com.yahoo.elide.utils.HeaderProcessor;
 import com.yahoo.elide.utils.ResourceUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -34,6 +36,7 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriInfo;
 
 import java.util.List;
@@ -53,6 +56,7 @@ public class JsonApiEndpoint {
     protected final JsonApi jsonApi;
     protected final HeaderProcessor headerProcessor;
     protected final RouteResolver routeResolver;
+    protected final boolean streamingResponses;
 
     @Inject
     public JsonApiEndpoint(
@@ -60,6 +64,8 @@ public class JsonApiEndpoint {
         this.elide = elide;
         this.jsonApi = new JsonApi(this.elide);
         this.headerProcessor = elide.getElideSettings().getHeaderProcessor();
+        JsonApiSettings jsonApiSettings = elide.getSettings(JsonApiSettings.class);
+        this.streamingResponses = jsonApiSettings != null && jsonApiSettings.isStreamingResponses();
         this.routeResolver = optionalRouteResolver.orElseGet(() -> {
             Set<String> apiVersions = elide.getElideSettings().getEntityDictionary().getApiVersions();
             if (apiVersions.size() == 1 && apiVersions.contains(EntityDictionary.NO_VERSION)) {
@@ -129,6 +135,9 @@ public class JsonApiEndpoint {
         Route route = routeResolver.resolve(JsonApi.MEDIA_TYPE, baseUrl, pathname, requestHeaders,
                 uriInfo.getQueryParameters());
 
+        if (streamingResponses) {
+            return buildStreaming(jsonApi.getStreaming(route, user, UUID.randomUUID()));
+        }
         return build(jsonApi.get(route, user, UUID.randomUUID()));
     }
 
@@ -198,6 +207,14 @@ public class JsonApiEndpoint {
         return Response.status(response.getStatus()).entity(response.getBody()).build();
     }
 
+    private static Response buildStreaming(ElideResponse<JsonApiResponseWriter> response) {
+        JsonApiResponseWriter body = response.getBody();
+        if (body == null) {
+            return Response.status(response.getStatus()).build();
+        }
+        return Response.status(response.getStatus()).entity((StreamingOutput) body::writeTo).build();
+    }
+
     protected String getBaseUrlEndpoint(UriInfo uriInfo) {
         String baseUrl = elide.getElideSettings().getBaseUrl();
         if (StringUtils.isEmpty(baseUrl)) {
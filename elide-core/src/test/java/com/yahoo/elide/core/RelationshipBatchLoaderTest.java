@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.datastore.DataStoreIterable;
+import com.yahoo.elide.core.datastore.DataStoreIterableBuilder;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Relationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import example.Author;
+import example.Book;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests coalescing the to-many relationship fetches of sibling entities.
+ */
+public class RelationshipBatchLoaderTest {
+    private static final Relationship BOOKS = Relationship.builder()
+            .name("books")
+            .projection(EntityProjection.builder().type(Book.class).build())
+            .build();
+
+    private final Author author1 = new Author();
+    private final Author author2 = new Author();
+    private final DataStoreIterable<Object> books1 = new DataStoreIterableBuilder<Object>().build();
+    private final DataStoreIterable<Object> books2 = new DataStoreIterableBuilder<Object>().build();
+
+    private DataStoreTransaction tx;
+    private RequestScope scope;
+    private RelationshipBatchLoader batchLoader;
+
+    @BeforeEach
+    public void setup() {
+        tx = mock(DataStoreTransaction.class);
+        scope = mock(RequestScope.class);
+        when(scope.getDirtyResources()).thenReturn(new LinkedHashSet<>());
+        when(scope.getNewPersistentResources()).thenReturn(new LinkedHashSet<>());
+
+        Map<Object, DataStoreIterable<Object>> batch = new IdentityHashMap<>();
+        batch.put(author1, books1);
+        batch.put(author2, books2);
+        when(tx.getToManyRelations(eq(tx), any(), eq(BOOKS), eq(scope))).thenReturn(batch);
+
+        batchLoader = new RelationshipBatchLoader();
+    }
+
+    @Test
+    public void testSiblingsFetchedTogether() {
+        batchLoader.addSiblings(List.of(author1, author2));
+
+        assertSame(books2, batchLoader.getToManyRelation(tx, tx, author2, BOOKS, scope));
+        assertSame(books1, batchLoader.getToManyRelation(tx, tx, author1, BOOKS, scope));
+
+        verify(tx, times(1)).getToManyRelations(tx, List.of(author1, author2), BOOKS, scope);
+        verify(tx, never()).getToManyRelation(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testBatchedResultHandedOutOnce() {
+        batchLoader.addSiblings(List.of(author1, author2));
+
+        batchLoader.getToManyRelation(tx, tx, author1, BOOKS, scope);
+        batchLoader.getToManyRelation(tx, tx, author1, BOOKS, scope);
+
+        verify(tx, times(1)).getToManyRelations(any(), any(), any(), any());
+        verify(tx, times(1)).getToManyRelation(tx, author1, BOOKS, scope);
+    }
+
+    @Test
+    public void testNoSiblings() {
+        batchLoader.getToManyRelation(tx, tx, author1, BOOKS, scope);
+
+        verify(tx, never()).getToManyRelations(any(), any(), any(), any());
+        verify(tx, times(1)).getToManyRelation(tx, author1, BOOKS, scope);
+    }
+
+    @Test
+    public void testNotBatchedWhileMutating() {
+        batchLoader.addSiblings(List.of(author1, author2));
+        LinkedHashSet<PersistentResource> dirtyResources = new LinkedHashSet<>();
+        dirtyResources.add(mock(PersistentResource.class));
+        when(scope.getDirtyResources()).thenReturn(dirtyResources);
+
+        batchLoader.getToManyRelation(tx, tx, author1, BOOKS, scope);
+
+        verify(tx, never()).getToManyRelations(any(), any(), any(), any());
+        verify(tx, times(1)).getToManyRelation(tx, author1, BOOKS, scope);
+    }
+}
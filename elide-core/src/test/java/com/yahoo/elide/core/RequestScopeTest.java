@@ -10,7 +10,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.annotation.Include;
@@ -21,6 +27,7 @@ import com.yahoo.elide.core.request.route.Route;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.core.type.ClassType;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -106,4 +113,50 @@ class RequestScopeTest {
         assertSame(requestId, requestScope.getRequestId());
         assertSame(entityProjection, requestScope.getEntityProjection());
     }
+
+    @Entity
+    @Include
+    static class Parent {
+        @Id
+        public long id;
+    }
+
+    @Entity
+    @Include
+    static class Child {
+        @Id
+        public long id;
+    }
+
+    @Test
+    void testCreatesConsecutiveObjectsOfTheSameTypeInBatches() {
+        DataStoreTransaction transaction = mock(DataStoreTransaction.class);
+        EntityDictionary dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Parent.class);
+        dictionary.bindEntity(Child.class);
+
+        ElideSettings elideSettings = ElideSettings.builder().entityDictionary(dictionary).build();
+        RequestScope requestScope = RequestScope.builder().route(Route.builder().build())
+                .requestId(UUID.randomUUID())
+                .elideSettings(elideSettings)
+                .dataStoreTransaction(transaction)
+                .build();
+
+        Parent parent1 = new Parent();
+        Parent parent2 = new Parent();
+        Child child = new Child();
+        Parent parent3 = new Parent();
+        requestScope.getNewPersistentResources().add(new PersistentResource<>(parent1, "1", requestScope));
+        requestScope.getNewPersistentResources().add(new PersistentResource<>(parent2, "2", requestScope));
+        requestScope.getNewPersistentResources().add(new PersistentResource<>(child, "1", requestScope));
+        requestScope.getNewPersistentResources().add(new PersistentResource<>(parent3, "3", requestScope));
+
+        requestScope.saveOrCreateObjects();
+
+        InOrder inOrder = inOrder(transaction);
+        inOrder.verify(transaction).createObjects(eq(List.of(parent1, parent2)), same(requestScope));
+        inOrder.verify(transaction).createObjects(eq(List.of(child)), same(requestScope));
+        inOrder.verify(transaction).createObjects(eq(List.of(parent3)), same(requestScope));
+        verify(transaction, never()).createObject(any(), any());
+    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.RequestScope;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Tests writing audit messages on a background thread.
+ */
+public class AsyncAuditLoggerTest {
+
+    /**
+     * Logger which records the batches it writes and can hold the drainer inside a write.
+     */
+    private static class BatchLogger extends AuditLogger {
+        private final List<List<LogMessage>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        BatchLogger(boolean blocked) {
+            this.release = new CountDownLatch(blocked ? 1 : 0);
+        }
+
+        @Override
+        public void commit() throws IOException {
+            commit(new ArrayList<>(MESSAGES.get()));
+        }
+
+        @Override
+        protected void commit(List<LogMessage> messages) throws IOException {
+            writing.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            batches.add(new ArrayList<>(messages));
+            threads.add(Thread.currentThread());
+        }
+
+        List<LogMessage> getWritten() {
+            synchronized (batches) {
+                return batches.stream().flatMap(List::stream).collect(Collectors.toList());
+            }
+        }
+    }
+
+    private static List<LogMessage> messages(int count) {
+        return IntStream.range(0, count)
+                .<LogMessage>mapToObj(index -> new LogMessageImpl("message " + index, index))
+                .toList();
+    }
+
+    private static List<String> texts(List<LogMessage> messages) {
+        return messages.stream().map(LogMessage::getMessage).toList();
+    }
+
+    private static RequestScope newScope(List<LogMessage> messages) {
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getAuditMessages()).thenReturn(Collections.synchronizedList(new ArrayList<>(messages)));
+        return scope;
+    }
+
+    /**
+     * Commits one message and waits until the drainer is held writing it.
+     */
+    private static void holdDrainer(AsyncAuditLogger logger, BatchLogger delegate) throws Exception {
+        logger.commit(newScope(messages(1)));
+        assertTrue(delegate.writing.await(30, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMessagesAreWrittenInBatchesOnAnotherThread() throws Exception {
+        BatchLogger delegate = new BatchLogger(false);
+        AsyncAuditLogger logger = new AsyncAuditLogger(delegate, 100, 4, AsyncAuditLogger.OverflowPolicy.BLOCK, 1);
+        List<LogMessage> messages = messages(10);
+
+        logger.commit(newScope(messages));
+        logger.close();
+
+        assertEquals(texts(messages), texts(delegate.getWritten()));
+        assertEquals(10, logger.getWrittenCount());
+        assertEquals(0, logger.getQueueDepth());
+        assertEquals(0, logger.getDroppedCount());
+        delegate.batches.forEach(batch -> assertTrue(batch.size() <= 4));
+        delegate.threads.forEach(thread -> assertNotEquals(Thread.currentThread(), thread));
+    }
+
+    @Test
+    public void testDropPolicy() throws Exception {
+        BatchLogger delegate = new BatchLogger(true);
+        AsyncAuditLogger logger = new AsyncAuditLogger(delegate, 2, 10, AsyncAuditLogger.OverflowPolicy.DROP, 1);
+        holdDrainer(logger, delegate);
+
+        logger.commit(newScope(messages(5)));
+
+        assertEquals(2, logger.getQueueDepth());
+        assertEquals(3, logger.getDroppedCount());
+
+        delegate.release.countDown();
+        logger.close();
+
+        assertEquals(3, logger.getWrittenCount());
+        assertEquals(0, logger.getQueueDepth());
+    }
+
+    @Test
+    public void testSamplePolicy() throws Exception {
+        BatchLogger delegate = new BatchLogger(true);
+        AsyncAuditLogger logger = new AsyncAuditLogger(delegate, 4, 10, AsyncAuditLogger.OverflowPolicy.SAMPLE, 2);
+        holdDrainer(logger, delegate);
+
+        // Two messages fill half the queue, then every second message is kept until the queue is full.
+        List<LogMessage> messages = messages(8);
+        logger.commit(newScope(messages));
+
+        assertEquals(4, logger.getQueueDepth());
+        assertEquals(4, logger.getDroppedCount());
+
+        delegate.release.countDown();
+        logger.close();
+
+        List<LogMessage> written = delegate.getWritten();
+        assertEquals(texts(List.of(messages.get(0), messages.get(1), messages.get(3), messages.get(5))),
+                texts(written.subList(1, written.size())));
+    }
+
+    @Test
+    public void testMessagesCommittedAfterCloseAreWrittenDirectly() throws Exception {
+        BatchLogger delegate = new BatchLogger(false);
+        AsyncAuditLogger logger = new AsyncAuditLogger(delegate);
+        logger.close();
+
+        List<LogMessage> messages = messages(3);
+        logger.commit(newScope(messages));
+
+        assertEquals(messages, delegate.getWritten());
+        assertEquals(List.of(Thread.currentThread()), delegate.threads);
+    }
+
+    @Test
+    public void testMessagesAreResolvedOnTheCommittingThread() throws Exception {
+        BatchLogger delegate = new BatchLogger(false);
+        AsyncAuditLogger logger = new AsyncAuditLogger(delegate);
+        List<Thread> resolvedOn = Collections.synchronizedList(new ArrayList<>());
+        LogMessage message = new LogMessageImpl("message", 1) {
+            @Override
+            public String getMessage() {
+                resolvedOn.add(Thread.currentThread());
+                return super.getMessage();
+            }
+        };
+
+        logger.commit(newScope(List.of(message)));
+        logger.close();
+
+        assertEquals(List.of(Thread.currentThread()), resolvedOn);
+        LogMessage written = delegate.getWritten().get(0);
+        assertEquals("message", written.getMessage());
+        assertEquals(1, written.getOperationCode());
+        assertEquals(List.of(Thread.currentThread()), resolvedOn);
+    }
+
+    @Test
+    public void testMessagesWhichFailToResolveAreCounted() throws Exception {
+        BatchLogger delegate = new BatchLogger(false);
+        AsyncAuditLogger logger = new AsyncAuditLogger(delegate);
+        LogMessage message = new LogMessageImpl("message", 1) {
+            @Override
+            public String getMessage() {
+                throw new IllegalStateException("Closed");
+            }
+        };
+
+        logger.commit(newScope(List.of(message, messages(1).get(0))));
+        logger.close();
+
+        assertEquals(1, logger.getFailedCount());
+        assertEquals(List.of("message 0"), texts(delegate.getWritten()));
+    }
+
+    @Test
+    public void testFailedWritesAreCounted() throws Exception {
+        AuditLogger delegate = new AuditLogger() {
+            @Override
+            public void commit() throws IOException {
+                throw new IOException("Unavailable");
+            }
+        };
+        AsyncAuditLogger logger = new AsyncAuditLogger(delegate);
+
+        logger.commit(newScope(messages(3)));
+        logger.close();
+
+        assertEquals(3, logger.getFailedCount());
+        assertEquals(0, logger.getWrittenCount());
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncAuditLogger(new Slf4jLogger(), 0, 1,
+                AsyncAuditLogger.OverflowPolicy.DROP, 1));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.RequestScope;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests keeping audit messages on the request scope.
+ */
+public class AuditLoggerTest {
+
+    /**
+     * Logger which implements the request scoped commit.
+     */
+    private static class CollectingLogger extends AuditLogger {
+        private final List<LogMessage> committed = new ArrayList<>();
+
+        @Override
+        public void commit() throws IOException {
+            commit(new ArrayList<>(MESSAGES.get()));
+            MESSAGES.get().clear();
+        }
+
+        @Override
+        protected void commit(List<LogMessage> messages) {
+            committed.addAll(messages);
+        }
+    }
+
+    /**
+     * Logger which only implements the thread bound commit.
+     */
+    private static class ThreadBoundLogger extends AuditLogger {
+        private final List<LogMessage> committed = new ArrayList<>();
+
+        @Override
+        public void commit() throws IOException {
+            committed.addAll(MESSAGES.get());
+        }
+    }
+
+    private RequestScope newScope() {
+        RequestScope scope = mock(RequestScope.class);
+        List<LogMessage> messages = Collections.synchronizedList(new ArrayList<>());
+        when(scope.getAuditMessages()).thenReturn(messages);
+        return scope;
+    }
+
+    @Test
+    public void testMessagesLoggedOnOtherThreadsAreCommitted() throws Exception {
+        CollectingLogger logger = new CollectingLogger();
+        RequestScope scope = newScope();
+        LogMessage first = new LogMessageImpl("first", 1);
+        LogMessage second = new LogMessageImpl("second", 2);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> logger.log(first, scope)).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        logger.log(second, scope);
+
+        logger.commit(scope);
+
+        assertEquals(List.of(first, second), logger.committed);
+        assertTrue(scope.getAuditMessages().isEmpty());
+    }
+
+    @Test
+    public void testThreadBoundLoggerSeesRequestMessages() throws Exception {
+        ThreadBoundLogger logger = new ThreadBoundLogger();
+        RequestScope scope = newScope();
+        LogMessage message = new LogMessageImpl("message", 1);
+
+        logger.log(message, scope);
+        logger.commit(scope);
+        logger.clear();
+
+        assertEquals(List.of(message), logger.committed);
+    }
+
+    @Test
+    public void testMessagesWithoutScopeAreThreadBound() throws Exception {
+        CollectingLogger logger = new CollectingLogger();
+        LogMessage message = new LogMessageImpl("message", 1);
+
+        logger.log(message, null);
+        logger.commit(null);
+
+        assertEquals(List.of(message), logger.committed);
+    }
+}
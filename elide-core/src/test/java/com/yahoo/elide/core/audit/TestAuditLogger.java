@@ -5,22 +5,42 @@
  */
 package com.yahoo.elide.core.audit;
 
+import com.yahoo.elide.core.RequestScope;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 public class TestAuditLogger extends AuditLogger {
+    private final List<LogMessage> requestMessages = new ArrayList<>();
+
     public TestAuditLogger() {
         // clean any prior test data for this thread
         super.clear();
     }
 
+    @Override
+    public void log(LogMessage message, RequestScope scope) {
+        super.log(message, scope);
+        if (scope != null && scope.getAuditMessages() != null) {
+            requestMessages.add(message);
+        }
+    }
+
     @Override
     public void commit() throws IOException {
         //NOOP
     }
 
+    @Override
+    public void clear() {
+        super.clear();
+        requestMessages.clear();
+    }
+
     public List<LogMessage> getMessages() {
-        return new ArrayList<>(this.MESSAGES.get());
+        List<LogMessage> messages = new ArrayList<>(this.MESSAGES.get());
+        messages.addAll(requestMessages);
+        return messages;
     }
 }
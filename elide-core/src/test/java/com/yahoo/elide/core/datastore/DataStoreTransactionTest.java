@@ -28,12 +28,14 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 public class DataStoreTransactionTest implements DataStoreTransaction {
     private static final String NAME = "name";
     private static final String NAME2 = "name2";
     private static final Attribute NAME_ATTRIBUTE = Attribute.builder().name(NAME).type(String.class).build();
     private static final String ENTITY = "entity";
+    private static final String ENTITY2 = "entity2";
     private RequestScope scope;
 
     @BeforeEach
@@ -47,6 +49,8 @@ public class DataStoreTransactionTest implements DataStoreTransaction {
         when(dictionary.getValue(ENTITY, NAME, scope)).thenReturn(3L);
         when(dictionary.getValue(ENTITY, NAME2, scope))
                 .thenReturn(new DataStoreIterableBuilder(List.of(1L, 2L, 3L)).build());
+        when(dictionary.getValue(ENTITY2, NAME2, scope))
+                .thenReturn(new DataStoreIterableBuilder(List.of(4L)).build());
     }
 
     @Test
@@ -104,6 +108,20 @@ public class DataStoreTransactionTest implements DataStoreTransaction {
                 Lists.newArrayList(actual));
     }
 
+    @Test
+    public void testGetToManyRelations() {
+        Map<String, DataStoreIterable<Long>> actual = getToManyRelations(this, List.of(ENTITY, ENTITY2),
+                Relationship.builder()
+                        .name(NAME2)
+                        .projection(EntityProjection.builder()
+                                .type(Long.class)
+                                .build())
+                        .build(), scope);
+        assertEquals(2, actual.size());
+        assertEquals(List.of(1L, 2L, 3L), Lists.newArrayList(actual.get(ENTITY)));
+        assertEquals(List.of(4L), Lists.newArrayList(actual.get(ENTITY2)));
+    }
+
     @Test
     public void testLoadObject() {
         String string = (String) loadObject(EntityProjection.builder().type(String.class).build(), 2L, scope);
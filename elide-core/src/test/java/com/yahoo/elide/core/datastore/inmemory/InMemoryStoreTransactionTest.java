@@ -6,6 +6,7 @@
 package com.yahoo.elide.core.datastore.inmemory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +29,7 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.predicates.InPredicate;
 import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Pagination.Direction;
 import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.sort.SortingImpl;
@@ -46,10 +48,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -545,6 +551,30 @@ public class InMemoryStoreTransactionTest {
         assertTrue(loaded.contains(book2));
     }
 
+    @Test
+    public void testDataStoreSortedRecordsPaginatedInLoadedOrder() {
+        PaginationImpl pagination = new PaginationImpl(ClassType.of(Book.class), 0, 2, 10, 10, false, false);
+
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.asc);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(new SortingImpl(sortOrder, Book.class, dictionary))
+                .pagination(pagination)
+                .build();
+
+        // The data store sorted the records (for example from an index) so they are not sorted again.
+        DataStoreIterable paginateInMemory = new DataStoreIterableBuilder(Arrays.asList(book1, book3, book2))
+                .paginateInMemory(true).build();
+
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(paginateInMemory);
+
+        List<Object> loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(projection, scope));
+
+        assertEquals(Arrays.asList(book1, book3), loaded);
+    }
+
     @Test
     public void testFilteringRequiresInMemoryPagination() {
         FilterExpression expression =
@@ -609,6 +639,86 @@ public class InMemoryStoreTransactionTest {
         assertEquals(3, pagination.getPageTotals());
     }
 
+    @Test
+    public void testSortingSelectsOffsetPage() {
+        PaginationImpl pagination = new PaginationImpl(ClassType.of(Book.class), 1, 1, 10, 10, true, false);
+
+        List<String> bookTitles = loadSortedByTitleDescending(pagination);
+
+        assertEquals(Lists.newArrayList("Book 2"), bookTitles);
+        assertEquals(3, pagination.getPageTotals());
+    }
+
+    @Test
+    public void testSortingSelectsCursorPage() {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("3".getBytes(StandardCharsets.UTF_8));
+        PaginationImpl pagination = new PaginationImpl(Book.class, null, 1, 10, 10, true, false,
+                null, cursor, Direction.FORWARD);
+
+        assertEquals(Lists.newArrayList("Book 2"), loadSortedByTitleDescending(pagination));
+        assertTrue(pagination.getHasNextPage());
+        assertFalse(pagination.getHasPreviousPage());
+        assertEquals(3, pagination.getPageTotals());
+
+        pagination = new PaginationImpl(Book.class, null, 2, 10, 10, false, false,
+                cursor, null, Direction.BACKWARD);
+
+        assertEquals(Collections.emptyList(), loadSortedByTitleDescending(pagination));
+        assertFalse(pagination.getHasPreviousPage());
+
+        cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("1".getBytes(StandardCharsets.UTF_8));
+        pagination = new PaginationImpl(Book.class, null, 1, 10, 10, false, false,
+                cursor, null, Direction.BACKWARD);
+
+        assertEquals(Lists.newArrayList("Book 2"), loadSortedByTitleDescending(pagination));
+        assertTrue(pagination.getHasPreviousPage());
+        assertFalse(pagination.getHasNextPage());
+    }
+
+    @Test
+    public void testSortingSelectsCursorPageOfRecordsReadOnce() {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("3".getBytes(StandardCharsets.UTF_8));
+        PaginationImpl pagination = new PaginationImpl(Book.class, null, 1, 10, 10, true, false,
+                null, cursor, Direction.FORWARD);
+        Sorting sorting = new SortingImpl(Map.of("title", Sorting.SortOrder.desc), Book.class, dictionary);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(pagination)
+                .build();
+
+        // Records which can only be iterated once, like a scrolled query result.
+        Iterator<Object> iterator = books.iterator();
+        Iterable<Object> readOnce = () -> iterator;
+        DataStoreIterable sortInMemory = new DataStoreIterableBuilder(readOnce).sortInMemory(true).build();
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(sortInMemory);
+
+        List<Object> loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(projection, scope));
+
+        assertEquals(List.of(book2), loaded);
+        assertTrue(pagination.getHasNextPage());
+        assertEquals(3, pagination.getPageTotals());
+    }
+
+    private List<String> loadSortedByTitleDescending(PaginationImpl pagination) {
+        reset(wrappedTransaction);
+        Sorting sorting = new SortingImpl(Map.of("title", Sorting.SortOrder.desc), Book.class, dictionary);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(pagination)
+                .build();
+
+        DataStoreIterable sortInMemory = new DataStoreIterableBuilder(books).sortInMemory(true).build();
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(sortInMemory);
+
+        return Lists.newArrayList(inMemoryStoreTransaction.loadObjects(projection, scope)).stream()
+                .map((o) -> ((Book) o).getTitle())
+                .collect(Collectors.toList());
+    }
+
     @Test
     public void testGetProperty() {
         when(wrappedTransaction.getProperty(any())).thenReturn(1);
@@ -19,6 +19,8 @@ import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.request.Attribute;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 public class TransactionWrapperTest {
 
     private static class TestTransactionWrapper extends TransactionWrapper {
@@ -70,6 +72,16 @@ public class TransactionWrapperTest {
         verify(wrapped, times(1)).createObject(any(), any());
     }
 
+    @Test
+    public void testCreateObjects() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        wrapper.createObjects(List.of(), null);
+
+        verify(wrapped, times(1)).createObjects(any(), any());
+    }
+
     @Test
     public void testCommit() {
         DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
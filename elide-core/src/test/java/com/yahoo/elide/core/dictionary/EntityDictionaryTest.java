@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -23,6 +24,7 @@ import com.yahoo.elide.annotation.LifeCycleHookBinding;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.SecurityCheck;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.lifecycle.LifeCycleHook;
@@ -46,6 +48,7 @@ import example.Author;
 import example.Book;
 import example.Child;
 import example.CoerceBean;
+import example.ComputedBean;
 import example.Editor;
 import example.FieldAnnotations;
 import example.FunWithPermissions;
@@ -220,6 +223,52 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertEquals("null", obfuscatedId);
     }
 
+    @Include
+    public static class AccessorEntity {
+        @Id
+        private long id;
+
+        private String name;
+
+        private String nickname;
+
+        public void setName(String name) {
+            if ("invalid".equals(name)) {
+                throw new BadRequestException("Invalid name");
+            }
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void testGetValueThroughAccessors() {
+        bindEntity(ComputedBean.class);
+        ComputedBean bean = new ComputedBean();
+        RequestScope scope = mock(RequestScope.class);
+
+        assertEquals("test1", getValue(bean, "test", scope));
+        assertEquals("test2", getValue(bean, "testWithScope", scope));
+        assertEquals("test3", getValue(bean, "testWithSecurityScope", scope));
+        assertSame(getEntityBinding(ClassType.of(ComputedBean.class)).getValueAccessor("test"),
+                getEntityBinding(ClassType.of(ComputedBean.class)).getValueAccessor("test"));
+        assertThrows(InvalidAttributeException.class, () -> getValue(bean, "missing", scope));
+    }
+
+    @Test
+    public void testSetValueThroughAccessors() {
+        bindEntity(AccessorEntity.class);
+        AccessorEntity entity = new AccessorEntity();
+        RequestScope scope = mock(RequestScope.class);
+
+        setValue(entity, "name", "Ann");
+        setValue(entity, "nickname", "Annie");
+        assertEquals("Ann", getValue(entity, "name", scope));
+        assertEquals("Annie", getValue(entity, "nickname", scope));
+
+        assertThrows(BadRequestException.class, () -> setValue(entity, "name", "invalid"));
+        assertThrows(InvalidAttributeException.class, () -> setValue(entity, "missing", "value"));
+    }
+
     @Test
     public void testSetId() {
         Parent parent = new Parent();
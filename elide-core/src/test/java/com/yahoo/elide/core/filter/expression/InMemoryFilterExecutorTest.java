@@ -6,6 +6,7 @@
 package com.yahoo.elide.core.filter.expression;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -13,6 +14,7 @@ import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.Path.PathElement;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.predicates.FalsePredicate;
 import com.yahoo.elide.core.filter.predicates.GEPredicate;
 import com.yahoo.elide.core.filter.predicates.GTPredicate;
@@ -637,4 +639,43 @@ public class InMemoryFilterExecutorTest {
         fn = expression.accept(visitor);
         assertFalse(fn.test(author));
     }
+
+    @Test
+    public void constantFoldingTest() throws Exception {
+        author = new Author();
+        author.setId(1L);
+
+        FilterExpression alwaysTrue = new TruePredicate(authorIdElement);
+        FilterExpression alwaysFalse = new FalsePredicate(authorIdElement);
+        FilterExpression idIsOne = new InPredicate(authorIdElement, 1L);
+
+        assertSame(Operator.ALWAYS_FALSE, new AndFilterExpression(alwaysFalse, idIsOne).accept(visitor));
+        assertSame(Operator.ALWAYS_TRUE, new OrFilterExpression(alwaysTrue, idIsOne).accept(visitor));
+        assertSame(Operator.ALWAYS_FALSE, new NotFilterExpression(alwaysTrue).accept(visitor));
+
+        fn = new AndFilterExpression(alwaysTrue, idIsOne).accept(visitor);
+        assertTrue(fn.test(author));
+        author.setId(2L);
+        assertFalse(fn.test(author));
+    }
+
+    @Test
+    public void compiledPredicateReusedAcrossEntitiesTest() throws Exception {
+        Author first = new Author();
+        first.setName("Jon Doe");
+        Author second = new Author();
+        second.setName("JANE DOE");
+        Author third = new Author();
+        third.setName("Jim Smith");
+
+        fn = new InInsensitivePredicate(authorNameElement, "jon doe", "Jane Doe").accept(visitor);
+        assertTrue(fn.test(first));
+        assertTrue(fn.test(second));
+        assertFalse(fn.test(third));
+
+        fn = new PostfixInsensitivePredicate(authorNameElement, "DOE").accept(visitor);
+        assertTrue(fn.test(first));
+        assertTrue(fn.test(second));
+        assertFalse(fn.test(third));
+    }
 }
@@ -160,7 +160,7 @@ public class LifeCycleTest {
         verify(mockModel, never()).relationCallback(eq(DELETE), any(), any());
 
         verify(tx).preCommit(any());
-        verify(tx, times(1)).createObject(eq(mockModel), isA(RequestScope.class));
+        verify(tx, times(1)).createObjects(eq(List.of(mockModel)), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -205,7 +205,7 @@ public class LifeCycleTest {
         verify(mockModel, never()).fieldUpdatePreSecurity();
 
         verify(tx).preCommit(any());
-        verify(tx, times(1)).createObject(eq(mockModel), isA(RequestScope.class));
+        verify(tx, times(1)).createObjects(eq(List.of(mockModel)), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -239,7 +239,7 @@ public class LifeCycleTest {
         verify(mockModel, never()).classAllFieldsCallback(any(), any());
 
         verify(tx, never()).preCommit(any());
-        verify(tx, never()).createObject(eq(mockModel), isA(RequestScope.class));
+        verify(tx, never()).createObjects(eq(List.of(mockModel)), isA(RequestScope.class));
         verify(tx, never()).flush(isA(RequestScope.class));
         verify(tx, never()).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -690,7 +690,7 @@ public class LifeCycleTest {
         verify(mockModel, never()).relationCallback(eq(DELETE), any(), any());
 
         verify(tx).preCommit(any());
-        verify(tx, times(1)).createObject(eq(mockModel), isA(RequestScope.class));
+        verify(tx, times(1)).createObjects(eq(List.of(mockModel)), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -738,7 +738,7 @@ public class LifeCycleTest {
         verify(mockModel, never()).fieldUpdatePreSecurity();
 
         verify(tx).preCommit(any());
-        verify(tx, times(1)).createObject(eq(mockModel), isA(RequestScope.class));
+        verify(tx, times(1)).createObjects(eq(List.of(mockModel)), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -794,7 +794,7 @@ public class LifeCycleTest {
         verify(mockModel, never()).relationCallback(eq(DELETE), any(), any());
 
         verify(tx, never()).preCommit(any());
-        verify(tx, never()).createObject(eq(mockModel), isA(RequestScope.class));
+        verify(tx, never()).createObjects(eq(List.of(mockModel)), isA(RequestScope.class));
         verify(tx, never()).flush(isA(RequestScope.class));
         verify(tx, never()).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -1009,7 +1009,7 @@ public class LifeCycleTest {
         verify(mockModel, never()).relationCallback(eq(DELETE), any(), any());
 
         verify(tx).preCommit(any());
-        verify(tx, times(1)).createObject(eq(mockModel), isA(RequestScope.class));
+        verify(tx, times(1)).createObjects(eq(List.of(mockModel)), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -1072,7 +1072,7 @@ public class LifeCycleTest {
         verify(mockModel, never()).relationCallback(eq(DELETE), any(), any());
 
         verify(tx).preCommit(any());
-        verify(tx, times(1)).createObject(eq(mockModel), isA(RequestScope.class));
+        verify(tx, times(1)).createObjects(eq(List.of(mockModel)), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -1140,7 +1140,7 @@ public class LifeCycleTest {
         verify(mockModel, never()).relationCallback(eq(DELETE), any(), any());
 
         verify(tx, never()).preCommit(any());
-        verify(tx, never()).createObject(eq(mockModel), isA(RequestScope.class));
+        verify(tx, never()).createObjects(eq(List.of(mockModel)), isA(RequestScope.class));
         verify(tx, never()).flush(isA(RequestScope.class));
         verify(tx, never()).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -22,7 +22,9 @@ import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.request.route.Route;
 import com.yahoo.elide.core.security.checks.OperationCheck;
 import com.yahoo.elide.core.security.checks.UserCheck;
+import com.yahoo.elide.core.security.executors.ActivePermissionExecutor;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
+import com.yahoo.elide.core.security.permissions.UserCheckCache;
 import com.yahoo.elide.core.type.ClassType;
 import example.TestCheckMappings;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -474,6 +477,36 @@ public class PermissionExecutorTest {
         assertEquals(ExpressionResult.PASS, requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource, ALL_FIELDS));
     }
 
+    @Test
+    public void testSharedUserCheckCache() {
+        EntityDictionary dictionary = EntityDictionary.builder().checks(TestCheckMappings.MAPPINGS).build();
+        dictionary.bindEntity(UserCheckCacheRecord.class);
+        UserCheckCache cache = new UserCheckCache(100, Duration.ofMinutes(1), User::getName);
+        ElideSettings elideSettings = ElideSettings.builder().dataStore(null)
+                .entityDictionary(dictionary)
+                .permissionExecutor(scope -> new ActivePermissionExecutor(scope, cache))
+                .build();
+
+        // The check only passes the first time it runs
+        assertEquals(ExpressionResult.PASS, checkUpdatePermission(elideSettings, new TestUser("alice")));
+        assertEquals(ExpressionResult.PASS, checkUpdatePermission(elideSettings, new TestUser("alice")));
+        assertThrows(ForbiddenAccessException.class,
+                () -> checkUpdatePermission(elideSettings, new TestUser("bob")));
+
+        cache.invalidate(new TestUser("alice"));
+        assertThrows(ForbiddenAccessException.class,
+                () -> checkUpdatePermission(elideSettings, new TestUser("alice")));
+    }
+
+    private ExpressionResult checkUpdatePermission(ElideSettings elideSettings, User user) {
+        Route route = Route.builder().apiVersion(NO_VERSION).build();
+        RequestScope requestScope = RequestScope.builder().route(route).requestId(UUID.randomUUID()).user(user)
+                .elideSettings(elideSettings).build();
+        UserCheckCacheRecord record = new UserCheckCacheRecord();
+        PersistentResource resource = new PersistentResource<>(record, requestScope.getUUIDFor(record), requestScope);
+        return requestScope.getPermissionExecutor().checkPermission(UpdatePermission.class, resource, ALL_FIELDS);
+    }
+
     @Test
     public void testUserCheckOnFieldSuccess() {
         OpenBean openBean = new OpenBean();
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.dictionary.EntityPermissions;
+import com.yahoo.elide.core.dictionary.TestDictionary;
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import com.yahoo.elide.core.security.permissions.expressions.CheckExpression;
+import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.security.visitors.PermissionExpressionNormalizationVisitor;
+import com.yahoo.elide.core.security.visitors.PermissionExpressionVisitor;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Tests compiling permission expressions.
+ */
+public class CompiledPermissionTest {
+    private EntityDictionary dictionary;
+    private Function<Check, Expression> checkFn;
+
+    public static class Allow extends UserCheck {
+        @Override
+        public boolean ok(User user) {
+            return true;
+        }
+    }
+
+    public static class Deny extends UserCheck {
+        @Override
+        public boolean ok(User user) {
+            return false;
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        dictionary = TestDictionary.getTestDictionary(Map.of("Allow", Allow.class, "Deny", Deny.class));
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+        checkFn = check -> new CheckExpression(check, null, scope, null, new ExpressionResultCache());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Allow",
+        "Allow OR Deny",
+        "Allow AND NOT Deny",
+        "NOT NOT Allow",
+        "NOT (Allow AND (Deny OR NOT Allow))",
+        "not (Deny or not (Allow and Deny)) or Allow",
+        "Prefab.Role.All AND NOT Prefab.Role.None"
+    })
+    public void testMatchesNormalizedExpression(String permission) {
+        ParseTree permissions = EntityPermissions.parseExpression(permission);
+
+        Expression expected = permissions
+                .accept(new PermissionExpressionVisitor(dictionary, checkFn))
+                .accept(new PermissionExpressionNormalizationVisitor());
+        Expression compiled = CompiledPermission.compile(permissions, dictionary).instantiate(checkFn);
+
+        assertEquals(expected.toString(), compiled.toString());
+        assertEquals(expected.evaluate(Expression.EvaluationMode.ALL_CHECKS),
+                compiled.evaluate(Expression.EvaluationMode.ALL_CHECKS));
+    }
+
+    @Test
+    public void testCompiledOncePerDictionary() {
+        ParseTree permissions = EntityPermissions.parseExpression("Allow AND Deny");
+
+        CompiledPermission compiled = dictionary.getCompiledPermission(permissions);
+        assertSame(compiled, dictionary.getCompiledPermission(permissions));
+        assertNotSame(compiled.instantiate(checkFn), compiled.instantiate(checkFn));
+
+        // New checks may change what an identifier resolves to
+        dictionary.addRoleCheck("Allow", new Deny());
+        assertNotSame(compiled, dictionary.getCompiledPermission(permissions));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.yahoo.elide.core.security.TestUser;
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import com.yahoo.elide.core.security.checks.prefab.Role;
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests sharing user check results across requests.
+ */
+public class UserCheckCacheTest {
+
+    /**
+     * Check which counts its evaluations.
+     */
+    private static class CountingCheck extends UserCheck {
+        private final AtomicInteger evaluations = new AtomicInteger();
+
+        @Override
+        public boolean ok(User user) {
+            evaluations.incrementAndGet();
+            return "admin".equals(user.getName());
+        }
+    }
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Test
+    public void testResultsAreSharedPerUser() {
+        UserCheckCache cache = new UserCheckCache(100, Duration.ofMinutes(1), User::getName, ticker);
+        CountingCheck check = new CountingCheck();
+
+        assertEquals(true, cache.ok(check, new TestUser("admin")));
+        assertEquals(true, cache.ok(check, new TestUser("admin")));
+        assertEquals(false, cache.ok(check, new TestUser("guest")));
+        assertEquals(false, cache.ok(check, new TestUser("guest")));
+
+        assertEquals(2, check.evaluations.get());
+    }
+
+    @Test
+    public void testRoleChecksAreCachedPerRole() {
+        UserCheckCache cache = new UserCheckCache(100, Duration.ofMinutes(1), User::getName, ticker);
+        UserCheck adminRole = new Role.RoleMemberCheck("admin");
+        UserCheck guestRole = new Role.RoleMemberCheck("guest");
+        User guest = new User(() -> "guest") {
+            @Override
+            public boolean isInRole(String role) {
+                return "guest".equals(role);
+            }
+        };
+
+        assertEquals(true, cache.ok(guestRole, guest));
+        assertEquals(false, cache.ok(adminRole, guest));
+        assertEquals(true, cache.ok(guestRole, guest));
+    }
+
+    @Test
+    public void testResultsExpire() {
+        UserCheckCache cache = new UserCheckCache(100, Duration.ofMinutes(1), User::getName, ticker);
+        CountingCheck check = new CountingCheck();
+
+        cache.ok(check, new TestUser("admin"));
+        nanos.addAndGet(Duration.ofSeconds(59).toNanos());
+        cache.ok(check, new TestUser("admin"));
+        assertEquals(1, check.evaluations.get());
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.ok(check, new TestUser("admin"));
+        assertEquals(2, check.evaluations.get());
+    }
+
+    @Test
+    public void testInvalidate() {
+        UserCheckCache cache = new UserCheckCache(100, Duration.ofMinutes(1), User::getName, ticker);
+        CountingCheck check = new CountingCheck();
+        User admin = new TestUser("admin");
+        User guest = new TestUser("guest");
+
+        cache.ok(check, admin);
+        cache.ok(check, guest);
+        cache.putExpressionResult(admin, "expression", ExpressionResult.PASS);
+
+        cache.invalidate(admin);
+
+        assertNull(cache.getExpressionResult(admin, "expression"));
+        cache.ok(check, guest);
+        assertEquals(2, check.evaluations.get());
+        cache.ok(check, admin);
+        assertEquals(3, check.evaluations.get());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testUsersWithoutKeyAreNotCached() {
+        UserCheckCache cache = new UserCheckCache(100, Duration.ofMinutes(1), user -> null, ticker);
+        CountingCheck check = new CountingCheck();
+        User admin = new TestUser("admin");
+
+        cache.ok(check, admin);
+        cache.ok(check, admin);
+        cache.putExpressionResult(admin, "expression", ExpressionResult.PASS);
+
+        assertEquals(2, check.evaluations.get());
+        assertNull(cache.getExpressionResult(admin, "expression"));
+        assertEquals(0, cache.size());
+    }
+}
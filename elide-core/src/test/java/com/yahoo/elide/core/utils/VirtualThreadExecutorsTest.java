@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests creating executors which may use virtual threads.
+ */
+class VirtualThreadExecutorsTest {
+
+    private static void assertRunsTasks(ExecutorService executor) throws Exception {
+        try {
+            assertEquals("done", executor.submit(() -> "done").get(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testPlatformThreads() throws Exception {
+        assertRunsTasks(VirtualThreadExecutors.newFixedThreadPool(1, false));
+        assertRunsTasks(VirtualThreadExecutors.newCachedThreadPool(false));
+    }
+
+    @Test
+    void testVirtualThreadsFallBack() throws Exception {
+        // Uses virtual threads on Java 21 and later and platform threads otherwise.
+        assertRunsTasks(VirtualThreadExecutors.newFixedThreadPool(1, true));
+        assertRunsTasks(VirtualThreadExecutors.newCachedThreadPool(true));
+
+        if (VirtualThreadExecutors.isSupported()) {
+            assertRunsTasks(VirtualThreadExecutors.newVirtualThreadPerTaskExecutor());
+        } else {
+            assertThrows(UnsupportedOperationException.class, VirtualThreadExecutors::newVirtualThreadPerTaskExecutor);
+        }
+    }
+}
@@ -68,7 +68,9 @@ import jakarta.validation.constraints.NotNull;
 
 import tools.jackson.databind.DatabindException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -131,6 +133,56 @@ public class JsonApiTest {
         checkEquality(jsonApiDocument);
     }
 
+    @Test
+    public void writeSingleToOutputStream() throws Exception {
+        Parent parent = new Parent();
+        parent.setId(123L);
+
+        RequestScope userScope = new TestRequestScope(BASE_URL, tx, user, dictionary);
+
+        JsonApiDocument jsonApiDocument = new JsonApiDocument();
+        jsonApiDocument.setData(new Data<>(new PersistentResource<>(parent, userScope.getUUIDFor(parent), userScope).toResource()));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        mapper.writeJsonApiDocument(jsonApiDocument, outputStream);
+
+        assertEquals(mapper.writeJsonApiDocument(jsonApiDocument), outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getStreamingMatchesGet() throws Exception {
+        Elide elide = getElide(mock(DataStore.class), dictionary, null);
+        Route route = Route.builder().baseUrl(BASE_URL).path("/parent")
+                .parameters(Map.of("unknown", List.of("1"))).build();
+
+        ElideResponse<String> response = new JsonApi(elide).get(route, user, UUID.randomUUID());
+        ElideResponse<JsonApiResponseWriter> streamed = new JsonApi(elide).getStreaming(route, user,
+                UUID.randomUUID());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        streamed.getBody().writeTo(outputStream);
+        assertEquals(response.getStatus(), streamed.getStatus());
+        assertEquals(response.getBody(), outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    public static class UnreadableValue {
+        public String getValue() {
+            throw new IllegalStateException("Not loaded");
+        }
+    }
+
+    @Test
+    void streamingSerializationFailsBeforeCommit() {
+        Elide elide = getElide(mock(DataStore.class), dictionary, null);
+        Resource resource = new Resource("parent", "1");
+        resource.setAttributes(Map.of("value", new UnreadableValue()));
+        JsonApiDocument document = new JsonApiDocument();
+        document.setData(new Data<>(resource));
+
+        // Thrown to the request handler, which maps it to an error response before the transaction commits.
+        assertThrows(RuntimeException.class, () -> new JsonApi(elide).toStreamingResponse(200, document));
+    }
+
     @Test
     public void writeSingle() {
         Parent parent = new Parent();
@@ -23,6 +23,7 @@ import com.yahoo.elide.datastores.aggregation.annotation.ColumnMeta;
 import com.yahoo.elide.datastores.aggregation.annotation.Join;
 import com.yahoo.elide.datastores.aggregation.annotation.TableMeta;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionTracker;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.metadata.enums.ValueType;
 import com.yahoo.elide.datastores.aggregation.metadata.models.ArgumentDefinition;
@@ -54,6 +55,7 @@ import java.util.function.Predicate;
 public class AggregationDataStore implements DataStore {
     @NonNull private final QueryEngine queryEngine;
     private final Cache cache;
+    private final TableVersionTracker tableVersionTracker;
     private final Set<Type<?>> dynamicCompiledClasses;
     private final QueryLogger queryLogger;
 
@@ -135,7 +137,7 @@ public class AggregationDataStore implements DataStore {
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new AggregationDataStoreTransaction(queryEngine, cache, queryLogger);
+        return new AggregationDataStoreTransaction(queryEngine, cache, tableVersionTracker, queryLogger);
     }
 
     /**
@@ -20,6 +20,7 @@ import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
 import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionTracker;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.QueryResponse;
 import com.yahoo.elide.datastores.aggregation.filter.visitor.MatchesTemplateVisitor;
@@ -48,14 +49,21 @@ import java.util.stream.Collectors;
 public class AggregationDataStoreTransaction implements DataStoreTransaction {
     private final QueryEngine queryEngine;
     private final Cache cache;
+    private final TableVersionTracker tableVersionTracker;
     private final QueryEngine.Transaction queryEngineTransaction;
     private final QueryLogger queryLogger;
     private final MetaDataStore metaDataStore;
 
     public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
                                            QueryLogger queryLogger) {
+        this(queryEngine, cache, null, queryLogger);
+    }
+
+    public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
+                                           TableVersionTracker tableVersionTracker, QueryLogger queryLogger) {
         this.queryEngine = queryEngine;
         this.cache = cache;
+        this.tableVersionTracker = tableVersionTracker;
         this.queryEngineTransaction = queryEngine.beginTransaction();
         this.queryLogger = queryLogger;
         this.metaDataStore = queryEngine.getMetaDataStore();
@@ -106,7 +114,9 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
             Query query = buildQuery(entityProjection, scope);
             Table table = (Table) query.getSource();
             if (cache != null && !query.isBypassingCache()) {
-                String tableVersion = queryEngine.getTableVersion(table, queryEngineTransaction);
+                String tableVersion = tableVersionTracker != null
+                        ? tableVersionTracker.getTableVersion(table, queryEngineTransaction)
+                        : queryEngine.getTableVersion(table, queryEngineTransaction);
                 tableVersion = tableVersion == null ? "" : tableVersion;
 
                 cacheKey = tableVersion + ';' + QueryKeyExtractor.extractKey(query);
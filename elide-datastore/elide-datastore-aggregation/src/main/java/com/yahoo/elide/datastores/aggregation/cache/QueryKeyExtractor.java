@@ -21,8 +21,10 @@ import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.Queryable;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Generate a cache key for a given Query.
@@ -39,12 +41,30 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
 
     private final StringBuilder keyBuilder;
 
-    private QueryKeyExtractor() {
+    // When set, filter values are replaced by their count and everything else that shapes the generated SQL
+    // (query arguments, path aliases & arguments) is included.
+    private final boolean shapeOnly;
+
+    private QueryKeyExtractor(boolean shapeOnly) {
         keyBuilder = new StringBuilder(ESTIMATED_KEY_SIZE);
+        this.shapeOnly = shapeOnly;
     }
 
     public static String extractKey(Query query) {
-        QueryKeyExtractor extractor = new QueryKeyExtractor();
+        QueryKeyExtractor extractor = new QueryKeyExtractor(false);
+        extractor.visit(query);
+        return extractor.keyBuilder.toString();
+    }
+
+    /**
+     * Generate a key for the shape of a given Query. Queries which only differ in their filter values
+     * share the same shape key and translate to the same parameterized SQL.
+     *
+     * @param query The query.
+     * @return the shape key.
+     */
+    public static String extractShapeKey(Query query) {
+        QueryKeyExtractor extractor = new QueryKeyExtractor(true);
         extractor.visit(query);
         return extractor.keyBuilder.toString();
     }
@@ -52,6 +72,10 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
     private void visit(Query query) {
         visit(query.getSource());
 
+        if (shapeOnly) {
+            visit(query.getArguments());
+        }
+
         beginGroup();
         // `metrics` is a list - don't sort
         query.getMetricProjections().forEach(this::visit);
@@ -122,6 +146,18 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         visit(element.getType());
         visit(element.getFieldType());
         visit(element.getFieldName());
+        if (shapeOnly) {
+            visit(String.valueOf(element.getAlias()));
+            beginGroup();
+            // `arguments` is an unordered set - sort by name
+            Optional.ofNullable(element.getArguments()).orElse(Collections.emptySet()).stream()
+                    .sorted(Comparator.comparing(Argument::getName))
+                    .forEachOrdered(arg -> {
+                        visit(arg.getName());
+                        visit(String.valueOf(arg.getValue()));
+                    });
+            endGroup();
+        }
         endGroup();
     }
 
@@ -153,8 +189,13 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         visit("P");
         visit(filterPredicate.getPath());
         visit(filterPredicate.getOperator().toString());
-        // `values` is list - don't sort
-        filterPredicate.getValues().forEach(this::visitObject);
+        if (shapeOnly) {
+            // values are bound as parameters - only their number changes the SQL
+            visit(filterPredicate.getValues().size());
+        } else {
+            // `values` is list - don't sort
+            filterPredicate.getValues().forEach(this::visitObject);
+        }
         endGroup();
         // `field` and `fieldPath` are derived from path
         return null;
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import com.yahoo.elide.datastores.aggregation.QueryEngine;
+import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the version of each {@link Table} used to build query cache keys.
+ * <p>
+ * Versions are served from memory and refreshed in the background every refresh interval so that a query
+ * cache hit does not require a round trip to the database. A version which has not been refreshed for twice
+ * the refresh interval (for example because the background refresh is failing) is reloaded synchronously.
+ */
+@Slf4j
+public class TableVersionTracker implements Closeable {
+
+    /**
+     * A table version and when it was read.
+     */
+    @Value
+    private static class TableVersion {
+        String version;
+        Instant refreshedAt;
+    }
+
+    private final QueryEngine queryEngine;
+    private final Duration refreshInterval;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final Clock clock;
+    private final Map<Table, TableVersion> versions = new ConcurrentHashMap<>();
+
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder refreshFailureCount = new LongAdder();
+    private final LongAdder totalRefreshNanos = new LongAdder();
+    private final AtomicLong maxRefreshNanos = new AtomicLong();
+
+    /**
+     * Constructor.
+     * @param queryEngine The query engine which looks up table versions.
+     * @param refreshInterval How often each table version is refreshed.
+     */
+    public TableVersionTracker(QueryEngine queryEngine, Duration refreshInterval) {
+        this(queryEngine, refreshInterval, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "elide-table-version-tracker");
+            thread.setDaemon(true);
+            return thread;
+        }), true, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor.
+     * @param queryEngine The query engine which looks up table versions.
+     * @param refreshInterval How often each table version is refreshed.
+     * @param scheduler Runs the background refreshes.
+     */
+    public TableVersionTracker(QueryEngine queryEngine, Duration refreshInterval,
+            ScheduledExecutorService scheduler) {
+        this(queryEngine, refreshInterval, scheduler, false, Clock.systemUTC());
+    }
+
+    TableVersionTracker(QueryEngine queryEngine, Duration refreshInterval, ScheduledExecutorService scheduler,
+            boolean ownsScheduler, Clock clock) {
+        this.queryEngine = queryEngine;
+        this.refreshInterval = refreshInterval;
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+        this.clock = clock;
+
+        long intervalMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the version of the table. The first lookup for a table (and the lookup of a version that could not
+     * be refreshed in time) runs synchronously with the caller's transaction. All other lookups are served from
+     * memory.
+     *
+     * @param table The table to get version of
+     * @param transaction The transaction to use for a synchronous lookup
+     * @return a version token, or null if not available.
+     */
+    public String getTableVersion(Table table, QueryEngine.Transaction transaction) {
+        TableVersion tableVersion = versions.get(table);
+        if (tableVersion == null || isExpired(tableVersion)) {
+            tableVersion = load(table, transaction);
+            versions.put(table, tableVersion);
+        }
+        return tableVersion.getVersion();
+    }
+
+    /**
+     * Refreshes the version of a table now, for example after an ETL job has loaded new data.
+     *
+     * @param table The table to refresh.
+     */
+    public void refresh(Table table) {
+        try (QueryEngine.Transaction transaction = queryEngine.beginTransaction()) {
+            versions.put(table, load(table, transaction));
+        } catch (RuntimeException e) {
+            refreshFailureCount.increment();
+            log.error("Unable to refresh version of table {}", table.getName(), e);
+        }
+    }
+
+    /**
+     * Refreshes the version of every table which has been looked up.
+     */
+    public void refreshAll() {
+        versions.keySet().forEach(this::refresh);
+    }
+
+    /**
+     * Discards the version of a table so that the next lookup reloads it.
+     *
+     * @param table The table to invalidate.
+     */
+    public void invalidate(Table table) {
+        versions.remove(table);
+    }
+
+    /**
+     * Returns how long ago the version of the table was read from the database.
+     *
+     * @param table The table.
+     * @return the staleness of the version or null if the version is not tracked.
+     */
+    public Duration getStaleness(Table table) {
+        TableVersion tableVersion = versions.get(table);
+        return tableVersion == null ? null : Duration.between(tableVersion.getRefreshedAt(), clock.instant());
+    }
+
+    /**
+     * Returns the staleness of the least recently read table version.
+     *
+     * @return the maximum staleness across tracked tables.
+     */
+    public Duration getMaxStaleness() {
+        Instant now = clock.instant();
+        return versions.values().stream()
+                .map(tableVersion -> Duration.between(tableVersion.getRefreshedAt(), now))
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.sum();
+    }
+
+    /**
+     * Returns the mean latency of version lookups.
+     *
+     * @return the mean refresh latency.
+     */
+    public Duration getMeanRefreshLatency() {
+        long count = refreshCount.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalRefreshNanos.sum() / count);
+    }
+
+    public Duration getMaxRefreshLatency() {
+        return Duration.ofNanos(maxRefreshNanos.get());
+    }
+
+    @Override
+    public void close() {
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private boolean isExpired(TableVersion tableVersion) {
+        return tableVersion.getRefreshedAt().plus(refreshInterval.multipliedBy(2)).isBefore(clock.instant());
+    }
+
+    private TableVersion load(Table table, QueryEngine.Transaction transaction) {
+        long start = System.nanoTime();
+        String version = queryEngine.getTableVersion(table, transaction);
+        long elapsed = System.nanoTime() - start;
+
+        refreshCount.increment();
+        totalRefreshNanos.add(elapsed);
+        maxRefreshNanos.accumulateAndGet(elapsed, Math::max);
+
+        return new TableVersion(version, clock.instant());
+    }
+}
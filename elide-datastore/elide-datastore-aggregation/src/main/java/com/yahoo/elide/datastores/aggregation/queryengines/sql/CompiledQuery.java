@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * The SQL generated for a client query shape along with the plan for binding its parameters.
+ */
+@Value
+public class CompiledQuery {
+
+    /**
+     * The primary query.
+     */
+    @NonNull
+    private String sql;
+
+    /**
+     * The page total query or null if the query does not request page totals (or only returns a single record).
+     */
+    private String pageTotalSql;
+
+    /**
+     * The parameter names referenced by the generated SQL in the order filter parameters are extracted
+     * from the client query.
+     */
+    @NonNull
+    private List<String> parameterNames;
+}
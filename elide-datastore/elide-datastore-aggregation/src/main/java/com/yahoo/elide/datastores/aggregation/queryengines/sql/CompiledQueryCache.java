@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.function.Function;
+
+/**
+ * A bounded local cache of {@link CompiledQuery}s keyed by query shape.
+ */
+public class CompiledQueryCache {
+    public static final int DEFAULT_MAXIMUM_ENTRIES = 1024;
+
+    private final Cache<String, CompiledQuery> cache;
+
+    public CompiledQueryCache() {
+        this(DEFAULT_MAXIMUM_ENTRIES);
+    }
+
+    public CompiledQueryCache(int maximumSize) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the compiled query for the shape, compiling it if absent.
+     *
+     * @param shapeKey the query shape key.
+     * @param compiler compiles the query on a cache miss.
+     * @return the compiled query.
+     */
+    public CompiledQuery get(String shapeKey, Function<String, CompiledQuery> compiler) {
+        return cache.get(shapeKey, compiler);
+    }
+
+    /**
+     * Discards all compiled queries. Should be invoked whenever table metadata changes.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Hit, miss and eviction statistics.
+     *
+     * @return the cache statistics.
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public Cache<String, CompiledQuery> getImplementation() {
+        return cache;
+    }
+}
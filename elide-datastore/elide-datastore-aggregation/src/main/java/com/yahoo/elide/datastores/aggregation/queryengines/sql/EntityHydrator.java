@@ -40,9 +40,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
@@ -64,6 +65,10 @@ public class EntityHydrator implements Iterable<Object> {
 
     private Map<String, String> projections;
 
+    // Resolved once per query on the first row rather than for every cell.
+    private Type<?> entityClass;
+    private List<ColumnDecoder> decoders;
+
     public EntityHydrator(ResultSet resultSet, Query query, EntityDictionary entityDictionary) {
         this.query = query;
         this.entityDictionary = entityDictionary;
@@ -83,59 +88,131 @@ public class EntityHydrator implements Iterable<Object> {
     }
 
     /**
-     * Coerces results from a {@link Query} into an Object.
-     *
-     * @param result a fieldName-value map
-     * @param counter Monotonically increasing number to generate IDs.
-     * @return A hydrated entity object.
+     * Copies a single projected column of a result set row into an entity. The column index, target type,
+     * attribute and enum mapping are resolved when the decoder is constructed.
      */
-    protected Object coerceObjectToEntity(Map<String, Object> result, MutableInt counter) {
-        Table table = getBaseTable(query);
-        Type<?> entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+    private class ColumnDecoder {
+        private final String fieldName;
+        private final Type<?> fieldType;
+        private final Attribute attribute;
 
-        //Construct the object.
-        Object entityInstance;
-        try {
-            entityInstance = entityClass.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new IllegalStateException(e);
-        }
+        // Ordinal to value mapping for text enumerations which are not java enums, otherwise null.
+        private final LinkedHashSet<String> enumValues;
+        private final String[] enumValuesByOrdinal;
+
+        private final int columnIndex;
 
-        result.forEach((fieldName, value) -> {
+        ColumnDecoder(String fieldName, int columnIndex, Type<?> entityClass, Table table) {
             ColumnProjection columnProjection = query.getColumnProjection(fieldName);
             Column column = table.getColumn(Column.class, columnProjection.getName());
 
-            Type<?> fieldType = getType(entityClass, columnProjection);
-            Attribute attribute = projectionToAttribute(columnProjection, fieldType);
+            this.fieldName = fieldName;
+            this.columnIndex = columnIndex;
+            this.fieldType = getType(entityClass, columnProjection);
+            this.attribute = projectionToAttribute(columnProjection, fieldType);
+
+            if (! fieldType.isEnum() //Java enums can be coerced directly via CoerceUtil - so skip them.
+                    && column.getValueType() == ValueType.TEXT
+                    && column.getValues() != null
+                    && !column.getValues().isEmpty()) {
+                this.enumValues = column.getValues();
+                this.enumValuesByOrdinal = enumValues.toArray(new String[0]);
+            } else {
+                this.enumValues = null;
+                this.enumValuesByOrdinal = null;
+            }
+        }
 
-            ValueType valueType = column.getValueType();
+        void decode(ResultSet row, Object entityInstance) throws SQLException {
+            set(entityInstance, row.getObject(columnIndex));
+        }
 
+        void set(Object entityInstance, Object value) {
             if (entityInstance instanceof ParameterizedModel) {
 
                 // This is an ENUM_TEXT or ENUM_ORDINAL type.
-                if (! fieldType.isEnum() //Java enums can be coerced directly via CoerceUtil - so skip them.
-                        && valueType == ValueType.TEXT
-                        && column.getValues() != null
-                        && !column.getValues().isEmpty()) {
-                    value = convertToEnumValue(value, column.getValues());
+                if (enumValues != null) {
+                    value = convertToEnumValue(value, enumValues, enumValuesByOrdinal);
                 }
 
                 ((ParameterizedModel) entityInstance).addAttributeValue(
                     attribute,
                     CoerceUtil.coerce(value, fieldType));
             } else {
-                    getEntityDictionary().setValue(entityInstance, fieldName, value);
+                getEntityDictionary().setValue(entityInstance, fieldName, value);
             }
-        });
+        }
+    }
+
+    /**
+     * Coerces results from a {@link Query} into an Object.
+     *
+     * @param result a fieldName-value map
+     * @param counter Monotonically increasing number to generate IDs.
+     * @return A hydrated entity object.
+     */
+    protected Object coerceObjectToEntity(Map<String, Object> result, MutableInt counter) {
+        Table table = getBaseTable(query);
+        Type<?> entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+
+        Object entityInstance = newInstance(entityClass);
 
+        result.forEach((fieldName, value) ->
+            new ColumnDecoder(fieldName, 0, entityClass, table).set(entityInstance, value));
+
+        setId(entityInstance, entityClass, counter);
+
+        return entityInstance;
+    }
+
+    /**
+     * Hydrates the current row of the result set into an entity.
+     *
+     * @param row the result set positioned at the row to hydrate.
+     * @param counter Monotonically increasing number to generate IDs.
+     * @return A hydrated entity object.
+     * @throws SQLException if the row cannot be read.
+     */
+    private Object decodeRow(ResultSet row, MutableInt counter) throws SQLException {
+        if (decoders == null) {
+            Table table = getBaseTable(query);
+            entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+
+            List<ColumnDecoder> columnDecoders = new ArrayList<>(projections.size());
+            for (Map.Entry<String, String> entry : projections.entrySet()) {
+                columnDecoders.add(new ColumnDecoder(entry.getKey(), row.findColumn(entry.getValue()),
+                        entityClass, table));
+            }
+            decoders = columnDecoders;
+        }
+
+        Object entityInstance = newInstance(entityClass);
+
+        for (ColumnDecoder decoder : decoders) {
+            decoder.decode(row, entityInstance);
+        }
+
+        setId(entityInstance, entityClass, counter);
+
+        return entityInstance;
+    }
+
+    private static Object newInstance(Type<?> entityClass) {
+        //Construct the object.
+        try {
+            return entityClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void setId(Object entityInstance, Type<?> entityClass, MutableInt counter) {
         //Set the ID (it must be coerced from an integer)
         getEntityDictionary().setValue(
                 entityInstance,
                 getEntityDictionary().getIdFieldName(entityClass),
                 counter.getAndIncrement()
         );
-
-        return entityInstance;
     }
 
     private Table getBaseTable(Query query) {
@@ -185,15 +262,16 @@ public class EntityHydrator implements Iterable<Object> {
         }
     }
 
-    private String convertToEnumValue(Object value, LinkedHashSet<String> enumValues) {
+    private static String convertToEnumValue(Object value, LinkedHashSet<String> enumValues,
+                                             String[] enumValuesByOrdinal) {
         if (value == null) {
             return null;
         }
 
         if (Integer.class.isAssignableFrom(value.getClass())) {
             Integer valueIndex = (Integer) value;
-            if (valueIndex < enumValues.size()) {
-                return enumValues.toArray(new String[0])[valueIndex];
+            if (valueIndex < enumValuesByOrdinal.length) {
+                return enumValuesByOrdinal[valueIndex];
             }
         }
         else if (enumValues.contains(value.toString())) {
@@ -237,14 +315,7 @@ public class EntityHydrator implements Iterable<Object> {
                     if (! hasNext) {
                         throw new NoSuchElementException();
                     }
-                    Map<String, Object> row = new LinkedHashMap<>();
-
-                    for (Map.Entry<String, String> entry : projections.entrySet()) {
-                        Object value = resultSet.getObject(entry.getValue());
-                        row.put(entry.getKey(), value);
-                    }
-
-                    return coerceObjectToEntity(row, counter);
+                    return decodeRow(resultSet, counter);
                 } catch (SQLException e) {
                     log.error("Error iterating over results {}", e.getMessage());
                 }
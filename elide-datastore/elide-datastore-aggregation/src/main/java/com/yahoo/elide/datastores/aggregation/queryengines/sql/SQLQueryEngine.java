@@ -10,6 +10,7 @@ import static com.yahoo.elide.datastores.aggregation.metadata.ColumnContext.appl
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate.FilterParameter;
 import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.type.Type;
@@ -18,6 +19,7 @@ import com.yahoo.elide.core.utils.coerce.CoerceUtil;
 import com.yahoo.elide.datastores.aggregation.DefaultQueryValidator;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.QueryValidator;
+import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
 import com.yahoo.elide.datastores.aggregation.dynamic.NamespacePackage;
 import com.yahoo.elide.datastores.aggregation.metadata.FormulaValidator;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
@@ -29,6 +31,7 @@ import com.yahoo.elide.datastores.aggregation.metadata.models.Namespace;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
 import com.yahoo.elide.datastores.aggregation.metadata.models.TimeDimension;
 import com.yahoo.elide.datastores.aggregation.query.DefaultQueryPlanMerger;
+import com.yahoo.elide.datastores.aggregation.query.DefaultTableSQLMaker;
 import com.yahoo.elide.datastores.aggregation.query.DimensionProjection;
 import com.yahoo.elide.datastores.aggregation.query.MetricProjection;
 import com.yahoo.elide.datastores.aggregation.query.Optimizer;
@@ -36,11 +39,13 @@ import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryPlan;
 import com.yahoo.elide.datastores.aggregation.query.QueryPlanMerger;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.query.TableSQLMaker;
 import com.yahoo.elide.datastores.aggregation.query.TimeDimensionProjection;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.annotation.FromSubquery;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.annotation.FromTable;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.annotation.VersionQuery;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.metadata.SQLJoin;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.metadata.SQLTable;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.NativeQuery;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.QueryPlanTranslator;
@@ -62,6 +67,7 @@ import java.lang.annotation.Annotation;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -69,7 +75,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -86,6 +97,9 @@ public class SQLQueryEngine extends QueryEngine {
     private final FormulaValidator formulaValidator;
     private final Function<String, ConnectionDetails> connectionDetailsLookup;
     private final QueryPlanMerger merger;
+    @Getter
+    private final CompiledQueryCache compiledQueryCache;
+    private final Executor pageTotalExecutor;
 
     public SQLQueryEngine(MetaDataStore metaDataStore, Function<String, ConnectionDetails> connectionDetailsLookup) {
         this(metaDataStore, connectionDetailsLookup, new HashSet<>(), new DefaultQueryPlanMerger(metaDataStore),
@@ -107,6 +121,49 @@ public class SQLQueryEngine extends QueryEngine {
             QueryPlanMerger merger,
             QueryValidator validator
     ) {
+        this(metaDataStore, connectionDetailsLookup, optimizers, merger, validator, null);
+    }
+
+    /**
+     * Constructor.
+     * @param metaDataStore : MetaDataStore.
+     * @param connectionDetailsLookup : maps a connection name to meta info about the connection.
+     * @param optimizers The set of enabled optimizers.
+     * @param merger Merges multiple plans into a smaller set (one if possible)
+     * @param validator Validates each incoming client query.
+     * @param compiledQueryCache Caches generated SQL by query shape or null to translate every query.
+     */
+    public SQLQueryEngine(
+            MetaDataStore metaDataStore,
+            Function<String, ConnectionDetails> connectionDetailsLookup,
+            Set<Optimizer> optimizers,
+            QueryPlanMerger merger,
+            QueryValidator validator,
+            CompiledQueryCache compiledQueryCache
+    ) {
+        this(metaDataStore, connectionDetailsLookup, optimizers, merger, validator, compiledQueryCache, null);
+    }
+
+    /**
+     * Constructor.
+     * @param metaDataStore : MetaDataStore.
+     * @param connectionDetailsLookup : maps a connection name to meta info about the connection.
+     * @param optimizers The set of enabled optimizers.
+     * @param merger Merges multiple plans into a smaller set (one if possible)
+     * @param validator Validates each incoming client query.
+     * @param compiledQueryCache Caches generated SQL by query shape or null to translate every query.
+     * @param pageTotalExecutor Runs page total queries on a separate connection concurrently with the primary
+     *                          query or null to run them sequentially.
+     */
+    public SQLQueryEngine(
+            MetaDataStore metaDataStore,
+            Function<String, ConnectionDetails> connectionDetailsLookup,
+            Set<Optimizer> optimizers,
+            QueryPlanMerger merger,
+            QueryValidator validator,
+            CompiledQueryCache compiledQueryCache,
+            Executor pageTotalExecutor
+    ) {
 
         Preconditions.checkNotNull(connectionDetailsLookup);
 
@@ -118,6 +175,8 @@ public class SQLQueryEngine extends QueryEngine {
         populateMetaData(metaDataStore);
         this.optimizers = optimizers;
         this.merger = merger;
+        this.compiledQueryCache = compiledQueryCache;
+        this.pageTotalExecutor = pageTotalExecutor;
     }
 
     private static final Function<ResultSet, Object> SINGLE_RESULT_MAPPER = rs -> {
@@ -203,24 +262,47 @@ public class SQLQueryEngine extends QueryEngine {
     static class SqlTransaction implements QueryEngine.Transaction {
 
         private Connection conn;
-        private final List<NamedParamPreparedStatement> stmts = new ArrayList<>();
 
-        private void initializeConnection(DataSource dataSource) {
+        // Separate connection for statements which run concurrently with those on the primary connection.
+        private Connection concurrentConn;
+        private final List<NamedParamPreparedStatement> stmts = new CopyOnWriteArrayList<>();
+        private final List<NamedParamPreparedStatement> concurrentStmts = new CopyOnWriteArrayList<>();
+
+        private static Connection initializeConnection(Connection existing, DataSource dataSource)
+                throws SQLException {
+            if (existing == null || !existing.isValid(10)) {
+                return dataSource.getConnection();
+            }
+            return existing;
+        }
+
+        public NamedParamPreparedStatement initializeStatement(String namedParamQuery, DataSource dataSource) {
+            NamedParamPreparedStatement stmt;
             try {
-                this.conn = dataSource.getConnection();
+                conn = initializeConnection(conn, dataSource);
+                stmt = new NamedParamPreparedStatement(conn, namedParamQuery);
+                stmts.add(stmt);
             } catch (SQLException e) {
                 throw new IllegalStateException(e);
             }
+            return stmt;
         }
 
-        public NamedParamPreparedStatement initializeStatement(String namedParamQuery, DataSource dataSource) {
+        /**
+         * Prepares a statement on a connection other than the one used by {@link #initializeStatement} so that
+         * the two can execute at the same time.
+         * @param namedParamQuery the query.
+         * @param dataSource the data source for the query.
+         * @return the prepared statement.
+         */
+        public NamedParamPreparedStatement initializeConcurrentStatement(String namedParamQuery,
+                                                                         DataSource dataSource) {
             NamedParamPreparedStatement stmt;
             try {
-                if (conn == null || !conn.isValid(10)) {
-                    initializeConnection(dataSource);
-                }
-                stmt = new NamedParamPreparedStatement(conn, namedParamQuery);
+                concurrentConn = initializeConnection(concurrentConn, dataSource);
+                stmt = new NamedParamPreparedStatement(concurrentConn, namedParamQuery);
                 stmts.add(stmt);
+                concurrentStmts.add(stmt);
             } catch (SQLException e) {
                 throw new IllegalStateException(e);
             }
@@ -231,12 +313,20 @@ public class SQLQueryEngine extends QueryEngine {
         public void close() {
             stmts.forEach(SQLQueryEngine::cancelAndCloseSoftly);
             closeSoftly(conn);
+            closeSoftly(concurrentConn);
         }
 
         @Override
         public void cancel() {
             stmts.forEach(SQLQueryEngine::cancelSoftly);
         }
+
+        /**
+         * Cancels the statements prepared by {@link #initializeConcurrentStatement}.
+         */
+        public void cancelConcurrent() {
+            concurrentStmts.forEach(SQLQueryEngine::cancelSoftly);
+        }
     }
 
     @Override
@@ -251,54 +341,103 @@ public class SQLQueryEngine extends QueryEngine {
         DataSource dataSource = details.getDataSource();
         SQLDialect dialect = details.getDialect();
 
-        Query expandedQuery = expandMetricQueryPlans(query);
-
         // Translate the query into SQL.
-        NativeQuery sql = toSQL(expandedQuery, dialect);
-        String queryString = sql.toString();
+        CompiledQuery compiledQuery = compile(query, dialect);
+        String queryString = compiledQuery.getSql();
 
         QueryResult.QueryResultBuilder resultBuilder = QueryResult.builder();
         NamedParamPreparedStatement stmt;
 
+        CompletableFuture<Long> pageTotal = null;
         Pagination pagination = query.getPagination();
         if (returnPageTotals(pagination)) {
-            resultBuilder.pageTotals(getPageTotal(expandedQuery, sql, query, sqlTransaction));
+            if (pageTotalExecutor == null) {
+                resultBuilder.pageTotals(getPageTotal(compiledQuery, query, sqlTransaction, false).get());
+            } else {
+                pageTotal = CompletableFuture.supplyAsync(getPageTotal(compiledQuery, query, sqlTransaction, true),
+                        pageTotalExecutor);
+            }
         }
 
         log.debug("SQL Query: " + queryString);
-        stmt = sqlTransaction.initializeStatement(queryString, dataSource);
-
-        // Supply the query parameters to the query
-        supplyFilterQueryParameters(query, stmt, dialect);
+        ResultSet resultSet;
+        try {
+            stmt = sqlTransaction.initializeStatement(queryString, dataSource);
+
+            // Supply the query parameters to the query
+            supplyFilterQueryParameters(query, compiledQuery, stmt, dialect);
+
+            // Run the primary query and log the time spent.
+            resultSet = runQuery(stmt, queryString, Function.identity());
+        } catch (RuntimeException e) {
+            if (pageTotal != null) {
+                // Nobody will wait for the page total so stop it from holding the concurrent connection.
+                pageTotal.cancel(true);
+                sqlTransaction.cancelConcurrent();
+            }
+            throw e;
+        }
 
-        // Run the primary query and log the time spent.
-        ResultSet resultSet = runQuery(stmt, queryString, Function.identity());
+        if (pageTotal != null) {
+            resultBuilder.pageTotals(join(pageTotal));
+        }
 
         resultBuilder.data(new EntityHydrator(resultSet, query, metadataDictionary));
         return resultBuilder.build();
     }
 
-    private long getPageTotal(Query expandedQuery, NativeQuery sql, Query clientQuery, SqlTransaction sqlTransaction) {
-        ConnectionDetails details = expandedQuery.getConnectionDetails();
+    /**
+     * Prepares the page total query. The returned supplier runs the query.
+     *
+     * @param compiledQuery The SQL generated for the client query
+     * @param clientQuery The client query
+     * @param sqlTransaction The transaction
+     * @param concurrent Whether to prepare the statement on a connection separate from the primary query.
+     * @return Runs the page total query and returns its result.
+     */
+    private Supplier<Long> getPageTotal(CompiledQuery compiledQuery, Query clientQuery,
+                                        SqlTransaction sqlTransaction, boolean concurrent) {
+        ConnectionDetails details = clientQuery.getConnectionDetails();
         DataSource dataSource = details.getDataSource();
         SQLDialect dialect = details.getDialect();
-        NativeQuery paginationSQL = toPageTotalSQL(expandedQuery, sql, dialect);
+        String paginationSQL = compiledQuery.getPageTotalSql();
 
         if (paginationSQL == null) {
             // The query returns the aggregated metric without any dimension.
             // Only 1 record will be returned.
-            return 1;
+            return () -> 1L;
         }
 
-        NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(paginationSQL.toString(), dataSource);
+        NamedParamPreparedStatement stmt = concurrent
+                ? sqlTransaction.initializeConcurrentStatement(paginationSQL, dataSource)
+                : sqlTransaction.initializeStatement(paginationSQL, dataSource);
 
         // Supply the query parameters to the query
-        supplyFilterQueryParameters(clientQuery, stmt, dialect);
+        supplyFilterQueryParameters(clientQuery, compiledQuery, stmt, dialect);
 
-        // Run the Pagination query and log the time spent.
-        Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL.toString(), SINGLE_RESULT_MAPPER), Long.class);
+        return () -> {
+            // Run the Pagination query and log the time spent.
+            Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL, SINGLE_RESULT_MAPPER), Long.class);
 
-        return (result != null) ? result : 0;
+            return (result != null) ? result : 0L;
+        };
+    }
+
+    /**
+     * Waits for a page total query running concurrently with the primary query.
+     *
+     * @param pageTotal The page total query.
+     * @return The page total.
+     */
+    private static Long join(CompletableFuture<Long> pageTotal) {
+        try {
+            return pageTotal.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -342,17 +481,12 @@ public class SQLQueryEngine extends QueryEngine {
      */
     public List<String> explain(Query query, SQLDialect dialect) {
         List<String> queries = new ArrayList<>();
-        Query expandedQuery = expandMetricQueryPlans(query);
-        NativeQuery sql = toSQL(expandedQuery, dialect);
+        CompiledQuery compiledQuery = compile(query, dialect);
 
-        Pagination pagination = query.getPagination();
-        if (returnPageTotals(pagination)) {
-            NativeQuery paginationSql = toPageTotalSQL(expandedQuery, sql, dialect);
-            if (paginationSql != null) {
-                queries.add(paginationSql.toString());
-            }
+        if (compiledQuery.getPageTotalSql() != null) {
+            queries.add(compiledQuery.getPageTotalSql());
         }
-        queries.add(sql.toString());
+        queries.add(compiledQuery.getSql());
         return queries;
     }
 
@@ -366,6 +500,87 @@ public class SQLQueryEngine extends QueryEngine {
         return validator;
     }
 
+    /**
+     * Returns the SQL for the client query. When a {@link CompiledQueryCache} is configured, queries which
+     * only differ by their filter values reuse the SQL generated for the first query of the same shape.
+     * Queries which reach a table built by a custom {@link TableSQLMaker} are always translated because the
+     * maker may generate different SQL for queries of the same shape.
+     *
+     * @param query the client query.
+     * @param dialect the SQL dialect.
+     * @return the compiled query.
+     */
+    private CompiledQuery compile(Query query, SQLDialect dialect) {
+        if (compiledQueryCache == null || usesTableSQLMaker(query)) {
+            return translate(query, dialect);
+        }
+
+        String shapeKey = dialect.getDialectType() + ';' + QueryKeyExtractor.extractShapeKey(query);
+        return compiledQueryCache.get(shapeKey, unused -> translate(query, dialect));
+    }
+
+    /**
+     * Checks whether the query root or any table reachable through its joins is built by a custom
+     * {@link TableSQLMaker}.
+     *
+     * @param query the client query.
+     * @return true if the generated SQL may vary between queries of the same shape.
+     */
+    private boolean usesTableSQLMaker(Query query) {
+        if (!(query.getRoot() instanceof SQLTable root)) {
+            return true;
+        }
+
+        Set<Type<?>> visited = new HashSet<>();
+        ArrayDeque<SQLTable> tables = new ArrayDeque<>();
+        tables.add(root);
+        while (!tables.isEmpty()) {
+            SQLTable table = tables.poll();
+            if (!visited.add(table.getCls())) {
+                continue;
+            }
+
+            FromSubquery fromSubquery = table.getCls().getAnnotation(FromSubquery.class);
+            if (fromSubquery != null && !DefaultTableSQLMaker.class.equals(fromSubquery.maker())) {
+                return true;
+            }
+
+            for (SQLJoin join : table.getJoins().values()) {
+                SQLTable joinTable = metaDataStore.getTable(join.getJoinTableType());
+                if (joinTable != null) {
+                    tables.add(joinTable);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Translates the client query into the primary and page total SQL.
+     *
+     * @param query the client query.
+     * @param dialect the SQL dialect.
+     * @return the compiled query.
+     */
+    private CompiledQuery translate(Query query, SQLDialect dialect) {
+        Query expandedQuery = expandMetricQueryPlans(query);
+        NativeQuery sql = toSQL(expandedQuery, dialect);
+
+        String pageTotalSql = null;
+        if (returnPageTotals(query.getPagination())) {
+            NativeQuery paginationSql = toPageTotalSQL(expandedQuery, sql, dialect);
+            if (paginationSql != null) {
+                pageTotalSql = paginationSql.toString();
+            }
+        }
+
+        List<String> parameterNames = extractFilterParameters(query).stream()
+                .map(FilterParameter::getName)
+                .collect(Collectors.toList());
+
+        return new CompiledQuery(sql.toString(), pageTotalSql, parameterNames);
+    }
+
     /**
      * Translates the client query into SQL.
      *
@@ -431,14 +646,12 @@ public class SQLQueryEngine extends QueryEngine {
     }
 
     /**
-     * Given a Prepared Statement, replaces any parameters with their values from client query.
+     * Returns the filter predicates of the client query in a stable order.
      *
      * @param query The client query
-     * @param stmt Customized Prepared Statement
-     * @param dialect the SQL dialect
+     * @return the where and having filter predicates.
      */
-    private void supplyFilterQueryParameters(Query query, NamedParamPreparedStatement stmt, SQLDialect dialect) {
-
+    private static Collection<FilterPredicate> extractFilterPredicates(Query query) {
         Collection<FilterPredicate> predicates = new ArrayList<>();
         if (query.getWhereFilter() != null) {
             predicates.addAll(query.getWhereFilter().accept(new PredicateExtractionVisitor()));
@@ -447,22 +660,53 @@ public class SQLQueryEngine extends QueryEngine {
         if (query.getHavingFilter() != null) {
             predicates.addAll(query.getHavingFilter().accept(new PredicateExtractionVisitor()));
         }
+        return predicates;
+    }
 
-        for (FilterPredicate filterPredicate : predicates) {
+    /**
+     * Returns the parameters of the client query in the order they are bound.
+     *
+     * @param query The client query
+     * @return the filter parameters.
+     */
+    private static List<FilterParameter> extractFilterParameters(Query query) {
+        return extractFilterPredicates(query).stream()
+                .filter(predicate -> predicate.getOperator().isParameterized())
+                .flatMap(predicate -> predicate.getParameters().stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Given a Prepared Statement, replaces any parameters with their values from client query.  Parameters are
+     * bound positionally to the names recorded when the query shape was compiled.
+     *
+     * @param query The client query
+     * @param compiledQuery The SQL generated for the query shape
+     * @param stmt Customized Prepared Statement
+     * @param dialect the SQL dialect
+     */
+    private void supplyFilterQueryParameters(Query query, CompiledQuery compiledQuery,
+                                             NamedParamPreparedStatement stmt, SQLDialect dialect) {
+
+        List<String> parameterNames = compiledQuery.getParameterNames();
+        int parameterIndex = 0;
+
+        for (FilterPredicate filterPredicate : extractFilterPredicates(query)) {
             Column column = metaDataStore.getColumn(filterPredicate.getEntityType(), filterPredicate.getField());
             if (filterPredicate.getOperator().isParameterized()) {
                 boolean shouldEscape = filterPredicate.isMatchingOperator();
-                filterPredicate.getParameters().forEach(param -> {
+                for (FilterParameter param : filterPredicate.getParameters()) {
                     try {
                         Object value = param.getValue();
 
                         value = convertForJdbc(filterPredicate.getEntityType(), column, value, dialect);
 
-                        stmt.setObject(param.getName(), shouldEscape ? param.escapeMatching() : value);
+                        stmt.setObject(parameterNames.get(parameterIndex++),
+                                shouldEscape ? param.escapeMatching() : value);
                     } catch (SQLException e) {
                         throw new IllegalStateException(e);
                     }
-                });
+                }
             }
         }
     }
@@ -239,4 +239,24 @@ public class QueryKeyExtractorTest {
                         .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("updatedDate"))
                         .build()));
     }
+
+    @Test
+    public void testShapeKeyIgnoresFilterValues() throws Exception {
+        RSQLFilterDialect filterParser = RSQLFilterDialect.builder().dictionary(dictionary).build();
+        Query.QueryBuilder builder = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"));
+
+        Query great = builder.whereFilter(filterParser.parseFilterExpression("overallRating==Great",
+                ClassType.of(PlayerStats.class), false)).build();
+        Query good = builder.whereFilter(filterParser.parseFilterExpression("overallRating==Good",
+                ClassType.of(PlayerStats.class), false)).build();
+        Query both = builder.whereFilter(filterParser.parseFilterExpression("overallRating=in=(Good,Great)",
+                ClassType.of(PlayerStats.class), false)).build();
+
+        assertNotEquals(QueryKeyExtractor.extractKey(great), QueryKeyExtractor.extractKey(good));
+        assertEquals(QueryKeyExtractor.extractShapeKey(great), QueryKeyExtractor.extractShapeKey(good));
+        assertNotEquals(QueryKeyExtractor.extractShapeKey(great), QueryKeyExtractor.extractShapeKey(both));
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.datastores.aggregation.QueryEngine;
+import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class TableVersionTrackerTest {
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+    }
+
+    private QueryEngine queryEngine;
+    private QueryEngine.Transaction requestTransaction;
+    private QueryEngine.Transaction refreshTransaction;
+    private Table table;
+    private ScheduledExecutorService scheduler;
+    private MutableClock clock;
+    private TableVersionTracker tracker;
+
+    @BeforeEach
+    public void setUp() {
+        queryEngine = mock(QueryEngine.class);
+        requestTransaction = mock(QueryEngine.Transaction.class);
+        refreshTransaction = mock(QueryEngine.Transaction.class);
+        table = mock(Table.class);
+        scheduler = mock(ScheduledExecutorService.class);
+        clock = new MutableClock();
+
+        when(queryEngine.beginTransaction()).thenReturn(refreshTransaction);
+        tracker = new TableVersionTracker(queryEngine, Duration.ofMinutes(1), scheduler, false, clock);
+    }
+
+    @Test
+    public void testSchedulesRefresh() {
+        verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(60000L), eq(60000L),
+                eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testVersionServedFromMemory() {
+        when(queryEngine.getTableVersion(table, requestTransaction)).thenReturn("1");
+
+        assertEquals("1", tracker.getTableVersion(table, requestTransaction));
+        assertEquals("1", tracker.getTableVersion(table, requestTransaction));
+
+        verify(queryEngine, times(1)).getTableVersion(table, requestTransaction);
+        assertEquals(1, tracker.getRefreshCount());
+    }
+
+    @Test
+    public void testBackgroundRefresh() {
+        when(queryEngine.getTableVersion(table, requestTransaction)).thenReturn("1");
+        when(queryEngine.getTableVersion(table, refreshTransaction)).thenReturn("2");
+
+        assertEquals("1", tracker.getTableVersion(table, requestTransaction));
+
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(Duration.ofSeconds(30), tracker.getStaleness(table));
+
+        tracker.refreshAll();
+
+        assertEquals(Duration.ZERO, tracker.getStaleness(table));
+        assertEquals("2", tracker.getTableVersion(table, requestTransaction));
+        verify(refreshTransaction).close();
+    }
+
+    @Test
+    public void testExpiredVersionReloaded() {
+        when(queryEngine.getTableVersion(table, requestTransaction)).thenReturn("1", "3");
+        when(queryEngine.getTableVersion(table, refreshTransaction)).thenThrow(new IllegalStateException());
+
+        assertEquals("1", tracker.getTableVersion(table, requestTransaction));
+
+        clock.advance(Duration.ofMinutes(1));
+        tracker.refreshAll();
+        assertEquals(1, tracker.getRefreshFailureCount());
+        assertEquals("1", tracker.getTableVersion(table, requestTransaction));
+
+        clock.advance(Duration.ofMinutes(2));
+        assertEquals(Duration.ofMinutes(3), tracker.getMaxStaleness());
+        assertEquals("3", tracker.getTableVersion(table, requestTransaction));
+    }
+
+    @Test
+    public void testInvalidate() {
+        when(queryEngine.getTableVersion(table, requestTransaction)).thenReturn("1");
+
+        tracker.getTableVersion(table, requestTransaction);
+        tracker.invalidate(table);
+
+        assertNull(tracker.getStaleness(table));
+        tracker.getTableVersion(table, requestTransaction);
+        verify(queryEngine, times(2)).getTableVersion(table, requestTransaction);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getClassType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import com.yahoo.elide.datastores.aggregation.annotation.DimensionFormula;
+import com.yahoo.elide.datastores.aggregation.annotation.MetricFormula;
+import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
+import com.yahoo.elide.datastores.aggregation.query.ImmutablePagination;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.query.TableSQLMaker;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.annotation.FromSubquery;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.metadata.SQLTable;
+import com.yahoo.elide.datastores.aggregation.timegrains.Day;
+import com.google.common.collect.ImmutableList;
+import example.PlayerStats;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Id;
+import lombok.Data;
+
+import java.sql.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class CompiledQueryCacheTest extends SQLUnitTest {
+
+    private static CompiledQueryCache compiledQueryCache;
+
+    private static volatile int threshold;
+
+    /**
+     * Generates a subquery which depends on state outside of the client query.
+     */
+    public static class ThresholdMaker implements TableSQLMaker {
+        @Override
+        public String make(Query clientQuery) {
+            return "SELECT id, highScore, overallRating FROM playerStats WHERE highScore >= " + threshold;
+        }
+    }
+
+    @BeforeAll
+    public static void init() {
+        compiledQueryCache = new CompiledQueryCache();
+        Set<Type<?>> models = getClassType(new DefaultClassScanner().getAnnotatedClasses("example", Include.class));
+        models.add(ClassType.of(ThresholdPlayerStats.class));
+        MetaDataStore metaDataStore = new MetaDataStore(new DefaultClassScanner(), models, false);
+        SQLUnitTest.init(SQLDialectFactory.getDefaultDialect(), new HashSet<>(), metaDataStore, compiledQueryCache,
+                null);
+    }
+
+    @BeforeEach
+    public void invalidate() {
+        compiledQueryCache.invalidateAll();
+    }
+
+    private Query ratingQuery(String filter) throws Exception {
+        return Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate"))
+                .whereFilter(filterParser.parseFilterExpression(filter, playerStatsType, false))
+                .pagination(new ImmutablePagination(0, 10, false, true))
+                .build();
+    }
+
+    @Test
+    public void testSameShapeReusesCompiledQuery() throws Exception {
+        long hits = compiledQueryCache.getStats().hitCount();
+        long misses = compiledQueryCache.getStats().missCount();
+
+        QueryResult great = engine.executeQuery(ratingQuery("overallRating==Great"), transaction);
+
+        PlayerStats stats0 = new PlayerStats();
+        stats0.setId("0");
+        stats0.setLowScore(241);
+        stats0.setOverallRating("Great");
+        stats0.setRecordedDate(new Day(Date.valueOf("2019-07-11")));
+
+        assertEquals(ImmutableList.of(stats0), toList(great.getData()));
+        assertEquals(1, great.getPageTotals());
+
+        QueryResult good = engine.executeQuery(ratingQuery("overallRating==Good"), transaction);
+
+        List<Object> results = toList(good.getData());
+        assertEquals(2, results.size());
+        assertEquals(2, good.getPageTotals());
+        results.forEach(result -> assertEquals("Good", ((PlayerStats) result).getOverallRating()));
+
+        assertEquals(misses + 1, compiledQueryCache.getStats().missCount());
+        assertEquals(hits + 1, compiledQueryCache.getStats().hitCount());
+    }
+
+    @Test
+    public void testDifferentValueCountCompilesNewQuery() throws Exception {
+        engine.explain(ratingQuery("overallRating==Great"));
+        engine.explain(ratingQuery("overallRating=in=(Great,Good)"));
+
+        compiledQueryCache.getImplementation().cleanUp();
+        assertEquals(2, compiledQueryCache.getImplementation().estimatedSize());
+
+        QueryResult results = engine.executeQuery(ratingQuery("overallRating=in=(Great,Good)"), transaction);
+        assertEquals(3, toList(results.getData()).size());
+    }
+
+    @Test
+    public void testTableSQLMakerBypassesCache() throws Exception {
+        SQLTable thresholdTable = metaDataStore.getTable(ClassType.of(ThresholdPlayerStats.class));
+        Query query = Query.builder()
+                .source(thresholdTable)
+                .metricProjection(thresholdTable.getMetricProjection("highScore"))
+                .dimensionProjection(thresholdTable.getDimensionProjection("overallRating"))
+                .build();
+
+        long hits = compiledQueryCache.getStats().hitCount();
+        long misses = compiledQueryCache.getStats().missCount();
+
+        threshold = 100;
+        String first = engine.explain(query).get(0);
+        threshold = 2000;
+        String second = engine.explain(query).get(0);
+
+        assertTrue(first.contains("highScore >= 100"));
+        assertTrue(second.contains("highScore >= 2000"));
+        assertEquals(hits, compiledQueryCache.getStats().hitCount());
+        assertEquals(misses, compiledQueryCache.getStats().missCount());
+    }
+}
+
+@Data
+@FromSubquery(sql = "", maker = CompiledQueryCacheTest.ThresholdMaker.class)
+@Include(name = "thresholdPlayerStats")
+class ThresholdPlayerStats {
+
+    @Id
+    private String id;
+
+    @MetricFormula("MAX({{$highScore}})")
+    private long highScore;
+
+    @DimensionFormula("{{$overallRating}}")
+    private String overallRating;
+}
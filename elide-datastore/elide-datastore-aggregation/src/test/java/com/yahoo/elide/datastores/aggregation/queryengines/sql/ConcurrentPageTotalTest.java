@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getClassType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
+import com.yahoo.elide.datastores.aggregation.query.ImmutablePagination;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ConcurrentPageTotalTest extends SQLUnitTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void init() {
+        executor = Executors.newFixedThreadPool(2);
+        MetaDataStore metaDataStore = new MetaDataStore(new DefaultClassScanner(),
+                getClassType(new DefaultClassScanner().getAnnotatedClasses("example", Include.class)),
+                false);
+        SQLUnitTest.init(SQLDialectFactory.getDefaultDialect(), new HashSet<>(), metaDataStore, null, executor);
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testPageTotalsWithDimension() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        QueryResult result = engine.executeQuery(query, transaction);
+
+        assertEquals(1, toList(result.getData()).size());
+        assertEquals(2, result.getPageTotals());
+    }
+
+    @Test
+    public void testPageTotalsWithoutDimension() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        QueryResult result = engine.executeQuery(query, transaction);
+
+        assertEquals(1, toList(result.getData()).size());
+        assertEquals(1, result.getPageTotals());
+    }
+}
@@ -7,17 +7,28 @@ package com.yahoo.elide.datastores.inmemory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreIterable;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.HashMapIndex;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.predicates.GEPredicate;
+import com.yahoo.elide.core.filter.predicates.InPredicate;
+import com.yahoo.elide.core.filter.predicates.PrefixPredicate;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.utils.DefaultClassScanner;
 import com.yahoo.elide.example.beans.ExcludedBean;
@@ -31,9 +42,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -308,4 +323,123 @@ public class HashMapDataStoreTest {
             executor.shutdownNow();
         }
     }
+
+    @Test
+    public void testTypeLockingOnlyBlocksSameModel() throws Exception {
+        hashMapDataStore.setTypeLockTimeout(Duration.ofMillis(200));
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+            t.loadObjects(EntityProjection.builder().type(FirstBean.class).build(), null);
+
+            Future<Iterable<Object>> otherModel = executor.submit(() -> {
+                try (DataStoreTransaction r = hashMapDataStore.beginReadTransaction()) {
+                    return r.loadObjects(EntityProjection.builder().type(SecondBean.class).build(), null);
+                }
+            });
+            assertNotNull(otherModel.get(30, TimeUnit.SECONDS));
+
+            Future<Iterable<Object>> sameModel = executor.submit(() -> {
+                try (DataStoreTransaction r = hashMapDataStore.beginReadTransaction()) {
+                    return r.loadObjects(EntityProjection.builder().type(FirstBean.class).build(), null);
+                }
+            });
+            ExecutionException e = assertThrows(ExecutionException.class, () -> sameModel.get(30, TimeUnit.SECONDS));
+            assertInstanceOf(TransactionException.class, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (DataStoreTransaction r = hashMapDataStore.beginReadTransaction()) {
+            assertNotNull(r.loadObjects(EntityProjection.builder().type(FirstBean.class).build(), null));
+        }
+    }
+
+    @Test
+    public void testTypeLocksReleasedByOtherThread() throws Exception {
+        hashMapDataStore.setTypeLockTimeout(Duration.ofMillis(200));
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            DataStoreTransaction t = hashMapDataStore.beginTransaction();
+            executor.submit(() -> t.loadObjects(EntityProjection.builder().type(FirstBean.class).build(), null))
+                    .get(30, TimeUnit.SECONDS);
+            t.close();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (DataStoreTransaction r = hashMapDataStore.beginReadTransaction()) {
+            assertNotNull(r.loadObjects(EntityProjection.builder().type(FirstBean.class).build(), null));
+        }
+    }
+
+    private List<String> loadNames(DataStoreTransaction t, EntityProjection projection) {
+        List<String> names = new ArrayList<>();
+        t.loadObjects(projection, null).forEach(bean -> names.add(((FirstBean) bean).name));
+        return names;
+    }
+
+    @Test
+    public void testIndexedFilteringAndSorting() throws Exception {
+        hashMapDataStore.addIndex(FirstBean.class, "name", HashMapIndex.Kind.SORTED);
+        for (String name : List.of("b", "d", "a", "c")) {
+            FirstBean bean = new FirstBean();
+            bean.name = name;
+            try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+                t.createObject(bean, null);
+                t.commit(null);
+            }
+        }
+
+        Path name = new Path(FirstBean.class, entityDictionary, "name");
+        Sorting byName = new SortingImpl(Map.of("name", Sorting.SortOrder.desc), FirstBean.class, entityDictionary);
+        EntityProjection inProjection = EntityProjection.builder()
+                .type(FirstBean.class)
+                .filterExpression(new InPredicate(name, "a", "c", "e"))
+                .sorting(byName)
+                .build();
+        EntityProjection partialProjection = EntityProjection.builder()
+                .type(FirstBean.class)
+                .filterExpression(new AndFilterExpression(new GEPredicate(name, "b"),
+                        new PrefixPredicate(name, "c")))
+                .build();
+
+        try (DataStoreTransaction t = hashMapDataStore.beginReadTransaction()) {
+            DataStoreIterable<Object> beans = t.loadObjects(inProjection, null);
+            assertFalse(beans.needsInMemoryFilter());
+            assertFalse(beans.needsInMemorySort());
+            assertEquals(List.of("c", "a"), loadNames(t, inProjection));
+
+            // Only the range predicate is answered by the index.
+            beans = t.loadObjects(partialProjection, null);
+            assertTrue(beans.needsInMemoryFilter());
+            assertEquals(Set.of("b", "c", "d"), new HashSet<>(loadNames(t, partialProjection)));
+        }
+
+        try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+            // Writers see their own changes, which are not indexed until they commit.
+            assertTrue(t.loadObjects(inProjection, null).needsInMemoryFilter());
+            for (Object bean : t.loadObjects(EntityProjection.builder().type(FirstBean.class).build(), null)) {
+                if ("a".equals(((FirstBean) bean).name)) {
+                    ((FirstBean) bean).name = "e";
+                    t.save(bean, null);
+                }
+            }
+            t.commit(null);
+        }
+
+        try (DataStoreTransaction t = hashMapDataStore.beginReadTransaction()) {
+            assertEquals(List.of("e", "c"), loadNames(t, inProjection));
+        }
+
+        try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+            for (Object bean : t.loadObjects(EntityProjection.builder().type(FirstBean.class).build(), null)) {
+                ((FirstBean) bean).name = "z";
+            }
+            // Rolled back.
+        }
+
+        try (DataStoreTransaction t = hashMapDataStore.beginReadTransaction()) {
+            assertEquals(List.of("e", "c"), loadNames(t, inProjection));
+        }
+    }
 }
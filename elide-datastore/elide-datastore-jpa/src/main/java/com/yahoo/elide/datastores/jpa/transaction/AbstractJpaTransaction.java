@@ -6,8 +6,10 @@
 package com.yahoo.elide.datastores.jpa.transaction;
 
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.datastores.jpa.porting.EntityManagerWrapper;
 import com.yahoo.elide.datastores.jpa.transaction.checker.PersistentCollectionChecker;
 import com.yahoo.elide.datastores.jpql.JPQLTransaction;
@@ -20,13 +22,17 @@ import org.apache.commons.collections4.CollectionUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.Persistence;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -46,6 +52,8 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
     protected final EntityManager em;
     private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
     private final Consumer<EntityManager> jpaTransactionCancel;
+    private final Set<Type<?>> createdTypes = new HashSet<>();
+    private int createBatchSize;
 
     /**
      * Creates a new JPA transaction.
@@ -87,6 +95,23 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
         this(em, jpaTransactionCancel, logger, delegateToInMemoryStore, true);
     }
 
+    /**
+     * Sets how many new objects of a batch are persisted before they are flushed, so that the inserts of a large
+     * batch are sent to the database as it is persisted rather than all at once when the transaction is flushed.
+     * The provider groups the inserts of each flush into JDBC batches when it is configured to (for example with
+     * {@code hibernate.jdbc.batch_size}).
+     * <p>
+     * A batch is only flushed early if neither its model nor any other model created in the same flush has a
+     * relationship to the other, as a new object may only be flushed once the new objects it references are
+     * persisted.  Flushed objects stay managed, so lifecycle hooks and serialization can still use them.
+     * Disabled by default.
+     *
+     * @param createBatchSize The number of objects per flush, or zero to disable.
+     */
+    public void setCreateBatchSize(int createBatchSize) {
+        this.createBatchSize = createBatchSize;
+    }
+
     @Override
     public <T> void delete(T object, RequestScope scope) {
         deferredTasks.add(() -> em.remove(object));
@@ -109,6 +134,7 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
         try {
             deferredTasks.forEach(Runnable::run);
             deferredTasks.clear();
+            createdTypes.clear();
             FlushModeType flushMode = em.getFlushMode();
             if (flushMode == FlushModeType.AUTO && isOpen()) {
                 em.flush();
@@ -139,6 +165,7 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
     @Override
     public void rollback() {
         deferredTasks.clear();
+        createdTypes.clear();
     }
 
     @Override
@@ -153,7 +180,7 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
 
     @Override
     public <T> void createObject(T entity, RequestScope scope) {
-
+        createdTypes.add(EntityDictionary.getType(entity));
         deferredTasks.add(() -> {
             if (!em.contains(entity)) {
                 em.persist(entity);
@@ -161,6 +188,41 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
         });
     }
 
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope scope) {
+        Iterator<T> iterator = entities.iterator();
+        if (createBatchSize <= 0 || !iterator.hasNext()) {
+            entities.forEach(entity -> createObject(entity, scope));
+            return;
+        }
+
+        Type<?> type = EntityDictionary.getType(iterator.next());
+        EntityDictionary dictionary = scope.getDictionary();
+        createdTypes.add(type);
+        deferredTasks.add(() -> {
+            // Every object created in this flush is known by the time the deferred tasks run
+            boolean flushEarly = createdTypes.stream().noneMatch(createdType ->
+                    isRelated(dictionary, type, createdType) || isRelated(dictionary, createdType, type));
+            int unflushed = 0;
+            for (T entity : entities) {
+                if (em.contains(entity)) {
+                    continue;
+                }
+                em.persist(entity);
+                if (flushEarly && ++unflushed == createBatchSize) {
+                    em.flush();
+                    unflushed = 0;
+                }
+            }
+        });
+    }
+
+    private static boolean isRelated(EntityDictionary dictionary, Type<?> from, Type<?> to) {
+        return dictionary.getRelationships(from).stream()
+                .map(relationship -> dictionary.getParameterizedType(from, relationship))
+                .anyMatch(relationType -> relationType.isAssignableFrom(to) || to.isAssignableFrom(relationType));
+    }
+
     /**
      * load a single record with id and filter.
      *
@@ -198,4 +260,9 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
     protected Predicate<Collection<?>> isPersistentCollection() {
         return IS_PERSISTENT_COLLECTION;
     }
+
+    @Override
+    protected boolean isInitialized(Collection<?> collection) {
+        return Persistence.getPersistenceUtil().isLoaded(collection);
+    }
 }
@@ -12,6 +12,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.core.RequestScope;
@@ -27,6 +30,7 @@ import example.Author;
 import example.Book;
 import org.hibernate.collection.spi.PersistentSet;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -40,6 +44,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -164,6 +169,184 @@ public class JpaDataStoreTransactionTest {
         assertEquals(usesInMemory, loadedBooks.needsInMemoryPagination());
     }
 
+    private AbstractJpaTransaction newRelationsTransaction(EntityManager batchEntityManager, boolean initialized) {
+        return new AbstractJpaTransaction(batchEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false, false) {
+            @Override
+            public boolean isOpen() {
+                return false;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+
+            @Override
+            protected Predicate<Collection<?>> isPersistentCollection() {
+                return (unused) -> true;
+            };
+
+            @Override
+            protected boolean isInitialized(Collection<?> collection) {
+                return initialized;
+            }
+        };
+    }
+
+    @Test
+    public void testUnfilteredToManyRelationsFetchedInOneQuery() {
+        EntityManager batchEntityManager = mock(EntityManager.class);
+        Query batchQuery = mock(Query.class);
+        when(batchEntityManager.createQuery(any(String.class))).thenReturn(batchQuery);
+        when(batchQuery.setParameter(any(String.class), any())).thenReturn(batchQuery);
+
+        AbstractJpaTransaction tx = newRelationsTransaction(batchEntityManager, false);
+
+        List<Author> authors = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (int idx = 0; idx < 3; idx++) {
+            Author author = mock(Author.class);
+            when(author.getBooks()).thenReturn(mock(PersistentSet.class));
+            authors.add(author);
+            rows.add(new Object[] {author, new Book()});
+        }
+        when(batchQuery.getResultList()).thenReturn(rows);
+
+        Relationship relationship = Relationship.builder()
+                .name("books")
+                .projection(EntityProjection.builder()
+                        .type(Book.class)
+                        .build())
+                .build();
+
+        Map<Author, DataStoreIterable<Book>> books = tx.getToManyRelations(tx, authors, relationship, scope);
+
+        verify(batchEntityManager, times(1)).createQuery(any(String.class));
+        for (int idx = 0; idx < 3; idx++) {
+            List<Book> authorBooks = new ArrayList<>();
+            books.get(authors.get(idx)).forEach(authorBooks::add);
+            assertEquals(List.of(rows.get(idx)[1]), authorBooks);
+        }
+    }
+
+    @Test
+    public void testToManyRelationsFetchedInChunks() {
+        EntityManager batchEntityManager = mock(EntityManager.class);
+        Query batchQuery = mock(Query.class);
+        when(batchEntityManager.createQuery(any(String.class))).thenReturn(batchQuery);
+        when(batchQuery.setParameter(any(String.class), any())).thenReturn(batchQuery);
+
+        AbstractJpaTransaction tx = newRelationsTransaction(batchEntityManager, false);
+        tx.setRelationshipBatchSize(2);
+
+        List<Author> authors = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (int idx = 0; idx < 3; idx++) {
+            Author author = mock(Author.class);
+            when(author.getBooks()).thenReturn(mock(PersistentSet.class));
+            authors.add(author);
+            rows.add(new Object[] {author, new Book()});
+        }
+        when(batchQuery.getResultList()).thenReturn(rows.subList(0, 2), rows.subList(2, 3));
+
+        Relationship relationship = Relationship.builder()
+                .name("books")
+                .projection(EntityProjection.builder()
+                        .type(Book.class)
+                        .build())
+                .build();
+
+        Map<Author, DataStoreIterable<Book>> books = tx.getToManyRelations(tx, authors, relationship, scope);
+
+        verify(batchEntityManager, times(2)).createQuery(any(String.class));
+        for (int idx = 0; idx < 3; idx++) {
+            List<Book> authorBooks = new ArrayList<>();
+            books.get(authors.get(idx)).forEach(authorBooks::add);
+            assertEquals(List.of(rows.get(idx)[1]), authorBooks);
+        }
+    }
+
+    @Test
+    public void testInitializedToManyRelationsReadFromCollection() {
+        EntityManager batchEntityManager = mock(EntityManager.class);
+        AbstractJpaTransaction tx = newRelationsTransaction(batchEntityManager, true);
+
+        List<Author> authors = new ArrayList<>();
+        List<List<Book>> authorBooks = new ArrayList<>();
+        for (int idx = 0; idx < 2; idx++) {
+            Author author = mock(Author.class);
+            List<Book> loaded = List.of(new Book(), new Book());
+            when(author.getBooks()).thenReturn(new ArrayList<>(loaded));
+            authors.add(author);
+            authorBooks.add(loaded);
+        }
+
+        Relationship relationship = Relationship.builder()
+                .name("books")
+                .projection(EntityProjection.builder()
+                        .type(Book.class)
+                        .build())
+                .build();
+
+        Map<Author, DataStoreIterable<Book>> books = tx.getToManyRelations(tx, authors, relationship, scope);
+
+        verify(batchEntityManager, never()).createQuery(any(String.class));
+        for (int idx = 0; idx < 2; idx++) {
+            List<Book> fetched = new ArrayList<>();
+            books.get(authors.get(idx)).forEach(fetched::add);
+            assertEquals(authorBooks.get(idx), fetched);
+        }
+    }
+
+    private AbstractJpaTransaction newBatchTransaction(EntityManager batchEntityManager) {
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(batchEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, true) {
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+        tx.setCreateBatchSize(2);
+        return tx;
+    }
+
+    @Test
+    public void testCreateObjectsInBatches() {
+        EntityManager batchEntityManager = mock(EntityManager.class);
+        AbstractJpaTransaction tx = newBatchTransaction(batchEntityManager);
+
+        List<Book> books = List.of(new Book(), new Book(), new Book(), new Book(), new Book());
+        tx.createObjects(books, scope);
+        tx.flush(scope);
+
+        books.forEach(book -> verify(batchEntityManager).persist(book));
+        verify(batchEntityManager, times(2)).flush();
+        verify(batchEntityManager, never()).detach(any());
+    }
+
+    @Test
+    public void testRelatedCreatedObjectsAreNotFlushedEarly() {
+        EntityManager batchEntityManager = mock(EntityManager.class);
+        AbstractJpaTransaction tx = newBatchTransaction(batchEntityManager);
+
+        // The books reference the authors, which are only persisted after the books
+        List<Book> books = List.of(new Book(), new Book());
+        List<Author> authors = List.of(new Author(), new Author());
+        tx.createObjects(books, scope);
+        tx.createObjects(authors, scope);
+        tx.flush(scope);
+
+        books.forEach(book -> verify(batchEntityManager).persist(book));
+        authors.forEach(author -> verify(batchEntityManager).persist(author));
+        verify(batchEntityManager, never()).flush();
+    }
+
     private Stream<Arguments> getTestArguments() throws Exception {
         RSQLFilterDialect parser = RSQLFilterDialect.builder().dictionary(dictionary).build();
 
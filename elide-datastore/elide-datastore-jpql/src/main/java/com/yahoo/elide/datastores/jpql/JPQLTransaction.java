@@ -30,12 +30,14 @@ import com.yahoo.elide.datastores.jpql.porting.Query;
 import com.yahoo.elide.datastores.jpql.porting.ScrollableIteratorBase;
 import com.yahoo.elide.datastores.jpql.porting.Session;
 import com.yahoo.elide.datastores.jpql.query.AbstractHQLQueryBuilder;
+import com.yahoo.elide.datastores.jpql.query.BatchedSubCollectionFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.CursorEncoder;
 import com.yahoo.elide.datastores.jpql.query.RelationshipImpl;
 import com.yahoo.elide.datastores.jpql.query.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.RootCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.SubCollectionPageTotalsQueryBuilder;
+import com.google.common.collect.Lists;
 
 
 import java.io.Serializable;
@@ -55,13 +57,14 @@ import java.util.function.Predicate;
  * Hibernate Transaction implementation.
  */
 public abstract class JPQLTransaction implements DataStoreTransaction {
+    public static final int DEFAULT_RELATIONSHIP_BATCH_SIZE = 500;
 
     private final Session sessionWrapper;
     private final boolean isScrollEnabled;
     private final Set<Object> singleElementLoads;
     private final boolean delegateToInMemoryStore;
     private final CursorEncoder cursorEncoder;
-
+    private int relationshipBatchSize = DEFAULT_RELATIONSHIP_BATCH_SIZE;
 
     /**
      * Constructor.
@@ -83,6 +86,17 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
         this.cursorEncoder = cursorEncoder;
     }
 
+    /**
+     * Sets the maximum number of parents whose relationship is fetched in a single query by
+     * {@link #getToManyRelations}.  Larger sets of parents are fetched in several queries so that the
+     * {@code IN} list stays within the limits of the database.
+     *
+     * @param relationshipBatchSize The number of parents per query.
+     */
+    public void setRelationshipBatchSize(int relationshipBatchSize) {
+        this.relationshipBatchSize = relationshipBatchSize;
+    }
+
     /**
      * load a single record with id and filter.
      *
@@ -289,6 +303,84 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
         return new DataStoreIterableBuilder<R>(addSingleElement(val)).allInMemory().build();
     }
 
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(
+            DataStoreTransaction relationTx,
+            Collection<T> entities,
+            Relationship relation,
+            RequestScope scope) {
+
+        FilterExpression filterExpression = relation.getProjection().getFilterExpression();
+        Sorting sorting = relation.getProjection().getSorting();
+        Pagination pagination = relation.getProjection().getPagination();
+
+        /*
+         * Cursors are encoded by this store and cannot be applied in memory.  Every other relationship, including
+         * one without filtering or sorting whose collection proxies would each issue a query, is fetched in a
+         * single query.
+         */
+        if (pagination != null && pagination.getDirection() != null) {
+            return DataStoreTransaction.super.getToManyRelations(relationTx, entities, relation, scope);
+        }
+
+        EntityDictionary dictionary = scope.getDictionary();
+        Map<T, DataStoreIterable<R>> relations = new IdentityHashMap<>();
+        Map<Type<?>, List<T>> batches = new LinkedHashMap<>();
+        for (T entity : entities) {
+            Object val = com.yahoo.elide.core.PersistentResource.getValue(entity, relation.getName(), scope);
+            if (!(val instanceof Collection && isPersistentCollection().test((Collection<?>) val))) {
+                relations.put(entity, getToManyRelation(relationTx, entity, relation, scope));
+            } else if (filterExpression == null && sorting == null && isInitialized((Collection<?>) val)) {
+                // A loaded collection keeps the order of its mapping and is paginated in memory.
+                relations.put(entity, new DataStoreIterableBuilder<R>(addSingleElement((Iterable<R>) val))
+                        .paginateInMemory(pagination != null)
+                        .build());
+            } else {
+                batches.computeIfAbsent(dictionary.lookupEntityClass(EntityDictionary.getType(entity)),
+                        key -> new ArrayList<>()).add(entity);
+            }
+        }
+
+        batches.forEach((parentType, parents) -> {
+            for (List<T> batch : Lists.partition(parents, relationshipBatchSize)) {
+                getToManyRelations(relationTx, parentType, batch, relation, scope, relations);
+            }
+        });
+
+        return relations;
+    }
+
+    private <T, R> void getToManyRelations(
+            DataStoreTransaction relationTx,
+            Type<?> parentType,
+            List<T> parents,
+            Relationship relation,
+            RequestScope scope,
+            Map<T, DataStoreIterable<R>> relations) {
+        Map<Object, List<R>> children = new IdentityHashMap<>();
+        parents.forEach(parent -> children.put(parent, new ArrayList<>()));
+
+        Query query = new BatchedSubCollectionFetchQueryBuilder(new RelationshipImpl(parentType, null, relation),
+                parents, scope.getDictionary(), sessionWrapper, cursorEncoder).build();
+        for (Object[] row : query.<Object[]>list()) {
+            List<R> members = children.get(row[0]);
+            if (members == null) {
+                // The session returned a different instance of a parent.
+                parents.forEach(parent -> relations.put(parent,
+                        getToManyRelation(relationTx, parent, relation, scope)));
+                return;
+            }
+            members.add((R) row[1]);
+        }
+
+        // The children of each parent are paginated in memory.
+        Pagination pagination = relation.getProjection().getPagination();
+        parents.forEach(parent -> relations.put(parent,
+                new DataStoreIterableBuilder<R>(addSingleElement(children.get(parent)))
+                        .paginateInMemory(pagination != null)
+                        .build()));
+    }
+
     @Override
     public <T, R> R getToOneRelation(
             DataStoreTransaction relationTx,
@@ -305,6 +397,16 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
 
     protected abstract Predicate<Collection<?>> isPersistentCollection();
 
+    /**
+     * Returns whether the members of a persistent collection have already been loaded.
+     *
+     * @param collection The persistent collection.
+     * @return true if the collection can be read without a query
+     */
+    protected boolean isInitialized(Collection<?> collection) {
+        return false;
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      *
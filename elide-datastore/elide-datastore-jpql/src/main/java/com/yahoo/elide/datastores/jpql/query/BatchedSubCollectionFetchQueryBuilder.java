@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpql.query;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.datastores.jpql.filter.FilterTranslator;
+import com.yahoo.elide.datastores.jpql.porting.Query;
+import com.yahoo.elide.datastores.jpql.porting.Session;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Constructs a HQL query to fetch the members of a relationship for several parents at once.
+ * <p>
+ * Each row of the query is a pair of the parent and one of its children. Pagination is not applied because it
+ * applies to the children of each parent rather than to the rows of the query.
+ */
+public class BatchedSubCollectionFetchQueryBuilder extends SubCollectionFetchQueryBuilder {
+
+    private final Relationship relationship;
+    private final Collection<?> parents;
+
+    /**
+     * Constructor.
+     *
+     * @param relationship the relationship to fetch. The parent of the relationship is ignored.
+     * @param parents the parents whose relationship is fetched. Each parent is bound to a parameter of the query,
+     *                so the number of parents must stay within the limits of the database.
+     * @param dictionary the entity dictionary
+     * @param session the session
+     * @param cursorEncoder the cursor encoder
+     */
+    public BatchedSubCollectionFetchQueryBuilder(Relationship relationship, Collection<?> parents,
+                                                 EntityDictionary dictionary,
+                                                 Session session, CursorEncoder cursorEncoder) {
+        super(relationship, dictionary, session, cursorEncoder);
+        this.relationship = relationship;
+        this.parents = parents;
+    }
+
+    /**
+     * Constructs a query that returns pairs of parents and the members of their relationship.
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        String childAlias = getTypeAlias(relationship.getChildType());
+        String parentAlias = getTypeAlias(relationship.getParentType()) + "__fetch";
+        String parentName = relationship.getParentType().getCanonicalName();
+        String relationshipName = relationship.getRelationshipName();
+        Sorting sorting = entityProjection.getSorting();
+
+        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        Collection<FilterPredicate> predicates = Collections.emptyList();
+        String filterClause = "";
+        String joinClause = (filterExpression == null ? "" : getJoinClauseFromFilters(filterExpression))
+                + getJoinClauseFromSort(sorting);
+        boolean requiresDistinct = false;
+
+        if (filterExpression != null) {
+            predicates = filterExpression.accept(new PredicateExtractionVisitor());
+            filterClause = new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS) + " AND ";
+            requiresDistinct = containsOneToMany(filterExpression);
+
+            boolean sortOverRelationship = sorting != null
+                    && sorting.getSortingPaths().keySet()
+                    .stream().anyMatch(path ->
+                            path.getPathElements()
+                                    .stream()
+                                    .anyMatch(element ->
+                                            dictionary.isRelation(element.getType(), element.getFieldName())));
+
+            if (requiresDistinct && sortOverRelationship) {
+                //SQL does not support distinct and order by on columns which are not selected
+                throw new InvalidValueException("Combination of sorting over relationship and"
+                        + " filtering over toMany relationships unsupported");
+            }
+        }
+
+        //SELECT parent, parent_children from Parent parent JOIN parent.children parent_children
+        Query query = session.createQuery(SELECT
+                + (requiresDistinct ? DISTINCT : "")
+                + parentAlias + COMMA + SPACE + childAlias
+                + FROM
+                + parentName + SPACE + parentAlias
+                + JOIN
+                + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                + joinClause
+                + extractToOneMergeJoins(relationship.getChildType(), childAlias)
+                + WHERE
+                + filterClause
+                + parentAlias + " IN (:" + parentAlias + ")"
+                + SPACE
+                + getSortClause(sorting)
+        );
+
+        supplyFilterQueryParameters(query, predicates);
+        query.setParameterList(parentAlias, parents);
+        return query;
+    }
+}
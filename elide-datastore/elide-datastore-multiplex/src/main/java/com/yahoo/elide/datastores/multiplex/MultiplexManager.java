@@ -16,12 +16,14 @@ import com.yahoo.elide.core.utils.ObjectCloner;
 import com.yahoo.elide.core.utils.ObjectCloners;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -39,6 +41,11 @@ import java.util.function.Predicate;
  * <li>Commit DB2 fails
  * <li>Attempt to reverse DB1 commit fails
  * </ul>
+ * <p>
+ * Sub-transactions are flushed and committed one after another unless an executor is set with
+ * {@link #setExecutor(Executor)}, in which case they are flushed, pre-committed and committed in parallel.  Only the
+ * sub-transactions of data stores selected with {@link #setParallelDataStores(Predicate)} run on the executor, the
+ * others still run on the thread which began them.
  */
 public final class MultiplexManager implements DataStore {
 
@@ -50,6 +57,14 @@ public final class MultiplexManager implements DataStore {
     @Setter(AccessLevel.PROTECTED)
     private EntityDictionary dictionary;
 
+    @Getter
+    private final MultiplexMetrics metrics = new MultiplexMetrics();
+
+    @Getter
+    private Executor executor;
+
+    private Predicate<DataStore> parallelDataStores = dataStore -> false;
+
     /**
      * Create a single DataStore to handle provided managers within a single transaction.
      * @param dataStores list of sub-managers
@@ -88,6 +103,36 @@ public final class MultiplexManager implements DataStore {
         this.applyCompensatingTransactions = applyCompensatingTransactions;
     }
 
+    /**
+     * Flushes, pre-commits and commits the sub-transactions of a transaction in parallel instead of one after
+     * another.  The sub-transactions of the data stores selected by {@link #setParallelDataStores(Predicate)} run on
+     * the executor while the others run on the calling thread.  If a sub-transaction fails to commit, the
+     * sub-transactions which committed are reversed as usual.
+     * @param executor The executor or null to process the sub-transactions one after another.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Selects the data stores whose transactions may be flushed and committed on the executor.  Transactions bound
+     * to the thread which began them, such as Spring managed JPA transactions, must not be selected.  No data store
+     * is selected by default.
+     * @param parallelDataStores Tests whether the transactions of a data store may be used from any thread.
+     */
+    public void setParallelDataStores(Predicate<DataStore> parallelDataStores) {
+        this.parallelDataStores = parallelDataStores;
+    }
+
+    /**
+     * Returns whether the transactions of a data store are processed on the executor.
+     * @param dataStore The data store.
+     * @return true if there is an executor and the data store is selected to use it
+     */
+    protected boolean isParallel(DataStore dataStore) {
+        return this.executor != null && this.parallelDataStores.test(dataStore);
+    }
+
     protected boolean isApplyCompensatingTransactions(DataStore dataStore) {
         return this.applyCompensatingTransactions.test(dataStore);
     }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.multiplex;
+
+import com.yahoo.elide.core.datastore.DataStore;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The time spent by the sub-transactions of each data store of a {@link MultiplexManager}.
+ */
+public class MultiplexMetrics {
+    private static final Timer EMPTY = new Timer();
+
+    /**
+     * The phases of a sub-transaction which are timed.
+     */
+    public enum Phase {
+        FLUSH,
+        PRE_COMMIT,
+        COMMIT
+    }
+
+    /**
+     * The number, total and maximum duration of the runs of a phase.
+     */
+    public static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long getMeanNanos() {
+            long runs = getCount();
+            return runs == 0 ? 0 : getTotalNanos() / runs;
+        }
+    }
+
+    private final Map<DataStore, Map<Phase, Timer>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Records a run of a phase.
+     * @param dataStore The data store of the sub-transaction.
+     * @param phase The phase.
+     * @param nanos The duration of the run.
+     */
+    void record(DataStore dataStore, Phase phase, long nanos) {
+        timers.computeIfAbsent(dataStore, key -> {
+            Map<Phase, Timer> byPhase = new EnumMap<>(Phase.class);
+            for (Phase value : Phase.values()) {
+                byPhase.put(value, new Timer());
+            }
+            return byPhase;
+        }).get(phase).record(nanos);
+    }
+
+    /**
+     * Returns the timer of a phase of the sub-transactions of a data store.
+     * @param dataStore The data store.
+     * @param phase The phase.
+     * @return The timer, which is empty if the phase never ran.
+     */
+    public Timer getTimer(DataStore dataStore, Phase phase) {
+        Map<Phase, Timer> byPhase = timers.get(dataStore);
+        return byPhase == null ? EMPTY : byPhase.get(phase);
+    }
+
+    /**
+     * Discards every recorded run.
+     */
+    public void reset() {
+        timers.clear();
+    }
+}
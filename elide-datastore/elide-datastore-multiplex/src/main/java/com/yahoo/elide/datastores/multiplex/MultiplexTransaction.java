@@ -11,6 +11,7 @@ import com.yahoo.elide.core.datastore.DataStoreIterable;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.InvalidCollectionException;
+import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
@@ -20,14 +21,23 @@ import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.datastores.multiplex.MultiplexMetrics.Phase;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 
 /**
@@ -70,35 +80,150 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
 
     @Override
     public void flush(RequestScope scope) {
-        processTransactions(dataStoreTransaction -> dataStoreTransaction.flush(scope));
+        processTransactions(Phase.FLUSH, dataStoreTransaction -> dataStoreTransaction.flush(scope));
     }
 
     @Override
     public void preCommit(RequestScope scope) {
-        processTransactions(dataStoreTransaction -> dataStoreTransaction.preCommit(scope));
+        processTransactions(Phase.PRE_COMMIT, dataStoreTransaction -> dataStoreTransaction.preCommit(scope));
     }
 
     @Override
     public void commit(RequestScope scope) {
         // flush all before commit
         flush(scope);
-        processTransactions(dataStoreTransaction -> dataStoreTransaction.commit(scope));
+        processTransactions(Phase.COMMIT, dataStoreTransaction -> dataStoreTransaction.commit(scope));
     }
 
     /**
-     * Processes the transactions in reverse order and is non null.
+     * Processes the non null transactions in reverse order.
      *
      * @param processor process the transaction
+     * @deprecated use {@link #processTransactions(Phase, Consumer)}, which also times the phase and processes the
+     *             transactions in parallel when the manager allows it
      */
+    @Deprecated
     protected void processTransactions(Consumer<DataStoreTransaction> processor) {
-        // Transactions must be processed in reverse order
-        ListIterator<DataStoreTransaction> iterator = new ArrayList<>(transactions.values())
-                .listIterator(transactions.size());
-        while (iterator.hasPrevious()) {
-            DataStoreTransaction dataStoreTransaction = iterator.previous();
-            if (dataStoreTransaction != null) {
-                processor.accept(dataStoreTransaction);
+        getTransactionsInReverseOrder().forEach(entry -> processor.accept(entry.getValue()));
+    }
+
+    /**
+     * Processes and times a phase of the non null transactions, in reverse order or in parallel if the manager has an
+     * executor for any of their data stores.  If any transaction fails the first failure is thrown once every
+     * transaction is processed.
+     *
+     * @param phase the phase
+     * @param processor process the transaction
+     */
+    protected void processTransactions(Phase phase, Consumer<DataStoreTransaction> processor) {
+        if (!isParallel()) {
+            for (Entry<DataStore, DataStoreTransaction> entry : getTransactionsInReverseOrder()) {
+                time(phase, entry.getKey(), () -> processor.accept(entry.getValue()));
+            }
+            return;
+        }
+
+        Map<DataStore, Throwable> failures = processTransactionsInParallel(phase, processor);
+        if (!failures.isEmpty()) {
+            Iterator<Throwable> iterator = failures.values().iterator();
+            Throwable failure = iterator.next();
+            iterator.forEachRemaining(failure::addSuppressed);
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw failure instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new TransactionException(failure);
+        }
+    }
+
+    /**
+     * Processes and times a phase of the non null transactions in parallel and waits for all of them.  The
+     * transactions of data stores which may not use the executor are processed on the calling thread meanwhile.
+     *
+     * @param phase the phase
+     * @param processor process the transaction
+     * @return the failures by data store in reverse transaction order
+     */
+    protected Map<DataStore, Throwable> processTransactionsInParallel(Phase phase,
+            Consumer<DataStoreTransaction> processor) {
+        List<Entry<DataStore, DataStoreTransaction>> entries = getTransactionsInReverseOrder();
+        Map<DataStore, Throwable> failures = new LinkedHashMap<>();
+        if (entries.size() == 1) {
+            // Nothing to run in parallel with
+            Entry<DataStore, DataStoreTransaction> entry = entries.get(0);
+            try {
+                time(phase, entry.getKey(), () -> processor.accept(entry.getValue()));
+            } catch (Error | RuntimeException e) {
+                failures.put(entry.getKey(), e);
             }
+            return failures;
+        }
+
+        Map<DataStore, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (Entry<DataStore, DataStoreTransaction> entry : entries) {
+            futures.put(entry.getKey(), multiplexManager.isParallel(entry.getKey())
+                    ? CompletableFuture.runAsync(
+                            () -> time(phase, entry.getKey(), () -> processor.accept(entry.getValue())),
+                            multiplexManager.getExecutor())
+                    : null);
+        }
+        for (Entry<DataStore, DataStoreTransaction> entry : entries) {
+            if (futures.get(entry.getKey()) == null) {
+                try {
+                    time(phase, entry.getKey(), () -> processor.accept(entry.getValue()));
+                    futures.put(entry.getKey(), CompletableFuture.completedFuture(null));
+                } catch (Error | RuntimeException e) {
+                    futures.put(entry.getKey(), CompletableFuture.failedFuture(e));
+                }
+            }
+        }
+        futures.forEach((dataStore, future) -> {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                failures.put(dataStore, e.getCause() == null ? e : e.getCause());
+            } catch (CancellationException e) {
+                failures.put(dataStore, e);
+            }
+        });
+        return failures;
+    }
+
+    /**
+     * Returns whether the transactions are processed in parallel.
+     *
+     * @return true if the manager has an executor for the data store of any transaction
+     */
+    protected boolean isParallel() {
+        return getTransactionsInReverseOrder().stream().anyMatch(entry -> multiplexManager.isParallel(entry.getKey()));
+    }
+
+    /**
+     * Returns the non null transactions in reverse order.
+     *
+     * @return the transactions by data store
+     */
+    protected List<Entry<DataStore, DataStoreTransaction>> getTransactionsInReverseOrder() {
+        List<Entry<DataStore, DataStoreTransaction>> entries = new ArrayList<>(transactions.size());
+        transactions.entrySet().stream().filter(entry -> entry.getValue() != null).forEach(entries::add);
+        Collections.reverse(entries);
+        return entries;
+    }
+
+    /**
+     * Runs a phase of the transaction of a data store and records its duration.
+     *
+     * @param phase the phase
+     * @param dataStore the data store
+     * @param runnable runs the phase
+     */
+    protected void time(Phase phase, DataStore dataStore, Runnable runnable) {
+        long start = System.nanoTime();
+        try {
+            runnable.run();
+        } finally {
+            multiplexManager.getMetrics().record(dataStore, phase, System.nanoTime() - start);
         }
     }
 
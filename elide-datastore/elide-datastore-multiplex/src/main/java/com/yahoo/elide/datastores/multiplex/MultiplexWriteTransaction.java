@@ -16,6 +16,7 @@ import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.datastores.multiplex.MultiplexMetrics.Phase;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -23,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -69,6 +71,11 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         // flush all before commits
         flush(scope);
 
+        if (isParallel()) {
+            commitInParallel(scope);
+            return;
+        }
+
         List<DataStore> commitList = new ArrayList<>();
 
         // Transactions must be committed in reverse order
@@ -77,25 +84,56 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         while (iterator.hasPrevious()) {
             Entry<DataStore, DataStoreTransaction> entry = iterator.previous();
             try {
-                entry.getValue().commit(scope);
+                time(Phase.COMMIT, entry.getKey(), () -> entry.getValue().commit(scope));
                 if (this.multiplexManager.isApplyCompensatingTransactions(entry.getKey())) {
                     commitList.add(entry.getKey());
                 }
-            } catch (HttpStatusException e) {
-                reverseTransactions(commitList, e, scope);
-                throw e;
             } catch (Error | RuntimeException e) {
-                if ("jakarta.ws.rs.WebApplicationException".equals(e.getClass().getCanonicalName())) {
-                    reverseTransactions(commitList, e, scope);
-                    throw e;
-                }
-                TransactionException transactionException = new TransactionException(e);
-                reverseTransactions(commitList, transactionException, scope);
-                throw transactionException;
+                RuntimeException failure = toCommitFailure(e);
+                reverseTransactions(commitList, failure, scope);
+                throw failure;
             }
         }
     }
 
+    /**
+     * Commits the transactions in parallel.  If any transaction fails, the transactions which committed are reversed
+     * in reverse order.
+     * @param scope the request scope
+     */
+    private void commitInParallel(RequestScope scope) {
+        Map<DataStore, Throwable> failures =
+                processTransactionsInParallel(Phase.COMMIT, dataStoreTransaction -> dataStoreTransaction.commit(scope));
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        List<DataStore> commitList = new ArrayList<>();
+        for (Entry<DataStore, DataStoreTransaction> entry : getTransactionsInReverseOrder()) {
+            if (!failures.containsKey(entry.getKey())
+                    && this.multiplexManager.isApplyCompensatingTransactions(entry.getKey())) {
+                commitList.add(entry.getKey());
+            }
+        }
+
+        Iterator<Throwable> iterator = failures.values().iterator();
+        RuntimeException failure = toCommitFailure(iterator.next());
+        iterator.forEachRemaining(failure::addSuppressed);
+        reverseTransactions(commitList, failure, scope);
+        throw failure;
+    }
+
+    private static RuntimeException toCommitFailure(Throwable e) {
+        if (e instanceof HttpStatusException httpStatusException) {
+            return httpStatusException;
+        }
+        if (e instanceof RuntimeException runtimeException
+                && "jakarta.ws.rs.WebApplicationException".equals(e.getClass().getCanonicalName())) {
+            return runtimeException;
+        }
+        return new TransactionException(e);
+    }
+
     /**
      * Attempt to reverse changes of last commit since not all transactions successfully committed.
      * @param restoreList List of database managers to reverse the last commit
@@ -6,9 +6,15 @@
 package com.yahoo.elide.datastores.multiplex;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,8 +23,17 @@ import com.yahoo.elide.core.datastore.DataStore;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
 import com.yahoo.elide.core.datastore.inmemory.HashMapStoreTransaction;
+import com.yahoo.elide.core.exceptions.TransactionException;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Tests MultiplexTransaction.
@@ -79,4 +94,106 @@ public class MultiplexTransactionTest {
 
         assertEquals("Foo", result);
     }
+
+    @Test
+    public void testParallelFlush() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        // Each flush waits for the other, which only completes if they run at the same time.
+        CountDownLatch flushing = new CountDownLatch(2);
+        Answer<Void> awaitOther = invocation -> {
+            flushing.countDown();
+            assertTrue(flushing.await(30, TimeUnit.SECONDS));
+            return null;
+        };
+        doAnswer(awaitOther).when(tx1).flush(scope);
+        doAnswer(awaitOther).when(tx2).flush(scope);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiplexManager store = new MultiplexManager(store1, store2);
+            store.setExecutor(executor);
+            store.setParallelDataStores(dataStore -> true);
+            MultiplexTransaction multiplexTx = (MultiplexTransaction) store.beginTransaction();
+            multiplexTx.transactions.put(store1, tx1);
+            multiplexTx.transactions.put(store2, tx2);
+
+            multiplexTx.flush(scope);
+
+            verify(tx1).flush(scope);
+            verify(tx2).flush(scope);
+            assertEquals(1, store.getMetrics().getTimer(store1, MultiplexMetrics.Phase.FLUSH).getCount());
+            assertEquals(1, store.getMetrics().getTimer(store2, MultiplexMetrics.Phase.FLUSH).getCount());
+            assertEquals(0, store.getMetrics().getTimer(store1, MultiplexMetrics.Phase.COMMIT).getCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testThreadBoundTransactionsCommitOnCallingThread() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        Thread caller = Thread.currentThread();
+        Map<DataStoreTransaction, Thread> committedOn = new ConcurrentHashMap<>();
+        doAnswer(invocation -> committedOn.put(tx1, Thread.currentThread())).when(tx1).commit(scope);
+        doAnswer(invocation -> committedOn.put(tx2, Thread.currentThread())).when(tx2).commit(scope);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiplexManager store = new MultiplexManager(store1, store2);
+            store.setExecutor(executor);
+            store.setParallelDataStores(dataStore -> dataStore == store2);
+            MultiplexWriteTransaction multiplexTx = (MultiplexWriteTransaction) store.beginTransaction();
+            multiplexTx.transactions.put(store1, tx1);
+            multiplexTx.transactions.put(store2, tx2);
+
+            multiplexTx.commit(scope);
+
+            assertEquals(caller, committedOn.get(tx1));
+            assertNotEquals(caller, committedOn.get(tx2));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelCommitFailureReversesCommittedTransactions() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        DataStoreTransaction reverseTx = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        when(store1.beginTransaction()).thenReturn(reverseTx);
+        doThrow(new IllegalStateException("Unavailable")).when(tx2).commit(scope);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiplexManager store = new MultiplexManager(store1, store2);
+            store.setExecutor(executor);
+            store.setParallelDataStores(dataStore -> true);
+            MultiplexWriteTransaction multiplexTx = (MultiplexWriteTransaction) store.beginTransaction();
+            multiplexTx.transactions.put(store1, tx1);
+            multiplexTx.transactions.put(store2, tx2);
+
+            assertThrows(TransactionException.class, () -> multiplexTx.commit(scope));
+
+            verify(tx1).commit(scope);
+            verify(reverseTx).commit(scope);
+            verify(store2, never()).beginTransaction();
+            assertEquals(1, store.getMetrics().getTimer(store2, MultiplexMetrics.Phase.COMMIT).getCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
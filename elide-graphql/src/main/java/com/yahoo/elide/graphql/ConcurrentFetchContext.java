@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+
+import graphql.execution.DataFetcherResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Fetches the root fields of a read-only GraphQL document concurrently.
+ * <p>
+ * Data store transactions and request scopes are not thread safe, and some data stores (such as the
+ * {@link com.yahoo.elide.core.datastore.inmemory.HashMapDataStore}) hold locks which must be released by the thread
+ * which took them. Each root field is therefore fetched in its own branch {@link GraphQLRequestScope} backed by its
+ * own read transaction, and every operation on a branch - opening it, fetching the root field and its nested fields,
+ * committing and closing it - runs on a single thread owned by the branch. The branch scope is handed to the nested
+ * fields of the root field as the GraphQL local context so their fetches can be routed to the branch thread.
+ * <p>
+ * At most {@code maxConcurrency} branches, and so threads, are started for a document. Further root fields share the
+ * branches round robin and are fetched one after the other on the thread of their branch.
+ */
+@Slf4j
+public class ConcurrentFetchContext implements Closeable {
+    private final GraphQLRequestScope requestScope;
+    private final DataStore dataStore;
+    private final Executor executor;
+    private final int maxBranches;
+    private final List<Branch> branches = new CopyOnWriteArrayList<>();
+    private int nextBranch = 0;
+
+    /**
+     * Runs the tasks of a branch one after the other on the thread which runs {@link #run}.
+     */
+    private static class Branch implements Executor {
+        private static final Runnable STOP = () -> { };
+
+        private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+        private volatile Thread thread;
+        private volatile boolean interrupted;
+        private volatile GraphQLRequestScope scope;
+
+        private void run() {
+            thread = Thread.currentThread();
+            try {
+                Runnable task;
+                while ((task = tasks.take()) != STOP) {
+                    task.run();
+                }
+            } catch (InterruptedException e) {
+                // Run the pending and future tasks on the caller so nobody waits for them forever.
+                interrupted = true;
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+            if (interrupted && tasks.remove(task)) {
+                task.run();
+            }
+        }
+
+        private boolean isCurrentThread() {
+            return thread == Thread.currentThread();
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param requestScope The request scope of the GraphQL document.
+     * @param dataStore The data store which opens the branch read transactions.
+     * @param executor Runs the branches. Each branch occupies a task of the executor until the context is closed.
+     * @param maxConcurrency The maximum number of branches, and so of root fields fetched at the same time.
+     */
+    public ConcurrentFetchContext(GraphQLRequestScope requestScope, DataStore dataStore, Executor executor,
+            int maxConcurrency) {
+        this.requestScope = requestScope;
+        this.dataStore = dataStore;
+        this.executor = executor;
+        this.maxBranches = Math.max(1, maxConcurrency);
+    }
+
+    /**
+     * Fetches a root field in a new branch, or in an existing branch once the concurrency limit is reached.
+     *
+     * @param fetcher Fetches the root field with the branch request scope.
+     * @return the fetched data with the branch request scope as the local context of the nested fields.
+     */
+    public synchronized CompletableFuture<DataFetcherResult<Object>> fetch(
+            Function<GraphQLRequestScope, Object> fetcher) {
+        Branch branch;
+        if (branches.size() < maxBranches) {
+            branch = new Branch();
+            executor.execute(branch::run);
+            branches.add(branch);
+        } else {
+            branch = branches.get(nextBranch);
+            nextBranch = (nextBranch + 1) % maxBranches;
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            if (branch.scope == null) {
+                branch.scope = openBranch();
+            }
+            return DataFetcherResult.<Object>newResult()
+                    .data(fetcher.apply(branch.scope))
+                    .localContext(branch.scope)
+                    .build();
+        }, branch);
+    }
+
+    /**
+     * Returns the executor of the branch which owns the request scope if the caller is not already running on the
+     * branch thread.
+     *
+     * @param scope The request scope of a field.
+     * @return the branch executor or null if the field can be fetched by the calling thread.
+     */
+    public Executor getBranchExecutor(Object scope) {
+        for (Branch branch : branches) {
+            if (branch.scope == scope) {
+                return branch.isCurrentThread() ? null : branch;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Runs the commit checks of every branch and commits the branch read transactions.
+     */
+    public void commit() {
+        List<CompletableFuture<Void>> commits = new ArrayList<>();
+        for (Branch branch : branches) {
+            commits.add(CompletableFuture.runAsync(() -> {
+                GraphQLRequestScope scope = branch.scope;
+                if (scope == null) {
+                    return;
+                }
+                DataStoreTransaction tx = scope.getTransaction();
+                tx.preCommit(scope);
+                scope.getPermissionExecutor().executeCommitChecks();
+                tx.flush(scope);
+                tx.commit(scope);
+            }, branch));
+        }
+        for (CompletableFuture<Void> commit : commits) {
+            try {
+                commit.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Closes the branch read transactions and stops the branches.
+     */
+    @Override
+    public void close() {
+        List<CompletableFuture<Void>> closes = new ArrayList<>();
+        for (Branch branch : branches) {
+            GraphQLRequestScope scope = branch.scope;
+            if (scope != null) {
+                closes.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        scope.getTransaction().close();
+                    } catch (IOException | RuntimeException e) {
+                        log.error("Unable to close branch transaction for request {}", requestScope.getRequestId(),
+                                e);
+                    }
+                }, branch));
+            }
+            branch.execute(Branch.STOP);
+        }
+        branches.clear();
+        closes.forEach(CompletableFuture::join);
+    }
+
+    private GraphQLRequestScope openBranch() {
+        return GraphQLRequestScope.builder()
+                .route(requestScope.getRoute())
+                .dataStoreTransaction(dataStore.beginReadTransaction())
+                .user(requestScope.getUser())
+                .requestId(requestScope.getRequestId())
+                .elideSettings(requestScope.getElideSettings())
+                .projectionInfo(requestScope.getProjectionInfo())
+                .build();
+    }
+}
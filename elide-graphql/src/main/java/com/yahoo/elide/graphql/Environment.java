@@ -43,11 +43,16 @@ public class Environment {
     public final NonEntityDictionary nonEntityDictionary;
 
     public Environment(DataFetchingEnvironment environment, NonEntityDictionary nonEntityDictionary) {
+        this(environment, nonEntityDictionary, environment.getLocalContext());
+    }
+
+    public Environment(DataFetchingEnvironment environment, NonEntityDictionary nonEntityDictionary,
+            GraphQLRequestScope requestScope) {
         this.nonEntityDictionary = nonEntityDictionary;
 
         Map<String, Object> args = environment.getArguments();
 
-        requestScope = environment.getLocalContext();
+        this.requestScope = requestScope;
 
         filters = Optional.ofNullable((String) args.get(ModelBuilder.ARGUMENT_FILTER));
         first = Optional.ofNullable(args.get(ModelBuilder.ARGUMENT_FIRST));
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+import graphql.parser.Parser;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A bounded local cache of GraphQL documents keyed by query text.
+ * <p>
+ * Parsed documents are used to detect mutations and to build the entity projections. Parsed and validated
+ * documents are handed to graphql-java through the {@link PreparsedDocumentProvider} contract so repeated queries
+ * skip parsing and validation. Validation depends on the schema, so each {@link QueryRunner} owns its own cache.
+ */
+public class GraphQLDocumentCache implements PreparsedDocumentProvider {
+    public static final int DEFAULT_MAXIMUM_ENTRIES = 1024;
+
+    private final Cache<String, Document> documents;
+    private final Cache<String, PreparsedDocumentEntry> preparsedDocuments;
+
+    public GraphQLDocumentCache() {
+        this(DEFAULT_MAXIMUM_ENTRIES);
+    }
+
+    public GraphQLDocumentCache(int maximumSize) {
+        documents = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        preparsedDocuments = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the parsed document for the query, parsing it if absent.
+     *
+     * @param query the query text.
+     * @return the parsed document.
+     */
+    public Document parse(String query) {
+        return documents.get(query, key -> new Parser().parseDocument(key));
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        return CompletableFuture.completedFuture(preparsedDocuments.get(executionInput.getQuery(),
+                key -> parseAndValidateFunction.apply(executionInput)));
+    }
+
+    /**
+     * Discards all documents.
+     */
+    public void invalidateAll() {
+        documents.invalidateAll();
+        preparsedDocuments.invalidateAll();
+    }
+
+    /**
+     * The parsed documents used for mutation detection and entity projections.
+     *
+     * @return the cache of parsed documents.
+     */
+    public Cache<String, Document> getDocuments() {
+        return documents;
+    }
+
+    /**
+     * The parsed and validated documents used by graphql-java.
+     *
+     * @return the cache of validated documents.
+     */
+    public Cache<String, PreparsedDocumentEntry> getPreparsedDocuments() {
+        return preparsedDocuments;
+    }
+}
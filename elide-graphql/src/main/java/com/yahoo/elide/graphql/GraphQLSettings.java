@@ -12,9 +12,11 @@ import com.yahoo.elide.core.exceptions.Slf4jExceptionLogger;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.dialect.graphql.FilterDialect;
 import com.yahoo.elide.graphql.federation.FederationVersion;
+import com.yahoo.elide.graphql.persistedquery.PersistedQueryStore;
 
 import lombok.Getter;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -62,9 +64,128 @@ public class GraphQLSettings implements Settings {
         }
     }
 
+    /**
+     * Concurrent fetching of the root fields of read-only documents.
+     */
+    @Getter
+    public static class Concurrency {
+        private final boolean enabled;
+        private final int maxConcurrency;
+        private final Executor executor;
+
+        public Concurrency(boolean enabled, int maxConcurrency, Executor executor) {
+            this.enabled = enabled;
+            this.maxConcurrency = maxConcurrency;
+            this.executor = executor;
+        }
+
+        public static ConcurrencyBuilder builder() {
+            return new ConcurrencyBuilder();
+        }
+
+        public static class ConcurrencyBuilder {
+            private boolean enabled = false;
+            private int maxConcurrency = 8;
+            private Executor executor;
+
+            /**
+             * Fetch the root fields of queries concurrently, each with its own read transaction. Requires an
+             * {@link #executor(Executor)}.
+             *
+             * @param enabled true for enabled
+             * @return the builder
+             */
+            public ConcurrencyBuilder enabled(boolean enabled) {
+                this.enabled = enabled;
+                return this;
+            }
+
+            /**
+             * Sets the maximum number of root fields of a query fetched at the same time. This bounds the number of
+             * threads a query occupies, further root fields are fetched after those sharing their thread.
+             *
+             * @param maxConcurrency the concurrency limit
+             * @return the builder
+             */
+            public ConcurrencyBuilder maxConcurrency(int maxConcurrency) {
+                this.maxConcurrency = maxConcurrency;
+                return this;
+            }
+
+            /**
+             * Sets the executor running the fetches. The executor is owned by the caller, which shuts it down. Each
+             * query occupies up to {@link #maxConcurrency(int)} tasks of the executor until the request completes, so
+             * a bounded executor must be able to run that many tasks for every concurrent query.
+             *
+             * @param executor the executor
+             * @return the builder
+             */
+            public ConcurrencyBuilder executor(Executor executor) {
+                this.executor = executor;
+                return this;
+            }
+
+            public Concurrency build() {
+                return new Concurrency(this.enabled, this.maxConcurrency, this.executor);
+            }
+        }
+    }
+
+    /**
+     * Caching of parsed and validated GraphQL documents.
+     */
+    @Getter
+    public static class DocumentCache {
+        private final boolean enabled;
+        private final int maxSize;
+
+        public DocumentCache(boolean enabled, int maxSize) {
+            this.enabled = enabled;
+            this.maxSize = maxSize;
+        }
+
+        public static DocumentCacheBuilder builder() {
+            return new DocumentCacheBuilder();
+        }
+
+        public static class DocumentCacheBuilder {
+            private boolean enabled = false;
+            private int maxSize = GraphQLDocumentCache.DEFAULT_MAXIMUM_ENTRIES;
+
+            /**
+             * Cache parsed and validated documents by query text.
+             *
+             * @param enabled true for enabled
+             * @return the builder
+             */
+            public DocumentCacheBuilder enabled(boolean enabled) {
+                this.enabled = enabled;
+                return this;
+            }
+
+            /**
+             * Sets the maximum number of documents cached per API version.
+             *
+             * @param maxSize the maximum number of documents
+             * @return the builder
+             */
+            public DocumentCacheBuilder maxSize(int maxSize) {
+                this.maxSize = maxSize;
+                return this;
+            }
+
+            public DocumentCache build() {
+                return new DocumentCache(this.enabled, this.maxSize);
+            }
+        }
+    }
+
     private final boolean enabled;
     private final String path;
     private final Federation federation;
+    private final Concurrency concurrency;
+    private final DocumentCache documentCache;
+    private final PersistedQueryStore persistedQueryStore;
     private final FilterDialect filterDialect;
     private final GraphQLExceptionHandler graphqlExceptionHandler;
     private final GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer;
@@ -72,9 +193,20 @@ public class GraphQLSettings implements Settings {
     public GraphQLSettings(boolean enabled, String path, Federation federation, FilterDialect filterDialect,
             GraphQLExceptionHandler graphqlExceptionHandler,
             GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer) {
+        this(enabled, path, federation, Concurrency.builder().build(), DocumentCache.builder().build(), null,
+                filterDialect, graphqlExceptionHandler, graphqlFieldDefinitionCustomizer);
+    }
+
+    public GraphQLSettings(boolean enabled, String path, Federation federation, Concurrency concurrency,
+            DocumentCache documentCache, PersistedQueryStore persistedQueryStore, FilterDialect filterDialect,
+            GraphQLExceptionHandler graphqlExceptionHandler,
+            GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer) {
         this.enabled = enabled;
         this.path = path;
         this.federation = federation;
+        this.concurrency = concurrency;
+        this.documentCache = documentCache;
+        this.persistedQueryStore = persistedQueryStore;
         this.filterDialect = filterDialect;
         this.graphqlExceptionHandler = graphqlExceptionHandler;
         this.graphqlFieldDefinitionCustomizer = graphqlFieldDefinitionCustomizer;
@@ -92,6 +224,12 @@ public class GraphQLSettings implements Settings {
                 .filterDialect(this.filterDialect)
                 .federation(newFederation -> newFederation.enabled(this.getFederation().isEnabled())
                         .version(this.getFederation().getVersion()))
+                .concurrency(newConcurrency -> newConcurrency.enabled(this.getConcurrency().isEnabled())
+                        .maxConcurrency(this.getConcurrency().getMaxConcurrency())
+                        .executor(this.getConcurrency().getExecutor()))
+                .documentCache(newDocumentCache -> newDocumentCache.enabled(this.getDocumentCache().isEnabled())
+                        .maxSize(this.getDocumentCache().getMaxSize()))
+                .persistedQueryStore(this.persistedQueryStore)
                 .graphqlExceptionHandler(this.graphqlExceptionHandler);
     }
 
@@ -120,7 +258,8 @@ public class GraphQLSettings implements Settings {
             if (this.processor != null) {
                 this.processor.accept(this);
             }
-            return new GraphQLSettings(this.enabled, this.path, this.federation.build(), this.filterDialect,
+            return new GraphQLSettings(this.enabled, this.path, this.federation.build(), this.concurrency.build(),
+                    this.documentCache.build(), this.persistedQueryStore, this.filterDialect,
                     this.graphqlExceptionHandler, this.graphqlFieldDefinitionCustomizer);
         }
 
@@ -148,6 +287,9 @@ public class GraphQLSettings implements Settings {
         protected boolean enabled = false;
         protected String path = "/";
         protected final Federation.FederationBuilder federation = Federation.builder();
+        protected final Concurrency.ConcurrencyBuilder concurrency = Concurrency.builder();
+        protected final DocumentCache.DocumentCacheBuilder documentCache = DocumentCache.builder();
+        protected PersistedQueryStore persistedQueryStore;
         protected FilterDialect filterDialect;
         protected GraphQLExceptionHandler graphqlExceptionHandler = new DefaultGraphQLExceptionHandler(
                 new Slf4jExceptionLogger(), BasicExceptionMappers.builder().build(), new DefaultGraphQLErrorMapper());
@@ -189,6 +331,39 @@ public class GraphQLSettings implements Settings {
             return self();
         }
 
+        /**
+         * Customize the concurrent fetching settings.
+         *
+         * @param concurrency the customizer
+         * @return the builder
+         */
+        public S concurrency(Consumer<Concurrency.ConcurrencyBuilder> concurrency) {
+            concurrency.accept(this.concurrency);
+            return self();
+        }
+
+        /**
+         * Customize the document cache settings.
+         *
+         * @param documentCache the customizer
+         * @return the builder
+         */
+        public S documentCache(Consumer<DocumentCache.DocumentCacheBuilder> documentCache) {
+            documentCache.accept(this.documentCache);
+            return self();
+        }
+
+        /**
+         * Sets the {@link PersistedQueryStore} which enables automatic persisted queries.
+         *
+         * @param persistedQueryStore the persisted query store or null to disable persisted queries
+         * @return the builder
+         */
+        public S persistedQueryStore(PersistedQueryStore persistedQueryStore) {
+            this.persistedQueryStore = persistedQueryStore;
+            return self();
+        }
+
         /**
          * Sets the {@link FilterDialect}.
          *
@@ -40,6 +40,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -67,6 +69,26 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
         /* fetch current operation */
         RelationshipOp operation = (RelationshipOp) args.getOrDefault(ARGUMENT_OPERATION, FETCH);
 
+        /* fetch root fields of read-only documents concurrently when enabled */
+        ConcurrentFetchContext concurrentFetch = environment.getGraphQlContext().get(ConcurrentFetchContext.class);
+        if (concurrentFetch != null) {
+            if (operation == FETCH && !(environment.getSource() instanceof GraphQLContainer)) {
+                return concurrentFetch.fetch(branchScope -> {
+                    Environment context = new Environment(environment, nonEntityDictionary, branchScope);
+                    if (log.isDebugEnabled()) {
+                        logContext(log, operation, context);
+                    }
+                    return fetchObjects(context);
+                });
+            }
+
+            /* nested fields use the branch transaction, which may only be used by the branch thread */
+            Executor branch = concurrentFetch.getBranchExecutor(environment.getLocalContext());
+            if (branch != null) {
+                return CompletableFuture.supplyAsync(() -> get(environment), branch);
+            }
+        }
+
         /* build environment object, extracts required fields */
         Environment context = new Environment(environment, nonEntityDictionary);
 
@@ -175,8 +197,10 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
             return PersistentResource.loadRecords(projection, idList, requestScope);
         }).orElseGet(() -> PersistentResource.loadRecords(projection, Collections.emptyList(), requestScope));
 
-        return new ConnectionContainer(records.collect(Collectors.toCollection(LinkedHashSet::new)).block(),
-                Optional.ofNullable(projection.getPagination()), typeName);
+        Set<PersistentResource> resources = records.collect(Collectors.toCollection(LinkedHashSet::new)).block();
+        requestScope.getRelationshipBatchLoader().addSiblingResources(resources);
+
+        return new ConnectionContainer(resources, Optional.ofNullable(projection.getPagination()), typeName);
     }
 
     /**
@@ -204,6 +228,7 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
             relationResources = parentResource.getRelationCheckedFiltered(relationship)
                     .collect(Collectors.toCollection(LinkedHashSet::new)).block();
         }
+        parentResource.getRequestScope().getRelationshipBatchLoader().addSiblingResources(relationResources);
 
         return new ConnectionContainer(
                 relationResources,
@@ -9,6 +9,7 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
 import com.yahoo.elide.core.request.route.Route;
 import com.yahoo.elide.core.security.User;
@@ -16,13 +17,18 @@ import com.yahoo.elide.graphql.parser.GraphQLEntityProjectionMaker;
 import com.yahoo.elide.graphql.parser.GraphQLProjectionInfo;
 import com.yahoo.elide.graphql.parser.GraphQLQuery;
 import com.yahoo.elide.graphql.parser.QueryParser;
+import com.yahoo.elide.graphql.persistedquery.PersistedQueryStore;
 import com.yahoo.elide.graphql.serialization.GraphQLModule;
+import com.google.common.hash.Hashing;
 
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQL;
 import graphql.GraphQLError;
 import graphql.GraphQLException;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.AsyncSerialExecutionStrategy;
 import graphql.execution.DataFetcherExceptionHandler;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
@@ -41,12 +47,15 @@ import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.JsonNodeFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * Entry point for REST endpoints to execute GraphQL queries.
@@ -61,9 +70,19 @@ public class QueryRunner {
     @Getter
     private String apiVersion;
 
+    private final Executor concurrentFetchExecutor;
+    private final int maxConcurrency;
+
+    @Getter
+    private final GraphQLDocumentCache documentCache;
+
+    private final PersistedQueryStore persistedQueryStore;
+
     private static final String QUERY = "query";
     private static final String OPERATION_NAME = "operationName";
     private static final String VARIABLES = "variables";
+    private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+    private static final String PERSISTED_QUERY_NOT_SUPPORTED = "PersistedQueryNotSupported";
 
     /**
      * Builds a new query runner.
@@ -93,10 +112,39 @@ public class QueryRunner {
         ModelBuilder builder = new ModelBuilder(elide.getElideSettings().getEntityDictionary(),
                 nonEntityDictionary, elide.getElideSettings(), fetcher, apiVersion);
 
-        this.api = GraphQL.newGraphQL(builder.build())
+        GraphQLSettings graphqlSettings = elide.getSettings(GraphQLSettings.class);
+        GraphQLSettings.Concurrency concurrency = graphqlSettings != null
+                ? graphqlSettings.getConcurrency()
+                : GraphQLSettings.Concurrency.builder().build();
+        if (concurrency.isEnabled()) {
+            if (concurrency.getExecutor() == null) {
+                throw new IllegalStateException("An executor is required to fetch root fields concurrently");
+            }
+            this.maxConcurrency = concurrency.getMaxConcurrency();
+            this.concurrentFetchExecutor = concurrency.getExecutor();
+        } else {
+            this.maxConcurrency = 1;
+            this.concurrentFetchExecutor = null;
+        }
+
+        GraphQLSettings.DocumentCache documentCacheSettings = graphqlSettings != null
+                ? graphqlSettings.getDocumentCache()
+                : GraphQLSettings.DocumentCache.builder().build();
+        this.documentCache = documentCacheSettings.isEnabled()
+                ? new GraphQLDocumentCache(documentCacheSettings.getMaxSize())
+                : null;
+
+        this.persistedQueryStore = graphqlSettings != null ? graphqlSettings.getPersistedQueryStore() : null;
+
+        GraphQL.Builder apiBuilder = GraphQL.newGraphQL(builder.build())
                 .defaultDataFetcherExceptionHandler(exceptionHandler)
-                .queryExecutionStrategy(new AsyncSerialExecutionStrategy(exceptionHandler))
-                .build();
+                .queryExecutionStrategy(concurrentFetchExecutor != null
+                        ? new AsyncExecutionStrategy(exceptionHandler)
+                        : new AsyncSerialExecutionStrategy(exceptionHandler));
+        if (documentCache != null) {
+            apiBuilder.preparsedDocumentProvider(documentCache);
+        }
+        this.api = apiBuilder.build();
 
         elide.getElideSettings().getElideMapper()
                 .customizeObjectMapper(mapperBuilder -> mapperBuilder.addModule(new GraphQLModule()));
@@ -272,19 +320,42 @@ public class QueryRunner {
     private ElideResponse<?> executeGraphQLRequest(String baseUrlEndPoint, ObjectMapper mapper, User principal,
                                                 String graphQLDocument, GraphQLQuery query, UUID requestId,
                                                 Map<String, List<String>> requestHeaders) {
-        if (query.getQuery() == null || query.getQuery().isEmpty()) {
+        String queryText = query.getQuery();
+        boolean hasQueryText = queryText != null && !queryText.isEmpty();
+
+        if (query.getPersistedQueryHash() != null) {
+            String hash = query.getPersistedQueryHash().toLowerCase(Locale.ENGLISH);
+            if (persistedQueryStore == null) {
+                if (!hasQueryText) {
+                    return persistedQueryError(PERSISTED_QUERY_NOT_SUPPORTED, "PERSISTED_QUERY_NOT_SUPPORTED");
+                }
+            } else if (!hasQueryText) {
+                queryText = persistedQueryStore.get(hash);
+                if (queryText == null) {
+                    return persistedQueryError(PERSISTED_QUERY_NOT_FOUND, "PERSISTED_QUERY_NOT_FOUND");
+                }
+                hasQueryText = true;
+            } else if (!hash.equals(Hashing.sha256().hashString(queryText, StandardCharsets.UTF_8).toString())) {
+                return handleRuntimeException(elide, new BadRequestException("provided sha does not match query"));
+            } else {
+                persistedQueryStore.put(hash, queryText);
+            }
+        }
+
+        if (!hasQueryText) {
             return ElideResponse.badRequest("A `query` key is required.");
         }
 
-        String queryText = query.getQuery();
-        Parser parser = new Parser();
         Document parsedDocument;
         try {
-            parsedDocument = parser.parseDocument(queryText);
+            parsedDocument = documentCache != null
+                    ? documentCache.parse(queryText)
+                    : new Parser().parseDocument(queryText);
         } catch (Exception e) {
             return handleRuntimeException(elide, new InvalidEntityBodyException("Can't parse query: " + queryText));
         }
         boolean isMutation = isMutation(parsedDocument);
+        ConcurrentFetchContext concurrentFetch = null;
         try (DataStoreTransaction tx = isMutation
                 ? elide.getDataStore().beginTransaction()
                 : elide.getDataStore().beginReadTransaction()) {
@@ -317,6 +388,12 @@ public class QueryRunner {
                     .localContext(requestScope)
                     .query(queryText);
 
+            if (!isMutation && concurrentFetchExecutor != null) {
+                concurrentFetch = new ConcurrentFetchContext(requestScope, elide.getDataStore(),
+                        concurrentFetchExecutor, maxConcurrency);
+                executionInput.graphQLContext(Map.<Object, Object>of(ConcurrentFetchContext.class, concurrentFetch));
+            }
+
             if (query.getOperationName() != null) {
                 executionInput.operationName(query.getOperationName());
             }
@@ -324,6 +401,9 @@ public class QueryRunner {
 
             ExecutionResult result = api.execute(executionInput);
 
+            if (concurrentFetch != null) {
+                concurrentFetch.commit();
+            }
             tx.preCommit(requestScope);
             requestScope.getPermissionExecutor().executeCommitChecks();
             if (isMutation) {
@@ -340,7 +420,7 @@ public class QueryRunner {
             tx.flush(requestScope);
 
             requestScope.runQueuedPreCommitTriggers();
-            elide.getAuditLogger().commit();
+            elide.getAuditLogger().commit(requestScope);
             tx.commit(requestScope);
             requestScope.runQueuedPostCommitTriggers();
 
@@ -354,11 +434,22 @@ public class QueryRunner {
         } catch (RuntimeException e) {
             return handleRuntimeException(elide, e);
         } finally {
+            if (concurrentFetch != null) {
+                concurrentFetch.close();
+            }
             elide.getTransactionRegistry().removeRunningTransaction(requestId);
             elide.getAuditLogger().clear();
         }
     }
 
+    private static ElideResponse<?> persistedQueryError(String message, String code) {
+        GraphQLError error = GraphqlErrorBuilder.newError()
+                .message(message)
+                .extensions(Map.of("code", code))
+                .build();
+        return ElideResponse.ok(ExecutionResultImpl.newExecutionResult().addError(error).build());
+    }
+
     /**
      * Generate more user friendly error messages.
      *
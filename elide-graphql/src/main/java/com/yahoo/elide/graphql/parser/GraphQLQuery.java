@@ -20,4 +20,9 @@ public class GraphQLQuery {
     private String query;
     private String operationName;
     private Map<String, Object> variables;
+
+    /**
+     * The SHA-256 hash of the query from the automatic persisted query extension or null if absent.
+     */
+    private String persistedQueryHash;
 }
@@ -23,6 +23,9 @@ public interface QueryParser {
     static final String QUERY = "query";
     static final String OPERATION_NAME = "operationName";
     static final String VARIABLES = "variables";
+    static final String EXTENSIONS = "extensions";
+    static final String PERSISTED_QUERY = "persistedQuery";
+    static final String SHA256_HASH = "sha256Hash";
 
     /**
      * Parse a document which could consist of 1 or more GraphQL queries.
@@ -68,6 +71,12 @@ public interface QueryParser {
             operationName = topLevel.get(OPERATION_NAME).asString();
         }
 
-        return new GraphQLQuery(query, operationName, variables);
+        String persistedQueryHash = null;
+        JsonNode persistedQuery = topLevel.path(EXTENSIONS).path(PERSISTED_QUERY);
+        if (persistedQuery.hasNonNull(SHA256_HASH)) {
+            persistedQueryHash = persistedQuery.get(SHA256_HASH).asString();
+        }
+
+        return new GraphQLQuery(query, operationName, variables, persistedQueryHash);
     }
 }
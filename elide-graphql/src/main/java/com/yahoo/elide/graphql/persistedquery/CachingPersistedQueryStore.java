@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql.persistedquery;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * A bounded in-memory {@link PersistedQueryStore} with an optional backing store which is consulted on a miss and
+ * written through on every put, for example to share persisted queries across instances of the service.
+ */
+public class CachingPersistedQueryStore implements PersistedQueryStore {
+    public static final int DEFAULT_MAXIMUM_ENTRIES = 10000;
+
+    private final Cache<String, String> cache;
+    private final PersistedQueryStore backingStore;
+
+    public CachingPersistedQueryStore() {
+        this(DEFAULT_MAXIMUM_ENTRIES, null);
+    }
+
+    /**
+     * Constructor.
+     * @param maximumSize The maximum number of queries held in memory.
+     * @param backingStore The backing store or null for an in-memory only store.
+     */
+    public CachingPersistedQueryStore(int maximumSize, PersistedQueryStore backingStore) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.backingStore = backingStore;
+    }
+
+    @Override
+    public String get(String hash) {
+        if (backingStore == null) {
+            return cache.getIfPresent(hash);
+        }
+        return cache.get(hash, backingStore::get);
+    }
+
+    @Override
+    public void put(String hash, String query) {
+        cache.put(hash, query);
+        if (backingStore != null) {
+            backingStore.put(hash, query);
+        }
+    }
+
+    public Cache<String, String> getImplementation() {
+        return cache;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql.persistedquery;
+
+/**
+ * Stores GraphQL documents by the hex encoded SHA-256 hash of their query text for automatic persisted queries.
+ */
+public interface PersistedQueryStore {
+
+    /**
+     * Looks up a persisted query.
+     *
+     * @param hash the lower case hex encoded SHA-256 hash of the query text.
+     * @return the query text or null if the query has not been persisted.
+     */
+    String get(String hash);
+
+    /**
+     * Persists a query.
+     *
+     * @param hash the lower case hex encoded SHA-256 hash of the query text.
+     * @param query the query text.
+     */
+    void put(String hash, String query);
+}
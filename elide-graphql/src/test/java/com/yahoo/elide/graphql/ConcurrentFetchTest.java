@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests fetching the root fields of queries concurrently.
+ */
+public class ConcurrentFetchTest extends PersistentResourceFetcherTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Override
+    protected void customizeGraphQLSettings(GraphQLSettings.GraphQLSettingsBuilder graphqlSettings) {
+        graphqlSettings.concurrency(concurrency -> concurrency.enabled(true)
+                .maxConcurrency(2)
+                .executor(task -> {
+                    fetches.incrementAndGet();
+                    executor.execute(task);
+                }));
+    }
+
+    @BeforeEach
+    public void resetFetches() {
+        fetches.set(0);
+    }
+
+    @AfterAll
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRootFieldsFetchedConcurrently() throws Exception {
+        String query = """
+                {
+                  book(ids: ["1", "3"]) {
+                    edges { node { id title authors { edges { node { name } } } } }
+                  }
+                  author(ids: ["2"]) {
+                    edges { node { id name } }
+                  }
+                }
+                """;
+
+        String expected = """
+                {
+                  "book": {
+                    "edges": [
+                      {"node": {"id": "1", "title": "Libro Uno",
+                        "authors": {"edges": [{"node": {"name": "Mark Twain"}}]}}},
+                      {"node": {"id": "3", "title": "Doctor Zhivago",
+                        "authors": {"edges": [{"node": {"name": "Boris Pasternak"}}]}}}
+                    ]
+                  },
+                  "author": {
+                    "edges": [{"node": {"id": "2", "name": "Boris Pasternak"}}]
+                  }
+                }
+                """;
+
+        assertQueryEquals(query, expected);
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void testRootFieldsBeyondLimitShareBranches() throws Exception {
+        String query = """
+                {
+                  first: book(ids: ["1"]) { edges { node { title } } }
+                  second: book(ids: ["3"]) { edges { node { title authors { edges { node { name } } } } } }
+                  author(ids: ["2"]) { edges { node { name } } }
+                }
+                """;
+
+        String expected = """
+                {
+                  "first": {"edges": [{"node": {"title": "Libro Uno"}}]},
+                  "second": {"edges": [{"node": {"title": "Doctor Zhivago",
+                    "authors": {"edges": [{"node": {"name": "Boris Pasternak"}}]}}}]},
+                  "author": {"edges": [{"node": {"name": "Boris Pasternak"}}]}
+                }
+                """;
+
+        assertQueryEquals(query, expected);
+        // Only as many branches as the concurrency limit are started.
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void testPageTotalsPerBranch() throws Exception {
+        String query = """
+                {
+                  book { pageInfo { totalRecords } }
+                  author { pageInfo { totalRecords } }
+                }
+                """;
+
+        String expected = """
+                {
+                  "book": {"pageInfo": {"totalRecords": 3}},
+                  "author": {"pageInfo": {"totalRecords": 3}}
+                }
+                """;
+
+        assertQueryEquals(query, expected);
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void testWriteAfterConcurrentFetch() {
+        String query = """
+                {
+                  book(ids: ["1"]) { edges { node { title authors { edges { node { name } } } } } }
+                  author(ids: ["2"]) { edges { node { name } } }
+                }
+                """;
+
+        String mutation = """
+                mutation {
+                  book(op: UPSERT, data: {title: "Middlemarch"}) {
+                    edges { node { title } }
+                  }
+                }
+                """;
+
+        // The branch read transactions must release their locks on the store before the write can begin.
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertQueryEquals(query, """
+                    {
+                      "book": {"edges": [{"node": {"title": "Libro Uno",
+                        "authors": {"edges": [{"node": {"name": "Mark Twain"}}]}}}]},
+                      "author": {"edges": [{"node": {"name": "Boris Pasternak"}}]}
+                    }
+                    """);
+            assertQueryEquals(mutation, """
+                    {"book": {"edges": [{"node": {"title": "Middlemarch"}}]}}
+                    """);
+        });
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void testMutationsFetchedSerially() throws Exception {
+        String mutation = """
+                mutation {
+                  book(op: UPSERT, data: {title: "Middlemarch"}) {
+                    edges { node { title } }
+                  }
+                }
+                """;
+
+        String expected = """
+                {"book": {"edges": [{"node": {"title": "Middlemarch"}}]}}
+                """;
+
+        assertQueryEquals(mutation, expected);
+        assertEquals(0, fetches.get());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.language.Document;
+
+/**
+ * Tests caching parsed and validated GraphQL documents.
+ */
+public class GraphQLDocumentCacheTest extends PersistentResourceFetcherTest {
+    private static final String QUERY = """
+            {
+              book(ids: ["1"]) {
+                edges { node { id title } }
+              }
+            }
+            """;
+
+    private static final String EXPECTED = """
+            {"book": {"edges": [{"node": {"id": "1", "title": "Libro Uno"}}]}}
+            """;
+
+    @Override
+    protected void customizeGraphQLSettings(GraphQLSettings.GraphQLSettingsBuilder graphqlSettings) {
+        graphqlSettings.documentCache(documentCache -> documentCache.enabled(true).maxSize(16));
+    }
+
+    @BeforeEach
+    public void invalidate() {
+        runner.getDocumentCache().invalidateAll();
+    }
+
+    @Test
+    public void testParseReusesDocument() {
+        GraphQLDocumentCache documentCache = new GraphQLDocumentCache();
+        Document document = documentCache.parse(QUERY);
+
+        assertSame(document, documentCache.parse(QUERY));
+        assertEquals(1, documentCache.getDocuments().stats().hitCount());
+        assertEquals(1, documentCache.getDocuments().stats().missCount());
+    }
+
+    @Test
+    public void testRepeatedQueryServedFromCache() throws Exception {
+        GraphQLDocumentCache documentCache = runner.getDocumentCache();
+        long documentHits = documentCache.getDocuments().stats().hitCount();
+        long preparsedHits = documentCache.getPreparsedDocuments().stats().hitCount();
+
+        assertQueryEquals(QUERY, EXPECTED);
+        assertQueryEquals(QUERY, EXPECTED);
+
+        assertEquals(documentHits + 1, documentCache.getDocuments().stats().hitCount());
+        assertEquals(preparsedHits + 1, documentCache.getPreparsedDocuments().stats().hitCount());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.graphql.persistedquery.CachingPersistedQueryStore;
+import com.yahoo.elide.graphql.persistedquery.PersistedQueryStore;
+import com.google.common.hash.Hashing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Tests automatic persisted queries.
+ */
+public class PersistedQueryTest extends PersistentResourceFetcherTest {
+    private static final String QUERY = "{ book(ids: [\"1\"]) { edges { node { id title } } } }";
+    private static final String HASH = Hashing.sha256().hashString(QUERY, StandardCharsets.UTF_8).toString();
+    private static final String EXPECTED = """
+            {"book": {"edges": [{"node": {"id": "1", "title": "Libro Uno"}}]}}
+            """;
+
+    private CachingPersistedQueryStore persistedQueryStore;
+
+    @Override
+    protected void customizeGraphQLSettings(GraphQLSettings.GraphQLSettingsBuilder graphqlSettings) {
+        persistedQueryStore = new CachingPersistedQueryStore();
+        graphqlSettings.persistedQueryStore(persistedQueryStore);
+    }
+
+    @BeforeEach
+    public void invalidate() {
+        persistedQueryStore.getImplementation().invalidateAll();
+    }
+
+    private ElideResponse<String> runPersistedQuery(String query, String hash) {
+        ObjectNode envelope = JsonNodeFactory.instance.objectNode();
+        if (query != null) {
+            envelope.put("query", query);
+        }
+        envelope.putObject("extensions").putObject("persistedQuery")
+                .put("version", 1)
+                .put("sha256Hash", hash);
+        return runner.run("", envelope.toString(), user);
+    }
+
+    @Test
+    public void testUnknownHash() throws Exception {
+        ElideResponse<String> response = runPersistedQuery(null, HASH);
+
+        assertEquals(200, response.getStatus());
+        JsonNode error = mapper.readTree(response.getBody()).get("errors").get(0);
+        assertEquals("PersistedQueryNotFound", error.get("message").asString());
+        assertEquals("PERSISTED_QUERY_NOT_FOUND", error.get("extensions").get("code").asString());
+    }
+
+    @Test
+    public void testRegisterThenRunByHash() throws Exception {
+        ElideResponse<String> registered = runPersistedQuery(QUERY, HASH);
+        assertEquals(mapper.readTree(EXPECTED), mapper.readTree(registered.getBody()).get("data"));
+        assertEquals(QUERY, persistedQueryStore.get(HASH));
+
+        ElideResponse<String> byHash = runPersistedQuery(null, HASH.toUpperCase(Locale.ENGLISH));
+        assertEquals(200, byHash.getStatus());
+        assertEquals(mapper.readTree(EXPECTED), mapper.readTree(byHash.getBody()).get("data"));
+    }
+
+    @Test
+    public void testHashMismatch() {
+        ElideResponse<String> response = runPersistedQuery(QUERY, Hashing.sha256()
+                .hashString("{ author { edges { node { id } } } }", StandardCharsets.UTF_8).toString());
+
+        assertEquals(400, response.getStatus());
+        assertNull(persistedQueryStore.get(HASH));
+    }
+
+    @Test
+    public void testBackingStore() {
+        PersistedQueryStore backingStore = mock(PersistedQueryStore.class);
+        when(backingStore.get(HASH)).thenReturn(QUERY);
+        CachingPersistedQueryStore store = new CachingPersistedQueryStore(10, backingStore);
+
+        assertEquals(QUERY, store.get(HASH));
+        assertEquals(QUERY, store.get(HASH));
+        verify(backingStore).get(HASH);
+
+        store.put("other", "{ author { edges { node { id } } } }");
+        verify(backingStore).put("other", "{ author { edges { node { id } } } }");
+    }
+}
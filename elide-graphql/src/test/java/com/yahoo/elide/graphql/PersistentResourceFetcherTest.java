@@ -86,6 +86,7 @@ public abstract class PersistentResourceFetcherTest extends GraphQLTest {
 
         GraphQLSettings.GraphQLSettingsBuilder graphqlSettings = GraphQLSettings.builder()
                 .federation(federation -> federation.enabled(true));
+        customizeGraphQLSettings(graphqlSettings);
 
         JsonApiSettings.JsonApiSettingsBuilder jsonApiSettings = JsonApiSettings.builder().joinFilterDialect(filterDialect)
                 .subqueryFilterDialect(filterDialect);
@@ -111,6 +112,10 @@ public abstract class PersistentResourceFetcherTest extends GraphQLTest {
         //NOOP;
     }
 
+    protected void customizeGraphQLSettings(GraphQLSettings.GraphQLSettingsBuilder graphqlSettings) {
+        //NOOP;
+    }
+
     @AfterEach
     public void clearTestData() {
         hashMapDataStore.cleanseTestData();
@@ -5,6 +5,8 @@
  */
 package com.yahoo.elide.core.audit;
 
+import com.yahoo.elide.core.RequestScope;
+
 import java.io.IOException;
 
 /**
@@ -20,6 +22,14 @@ public class TestAuditLogger extends AuditLogger {
         logCount++;
     }
 
+    @Override
+    public void log(LogMessage message, RequestScope scope) {
+        super.log(message, scope);
+        if (scope != null && scope.getAuditMessages() != null) {
+            logCount++;
+        }
+    }
+
     @Override
     public void commit() throws IOException {
         commitCount++;
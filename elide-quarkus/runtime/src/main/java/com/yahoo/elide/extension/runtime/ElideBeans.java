@@ -59,7 +59,8 @@ public class ElideBeans {
     public Elide produceElide(DataStore store, EntityDictionary dictionary) {
         LOG.debug("Creating Elide bean");
         JsonApiSettings.JsonApiSettingsBuilder jsonApiSettingsBuilder = new JsonApiSettings.JsonApiSettingsBuilder();
-        jsonApiSettingsBuilder.path(config.jsonApi().path());
+        jsonApiSettingsBuilder.path(config.jsonApi().path())
+                .streamingResponses(config.jsonApi().streamingResponses());
         GraphQLSettings.GraphQLSettingsBuilder graphQLSettingsBuilder = new GraphQLSettings.GraphQLSettingsBuilder();
         graphQLSettingsBuilder.path(config.graphql().path());
         ElideSettings.ElideSettingsBuilder builder = ElideSettings.builder()
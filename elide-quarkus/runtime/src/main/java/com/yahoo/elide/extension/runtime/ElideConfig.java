@@ -25,6 +25,12 @@ public interface ElideConfig {
          */
         @WithDefault(JSONAPI_PATH)
         String path();
+
+        /**
+         * Write GET responses directly to the response output stream instead of building string bodies.
+         */
+        @WithDefault("false")
+        boolean streamingResponses();
     }
 
     interface GraphqlConfig {
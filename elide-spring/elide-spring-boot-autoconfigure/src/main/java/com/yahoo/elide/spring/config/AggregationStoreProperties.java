@@ -65,8 +65,36 @@ public class AggregationStoreProperties {
          */
         @DurationUnit(ChronoUnit.MINUTES)
         private Duration expiration = Duration.ofMinutes(10L);
+
+        /**
+         * How often table versions are refreshed in the background. When not set, the table version is
+         * looked up on every cacheable query.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration versionRefreshInterval;
     }
 
     private QueryCache queryCache = new QueryCache();
 
+    @Data
+    public static class CompiledQueryCache {
+        /**
+         * Whether or not to cache the SQL generated for each query shape.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Limit on number of compiled query cache entries.
+         */
+        private int maxSize = com.yahoo.elide.datastores.aggregation.queryengines.sql.CompiledQueryCache
+                .DEFAULT_MAXIMUM_ENTRIES;
+    }
+
+    private CompiledQueryCache compiledQueryCache = new CompiledQueryCache();
+
+    /**
+     * Whether or not to run page total queries on a separate connection concurrently with the primary query.
+     */
+    private boolean concurrentPageTotals = false;
+
 }
@@ -52,7 +52,8 @@ public class AsyncProperties {
     private boolean enabled = false;
 
     /**
-     * Default thread pool size.
+     * Default thread pool size. Not used when {@code spring.threads.virtual.enabled} runs async queries on virtual
+     * threads.
      */
     private int threadPoolSize = 5;
 
@@ -63,6 +64,16 @@ public class AsyncProperties {
     @DurationUnit(ChronoUnit.SECONDS)
     private Duration maxAsyncAfter = Duration.ofSeconds(10L);
 
+    /**
+     * Whether async query response bodies are stored with the export result storage engine, leaving only their
+     * download URL in the query result. Requires the export controller to be enabled. JSON:API response bodies are
+     * written straight to the storage engine, GraphQL response bodies are still held in memory while the query runs.
+     * <p>
+     * Security: the export controller does not check who owns the query, so anyone with the download URL can read
+     * the stored response body, while a response body kept in the query result is only readable by its owner.
+     */
+    private boolean storeQueryResults = false;
+
     /**
      * Settings for the export controller.
      */
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.config;
+
+import com.yahoo.elide.core.audit.AsyncAuditLogger;
+
+import lombok.Data;
+
+/**
+ * Extra properties for setting up the audit logger.
+ */
+@Data
+public class AuditProperties {
+    @Data
+    public static class Async {
+        /**
+         * Whether audit messages are written in batches on a background thread instead of the request thread.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of audit messages waiting to be written.
+         */
+        private int queueCapacity = AsyncAuditLogger.DEFAULT_QUEUE_CAPACITY;
+
+        /**
+         * The maximum number of audit messages written at once.
+         */
+        private int batchSize = AsyncAuditLogger.DEFAULT_BATCH_SIZE;
+
+        /**
+         * What to do with an audit message when the queue is full.
+         */
+        private AsyncAuditLogger.OverflowPolicy overflowPolicy = AsyncAuditLogger.OverflowPolicy.BLOCK;
+
+        /**
+         * One in how many audit messages are kept by the SAMPLE overflow policy once the queue is half full.
+         */
+        private int sampleRate = AsyncAuditLogger.DEFAULT_SAMPLE_RATE;
+    }
+
+    private Async async = new Async();
+}
@@ -15,6 +15,7 @@ import com.yahoo.elide.RefreshableElide;
 import com.yahoo.elide.async.AsyncSettings.AsyncSettingsBuilder;
 import com.yahoo.elide.async.DefaultResultTypeFileExtensionMapper;
 import com.yahoo.elide.async.ResultTypeFileExtensionMapper;
+import com.yahoo.elide.async.export.formatter.ArrowExportFormatter;
 import com.yahoo.elide.async.export.formatter.CsvExportFormatter;
 import com.yahoo.elide.async.export.formatter.JsonExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
@@ -37,6 +38,7 @@ import com.yahoo.elide.async.service.dao.DefaultAsyncApiDao;
 import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.utils.VirtualThreadExecutors;
 import com.yahoo.elide.graphql.QueryRunners;
 import com.yahoo.elide.jsonapi.JsonApi;
 
@@ -46,14 +48,15 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
+import org.springframework.core.env.Environment;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Async Configuration For Elide Services.  Override any of the beans (by defining your own)
@@ -92,6 +95,7 @@ public class ElideAsyncConfiguration {
         builder.entry(ResultType.CSV, new CsvExportFormatter(elide.getElide(), writeCSVHeader));
         builder.entry(ResultType.JSON, new JsonExportFormatter(elide.getElide()));
         builder.entry(ResultType.XLSX, new XlsxExportFormatter(elide.getElide(), true));
+        builder.entry(ResultType.ARROW, new ArrowExportFormatter(elide.getElide()));
         customizerProvider.orderedStream().forEach(customizer -> customizer.customize(builder));
         return builder;
     }
@@ -104,6 +108,7 @@ public class ElideAsyncConfiguration {
      * @param optionalResultStorageEngine Result Storage Engine.
      * @param tableExportFormattersBuilder TableExportFormattersBuilder.
      * @param asyncProviderService the AsyncProviderService.
+     * @param environment the environment, which enables virtual threads with {@code spring.threads.virtual.enabled}.
      * @return a AsyncExecutorService.
      */
     @Bean
@@ -115,18 +120,26 @@ public class ElideAsyncConfiguration {
             Optional<ResultStorageEngine> optionalResultStorageEngine,
             TableExportFormattersBuilder tableExportFormattersBuilder,
             ResultTypeFileExtensionMapper resultTypeFileExtensionMapper,
-            AsyncProviderService asyncProviderService
+            AsyncProviderService asyncProviderService,
+            Environment environment
     ) {
         AsyncProperties asyncProperties = settings.getAsync();
 
-        ExecutorService executor = Executors.newFixedThreadPool(asyncProperties.getThreadPoolSize());
-        ExecutorService updater = Executors.newFixedThreadPool(asyncProperties.getThreadPoolSize());
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        ExecutorService executor = VirtualThreadExecutors.newFixedThreadPool(asyncProperties.getThreadPoolSize(),
+                virtualThreads);
+        ExecutorService updater = VirtualThreadExecutors.newFixedThreadPool(asyncProperties.getThreadPoolSize(),
+                virtualThreads);
         AsyncExecutorService asyncExecutorService = new AsyncExecutorService(elide.getElide(), executor,
                 updater, asyncQueryDao, asyncProviderService);
 
+        boolean exportEnabled = ElideAutoConfiguration.isExportEnabled(asyncProperties);
+
         // Binding AsyncQuery LifeCycleHook
         AsyncQueryHook asyncQueryHook = new AsyncQueryHook(asyncExecutorService,
-                asyncProperties.getMaxAsyncAfter());
+                asyncProperties.getMaxAsyncAfter(),
+                exportEnabled && asyncProperties.isStoreQueryResults() ? optionalResultStorageEngine.orElse(null)
+                        : null);
 
         EntityDictionary dictionary = elide.getElide().getElideSettings().getEntityDictionary();
 
@@ -134,8 +147,6 @@ public class ElideAsyncConfiguration {
         dictionary.bindTrigger(AsyncQuery.class, CREATE, POSTCOMMIT, asyncQueryHook, false);
         dictionary.bindTrigger(AsyncQuery.class, CREATE, PRESECURITY, asyncQueryHook, false);
 
-        boolean exportEnabled = ElideAutoConfiguration.isExportEnabled(asyncProperties);
-
         if (exportEnabled) {
             // Binding TableExport LifeCycleHook
             TableExportHook tableExportHook = getTableExportHook(asyncExecutorService, settings,
@@ -196,7 +207,8 @@ public class ElideAsyncConfiguration {
     @ConditionalOnProperty(prefix = "elide.async.export", name = "enabled", matchIfMissing = false)
     ResultStorageEngine resultStorageEngine(ElideConfigProperties settings) {
         FileResultStorageEngine resultStorageEngine = new FileResultStorageEngine(
-                settings.getAsync().getExport().getStorageDestination());
+                settings.getAsync().getExport().getStorageDestination(),
+                settings.getAsync().getExport().getStorageContentEncoding());
         return resultStorageEngine;
     }
 
@@ -24,6 +24,7 @@ import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.TransactionRegistry;
+import com.yahoo.elide.core.audit.AsyncAuditLogger;
 import com.yahoo.elide.core.audit.AuditLogger;
 import com.yahoo.elide.core.audit.Slf4jLogger;
 import com.yahoo.elide.core.datastore.DataStore;
@@ -56,16 +57,19 @@ import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.ClassScanner;
 import com.yahoo.elide.core.utils.DefaultClassScanner;
+import com.yahoo.elide.core.utils.VirtualThreadExecutors;
 import com.yahoo.elide.core.utils.coerce.CoerceUtil;
 import com.yahoo.elide.datastores.aggregation.AggregationDataStore;
 import com.yahoo.elide.datastores.aggregation.DefaultQueryValidator;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
 import com.yahoo.elide.datastores.aggregation.cache.CaffeineCache;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionTracker;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.Slf4jQueryLogger;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.query.DefaultQueryPlanMerger;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.CompiledQueryCache;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.ConnectionDetails;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.DataSourceConfiguration;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
@@ -75,12 +79,15 @@ import com.yahoo.elide.datastores.aggregation.validator.TemplateConfigValidator;
 import com.yahoo.elide.datastores.jpa.JpaDataStore;
 import com.yahoo.elide.graphql.DefaultGraphQLErrorMapper;
 import com.yahoo.elide.graphql.DefaultGraphQLExceptionHandler;
+import com.yahoo.elide.graphql.GraphQLDocumentCache;
 import com.yahoo.elide.graphql.GraphQLErrorMapper;
 import com.yahoo.elide.graphql.GraphQLExceptionHandler;
 import com.yahoo.elide.graphql.GraphQLSettings.GraphQLSettingsBuilder;
 import com.yahoo.elide.graphql.GraphQLSettingsBuilderCustomizer;
 import com.yahoo.elide.graphql.GraphQLSettingsBuilderCustomizers;
 import com.yahoo.elide.graphql.QueryRunners;
+import com.yahoo.elide.graphql.persistedquery.CachingPersistedQueryStore;
+import com.yahoo.elide.graphql.persistedquery.PersistedQueryStore;
 import com.yahoo.elide.jsonapi.DefaultJsonApiErrorMapper;
 import com.yahoo.elide.jsonapi.DefaultJsonApiExceptionHandler;
 import com.yahoo.elide.jsonapi.JsonApi;
@@ -131,6 +138,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.boot.transaction.autoconfigure.TransactionAutoConfiguration;
 import org.springframework.boot.web.server.autoconfigure.ServerProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -140,12 +148,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.function.SingletonSupplier;
 
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import graphql.execution.DataFetcherExceptionHandler;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -160,6 +171,7 @@ import lombok.extern.slf4j.Slf4j;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -169,6 +181,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -189,11 +203,17 @@ public class ElideAutoConfiguration {
     /**
      * Creates the {@link AuditLogger}.
      *
+     * @param settings Elide configuration settings.
      * @return the AuditLogger
      */
     @Bean
     @ConditionalOnMissingBean
-    public AuditLogger auditLogger() {
+    public AuditLogger auditLogger(ElideConfigProperties settings) {
+        AuditProperties.Async async = settings.getAudit().getAsync();
+        if (async.isEnabled()) {
+            return new AsyncAuditLogger(new Slf4jLogger(), async.getQueueCapacity(), async.getBatchSize(),
+                    async.getOverflowPolicy(), async.getSampleRate());
+        }
         return new Slf4jLogger();
     }
 
@@ -731,8 +751,9 @@ public class ElideAutoConfiguration {
             @RefreshScope
             @ConditionalOnMissingBean
             public QueryRunners queryRunners(RefreshableElide refreshableElide,
-                    DataFetcherExceptionHandler exceptionHandler) {
-                return new QueryRunners(refreshableElide, exceptionHandler);
+                    DataFetcherExceptionHandler exceptionHandler, Optional<MeterRegistry> optionalMeterRegistry) {
+                return NonRefreshableConfiguration.GraphQLConfiguration.buildQueryRunners(refreshableElide,
+                        exceptionHandler, optionalMeterRegistry);
             }
 
             @Bean
@@ -835,8 +856,8 @@ public class ElideAutoConfiguration {
             @Bean
             @ConditionalOnMissingBean
             public QueryRunners queryRunners(RefreshableElide refreshableElide,
-                    DataFetcherExceptionHandler exceptionHandler) {
-                return new QueryRunners(refreshableElide, exceptionHandler);
+                    DataFetcherExceptionHandler exceptionHandler, Optional<MeterRegistry> optionalMeterRegistry) {
+                return buildQueryRunners(refreshableElide, exceptionHandler, optionalMeterRegistry);
             }
 
             @Bean
@@ -847,6 +868,32 @@ public class ElideAutoConfiguration {
                 return new GraphqlController(refreshableElide.getElide(), runners, headerProcessor, settings,
                         routeResolver);
             }
+
+            /**
+             * Creates the GraphQL query runners and publishes the statistics of their document caches.
+             * @param refreshableElide Elide instance.
+             * @param exceptionHandler the data fetcher exception handler.
+             * @param optionalMeterRegistry Meter Registry.
+             * @return the query runners.
+             */
+            public static QueryRunners buildQueryRunners(RefreshableElide refreshableElide,
+                    DataFetcherExceptionHandler exceptionHandler, Optional<MeterRegistry> optionalMeterRegistry) {
+                QueryRunners runners = new QueryRunners(refreshableElide, exceptionHandler);
+                optionalMeterRegistry.ifPresent(meterRegistry -> {
+                    for (String apiVersion : refreshableElide.getElide().getElideSettings().getEntityDictionary()
+                            .getApiVersions()) {
+                        GraphQLDocumentCache documentCache = runners.getRunner(apiVersion).getDocumentCache();
+                        if (documentCache != null) {
+                            String apiVersionTag = apiVersion.isEmpty() ? "default" : apiVersion;
+                            CaffeineCacheMetrics.monitor(meterRegistry, documentCache.getDocuments(),
+                                    "elideGraphQLDocumentCache", "apiVersion", apiVersionTag);
+                            CaffeineCacheMetrics.monitor(meterRegistry, documentCache.getPreparsedDocuments(),
+                                    "elideGraphQLPreparsedDocumentCache", "apiVersion", apiVersionTag);
+                        }
+                    }
+                });
+                return runners;
+            }
         }
     }
 
@@ -874,12 +921,48 @@ public class ElideAutoConfiguration {
             return new DefaultGraphQLExceptionHandler(exceptionLogger, exceptionMappers, graphqlErrorMapper);
         }
 
+        /**
+         * Creates the store for automatic persisted queries. A bean named persistedQueryBackingStore, when
+         * present, is consulted on a miss and written through.
+         * @param settings Elide configuration settings.
+         * @param backingStore The optional backing store.
+         * @param optionalMeterRegistry Meter Registry.
+         * @return the persisted query store.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(name = "elide.graphql.persisted-queries.enabled", havingValue = "true")
+        public CachingPersistedQueryStore persistedQueryStore(ElideConfigProperties settings,
+                @Qualifier("persistedQueryBackingStore") Optional<PersistedQueryStore> backingStore,
+                Optional<MeterRegistry> optionalMeterRegistry) {
+            CachingPersistedQueryStore store = new CachingPersistedQueryStore(
+                    settings.getGraphql().getPersistedQueries().getMaxSize(), backingStore.orElse(null));
+            optionalMeterRegistry.ifPresent(meterRegistry -> CaffeineCacheMetrics.monitor(meterRegistry,
+                    store.getImplementation(), "elideGraphQLPersistedQueryStore"));
+            return store;
+        }
+
+        /**
+         * Creates the executor which fetches the root fields of queries concurrently.
+         * @param environment the environment, which enables virtual threads with
+         *        {@code spring.threads.virtual.enabled}.
+         * @return the fetch executor.
+         */
+        @Bean(destroyMethod = "shutdown")
+        @ConditionalOnMissingBean(name = "graphqlFetchExecutor")
+        @ConditionalOnProperty(name = "elide.graphql.concurrency.enabled", havingValue = "true")
+        public ExecutorService graphqlFetchExecutor(Environment environment) {
+            return VirtualThreadExecutors.newCachedThreadPool(Threading.VIRTUAL.isActive(environment));
+        }
+
         @Bean
         @ConditionalOnMissingBean
         @Scope(SCOPE_PROTOTYPE)
         public GraphQLSettingsBuilder graphqlSettingsBuilder(ElideConfigProperties settings,
                 EntityDictionary entityDictionary,
                 GraphQLExceptionHandler graphqlExceptionHandler,
+                Optional<CachingPersistedQueryStore> persistedQueryStore,
+                @Qualifier("graphqlFetchExecutor") Optional<ExecutorService> graphqlFetchExecutor,
                 ObjectProvider<GraphQLSettingsBuilderCustomizer> customizerProviders) {
             return GraphQLSettingsBuilderCustomizers.buildGraphQLSettingsBuilder(entityDictionary,
                     builder -> {
@@ -887,6 +970,14 @@ public class ElideAutoConfiguration {
                                 .federation(federation -> federation
                                         .enabled(settings.getGraphql().getFederation().isEnabled())
                                         .version(settings.getGraphql().getFederation().getVersion().getValue()))
+                                .concurrency(concurrency -> concurrency
+                                        .enabled(settings.getGraphql().getConcurrency().isEnabled())
+                                        .maxConcurrency(settings.getGraphql().getConcurrency().getMaxConcurrency())
+                                        .executor(graphqlFetchExecutor.orElse(null)))
+                                .documentCache(documentCache -> documentCache
+                                        .enabled(settings.getGraphql().getDocumentCache().isEnabled())
+                                        .maxSize(settings.getGraphql().getDocumentCache().getMaxSize()))
+                                .persistedQueryStore(persistedQueryStore.orElse(null))
                                 .graphqlExceptionHandler(graphqlExceptionHandler);
                         customizerProviders.orderedStream().forEach(customizer -> customizer.customize(builder));
                     });
@@ -921,7 +1012,8 @@ public class ElideAutoConfiguration {
                 builder.path(settings.getJsonApi().getPath())
                         .joinFilterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary).build())
                         .subqueryFilterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary).build())
-                        .jsonApiMapper(jsonApiMapper).jsonApiExceptionHandler(jsonApiExceptionHandler);
+                        .jsonApiMapper(jsonApiMapper).jsonApiExceptionHandler(jsonApiExceptionHandler)
+                        .streamingResponses(settings.getJsonApi().isStreamingResponses());
                 if (settings.getJsonApi().getLinks().isEnabled()) {
                     String baseUrl = settings.getBaseUrl();
                     builder.links(links -> links.enabled(true));
@@ -954,7 +1046,8 @@ public class ElideAutoConfiguration {
                 ObjectProvider<AsyncSettingsBuilderCustomizer> customizerProviders) {
             return AsyncSettingsBuilderCustomizers.buildAsyncSettingsBuilder(builder -> {
                 builder.export(export -> export.enabled(settings.getAsync().getExport().isEnabled())
-                        .path(settings.getAsync().getExport().getPath()));
+                        .path(settings.getAsync().getExport().getPath())
+                        .partitions(settings.getAsync().getExport().getPartitions()));
                 customizerProviders.orderedStream().forEach(customizer -> customizer.customize(builder));
             });
         }
@@ -1011,6 +1104,19 @@ public class ElideAutoConfiguration {
             };
         }
 
+        /**
+         * Creates the executor which runs page total queries concurrently with the primary query.
+         * @param environment the environment, which enables virtual threads with
+         *        {@code spring.threads.virtual.enabled}.
+         * @return the page total executor.
+         */
+        @Bean(destroyMethod = "shutdown")
+        @ConditionalOnMissingBean(name = "pageTotalExecutor")
+        @ConditionalOnProperty(name = "elide.aggregation-store.concurrent-page-totals", havingValue = "true")
+        public ExecutorService pageTotalExecutor(Environment environment) {
+            return VirtualThreadExecutors.newCachedThreadPool(Threading.VIRTUAL.isActive(environment));
+        }
+
         /**
          * Create a QueryEngine instance for aggregation data store to use.
          * @param defaultDataSource DataSource for JPA.
@@ -1018,6 +1124,8 @@ public class ElideAutoConfiguration {
          * @param settings Elide configuration settings.
          * @param dataSourceConfiguration DataSource Configuration
          * @param dbPasswordExtractor Password Extractor Implementation
+         * @param optionalMeterRegistry Meter Registry.
+         * @param optionalPageTotalExecutor Runs page total queries concurrently with the primary query.
          * @return An instance of a QueryEngine
          */
         @Bean
@@ -1029,7 +1137,21 @@ public class ElideAutoConfiguration {
                                             ClassScanner scanner,
                                             Injector injector,
                                             DataSourceConfiguration dataSourceConfiguration,
-                                            DBPasswordExtractor dbPasswordExtractor) {
+                                            DBPasswordExtractor dbPasswordExtractor,
+                                            Optional<MeterRegistry> optionalMeterRegistry,
+                                            @Qualifier("pageTotalExecutor")
+                                            Optional<ExecutorService> optionalPageTotalExecutor) {
+
+            CompiledQueryCache compiledQueryCache = null;
+            int maxCompiledQueries = settings.getAggregationStore().getCompiledQueryCache().getMaxSize();
+            if (settings.getAggregationStore().getCompiledQueryCache().isEnabled() && maxCompiledQueries > 0) {
+                final CompiledQueryCache cache = new CompiledQueryCache(maxCompiledQueries);
+                optionalMeterRegistry.ifPresent(meterRegistry -> CaffeineCacheMetrics.monitor(meterRegistry,
+                        cache.getImplementation(), "elideCompiledQueryCache"));
+                compiledQueryCache = cache;
+            }
+
+            Executor pageTotalExecutor = optionalPageTotalExecutor.orElse(null);
 
             boolean enableMetaDataStore = settings.getAggregationStore().getMetadataStore().isEnabled();
             ConnectionDetails defaultConnectionDetails = new ConnectionDetails(defaultDataSource,
@@ -1060,10 +1182,14 @@ public class ElideAutoConfiguration {
                 return new SQLQueryEngine(metaDataStore, connectionDetailsLookup,
                         new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))),
                         new DefaultQueryPlanMerger(metaDataStore),
-                        new DefaultQueryValidator(metaDataStore.getMetadataDictionary()));
+                        new DefaultQueryValidator(metaDataStore.getMetadataDictionary()),
+                        compiledQueryCache, pageTotalExecutor);
             }
             MetaDataStore metaDataStore = new MetaDataStore(scanner, injector, enableMetaDataStore);
-            return new SQLQueryEngine(metaDataStore, unused -> defaultConnectionDetails);
+            return new SQLQueryEngine(metaDataStore, unused -> defaultConnectionDetails, new HashSet<>(),
+                    new DefaultQueryPlanMerger(metaDataStore),
+                    new DefaultQueryValidator(metaDataStore.getMetadataDictionary()),
+                    compiledQueryCache, pageTotalExecutor);
         }
 
         /**
@@ -1096,6 +1222,44 @@ public class ElideAutoConfiguration {
             return new Slf4jQueryLogger();
         }
 
+        /**
+         * Creates the tracker which refreshes the table versions used by the query cache in the background, or null
+         * if the query cache or the version refresh interval is disabled.
+         * @param settings Elide configuration settings.
+         * @param optionalQueryEngine QueryEngine instance which looks up the table versions.
+         * @param optionalCache Analytics query cache.
+         * @param optionalMeterRegistry Meter Registry.
+         * @return An instance of a table version tracker, or null.
+         */
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean
+        public TableVersionTracker tableVersionTracker(ElideConfigProperties settings,
+                Optional<QueryEngine> optionalQueryEngine, Optional<Cache> optionalCache,
+                Optional<MeterRegistry> optionalMeterRegistry) {
+            Duration versionRefreshInterval = settings.getAggregationStore().getQueryCache()
+                    .getVersionRefreshInterval();
+            if (optionalQueryEngine.isEmpty() || optionalCache.isEmpty() || versionRefreshInterval == null
+                    || versionRefreshInterval.isZero()) {
+                return null;
+            }
+
+            TableVersionTracker tracker = new TableVersionTracker(optionalQueryEngine.get(), versionRefreshInterval);
+            optionalMeterRegistry.ifPresent(meterRegistry -> {
+                Gauge.builder("elideTableVersion.maxStaleness", tracker,
+                        t -> t.getMaxStaleness().toMillis())
+                        .baseUnit("milliseconds")
+                        .register(meterRegistry);
+                Gauge.builder("elideTableVersion.refreshLatency", tracker,
+                        t -> t.getMeanRefreshLatency().toMillis())
+                        .baseUnit("milliseconds")
+                        .register(meterRegistry);
+                FunctionCounter.builder("elideTableVersion.refreshFailures", tracker,
+                        TableVersionTracker::getRefreshFailureCount)
+                        .register(meterRegistry);
+            });
+            return tracker;
+        }
+
         /**
          * Creates the aggregation data store.
          *
@@ -1104,13 +1268,15 @@ public class ElideAutoConfiguration {
          * @param optionalQueryEngine QueryEngine instance for aggregation data store.
          * @param optionalCache       Analytics query cache
          * @param optionalQueryLogger Analytics query logger
+         * @param optionalTableVersionTracker Refreshes the table versions used by the query cache.
          * @return the customizer
          */
         @Bean
         @Order(AGGREGATION_DATASTORE_CUSTOMIZER_ORDER)
         public DataStoreBuilderCustomizer aggregationDataStoreBuilderCustomizer(ElideConfigProperties settings,
                 ClassScanner scanner, Injector injector, Optional<QueryEngine> optionalQueryEngine,
-                Optional<Cache> optionalCache, Optional<QueryLogger> optionalQueryLogger) {
+                Optional<Cache> optionalCache, Optional<QueryLogger> optionalQueryLogger,
+                Optional<TableVersionTracker> optionalTableVersionTracker) {
             return dataStoreBuilder -> {
                 if (isAggregationStoreEnabled(settings)) {
                     AggregationDataStore.AggregationDataStoreBuilder aggregationDataStoreBuilder = AggregationDataStore
@@ -1129,6 +1295,7 @@ public class ElideAutoConfiguration {
                         }
                     }
                     optionalCache.ifPresent(aggregationDataStoreBuilder::cache);
+                    optionalTableVersionTracker.ifPresent(aggregationDataStoreBuilder::tableVersionTracker);
                     optionalQueryLogger.ifPresent(aggregationDataStoreBuilder::queryLogger);
                     AggregationDataStore aggregationDataStore = aggregationDataStoreBuilder.build();
 
@@ -43,6 +43,12 @@ public class ElideConfigProperties {
     @NestedConfigurationProperty
     private AsyncProperties async = new AsyncProperties();
 
+    /**
+     * Settings for the audit logger.
+     */
+    @NestedConfigurationProperty
+    private AuditProperties audit = new AuditProperties();
+
     /**
      * Settings for the Aggregation Store.
      */
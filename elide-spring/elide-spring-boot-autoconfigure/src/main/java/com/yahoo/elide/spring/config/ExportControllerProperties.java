@@ -40,8 +40,18 @@ public class ExportControllerProperties extends ControllerProperties {
      */
     private String path = "/export";
 
+    /**
+     * Number of id ranges a table export is split into, each read on its own transaction on the async executor.
+     */
+    private int partitions = 1;
+
     /**
      * Storage engine destination.
      */
     private String storageDestination = "/tmp";
+
+    /**
+     * Encoding used to compress stored results, either gzip or unset to store them uncompressed.
+     */
+    private String storageContentEncoding;
 }
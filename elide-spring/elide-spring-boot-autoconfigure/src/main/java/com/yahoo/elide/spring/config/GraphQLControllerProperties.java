@@ -64,6 +64,46 @@ public class GraphQLControllerProperties extends ControllerProperties {
         private Version version = Version.FEDERATION_1_0;
     }
 
+    @Data
+    public static class Concurrency {
+        /**
+         * Fetch the root fields of queries concurrently, each with its own read transaction.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of root fields of a query fetched at the same time, which bounds the threads a query
+         * occupies.
+         */
+        private int maxConcurrency = 8;
+    }
+
+    @Data
+    public static class DocumentCache {
+        /**
+         * Cache parsed and validated GraphQL documents by query text.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The maximum number of documents cached per API version.
+         */
+        private int maxSize = 1024;
+    }
+
+    @Data
+    public static class PersistedQueries {
+        /**
+         * Accept automatic persisted queries which are sent as the SHA-256 hash of the query text.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of persisted queries held in memory.
+         */
+        private int maxSize = 10000;
+    }
+
     /**
      * Settings for subscriptions.
      */
@@ -71,4 +111,10 @@ public class GraphQLControllerProperties extends ControllerProperties {
     private SubscriptionProperties subscription = new SubscriptionProperties();
 
     private Federation federation = new Federation();
+
+    private Concurrency concurrency = new Concurrency();
+
+    private DocumentCache documentCache = new DocumentCache();
+
+    private PersistedQueries persistedQueries = new PersistedQueries();
 }
@@ -18,4 +18,17 @@ public class JpaStoreProperties {
      * and pagination in memory - or do N+1 queries.
      */
     private boolean delegateToInMemoryStore = true;
+
+    /**
+     * The number of new objects of the same type persisted before they are flushed, or zero to flush every new
+     * object with the transaction. Models related to other models created in the same request are never flushed
+     * early. Pair with spring.jpa.properties.hibernate.jdbc.batch_size to insert each flush in JDBC batches.
+     */
+    private int createBatchSize = 0;
+
+    /**
+     * The maximum number of parents whose to-many relationship is fetched in a single query. Larger sets of parents
+     * are fetched in several queries to keep the IN list within the limits of the database.
+     */
+    private int relationshipBatchSize = 500;
 }
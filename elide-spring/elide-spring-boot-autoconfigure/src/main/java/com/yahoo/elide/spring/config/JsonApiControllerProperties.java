@@ -24,4 +24,9 @@ public class JsonApiControllerProperties extends ControllerProperties {
     }
 
     private Links links = new Links();
+
+    /**
+     * Write GET responses directly to the response output stream instead of building string bodies.
+     */
+    private boolean streamingResponses = false;
 }
@@ -5,13 +5,17 @@
  */
 package com.yahoo.elide.spring.controllers;
 
+import com.yahoo.elide.async.service.storageengine.ResultMetadata;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.HttpStatus;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
@@ -21,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -44,15 +49,101 @@ public class ExportController {
 
     /**
      * Single entry point for export requests.
+     * <p>
+     * Results which the storage engine can serve as-is support range requests, and are sent with their content
+     * encoding to clients which accept it.  They are sent with an entity tag and modification time, and a range
+     * whose If-Range validator no longer matches is answered with the complete results.
+     *
      * @param asyncQueryId Id of results to download
+     * @param range the Range header
+     * @param ifRange the If-Range header
+     * @param acceptEncoding the Accept-Encoding header
      * @param response HttpServletResponse instance
      * @return ResponseEntity
      */
     @GetMapping(path = "/{asyncQueryId}")
     public ResponseEntity<StreamingResponseBody> export(@PathVariable String asyncQueryId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
             HttpServletResponse response) {
+        ResultMetadata metadata = resultStorageEngine.getResultMetadata(asyncQueryId);
+        if (metadata != null && metadata.isAcceptable(acceptEncoding)) {
+            // A range of results which changed since the client's copy is answered with the complete results
+            return getStoredResults(asyncQueryId, metadata, metadata.isRangeApplicable(ifRange) ? range : null,
+                    response);
+        }
         Consumer<OutputStream> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
-        StreamingResponseBody streamingOutput = outputStream -> {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (metadata != null && metadata.getContentEncoding() != null) {
+            // Clients which accept the encoding are sent the stored bytes instead
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return builder
+                .header("Content-Disposition", "attachment; filename=" + asyncQueryId)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(getStreamingOutput(asyncQueryId, observableResults, response));
+    }
+
+    /**
+     * Builds the response with the stored bytes of the results or the requested range of them.
+     * @param asyncQueryId Id of results to download
+     * @param metadata the metadata of the stored results
+     * @param range the Range header
+     * @param response HttpServletResponse instance
+     * @return ResponseEntity
+     */
+    protected ResponseEntity<StreamingResponseBody> getStoredResults(String asyncQueryId, ResultMetadata metadata,
+            String range, HttpServletResponse response) {
+        long completeLength = metadata.getLength();
+        HttpRange httpRange = null;
+        try {
+            List<HttpRange> ranges = range != null ? HttpRange.parseRanges(range) : List.of();
+            // Several ranges are served as the complete representation
+            httpRange = ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            // Invalid ranges are ignored
+        }
+        long offset = 0;
+        long length = completeLength;
+        if (httpRange != null) {
+            try {
+                offset = httpRange.getRangeStart(completeLength);
+                length = httpRange.getRangeEnd(completeLength) - offset + 1;
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + completeLength)
+                        .build();
+            }
+        }
+        ResponseEntity.BodyBuilder builder;
+        if (httpRange != null) {
+            builder = ResponseEntity.status(HttpServletResponse.SC_PARTIAL_CONTENT)
+                    .header(HttpHeaders.CONTENT_RANGE,
+                            "bytes " + offset + "-" + (offset + length - 1) + "/" + completeLength);
+        } else {
+            builder = ResponseEntity.ok();
+        }
+        if (metadata.getContentEncoding() != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, metadata.getContentEncoding())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (metadata.getLastModified() > 0) {
+            builder.lastModified(metadata.getLastModified());
+        }
+        return builder
+                .eTag("\"" + metadata.getEntityTag() + "\"")
+                .header("Content-Disposition", "attachment; filename=" + asyncQueryId)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(length)
+                .body(getStreamingOutput(asyncQueryId,
+                        resultStorageEngine.getStoredResultsByID(asyncQueryId, offset, length), response));
+    }
+
+    private StreamingResponseBody getStreamingOutput(String asyncQueryId, Consumer<OutputStream> observableResults,
+            HttpServletResponse response) {
+        return outputStream -> {
             try {
                 observableResults.accept(outputStream);
             } catch (RuntimeException e) {
@@ -75,10 +166,5 @@ public class ExportController {
                 }
             }
         };
-        return ResponseEntity
-                .ok()
-                .header("Content-Disposition", "attachment; filename=" + asyncQueryId)
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(streamingOutput);
     }
 }
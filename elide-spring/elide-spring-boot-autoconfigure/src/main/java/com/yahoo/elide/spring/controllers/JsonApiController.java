@@ -11,6 +11,8 @@ import com.yahoo.elide.core.request.route.Route;
 import com.yahoo.elide.core.request.route.RouteResolver;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.jsonapi.JsonApi;
+import com.yahoo.elide.jsonapi.JsonApiResponseWriter;
+import com.yahoo.elide.jsonapi.JsonApiSettings;
 import com.yahoo.elide.spring.config.ElideConfigProperties;
 import com.yahoo.elide.spring.security.HttpServletRequestUser;
 import com.yahoo.elide.utils.HeaderProcessor;
@@ -32,6 +34,7 @@ import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
@@ -52,6 +55,7 @@ public class JsonApiController {
     private final ElideConfigProperties settings;
     private final HeaderProcessor headerProcessor;
     private final RouteResolver routeResolver;
+    private final boolean streamingResponses;
 
     public JsonApiController(JsonApi jsonApi, ElideConfigProperties settings,
             RouteResolver routeResolver) {
@@ -61,12 +65,15 @@ public class JsonApiController {
         this.elide = jsonApi.getElide();
         this.headerProcessor = elide.getElideSettings().getHeaderProcessor();
         this.routeResolver = routeResolver;
+        JsonApiSettings jsonApiSettings = elide.getSettings(JsonApiSettings.class);
+        this.streamingResponses = jsonApiSettings != null && jsonApiSettings.isStreamingResponses();
     }
 
     @GetMapping(value = "/**", produces = JsonApi.MEDIA_TYPE)
     public Callable<ResponseEntity<String>> elideGet(@RequestHeader HttpHeaders requestHeaders,
                                                      @RequestParam MultiValueMap<String, String> allRequestParams,
-                                                     HttpServletRequest request) {
+                                                     HttpServletRequest request,
+                                                     HttpServletResponse servletResponse) {
         final Map<String, List<String>> requestHeadersCleaned = headerProcessor
                 .process(requestHeaders.asMultiValueMap());
         final String prefix = settings.getJsonApi().getPath();
@@ -79,6 +86,17 @@ public class JsonApiController {
         return new Callable<ResponseEntity<String>>() {
             @Override
             public ResponseEntity<String> call() throws Exception {
+                if (streamingResponses) {
+                    ElideResponse<JsonApiResponseWriter> response = jsonApi.getStreaming(route, user,
+                            UUID.randomUUID());
+                    servletResponse.setStatus(response.getStatus());
+                    if (response.getBody() != null) {
+                        servletResponse.setContentType(JsonApi.MEDIA_TYPE);
+                        response.getBody().writeTo(servletResponse.getOutputStream());
+                    }
+                    // The response has been written
+                    return null;
+                }
                 ElideResponse<String> response = jsonApi.get(route, user, UUID.randomUUID());
                 return ResponseEntity.status(response.getStatus()).body(response.getBody());
             }
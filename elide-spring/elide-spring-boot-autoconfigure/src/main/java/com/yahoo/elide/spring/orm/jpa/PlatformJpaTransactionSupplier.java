@@ -9,6 +9,7 @@ import static com.yahoo.elide.datastores.jpa.JpaDataStore.DEFAULT_LOGGER;
 
 import com.yahoo.elide.datastores.jpa.JpaDataStore.JpaTransactionSupplier;
 import com.yahoo.elide.datastores.jpa.transaction.JpaTransaction;
+import com.yahoo.elide.datastores.jpql.JPQLTransaction;
 import org.hibernate.Session;
 
 import org.springframework.transaction.PlatformTransactionManager;
@@ -28,6 +29,10 @@ public class PlatformJpaTransactionSupplier implements JpaTransactionSupplier {
 
     private final boolean delegateToInMemoryStore;
 
+    private final int createBatchSize;
+
+    private final int relationshipBatchSize;
+
     private final PlatformTransactionManager transactionManager;
 
     private final TransactionDefinition transactionDefinition;
@@ -39,17 +44,35 @@ public class PlatformJpaTransactionSupplier implements JpaTransactionSupplier {
     public PlatformJpaTransactionSupplier(TransactionDefinition transactionDefinition,
             PlatformTransactionManager transactionManager,
             EntityManagerFactory entityManagerFactory, boolean delegateToInMemoryStore) {
+        this(transactionDefinition, transactionManager, entityManagerFactory, delegateToInMemoryStore, 0);
+    }
+
+    public PlatformJpaTransactionSupplier(TransactionDefinition transactionDefinition,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory, boolean delegateToInMemoryStore, int createBatchSize) {
+        this(transactionDefinition, transactionManager, entityManagerFactory, delegateToInMemoryStore, createBatchSize,
+                JPQLTransaction.DEFAULT_RELATIONSHIP_BATCH_SIZE);
+    }
+
+    public PlatformJpaTransactionSupplier(TransactionDefinition transactionDefinition,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory, boolean delegateToInMemoryStore, int createBatchSize,
+            int relationshipBatchSize) {
         this.transactionDefinition = transactionDefinition;
         this.delegateToInMemoryStore = delegateToInMemoryStore;
         this.transactionManager = transactionManager;
         this.entityManagerFactory = entityManagerFactory;
-
+        this.createBatchSize = createBatchSize;
+        this.relationshipBatchSize = relationshipBatchSize;
     }
 
     @Override
     public JpaTransaction get(EntityManager entityManager) {
-        return new PlatformJpaTransaction(this.transactionManager,
+        PlatformJpaTransaction transaction = new PlatformJpaTransaction(this.transactionManager,
                 this.transactionDefinition, this.entityManagerFactory, entityManager, this.txCancel, DEFAULT_LOGGER,
                 this.delegateToInMemoryStore, true);
+        transaction.setCreateBatchSize(this.createBatchSize);
+        transaction.setRelationshipBatchSize(this.relationshipBatchSize);
+        return transaction;
     }
 }
@@ -91,7 +91,8 @@ public class JpaDataStoreRegistrations {
             ElideConfigProperties settings) {
         return new PlatformJpaTransactionSupplier(
                 transactionDefinition, transactionManager,
-                entityManagerFactory, settings.getJpaStore().isDelegateToInMemoryStore());
+                entityManagerFactory, settings.getJpaStore().isDelegateToInMemoryStore(),
+                settings.getJpaStore().getCreateBatchSize(), settings.getJpaStore().getRelationshipBatchSize());
     }
 
     /**
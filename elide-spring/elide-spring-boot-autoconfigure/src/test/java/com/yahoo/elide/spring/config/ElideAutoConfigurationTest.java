@@ -15,6 +15,9 @@ import com.yahoo.elide.ElideSettings.ElideSettingsBuilder;
 import com.yahoo.elide.RefreshableElide;
 import com.yahoo.elide.SerdesBuilderCustomizer;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.core.audit.AsyncAuditLogger;
+import com.yahoo.elide.core.audit.AuditLogger;
+import com.yahoo.elide.core.audit.Slf4jLogger;
 import com.yahoo.elide.core.datastore.DataStore;
 import com.yahoo.elide.core.dictionary.EntityDictionary.EntityDictionaryBuilder;
 import com.yahoo.elide.core.exceptions.ErrorContext;
@@ -231,6 +234,21 @@ class ElideAutoConfigurationTest {
         });
     }
 
+    @Test
+    void defaultAuditLogger() {
+        contextRunner.withPropertyValues("spring.cloud.refresh.enabled=false").run(context -> {
+            assertThat(context.getBean(AuditLogger.class)).isInstanceOf(Slf4jLogger.class);
+        });
+    }
+
+    @Test
+    void asyncAuditLogger() {
+        contextRunner.withPropertyValues("spring.cloud.refresh.enabled=false", "elide.audit.async.enabled=true",
+                "elide.audit.async.overflow-policy=drop").run(context -> {
+                    assertThat(context.getBean(AuditLogger.class)).isInstanceOf(AsyncAuditLogger.class);
+                });
+    }
+
     @Test
     void defaultSerdesConfigured() {
         contextRunner.withPropertyValues("spring.cloud.refresh.enabled=false").run(context -> {
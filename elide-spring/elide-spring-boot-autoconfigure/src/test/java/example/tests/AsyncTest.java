@@ -16,6 +16,7 @@ import static io.restassured.RestAssured.given;
 import static io.restassured.RestAssured.when;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -342,6 +343,16 @@ public class AsyncTest extends IntegrationTest {
                 .asString();
         assertEquals(expected.replaceAll("\r", "").replaceAll("\n", ""),
                 response.replaceAll("\r", "").replaceAll("\n", ""));
+
+        given()
+                .header("Range", "bytes=1-3")
+                .when()
+                .get("/export/7cf798e8-a924-4f4c-8a45-9ad079668f70.json")
+                .then()
+                .statusCode(org.apache.http.HttpStatus.SC_PARTIAL_CONTENT)
+                .header("Accept-Ranges", "bytes")
+                .header("Content-Range", startsWith("bytes 1-3/"))
+                .body(equalTo(response.substring(1, 4)));
     }
 
     @Test
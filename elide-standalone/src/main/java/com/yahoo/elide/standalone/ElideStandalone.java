@@ -11,6 +11,7 @@ import static com.yahoo.elide.standalone.config.ElideResourceConfig.ELIDE_STANDA
 
 import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.utils.VirtualThreadExecutors;
 import com.yahoo.elide.standalone.config.ElideResourceConfig;
 import com.yahoo.elide.standalone.config.ElideStandaloneSettings;
 import com.yahoo.elide.standalone.config.ElideStandaloneSubscriptionSettings;
@@ -19,6 +20,8 @@ import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
 import org.eclipse.jetty.ee10.servlet.ServletHolder;
 import org.eclipse.jetty.ee10.websocket.jakarta.server.config.JakartaWebSocketServletContainerInitializer;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.glassfish.jersey.servlet.ServletContainer;
 
 import io.dropwizard.metrics5.servlet.InstrumentedFilter;
@@ -30,7 +33,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.EnumSet;
 import java.util.Map;
-import java.util.concurrent.Executors;
 
 /**
  * Elide Standalone.
@@ -83,7 +85,17 @@ public class ElideStandalone {
         context.setContextPath("/");
 
         log.info("Starting jetty server on port: {}", elideStandaloneSettings.getPort());
-        jettyServer = new Server(elideStandaloneSettings.getPort());
+        boolean virtualThreads = elideStandaloneSettings.enableVirtualThreads();
+        if (virtualThreads && VirtualThreadExecutors.isSupported()) {
+            QueuedThreadPool threadPool = new QueuedThreadPool();
+            threadPool.setVirtualThreadsExecutor(VirtualThreadExecutors.newVirtualThreadPerTaskExecutor());
+            jettyServer = new Server(threadPool);
+            ServerConnector connector = new ServerConnector(jettyServer);
+            connector.setPort(elideStandaloneSettings.getPort());
+            jettyServer.addConnector(connector);
+        } else {
+            jettyServer = new Server(elideStandaloneSettings.getPort());
+        }
         jettyServer.setHandler(context);
 
         context.setAttribute(ELIDE_STANDALONE_SETTINGS_ATTR, elideStandaloneSettings);
@@ -92,8 +104,10 @@ public class ElideStandalone {
             Integer threadPoolSize = elideStandaloneSettings.getAsyncProperties().getThreadSize() == null
                             ? AsyncExecutorService.DEFAULT_THREAD_POOL_SIZE
                             : elideStandaloneSettings.getAsyncProperties().getThreadSize();
-            context.setAttribute(ASYNC_EXECUTOR_ATTR, Executors.newFixedThreadPool(threadPoolSize));
-            context.setAttribute(ASYNC_UPDATER_ATTR, Executors.newFixedThreadPool(threadPoolSize));
+            context.setAttribute(ASYNC_EXECUTOR_ATTR,
+                    VirtualThreadExecutors.newFixedThreadPool(threadPoolSize, virtualThreads));
+            context.setAttribute(ASYNC_UPDATER_ATTR,
+                    VirtualThreadExecutors.newFixedThreadPool(threadPoolSize, virtualThreads));
         }
 
         if (elideStandaloneSettings.enableJsonApi()) {
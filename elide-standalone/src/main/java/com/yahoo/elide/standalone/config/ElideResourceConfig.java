@@ -181,6 +181,7 @@ public class ElideResourceConfig extends ResourceConfig {
                     asyncProviderService);
             bind(asyncExecutorService).to(AsyncExecutorService.class);
 
+            ResultStorageEngine queryResultStorageEngine = null;
             if (asyncProperties.enableExport()) {
                 ExportApiProperties exportApiProperties = new ExportApiProperties(
                         asyncProperties.getExportAsyncResponseExecutor(),
@@ -189,9 +190,13 @@ public class ElideResourceConfig extends ResourceConfig {
 
                 ResultStorageEngine resultStorageEngine = asyncProperties.getResultStorageEngine();
                 if (resultStorageEngine == null) {
-                    resultStorageEngine = new FileResultStorageEngine(asyncProperties.getStorageDestination());
+                    resultStorageEngine = new FileResultStorageEngine(asyncProperties.getStorageDestination(),
+                            asyncProperties.getStorageContentEncoding());
                 }
                 bind(resultStorageEngine).to(ResultStorageEngine.class).named("resultStorageEngine");
+                if (asyncProperties.storeQueryResults()) {
+                    queryResultStorageEngine = resultStorageEngine;
+                }
 
                 // Binding TableExport LifeCycleHook
                 TableExportHook tableExportHook = getTableExportHook(asyncExecutorService,
@@ -206,7 +211,7 @@ public class ElideResourceConfig extends ResourceConfig {
 
             // Binding AsyncQuery LifeCycleHook
             AsyncQueryHook asyncQueryHook = new AsyncQueryHook(asyncExecutorService,
-                    asyncProperties.getMaxAsyncAfter());
+                    asyncProperties.getMaxAsyncAfter(), queryResultStorageEngine);
 
             dictionary.bindTrigger(AsyncQuery.class, CREATE, PREFLUSH, asyncQueryHook, false);
             dictionary.bindTrigger(AsyncQuery.class, CREATE, POSTCOMMIT, asyncQueryHook, false);
@@ -8,6 +8,7 @@ package com.yahoo.elide.standalone.config;
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.async.DefaultResultTypeFileExtensionMapper;
 import com.yahoo.elide.async.ResultTypeFileExtensionMapper;
+import com.yahoo.elide.async.export.formatter.ArrowExportFormatter;
 import com.yahoo.elide.async.export.formatter.CsvExportFormatter;
 import com.yahoo.elide.async.export.formatter.JsonExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatters;
@@ -137,6 +138,20 @@ public interface ElideStandaloneAsyncSettings {
         return false;
     }
 
+    /**
+     * Store async query response bodies with the export result storage engine, leaving only their download URL in
+     * the query result. Requires the Export endpoint to be enabled. JSON:API response bodies are written straight to
+     * the storage engine, GraphQL response bodies are still held in memory while the query runs.
+     * <p>
+     * Security: the Export endpoint does not check who owns the query, so anyone with the download URL can read the
+     * stored response body, while a response body kept in the query result is only readable by its owner.
+     *
+     * @return Default: False
+     */
+    default boolean storeQueryResults() {
+        return false;
+    }
+
     /**
      * Generating Header when exporting in CSV format. Set to false to skip.
      *
@@ -146,6 +161,15 @@ public interface ElideStandaloneAsyncSettings {
         return true;
     }
 
+    /**
+     * Number of id ranges a table export is split into, each read on its own transaction on the async executor.
+     *
+     * @return Default: 1
+     */
+    default int getExportPartitions() {
+        return 1;
+    }
+
     /**
      * Storage engine destination.
      *
@@ -155,6 +179,15 @@ public interface ElideStandaloneAsyncSettings {
         return "/tmp";
     }
 
+    /**
+     * Encoding used to compress stored results, either gzip or null to store them uncompressed.
+     *
+     * @return Default: null
+     */
+    default String getStorageContentEncoding() {
+        return null;
+    }
+
     /**
      * Export async response timeout.
      *
@@ -184,6 +217,7 @@ public interface ElideStandaloneAsyncSettings {
         builder.entry(ResultType.CSV, new CsvExportFormatter(elide, csvWriteHeader()));
         builder.entry(ResultType.JSON, new JsonExportFormatter(elide));
         builder.entry(ResultType.XLSX, new XlsxExportFormatter(elide, true));
+        builder.entry(ResultType.ARROW, new ArrowExportFormatter(elide));
         return builder;
     }
 
@@ -183,7 +183,8 @@ public interface ElideStandaloneSettings {
                 .joinFilterDialect(RSQLFilterDialect.builder().dictionary(dictionary).build())
                 .subqueryFilterDialect(RSQLFilterDialect.builder().dictionary(dictionary).build())
                 .jsonApiMapper(mapper)
-                .jsonApiExceptionHandler(getJsonApiExceptionHandler());
+                .jsonApiExceptionHandler(getJsonApiExceptionHandler())
+                .streamingResponses(enableJsonApiStreaming());
     }
 
     /**
@@ -206,7 +207,8 @@ public interface ElideStandaloneSettings {
     default AsyncSettingsBuilder getAsyncSettingsBuilder() {
         return AsyncSettings.builder().export(export -> export
                 .enabled(getAsyncProperties().enableExport())
-                .path(getAsyncProperties().getExportApiPathSpec().replace("/*", "")));
+                .path(getAsyncProperties().getExportApiPathSpec().replace("/*", ""))
+                .partitions(getAsyncProperties().getExportPartitions()));
     }
 
     /**
@@ -367,6 +369,15 @@ public interface ElideStandaloneSettings {
         return true;
     }
 
+    /**
+     * Write JSONAPI GET responses directly to the response output stream instead of building string bodies.
+     *
+     * @return Default: False
+     */
+    default boolean enableJsonApiStreaming() {
+        return false;
+    }
+
     /**
      * Enable the GraphQL endpoint. If false, the endpoint will be disabled.
      *
@@ -384,6 +395,16 @@ public interface ElideStandaloneSettings {
         return false;
     }
 
+    /**
+     * Serve requests and run async queries on virtual threads rather than on pools of platform threads.
+     * Virtual threads require Java 21 or later, platform threads are used on older runtimes.
+     *
+     * @return Default: False
+     */
+    default boolean enableVirtualThreads() {
+        return false;
+    }
+
     /**
      * Async Properties.
      *